@@ -0,0 +1,55 @@
+package com.github.souzafcharles.api.config;
+
+import com.github.souzafcharles.api.utils.Messages;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+@Configuration
+public class GeometryConfig {
+
+    public static final int SRID = 4326;
+    public static final double FLOATING_PRECISION = 0;
+
+    // Primitive array type backing every CoordinateSequence built by the shared factory
+    public enum CoordinateStorage {
+        DOUBLE,
+        FLOAT
+    }
+
+    @Bean
+    public GeometryFactory geometryFactory(@Value("${spatial.geometry.coordinate-storage:DOUBLE}") CoordinateStorage coordinateStorage,
+                                           @Value("${spatial.geometry.precision-scale:0}") double precisionScale) {
+        return packedGeometryFactory(coordinateStorage, precisionScale);
+    }
+
+    // Bounded pool that builds the parts of large Multi* geometries; 0 means one worker per available processor
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool geometryConstructionPool(@Value("${spatial.geometry.construction-parallelism:0}") int parallelism) {
+        return new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
+
+    // Builds an SRID 4326 factory whose coordinates live in flat double[] or float[] arrays instead of Coordinate objects.
+    public static GeometryFactory packedGeometryFactory(CoordinateStorage coordinateStorage) {
+        return packedGeometryFactory(coordinateStorage, FLOATING_PRECISION);
+    }
+
+    // A positive scale fixes the grid ingested coordinates are snapped to (1e7 = 1e-7 degrees); 0 keeps full double precision.
+    public static GeometryFactory packedGeometryFactory(CoordinateStorage coordinateStorage, double precisionScale) {
+        if (precisionScale < 0 || Double.isNaN(precisionScale) || Double.isInfinite(precisionScale)) {
+            throw new IllegalArgumentException(String.format(Messages.INVALID_PRECISION_SCALE, precisionScale));
+        }
+        PrecisionModel precisionModel = precisionScale == FLOATING_PRECISION
+                ? new PrecisionModel()
+                : new PrecisionModel(precisionScale);
+        PackedCoordinateSequenceFactory sequenceFactory = coordinateStorage == CoordinateStorage.FLOAT
+                ? PackedCoordinateSequenceFactory.FLOAT_FACTORY
+                : PackedCoordinateSequenceFactory.DOUBLE_FACTORY;
+        return new GeometryFactory(precisionModel, SRID, sequenceFactory);
+    }
+}
@@ -0,0 +1,34 @@
+package com.github.souzafcharles.api.config;
+
+import com.github.souzafcharles.api.wkb.SpatialDataTwkbHttpMessageConverter;
+import com.github.souzafcharles.api.wkb.SpatialDataWkbHttpMessageConverter;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class HttpMessageConverterConfig implements WebMvcConfigurer {
+
+    private final GeometryFactory geometryFactory;
+    private final int twkbPrecision;
+    private final boolean twkbBbox;
+
+    public HttpMessageConverterConfig(GeometryFactory geometryFactory,
+                                      @Value("${spatial.twkb.precision:7}") int twkbPrecision,
+                                      @Value("${spatial.twkb.bbox:false}") boolean twkbBbox) {
+        this.geometryFactory = geometryFactory;
+        this.twkbPrecision = twkbPrecision;
+        this.twkbBbox = twkbBbox;
+    }
+
+    // Added after the defaults, so JSON stays the answer to Accept: */* and binary formats are only sent when asked for
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(new SpatialDataWkbHttpMessageConverter(geometryFactory));
+        converters.add(new SpatialDataTwkbHttpMessageConverter(geometryFactory, twkbPrecision, twkbBbox));
+    }
+}
@@ -1,10 +1,15 @@
 package com.github.souzafcharles.api.config;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.StreamWriteFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.github.souzafcharles.api.json.GeometryDeserializer;
 import com.github.souzafcharles.api.json.GeometrySerializer;
 import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,12 +17,19 @@ import org.springframework.context.annotation.Configuration;
 public class JacksonConfig {
 
     @Bean
-    public ObjectMapper objectMapper() {
-        ObjectMapper mapper = new ObjectMapper();
+    public ObjectMapper objectMapper(GeometryFactory geometryFactory,
+                                     @Value("${spatial.json.coordinate-precision:-1}") int coordinatePrecision) {
+        // The fast double parser avoids a String per ordinate when streaming large coordinate arrays,
+        // and the fast writer covers ordinates written at full precision
+        JsonFactory jsonFactory = JsonFactory.builder()
+                .enable(StreamReadFeature.USE_FAST_DOUBLE_PARSER)
+                .enable(StreamWriteFeature.USE_FAST_DOUBLE_WRITER)
+                .build();
+        ObjectMapper mapper = new ObjectMapper(jsonFactory);
         SimpleModule module = new SimpleModule();
         // Register custom serializer and deserializer for Geometry types
-        module.addSerializer(Geometry.class, new GeometrySerializer());
-        module.addDeserializer(Geometry.class, new GeometryDeserializer());
+        module.addSerializer(Geometry.class, new GeometrySerializer(coordinatePrecision));
+        module.addDeserializer(Geometry.class, new GeometryDeserializer(geometryFactory, GeometryDeserializer.Mode.STREAMING));
         mapper.registerModule(module);
         return mapper;
     }
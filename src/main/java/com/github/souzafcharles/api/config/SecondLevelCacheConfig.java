@@ -0,0 +1,47 @@
+package com.github.souzafcharles.api.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.github.souzafcharles.api.model.entity.SpatialData;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.configuration.FactoryBuilder;
+import javax.cache.spi.CachingProvider;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+@Configuration
+public class SecondLevelCacheConfig {
+
+    // Caffeine-backed JCache manager owning the SpatialData region; its cache is created here so Hibernate never falls back to defaults
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(@Value("${spatial.cache.maximum-weight:5000000}") long maximumWeight) {
+        CachingProvider provider = new CaffeineCachingProvider();
+        CacheManager cacheManager = provider.getCacheManager(provider.getDefaultURI(), SecondLevelCacheConfig.class.getClassLoader());
+        if (cacheManager.getCache(SpatialData.CACHE_REGION) == null) {
+            cacheManager.createCache(SpatialData.CACHE_REGION, spatialDataCacheConfiguration(maximumWeight));
+        }
+        return cacheManager;
+    }
+
+    // Hands the manager instance to Hibernate's JCache region factory
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager secondLevelCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+    }
+
+    // Weight-bounded by vertex count, stored by reference (Hibernate already caches disassembled state) and recording hit/miss stats.
+    static CaffeineConfiguration<Object, Object> spatialDataCacheConfiguration(long maximumWeight) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumWeight(OptionalLong.of(maximumWeight));
+        configuration.setWeigherFactory(Optional.of(FactoryBuilder.factoryOf(SpatialDataCacheWeigher.class)));
+        configuration.setStoreByValue(false);
+        configuration.setNativeStatisticsEnabled(true);
+        return configuration;
+    }
+}
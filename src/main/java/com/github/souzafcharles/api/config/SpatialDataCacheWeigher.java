@@ -0,0 +1,32 @@
+package com.github.souzafcharles.api.config;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.locationtech.jts.geom.Geometry;
+
+import java.io.Serializable;
+
+/**
+ * Weighs second-level cache entries by the number of vertices they hold, so a row with a
+ * 100k-vertex polygon takes the room of many point rows. Hibernate's read-write strategy wraps
+ * each cached row in an {@link AbstractReadWriteAccess.Item}; locks and other values weigh 1.
+ */
+public class SpatialDataCacheWeigher implements Weigher<Object, Object>, Serializable {
+
+    @Override
+    public int weigh(Object key, Object value) {
+        Object entry = value instanceof AbstractReadWriteAccess.Item item ? item.getValue() : value;
+        if (!(entry instanceof CacheEntry cacheEntry)) {
+            return 1;
+        }
+        long vertices = 0;
+        for (Serializable property : cacheEntry.getDisassembledState()) {
+            if (property instanceof Geometry geometry) {
+                vertices += geometry.getNumPoints();
+            }
+        }
+        // Every row costs at least 1, so the weight also bounds the number of entries
+        return (int) Math.min(Integer.MAX_VALUE, 1 + vertices);
+    }
+}
@@ -1,17 +1,53 @@
 package com.github.souzafcharles.api.controller;
 
 import com.github.souzafcharles.api.model.dto.SpatialDataSerializerRequestDTO;
+import com.github.souzafcharles.api.model.dto.SpatialDataBatchRequestDTO;
+import com.github.souzafcharles.api.model.dto.SpatialDataBatchResponseDTO;
+import com.github.souzafcharles.api.model.dto.SpatialDataCacheStatsDTO;
+import com.github.souzafcharles.api.model.dto.SpatialDataIngestMetricsDTO;
+import com.github.souzafcharles.api.model.dto.SpatialDataNdjsonIngestResponseDTO;
+import com.github.souzafcharles.api.model.dto.IngestTicketResponseDTO;
 import com.github.souzafcharles.api.model.dto.SpatialDataDeserializerRequestDTO;
 import com.github.souzafcharles.api.model.dto.SpatialDataResponseDTO;
 import com.github.souzafcharles.api.model.dto.GeoJsonResponseDTO;
+import com.github.souzafcharles.api.model.dto.SpatialDataPageResponseDTO;
+import com.github.souzafcharles.api.model.dto.SpatialDataNeighbourResponseDTO;
+import com.github.souzafcharles.api.model.dto.SpatialPredicateRequestDTO;
+import com.github.souzafcharles.api.fgb.FlatGeobufWriter;
+import com.github.souzafcharles.api.model.enums.GeometryColumn;
+import com.github.souzafcharles.api.service.SpatialDataCacheService;
+import com.github.souzafcharles.api.service.SpatialDataCopyIngestService;
+import com.github.souzafcharles.api.service.SpatialDataExportService;
+import com.github.souzafcharles.api.service.SpatialDataFlatGeobufCache;
+import com.github.souzafcharles.api.service.SpatialDataIngestQueue;
+import com.github.souzafcharles.api.service.SpatialDataNdjsonIngestService;
+import com.github.souzafcharles.api.service.SpatialDataResponseCache;
+import com.github.souzafcharles.api.service.SpatialDataResponseCache.EncodedResponse;
 import com.github.souzafcharles.api.service.SpatialDataService;
+import com.github.souzafcharles.api.service.SpatialDataTileCache;
+import com.github.souzafcharles.api.service.SpatialDataTileService;
 import com.github.souzafcharles.api.utils.Messages;
+import com.github.souzafcharles.api.wkb.SpatialDataTwkbHttpMessageConverter;
+import com.github.souzafcharles.api.wkb.SpatialDataWkbHttpMessageConverter;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.file.Files;
 import java.util.List;
 
 @RestController
@@ -19,10 +55,36 @@ import java.util.List;
 @Tag(name = Messages.TAG_NAME, description = Messages.TAG_DESCRIPTION)
 public class SpatialDataController {
 
+    private static final String GZIP_ENCODING = "gzip";
+
     private final SpatialDataService spatialDataService;
+    private final SpatialDataExportService spatialDataExportService;
+    private final SpatialDataCopyIngestService spatialDataCopyIngestService;
+    private final SpatialDataIngestQueue spatialDataIngestQueue;
+    private final SpatialDataNdjsonIngestService spatialDataNdjsonIngestService;
+    private final SpatialDataCacheService spatialDataCacheService;
+    private final SpatialDataResponseCache spatialDataResponseCache;
+    private final SpatialDataTileService spatialDataTileService;
+    private final SpatialDataFlatGeobufCache spatialDataFlatGeobufCache;
 
-    public SpatialDataController(SpatialDataService spatialDataService) {
+    public SpatialDataController(SpatialDataService spatialDataService,
+                                 SpatialDataExportService spatialDataExportService,
+                                 SpatialDataCopyIngestService spatialDataCopyIngestService,
+                                 SpatialDataIngestQueue spatialDataIngestQueue,
+                                 SpatialDataNdjsonIngestService spatialDataNdjsonIngestService,
+                                 SpatialDataCacheService spatialDataCacheService,
+                                 SpatialDataResponseCache spatialDataResponseCache,
+                                 SpatialDataTileService spatialDataTileService,
+                                 SpatialDataFlatGeobufCache spatialDataFlatGeobufCache) {
         this.spatialDataService = spatialDataService;
+        this.spatialDataExportService = spatialDataExportService;
+        this.spatialDataCopyIngestService = spatialDataCopyIngestService;
+        this.spatialDataIngestQueue = spatialDataIngestQueue;
+        this.spatialDataNdjsonIngestService = spatialDataNdjsonIngestService;
+        this.spatialDataCacheService = spatialDataCacheService;
+        this.spatialDataResponseCache = spatialDataResponseCache;
+        this.spatialDataTileService = spatialDataTileService;
+        this.spatialDataFlatGeobufCache = spatialDataFlatGeobufCache;
     }
 
     @PostMapping("/serializer")
@@ -39,24 +101,224 @@ public class SpatialDataController {
         return ResponseEntity.ok(response);
     }
 
+    @PostMapping("/async/serializer")
+    @Operation(summary = Messages.ASYNC_SERIALIZER_SUMMARY, description = Messages.ASYNC_DESCRIPTION)
+    public ResponseEntity<IngestTicketResponseDTO> createFromSerializerAsync(@Valid @RequestBody SpatialDataSerializerRequestDTO request) {
+        return accepted(spatialDataIngestQueue.submit(request));
+    }
+
+    @PostMapping("/async/deserializer")
+    @Operation(summary = Messages.ASYNC_DESERIALIZER_SUMMARY, description = Messages.ASYNC_DESCRIPTION)
+    public ResponseEntity<IngestTicketResponseDTO> createFromDeserializerAsync(@Valid @RequestBody SpatialDataDeserializerRequestDTO request) {
+        return accepted(spatialDataIngestQueue.submit(request));
+    }
+
+    @GetMapping("/async/{ticket}")
+    @Operation(summary = Messages.ASYNC_STATUS_SUMMARY, description = Messages.ASYNC_STATUS_DESCRIPTION)
+    public ResponseEntity<IngestTicketResponseDTO> getAsyncStatus(@PathVariable String ticket) {
+        IngestTicketResponseDTO response = spatialDataIngestQueue.getTicket(ticket);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/batch")
+    @Operation(summary = Messages.CREATE_BATCH_SUMMARY, description = Messages.CREATE_BATCH_DESCRIPTION)
+    public ResponseEntity<SpatialDataBatchResponseDTO> createBatch(@Valid @RequestBody SpatialDataBatchRequestDTO request) {
+        SpatialDataBatchResponseDTO response = spatialDataService.createBatch(request);
+        return ResponseEntity.ok(response);
+    }
+
+    // The body is streamed straight into COPY, so it is taken as a raw InputStream rather than bound to a DTO
+    @PostMapping(value = "/ingest", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = Messages.INGEST_COPY_SUMMARY, description = Messages.INGEST_COPY_DESCRIPTION)
+    public ResponseEntity<SpatialDataIngestMetricsDTO> ingestFeatureCollection(InputStream body) throws IOException {
+        SpatialDataIngestMetricsDTO response = spatialDataCopyIngestService.ingestFeatureCollection(body);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping(value = "/ingest", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = Messages.INGEST_NDJSON_SUMMARY, description = Messages.INGEST_NDJSON_DESCRIPTION)
+    public ResponseEntity<SpatialDataNdjsonIngestResponseDTO> ingestNdjson(InputStream body) throws IOException {
+        SpatialDataNdjsonIngestResponseDTO response = spatialDataNdjsonIngestService.ingest(body);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping
     @Operation(summary = Messages.GET_ALL_SUMMARY, description = Messages.GET_ALL_DESCRIPTION)
-    public ResponseEntity<List<SpatialDataResponseDTO>> getAll() {
-        List<SpatialDataResponseDTO> responses = spatialDataService.getAllSpatialData();
-        return ResponseEntity.ok(responses);
+    public ResponseEntity<SpatialDataPageResponseDTO> getAll(
+            @RequestParam(defaultValue = "" + SpatialDataService.DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String after) {
+        SpatialDataPageResponseDTO response = spatialDataService.getSpatialDataPage(after, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/bbox")
+    @Operation(summary = Messages.BBOX_SUMMARY, description = Messages.BBOX_DESCRIPTION)
+    public ResponseEntity<List<SpatialDataResponseDTO>> getInBoundingBox(
+            @RequestParam double minX,
+            @RequestParam double minY,
+            @RequestParam double maxX,
+            @RequestParam double maxY,
+            @RequestParam String column,
+            @RequestParam(defaultValue = "" + SpatialDataService.DEFAULT_PAGE_SIZE) int limit) {
+        List<SpatialDataResponseDTO> response = spatialDataService.findInBoundingBox(column, minX, minY, maxX, maxY, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/nearest")
+    @Operation(summary = Messages.NEAREST_SUMMARY, description = Messages.NEAREST_DESCRIPTION)
+    public ResponseEntity<List<SpatialDataNeighbourResponseDTO>> getNearest(
+            @RequestParam double x,
+            @RequestParam double y,
+            @RequestParam String column,
+            @RequestParam(defaultValue = "" + SpatialDataService.DEFAULT_NEIGHBOUR_COUNT) int k,
+            @RequestParam(defaultValue = "false") boolean geodesic) {
+        List<SpatialDataNeighbourResponseDTO> response = spatialDataService.findNearest(column, x, y, k, geodesic);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping("/within")
+    @Operation(summary = Messages.WITHIN_SUMMARY, description = Messages.WITHIN_DESCRIPTION)
+    public ResponseEntity<List<SpatialDataNeighbourResponseDTO>> getWithinDistance(
+            @RequestParam double x,
+            @RequestParam double y,
+            @RequestParam double radius,
+            @RequestParam String column,
+            @RequestParam(defaultValue = "" + SpatialDataService.DEFAULT_PAGE_SIZE) int limit) {
+        List<SpatialDataNeighbourResponseDTO> response = spatialDataService.findWithinDistance(column, x, y, radius, limit);
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/query")
+    @Operation(summary = Messages.QUERY_SUMMARY, description = Messages.QUERY_DESCRIPTION)
+    public ResponseEntity<List<SpatialDataResponseDTO>> query(@Valid @RequestBody SpatialPredicateRequestDTO request) {
+        List<SpatialDataResponseDTO> response = spatialDataService.findMatching(request);
+        return ResponseEntity.ok(response);
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = Messages.EXPORT_SUMMARY, description = Messages.EXPORT_DESCRIPTION)
+    public ResponseEntity<StreamingResponseBody> exportAsGeoJsonSeq() {
+        StreamingResponseBody body = spatialDataExportService::exportAsGeoJsonSeq;
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
+    // Spring answers Range requests for file resources (206, multipart ranges, 416); an InputStreamResource
+    // is always sent whole, which is what a client holding an outdated ETag in If-Range needs
+    @GetMapping(value = "/export.fgb", produces = FlatGeobufWriter.MEDIA_TYPE)
+    @Operation(summary = Messages.EXPORT_FGB_SUMMARY, description = Messages.EXPORT_FGB_DESCRIPTION)
+    public ResponseEntity<Resource> exportAsFlatGeobuf(@RequestParam String column,
+                                                       @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange) throws IOException {
+        SpatialDataFlatGeobufCache.Export export = spatialDataFlatGeobufCache.get(GeometryColumn.fromParameter(column));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(FlatGeobufWriter.MEDIA_TYPE))
+                .eTag(export.etag());
+        if (ifRange != null && !ifRange.equals(export.etag())) {
+            return response.contentLength(Files.size(export.path()))
+                    .body(new InputStreamResource(Files.newInputStream(export.path())));
+        }
+        return response.body(new FileSystemResource(export.path()));
+    }
+
+    @GetMapping(value = "/tiles/{z}/{x}/{y}.mvt", produces = SpatialDataTileService.MVT_MEDIA_TYPE)
+    @Operation(summary = Messages.TILE_SUMMARY, description = Messages.TILE_DESCRIPTION)
+    public ResponseEntity<StreamingResponseBody> getTile(@PathVariable int z, @PathVariable int x, @PathVariable int y) {
+        SpatialDataTileCache.Tile tile = spatialDataTileService.getTile(z, x, y);
+        if (tile.length() == 0) {
+            return ResponseEntity.noContent().build();
+        }
+        // Tiles kept only on disk are copied from the store file to the response stream
+        StreamingResponseBody body = tile::writeTo;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(SpatialDataTileService.MVT_MEDIA_TYPE))
+                .contentLength(tile.length())
+                .body(body);
+    }
+
+    @GetMapping("/cache/stats")
+    @Operation(summary = Messages.CACHE_STATS_SUMMARY, description = Messages.CACHE_STATS_DESCRIPTION)
+    public ResponseEntity<SpatialDataCacheStatsDTO> getCacheStats() {
+        SpatialDataCacheStatsDTO response = spatialDataCacheService.getStatistics();
+        return ResponseEntity.ok(response);
+    }
+
+    // Single records are written from cached JSON bytes, so the body is declared as the DTO only for the API docs
     @GetMapping("/{id}")
     @Operation(summary = Messages.GET_BY_ID_SUMMARY, description = Messages.GET_BY_ID_DESCRIPTION)
-    public ResponseEntity<SpatialDataResponseDTO> getById(@PathVariable Long id) {
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = SpatialDataResponseDTO.class)))
+    public ResponseEntity<byte[]> getById(@PathVariable Long id,
+                                          @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return encoded(spatialDataResponseCache.getById(id), acceptEncoding);
+    }
+
+    // Binary clients get the DTO through the WKB/TWKB converters; the JSON byte cache above is for JSON only
+    @GetMapping(value = "/{id}", produces = {
+            SpatialDataWkbHttpMessageConverter.WKB_VALUE, SpatialDataWkbHttpMessageConverter.WKB_RECORDS_VALUE,
+            SpatialDataTwkbHttpMessageConverter.TWKB_VALUE, SpatialDataTwkbHttpMessageConverter.TWKB_RECORDS_VALUE})
+    @Operation(summary = Messages.GET_BY_ID_WKB_SUMMARY, description = Messages.GET_BY_ID_WKB_DESCRIPTION)
+    public ResponseEntity<SpatialDataResponseDTO> getByIdAsWkb(@PathVariable Long id) {
         SpatialDataResponseDTO response = spatialDataService.getById(id);
         return ResponseEntity.ok(response);
     }
 
     @GetMapping("/{id}/geojson")
     @Operation(summary = Messages.GET_GEOJSON_SUMMARY, description = Messages.GET_GEOJSON_DESCRIPTION)
-    public ResponseEntity<GeoJsonResponseDTO> getAsGeoJson(@PathVariable Long id) {
-        GeoJsonResponseDTO response = spatialDataService.getPolygonAsGeoJson(id);
-        return ResponseEntity.ok(response);
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = GeoJsonResponseDTO.class)))
+    public ResponseEntity<byte[]> getAsGeoJson(@PathVariable Long id,
+                                               @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return encoded(spatialDataResponseCache.getPolygonAsGeoJson(id), acceptEncoding);
+    }
+
+    // The pre-compressed copy is sent as is when the client accepts gzip; caches must key on Accept-Encoding either way
+    private ResponseEntity<byte[]> encoded(EncodedResponse response, String acceptEncoding) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (response.gzip() != null && acceptsGzip(acceptEncoding)) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING).body(response.gzip());
+        }
+        return builder.body(response.json());
+    }
+
+    // True when Accept-Encoding lists gzip without q=0; * only counts when gzip is not listed, wherever it appears
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        boolean wildcard = false;
+        for (String coding : acceptEncoding.split(",")) {
+            String[] parameters = coding.split(";");
+            String name = parameters[0].trim();
+            if (name.equalsIgnoreCase(GZIP_ENCODING)) {
+                return hasPositiveQuality(parameters);
+            }
+            if (name.equals("*")) {
+                wildcard = hasPositiveQuality(parameters);
+            }
+        }
+        return wildcard;
+    }
+
+    private static boolean hasPositiveQuality(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) > 0;
+                } catch (NumberFormatException ex) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private ResponseEntity<IngestTicketResponseDTO> accepted(IngestTicketResponseDTO ticket) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/spatial-data/async/" + ticket.ticket()))
+                .body(ticket);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,8 @@
+package com.github.souzafcharles.api.event;
+
+import org.locationtech.jts.geom.Envelope;
+
+import java.util.List;
+
+// Published after spatialdata rows are written; carries the envelope of every geometry that was stored (SRID 4326).
+public record SpatialDataChangedEvent(List<Envelope> envelopes) {}
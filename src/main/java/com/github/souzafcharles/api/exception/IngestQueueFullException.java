@@ -0,0 +1,18 @@
+package com.github.souzafcharles.api.exception;
+
+import com.github.souzafcharles.api.utils.Messages;
+
+// Raised when the async ingest queue has no free slot; mapped to 429 with a Retry-After header.
+public class IngestQueueFullException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public IngestQueueFullException(long retryAfterSeconds) {
+        super(Messages.INGEST_QUEUE_FULL);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
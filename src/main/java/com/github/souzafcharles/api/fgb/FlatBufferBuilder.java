@@ -0,0 +1,230 @@
+package com.github.souzafcharles.api.fgb;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Just enough of a FlatBuffers encoder for FlatGeobuf headers and features. The buffer is laid out
+ * front to back: each table's vtable sits right before it, and the strings, vectors and tables it
+ * refers to are written after it, so every uoffset points forwards as the format requires. Offset
+ * fields are reserved when their table is written and linked once the child's position is known.
+ * Scalars are little-endian and aligned to their size from the start of the buffer, which is its
+ * size prefix: reference builders and verifiers align size-prefixed buffers the same way, and padding
+ * each buffer to 8 bytes keeps every scalar aligned within the file.
+ */
+final class FlatBufferBuilder {
+
+    // A table being described: the size (0 = absent) and value of each slot, then the field positions once written
+    static final class Table {
+
+        private final int[] sizes;
+        private final long[] values;
+        private final int[] positions;
+
+        private Table(int slots) {
+            this.sizes = new int[slots];
+            this.values = new long[slots];
+            this.positions = new int[slots];
+        }
+
+        Table add(int slot, int size, long value) {
+            sizes[slot] = size;
+            values[slot] = value;
+            return this;
+        }
+
+        Table offset(int slot) {
+            return add(slot, Integer.BYTES, 0);
+        }
+
+        int field(int slot) {
+            return positions[slot];
+        }
+    }
+
+    private byte[] bytes;
+    private int size;
+
+    FlatBufferBuilder(int capacity) {
+        this.bytes = new byte[capacity];
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    void writeTo(OutputStream out) throws IOException {
+        out.write(bytes, 0, size);
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(bytes, size);
+    }
+
+    // ------------------------------------------------------------
+    // OBJECTS
+    // ------------------------------------------------------------
+    // The size prefix, then the root uoffset; link the root to the root table once written
+    int root() {
+        putInt(0);
+        putInt(0);
+        return Integer.BYTES;
+    }
+
+    // Pads the buffer to 8 bytes and fills in its size prefix, which does not count itself
+    void finish() {
+        pad(Long.BYTES, 0);
+        putIntAt(0, size - Integer.BYTES);
+    }
+
+    Table table(int slots) {
+        return new Table(slots);
+    }
+
+    // Writes the vtable and the table's inline fields, largest first so each lands on its own alignment
+    int end(Table table) {
+        int lastSlot = -1;
+        int tableBytes = Integer.BYTES;
+        for (int slot = 0; slot < table.sizes.length; slot++) {
+            if (table.sizes[slot] > 0) {
+                lastSlot = slot;
+                tableBytes += table.sizes[slot];
+            }
+        }
+        int vtableBytes = 2 * Short.BYTES + (lastSlot + 1) * Short.BYTES;
+        // The table starts at 4 mod 8, so the fields after its soffset start 8-aligned
+        pad(Long.BYTES, vtableBytes + Integer.BYTES);
+        int vtable = size;
+        int tablePosition = vtable + vtableBytes;
+        int fieldPosition = tablePosition + Integer.BYTES;
+        for (int fieldSize = Long.BYTES; fieldSize > 0; fieldSize >>= 1) {
+            for (int slot = 0; slot <= lastSlot; slot++) {
+                if (table.sizes[slot] == fieldSize) {
+                    table.positions[slot] = fieldPosition;
+                    fieldPosition += fieldSize;
+                }
+            }
+        }
+        putShort(vtableBytes);
+        putShort(tableBytes);
+        for (int slot = 0; slot <= lastSlot; slot++) {
+            putShort(table.sizes[slot] > 0 ? table.positions[slot] - tablePosition : 0);
+        }
+        putInt(vtableBytes);
+        for (int fieldSize = Long.BYTES; fieldSize > 0; fieldSize >>= 1) {
+            for (int slot = 0; slot <= lastSlot; slot++) {
+                if (table.sizes[slot] == fieldSize) {
+                    put(table.values[slot], fieldSize);
+                }
+            }
+        }
+        return tablePosition;
+    }
+
+    // Points a reserved offset field (or offset vector element) at a child written after it
+    void link(int field, int target) {
+        putIntAt(field, target - field);
+    }
+
+    // ------------------------------------------------------------
+    // VECTORS – the uoffset points at the length, elements follow aligned to their size
+    // ------------------------------------------------------------
+    int string(String value) {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        int vector = bytes(utf8, utf8.length);
+        putByte(0);
+        return vector;
+    }
+
+    int bytes(byte[] values, int count) {
+        int vector = startVector(count, Integer.BYTES);
+        ensure(count);
+        System.arraycopy(values, 0, bytes, size, count);
+        size += count;
+        return vector;
+    }
+
+    int uints(int[] values, int count) {
+        int vector = startVector(count, Integer.BYTES);
+        for (int i = 0; i < count; i++) {
+            putInt(values[i]);
+        }
+        return vector;
+    }
+
+    int doubles(double[] values, int count) {
+        int vector = startVector(count, Double.BYTES);
+        for (int i = 0; i < count; i++) {
+            putLong(Double.doubleToRawLongBits(values[i]));
+        }
+        return vector;
+    }
+
+    // A vector of table offsets; element i sits at vector + 4 + 4 * i and is linked like a field
+    int offsets(int count) {
+        int vector = startVector(count, Integer.BYTES);
+        for (int i = 0; i < count; i++) {
+            putInt(0);
+        }
+        return vector;
+    }
+
+    private int startVector(int count, int alignment) {
+        pad(alignment, Integer.BYTES);
+        int vector = size;
+        putInt(count);
+        return vector;
+    }
+
+    // ------------------------------------------------------------
+    // SCALARS
+    // ------------------------------------------------------------
+    // Zero bytes until size + following is a multiple of alignment
+    private void pad(int alignment, int following) {
+        while ((size + following) % alignment != 0) {
+            putByte(0);
+        }
+    }
+
+    private void putByte(int value) {
+        ensure(1);
+        bytes[size++] = (byte) value;
+    }
+
+    private void putShort(int value) {
+        put(value, Short.BYTES);
+    }
+
+    private void putInt(int value) {
+        put(value, Integer.BYTES);
+    }
+
+    private void putLong(long value) {
+        put(value, Long.BYTES);
+    }
+
+    private void put(long value, int length) {
+        ensure(length);
+        for (int i = 0; i < length; i++) {
+            bytes[size++] = (byte) (value >>> (8 * i));
+        }
+    }
+
+    private void putIntAt(int position, int value) {
+        for (int i = 0; i < Integer.BYTES; i++) {
+            bytes[position + i] = (byte) (value >>> (8 * i));
+        }
+    }
+
+    private void ensure(int length) {
+        if (size + length > bytes.length) {
+            bytes = Arrays.copyOf(bytes, Math.max(2 * bytes.length, size + length));
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package com.github.souzafcharles.api.fgb;
+
+import com.github.souzafcharles.api.config.GeometryConfig;
+import com.github.souzafcharles.api.utils.Messages;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Writes a FlatGeobuf (3.0.1) file with one Long "id" property per feature and a packed Hilbert R-tree
+ * index. Features arrive in any order and are encoded straight to a spool file next to the target,
+ * keeping only their envelope, spool offset and length in memory. finish() then sorts them by
+ * Hilbert value and writes the header, the index and the features in that order, copied from the
+ * spool by the file channel.
+ */
+public class FlatGeobufWriter implements Closeable {
+
+    public static final String MEDIA_TYPE = "application/flatgeobuf";
+    static final byte[] MAGIC = {0x66, 0x67, 0x62, 0x03, 0x66, 0x67, 0x62, 0x01};
+    static final String ID_COLUMN = "id";
+    static final int COLUMN_TYPE_LONG = 7;
+    // Geometry types; 0 (Unknown) in the header means each feature geometry carries its own type
+    static final int UNKNOWN = 0;
+    static final int POINT = 1;
+    static final int LINESTRING = 2;
+    static final int POLYGON = 3;
+    static final int MULTIPOINT = 4;
+    static final int MULTILINESTRING = 5;
+    static final int MULTIPOLYGON = 6;
+    static final int GEOMETRYCOLLECTION = 7;
+    // Table slots, in schema order
+    static final int HEADER_NAME = 0;
+    static final int HEADER_ENVELOPE = 1;
+    static final int HEADER_GEOMETRY_TYPE = 2;
+    static final int HEADER_COLUMNS = 7;
+    static final int HEADER_FEATURES_COUNT = 8;
+    static final int HEADER_INDEX_NODE_SIZE = 9;
+    static final int HEADER_CRS = 10;
+    static final int CRS_ORG = 0;
+    static final int CRS_CODE = 1;
+    static final int COLUMN_NAME = 0;
+    static final int COLUMN_TYPE = 1;
+    static final int COLUMN_NULLABLE = 7;
+    static final int FEATURE_GEOMETRY = 0;
+    static final int FEATURE_PROPERTIES = 1;
+    static final int GEOMETRY_ENDS = 0;
+    static final int GEOMETRY_XY = 1;
+    static final int GEOMETRY_TYPE = 6;
+    static final int GEOMETRY_PARTS = 7;
+
+    private final Path target;
+    private final Path spool;
+    private final OutputStream spoolOut;
+    private final String name;
+    private final int indexNodeSize;
+    private final FlatBufferBuilder builder = new FlatBufferBuilder(1024);
+    private final byte[] properties = new byte[Short.BYTES + Long.BYTES];
+    private final Envelope extent = new Envelope();
+    private double[] xy = new double[256];
+    private int[] ends = new int[16];
+    // Per feature, in arrival order
+    private double[] bounds = new double[4 * 1024];
+    private long[] spoolOffsets = new long[1024];
+    private int[] lengths = new int[1024];
+    private int count;
+    private long spoolSize;
+    private int geometryType = -1;
+
+    public FlatGeobufWriter(Path target, String name, int indexNodeSize) throws IOException {
+        if (indexNodeSize < 2 || indexNodeSize > 0xFFFF) {
+            throw new IllegalArgumentException(String.format(Messages.INVALID_FGB_INDEX_NODE_SIZE, indexNodeSize));
+        }
+        this.target = target;
+        this.spool = target.resolveSibling(target.getFileName() + ".spool");
+        this.spoolOut = new BufferedOutputStream(Files.newOutputStream(spool), 1 << 16);
+        this.name = name;
+        this.indexNodeSize = indexNodeSize;
+    }
+
+    // ------------------------------------------------------------
+    // FEATURES
+    // ------------------------------------------------------------
+    public void add(long id, Geometry geometry) throws IOException {
+        if (geometry.isEmpty()) {
+            throw new IllegalArgumentException(Messages.FGB_EMPTY_GEOMETRY);
+        }
+        builder.clear();
+        int root = builder.root();
+        FlatBufferBuilder.Table feature = builder.table(3).offset(FEATURE_GEOMETRY).offset(FEATURE_PROPERTIES);
+        builder.link(root, builder.end(feature));
+        writeGeometry(geometry, feature.field(FEATURE_GEOMETRY));
+        // Property 0 (id) as a little-endian int64
+        for (int i = 0; i < Long.BYTES; i++) {
+            properties[Short.BYTES + i] = (byte) (id >>> (8 * i));
+        }
+        builder.link(feature.field(FEATURE_PROPERTIES), builder.bytes(properties, properties.length));
+
+        grow();
+        Envelope envelope = geometry.getEnvelopeInternal();
+        bounds[4 * count] = envelope.getMinX();
+        bounds[4 * count + 1] = envelope.getMinY();
+        bounds[4 * count + 2] = envelope.getMaxX();
+        bounds[4 * count + 3] = envelope.getMaxY();
+        spoolOffsets[count] = spoolSize;
+        builder.finish();
+        lengths[count] = builder.size();
+        extent.expandToInclude(envelope);
+        int type = typeOf(geometry);
+        geometryType = geometryType == -1 || geometryType == type ? type : UNKNOWN;
+
+        builder.writeTo(spoolOut);
+        spoolSize += lengths[count];
+        count++;
+    }
+
+    // Links the field to a Geometry table; the type is always set, so features stay readable under an Unknown header type
+    private void writeGeometry(Geometry geometry, int field) {
+        int type = typeOf(geometry);
+        boolean hasParts = type == MULTIPOLYGON || type == GEOMETRYCOLLECTION;
+        FlatBufferBuilder.Table table = builder.table(8).add(GEOMETRY_TYPE, 1, type);
+        if (hasParts) {
+            table.offset(GEOMETRY_PARTS);
+        } else {
+            table.offset(GEOMETRY_XY);
+        }
+        int parts = collectCoordinates(geometry);
+        if (parts > 1) {
+            table.offset(GEOMETRY_ENDS);
+        }
+        builder.link(field, builder.end(table));
+        if (hasParts) {
+            int vector = builder.offsets(geometry.getNumGeometries());
+            builder.link(table.field(GEOMETRY_PARTS), vector);
+            for (int i = 0; i < geometry.getNumGeometries(); i++) {
+                writeGeometry(geometry.getGeometryN(i), vector + Integer.BYTES * (i + 1));
+            }
+            return;
+        }
+        if (parts > 1) {
+            builder.link(table.field(GEOMETRY_ENDS), builder.uints(ends, parts));
+        }
+        builder.link(table.field(GEOMETRY_XY), builder.doubles(xy, 2 * ends[Math.max(parts - 1, 0)]));
+    }
+
+    // Flattens the vertices into xy and the running vertex count after each part (ring or line) into ends
+    private int collectCoordinates(Geometry geometry) {
+        int vertices = 0;
+        int parts = 0;
+        switch (geometry) {
+            case Point point -> vertices = append(point.getCoordinateSequence(), vertices);
+            case LineString lineString -> vertices = append(lineString.getCoordinateSequence(), vertices);
+            case Polygon polygon -> {
+                vertices = append(polygon.getExteriorRing().getCoordinateSequence(), vertices);
+                ends = ensure(ends, 1 + polygon.getNumInteriorRing());
+                ends[parts++] = vertices;
+                for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+                    vertices = append(polygon.getInteriorRingN(i).getCoordinateSequence(), vertices);
+                    ends[parts++] = vertices;
+                }
+            }
+            case MultiPoint multiPoint -> {
+                for (int i = 0; i < multiPoint.getNumGeometries(); i++) {
+                    vertices = append(((Point) multiPoint.getGeometryN(i)).getCoordinateSequence(), vertices);
+                }
+            }
+            case MultiLineString multiLineString -> {
+                ends = ensure(ends, multiLineString.getNumGeometries());
+                for (int i = 0; i < multiLineString.getNumGeometries(); i++) {
+                    vertices = append(((LineString) multiLineString.getGeometryN(i)).getCoordinateSequence(), vertices);
+                    ends[parts++] = vertices;
+                }
+            }
+            default -> {
+                // Multi polygons and collections are written as parts
+                return 0;
+            }
+        }
+        if (parts == 0) {
+            ends[parts++] = vertices;
+        }
+        return parts;
+    }
+
+    private int append(CoordinateSequence sequence, int vertices) {
+        xy = ensure(xy, 2 * (vertices + sequence.size()));
+        for (int i = 0; i < sequence.size(); i++) {
+            xy[2 * (vertices + i)] = sequence.getX(i);
+            xy[2 * (vertices + i) + 1] = sequence.getY(i);
+        }
+        return vertices + sequence.size();
+    }
+
+    private static int typeOf(Geometry geometry) {
+        return switch (geometry) {
+            case Point ignored -> POINT;
+            case LineString ignored -> LINESTRING;
+            case Polygon ignored -> POLYGON;
+            case MultiPoint ignored -> MULTIPOINT;
+            case MultiLineString ignored -> MULTILINESTRING;
+            case MultiPolygon ignored -> MULTIPOLYGON;
+            case GeometryCollection ignored -> GEOMETRYCOLLECTION;
+            default -> throw new IllegalArgumentException(String.format(Messages.UNSUPPORTED_GEOMETRY_TYPE, geometry.getGeometryType()));
+        };
+    }
+
+    // ------------------------------------------------------------
+    // FILE LAYOUT – magic, header, index, features in Hilbert order
+    // ------------------------------------------------------------
+    public long finish() throws IOException {
+        spoolOut.close();
+        int nodeSize = count == 0 ? 0 : indexNodeSize;
+        try (FileChannel in = FileChannel.open(spool, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            OutputStream stream = new BufferedOutputStream(Channels.newOutputStream(out), 1 << 16);
+            stream.write(MAGIC);
+            writeHeader(nodeSize);
+            builder.writeTo(stream);
+            int[] order = PackedRTree.hilbertOrder(bounds, count, extent);
+            if (count > 0) {
+                double[] leafBounds = new double[4 * count];
+                long[] leafOffsets = new long[count];
+                long offset = 0;
+                for (int leaf = 0; leaf < count; leaf++) {
+                    System.arraycopy(bounds, 4 * order[leaf], leafBounds, 4 * leaf, 4);
+                    leafOffsets[leaf] = offset;
+                    offset += lengths[order[leaf]];
+                }
+                PackedRTree.write(leafBounds, leafOffsets, count, nodeSize, stream);
+            }
+            stream.flush();
+            for (int feature : order) {
+                long position = spoolOffsets[feature];
+                long end = position + lengths[feature];
+                while (position < end) {
+                    position += in.transferTo(position, end - position, out);
+                }
+            }
+        }
+        return count;
+    }
+
+    private void writeHeader(int nodeSize) {
+        builder.clear();
+        int root = builder.root();
+        FlatBufferBuilder.Table header = builder.table(14)
+                .offset(HEADER_NAME)
+                .add(HEADER_GEOMETRY_TYPE, 1, Math.max(geometryType, UNKNOWN))
+                .offset(HEADER_COLUMNS)
+                .add(HEADER_FEATURES_COUNT, Long.BYTES, count)
+                .add(HEADER_INDEX_NODE_SIZE, Short.BYTES, nodeSize)
+                .offset(HEADER_CRS);
+        if (count > 0) {
+            header.offset(HEADER_ENVELOPE);
+        }
+        builder.link(root, builder.end(header));
+        builder.link(header.field(HEADER_NAME), builder.string(name));
+        if (count > 0) {
+            double[] envelope = {extent.getMinX(), extent.getMinY(), extent.getMaxX(), extent.getMaxY()};
+            builder.link(header.field(HEADER_ENVELOPE), builder.doubles(envelope, envelope.length));
+        }
+        int columns = builder.offsets(1);
+        FlatBufferBuilder.Table column = builder.table(8)
+                .offset(COLUMN_NAME)
+                .add(COLUMN_TYPE, 1, COLUMN_TYPE_LONG)
+                .add(COLUMN_NULLABLE, 1, 0);
+        builder.link(header.field(HEADER_COLUMNS), columns);
+        builder.link(columns + Integer.BYTES, builder.end(column));
+        builder.link(column.field(COLUMN_NAME), builder.string(ID_COLUMN));
+        FlatBufferBuilder.Table crs = builder.table(2).offset(CRS_ORG).add(CRS_CODE, Integer.BYTES, GeometryConfig.SRID);
+        builder.link(header.field(HEADER_CRS), builder.end(crs));
+        builder.link(crs.field(CRS_ORG), builder.string("EPSG"));
+        builder.finish();
+    }
+
+    private void grow() {
+        if (count == lengths.length) {
+            bounds = Arrays.copyOf(bounds, 8 * count);
+            spoolOffsets = Arrays.copyOf(spoolOffsets, 2 * count);
+            lengths = Arrays.copyOf(lengths, 2 * count);
+        }
+    }
+
+    private static double[] ensure(double[] array, int length) {
+        return array.length >= length ? array : Arrays.copyOf(array, Math.max(2 * array.length, length));
+    }
+
+    private static int[] ensure(int[] array, int length) {
+        return array.length >= length ? array : Arrays.copyOf(array, Math.max(2 * array.length, length));
+    }
+
+    // Drops the spool; the target is left to the caller
+    @Override
+    public void close() throws IOException {
+        spoolOut.close();
+        Files.deleteIfExists(spool);
+    }
+}
@@ -0,0 +1,172 @@
+package com.github.souzafcharles.api.fgb;
+
+import org.locationtech.jts.geom.Envelope;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * The static packed Hilbert R-tree of FlatGeobuf. Items are sorted by the Hilbert value of their
+ * envelope centre, then packed bottom-up into nodes of up to nodeSize children. Nodes are stored
+ * root first and level by level, each as minX, minY, maxX, maxY (doubles) and an offset (uint64):
+ * the byte offset of the feature for leaves, the index of the first child node otherwise.
+ */
+final class PackedRTree {
+
+    static final int NODE_ITEM_BYTES = 4 * Double.BYTES + Long.BYTES;
+    private static final int HILBERT_MAX = (1 << 16) - 1;
+
+    private PackedRTree() {
+    }
+
+    // Leaves first: {start, end} node indexes per level, the root level last
+    static long[][] levelBounds(long items, int nodeSize) {
+        long[] levelItems = new long[Long.SIZE];
+        int levels = 0;
+        long n = items;
+        long nodes = n;
+        levelItems[levels++] = n;
+        do {
+            n = (n + nodeSize - 1) / nodeSize;
+            nodes += n;
+            levelItems[levels++] = n;
+        } while (n != 1);
+        long[][] bounds = new long[levels][];
+        long offset = nodes;
+        for (int level = 0; level < levels; level++) {
+            offset -= levelItems[level];
+            bounds[level] = new long[]{offset, offset + levelItems[level]};
+        }
+        return bounds;
+    }
+
+    static long size(long items, int nodeSize) {
+        return levelBounds(items, nodeSize)[0][1] * NODE_ITEM_BYTES;
+    }
+
+    // ------------------------------------------------------------
+    // HILBERT ORDER
+    // ------------------------------------------------------------
+    // Item indexes by descending Hilbert value; bounds holds minX, minY, maxX, maxY per item
+    static int[] hilbertOrder(double[] bounds, int items, Envelope extent) {
+        long[] keys = new long[items];
+        for (int i = 0; i < items; i++) {
+            int x = scale(bounds[4 * i] + bounds[4 * i + 2], extent.getMinX(), extent.getWidth());
+            int y = scale(bounds[4 * i + 1] + bounds[4 * i + 3], extent.getMinY(), extent.getHeight());
+            // Hilbert value in the high half, flipped so a signed sort orders it as unsigned
+            keys[i] = ((long) hilbert(x, y) << 32 | i) ^ Long.MIN_VALUE;
+        }
+        Arrays.sort(keys);
+        int[] order = new int[items];
+        for (int i = 0; i < items; i++) {
+            order[i] = (int) keys[items - 1 - i];
+        }
+        return order;
+    }
+
+    private static int scale(double twiceCentre, double min, double extent) {
+        return extent == 0.0 ? 0 : (int) Math.floor(HILBERT_MAX * (twiceCentre / 2 - min) / extent);
+    }
+
+    // Position of (x, y) along a 16-bit Hilbert curve, as in the FlatGeobuf reference implementation
+    static int hilbert(int x, int y) {
+        int a = x ^ y;
+        int b = 0xFFFF ^ a;
+        int c = 0xFFFF ^ (x | y);
+        int d = x & (y ^ 0xFFFF);
+
+        int A = a | (b >>> 1);
+        int B = (a >>> 1) ^ a;
+        int C = ((c >>> 1) ^ (b & (d >>> 1))) ^ c;
+        int D = ((a & (c >>> 1)) ^ (d >>> 1)) ^ d;
+
+        a = A;
+        b = B;
+        c = C;
+        d = D;
+        A = (a & (a >>> 2)) ^ (b & (b >>> 2));
+        B = (a & (b >>> 2)) ^ (b & ((a ^ b) >>> 2));
+        C ^= (a & (c >>> 2)) ^ (b & (d >>> 2));
+        D ^= (b & (c >>> 2)) ^ ((a ^ b) & (d >>> 2));
+
+        a = A;
+        b = B;
+        c = C;
+        d = D;
+        A = (a & (a >>> 4)) ^ (b & (b >>> 4));
+        B = (a & (b >>> 4)) ^ (b & ((a ^ b) >>> 4));
+        C ^= (a & (c >>> 4)) ^ (b & (d >>> 4));
+        D ^= (b & (c >>> 4)) ^ ((a ^ b) & (d >>> 4));
+
+        a = A;
+        b = B;
+        c = C;
+        d = D;
+        C ^= (a & (c >>> 8)) ^ (b & (d >>> 8));
+        D ^= (b & (c >>> 8)) ^ ((a ^ b) & (d >>> 8));
+
+        a = C ^ (C >>> 1);
+        b = D ^ (D >>> 1);
+
+        int i0 = x ^ y;
+        int i1 = b | (0xFFFF ^ (i0 | a));
+        return (interleave(i1) << 1) | interleave(i0);
+    }
+
+    // Spreads the low 16 bits to the even bit positions
+    private static int interleave(int value) {
+        value = (value | (value << 8)) & 0x00FF00FF;
+        value = (value | (value << 4)) & 0x0F0F0F0F;
+        value = (value | (value << 2)) & 0x33333333;
+        return (value | (value << 1)) & 0x55555555;
+    }
+
+    // ------------------------------------------------------------
+    // PACKING
+    // ------------------------------------------------------------
+    // Writes the tree over items already in leaf order: leafBounds and leafOffsets are indexed by leaf position
+    static void write(double[] leafBounds, long[] leafOffsets, int items, int nodeSize, OutputStream out) throws IOException {
+        long[][] levels = levelBounds(items, nodeSize);
+        int nodes = (int) levels[0][1];
+        double[] bounds = new double[4 * nodes];
+        long[] offsets = new long[nodes];
+        int leaves = (int) levels[0][0];
+        System.arraycopy(leafBounds, 0, bounds, 4 * leaves, 4 * items);
+        System.arraycopy(leafOffsets, 0, offsets, leaves, items);
+        for (int level = 0; level < levels.length - 1; level++) {
+            int position = (int) levels[level][0];
+            int end = (int) levels[level][1];
+            int parent = (int) levels[level + 1][0];
+            while (position < end) {
+                offsets[parent] = position;
+                bounds[4 * parent] = Double.POSITIVE_INFINITY;
+                bounds[4 * parent + 1] = Double.POSITIVE_INFINITY;
+                bounds[4 * parent + 2] = Double.NEGATIVE_INFINITY;
+                bounds[4 * parent + 3] = Double.NEGATIVE_INFINITY;
+                for (int child = 0; child < nodeSize && position < end; child++, position++) {
+                    bounds[4 * parent] = Math.min(bounds[4 * parent], bounds[4 * position]);
+                    bounds[4 * parent + 1] = Math.min(bounds[4 * parent + 1], bounds[4 * position + 1]);
+                    bounds[4 * parent + 2] = Math.max(bounds[4 * parent + 2], bounds[4 * position + 2]);
+                    bounds[4 * parent + 3] = Math.max(bounds[4 * parent + 3], bounds[4 * position + 3]);
+                }
+                parent++;
+            }
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(1024 * NODE_ITEM_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int node = 0; node < nodes; node++) {
+            if (!buffer.hasRemaining()) {
+                out.write(buffer.array(), 0, buffer.position());
+                buffer.clear();
+            }
+            buffer.putDouble(bounds[4 * node])
+                    .putDouble(bounds[4 * node + 1])
+                    .putDouble(bounds[4 * node + 2])
+                    .putDouble(bounds[4 * node + 3])
+                    .putLong(offsets[node]);
+        }
+        out.write(buffer.array(), 0, buffer.position());
+    }
+}
@@ -0,0 +1,185 @@
+package com.github.souzafcharles.api.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.github.souzafcharles.api.utils.Messages;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.CoordinateSequenceFactory;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Flat, primitive representation of a GeoJSON "coordinates" array of any nesting depth.
+ * Ordinates are stored interleaved (x0, y0, x1, y1, ...) in a single double[], and the
+ * nesting structure is kept as exclusive end offsets: line ends index positions, polygon
+ * ends index lines.
+ */
+@JsonDeserialize(using = CoordinateArrayDeserializer.class)
+@Schema(type = "array", description = "GeoJSON coordinates array: a position [x, y] or nested arrays of positions")
+public final class CoordinateArray {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private double[] ordinates = new double[INITIAL_CAPACITY * 2];
+    private int size;
+    private int[] lineEnds = new int[8];
+    private int lineCount;
+    private int[] polygonEnds = new int[4];
+    private int polygonCount;
+    private int depth;
+    private int minDimension = Integer.MAX_VALUE;
+    private int maxDimension;
+
+    private CoordinateArray() {
+    }
+
+    // Reads the array starting at the parser's current START_ARRAY token, leaving the parser on its END_ARRAY.
+    public static CoordinateArray read(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            throw new IllegalArgumentException(Messages.INVALID_COORDINATE_STRUCTURE);
+        }
+        CoordinateArray array = new CoordinateArray();
+        array.depth = array.readArray(parser, true);
+        return array;
+    }
+
+    // Returns the depth of the array just read: 1 for a position, 2 for a list of positions, and so on.
+    private int readArray(JsonParser parser, boolean topLevel) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.END_ARRAY) {
+            // A nested empty array is an empty list of positions; a top-level one has no depth at all
+            if (topLevel) {
+                return 0;
+            }
+            appendLineEnd();
+            return 2;
+        }
+        if (token.isNumeric()) {
+            readPosition(parser);
+            return 1;
+        }
+        int childDepth = -1;
+        while (token != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException(Messages.INVALID_COORDINATE_STRUCTURE);
+            }
+            int currentDepth = readArray(parser, false);
+            if (childDepth != -1 && currentDepth != childDepth) {
+                throw new IllegalArgumentException(Messages.INVALID_COORDINATE_STRUCTURE);
+            }
+            childDepth = currentDepth;
+            token = parser.nextToken();
+        }
+        if (childDepth == 1) {
+            appendLineEnd();
+        } else if (childDepth == 2) {
+            appendPolygonEnd();
+        } else if (childDepth > 3) {
+            throw new IllegalArgumentException(Messages.INVALID_COORDINATE_STRUCTURE);
+        }
+        return childDepth + 1;
+    }
+
+    // Reads x and y of a position whose first number is the current token; extra ordinates (altitude) are skipped.
+    private void readPosition(JsonParser parser) throws IOException {
+        if (size * 2 == ordinates.length) {
+            ordinates = Arrays.copyOf(ordinates, ordinates.length * 2);
+        }
+        int dimension = 0;
+        double x = Double.NaN;
+        double y = Double.NaN;
+        JsonToken token = parser.currentToken();
+        while (token != JsonToken.END_ARRAY) {
+            if (token == null || !token.isNumeric()) {
+                throw new IllegalArgumentException(Messages.INVALID_COORDINATE_STRUCTURE);
+            }
+            if (dimension == 0) {
+                x = parser.getDoubleValue();
+            } else if (dimension == 1) {
+                y = parser.getDoubleValue();
+            }
+            dimension++;
+            token = parser.nextToken();
+        }
+        ordinates[size * 2] = x;
+        ordinates[size * 2 + 1] = y;
+        size++;
+        minDimension = Math.min(minDimension, dimension);
+        maxDimension = Math.max(maxDimension, dimension);
+    }
+
+    private void appendLineEnd() {
+        if (lineCount == lineEnds.length) {
+            lineEnds = Arrays.copyOf(lineEnds, lineEnds.length * 2);
+        }
+        lineEnds[lineCount++] = size;
+    }
+
+    private void appendPolygonEnd() {
+        if (polygonCount == polygonEnds.length) {
+            polygonEnds = Arrays.copyOf(polygonEnds, polygonEnds.length * 2);
+        }
+        polygonEnds[polygonCount++] = lineCount;
+    }
+
+    // Copies positions [from, to) into a new sequence created by the given factory.
+    public CoordinateSequence toCoordinateSequence(CoordinateSequenceFactory factory, int from, int to) {
+        CoordinateSequence sequence = factory.create(to - from, 2);
+        for (int i = from; i < to; i++) {
+            sequence.setOrdinate(i - from, CoordinateSequence.X, ordinates[i * 2]);
+            sequence.setOrdinate(i - from, CoordinateSequence.Y, ordinates[i * 2 + 1]);
+        }
+        return sequence;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int depth() {
+        return depth;
+    }
+
+    public double getX(int index) {
+        return ordinates[index * 2];
+    }
+
+    public double getY(int index) {
+        return ordinates[index * 2 + 1];
+    }
+
+    public int minDimension() {
+        return size == 0 ? 0 : minDimension;
+    }
+
+    public int maxDimension() {
+        return maxDimension;
+    }
+
+    public int lineCount() {
+        return lineCount;
+    }
+
+    public int lineStart(int line) {
+        return line == 0 ? 0 : lineEnds[line - 1];
+    }
+
+    public int lineEnd(int line) {
+        return lineEnds[line];
+    }
+
+    public int polygonCount() {
+        return polygonCount;
+    }
+
+    public int polygonStart(int polygon) {
+        return polygon == 0 ? 0 : polygonEnds[polygon - 1];
+    }
+
+    public int polygonEnd(int polygon) {
+        return polygonEnds[polygon];
+    }
+}
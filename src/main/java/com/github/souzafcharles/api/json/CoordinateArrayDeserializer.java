@@ -0,0 +1,19 @@
+package com.github.souzafcharles.api.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Binds a raw GeoJSON "coordinates" array of any depth into a {@link CoordinateArray}, so request
+ * DTOs receive primitive ordinates instead of nested List&lt;Double&gt; values.
+ */
+public class CoordinateArrayDeserializer extends JsonDeserializer<CoordinateArray> {
+
+    @Override
+    public CoordinateArray deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        return CoordinateArray.read(parser);
+    }
+}
@@ -0,0 +1,76 @@
+package com.github.souzafcharles.api.json;
+
+import com.github.souzafcharles.api.utils.Messages;
+
+/**
+ * Allocation-free fixed-precision formatter for coordinate ordinates. Values are rounded half-up
+ * to the requested number of decimal places and trailing zeros are dropped, so -46.5792360 with
+ * precision 7 is written as "-46.579236".
+ */
+public final class CoordinateFormatter {
+
+    public static final int MAX_PRECISION = 12;
+    // Above this magnitude the scaled value no longer fits exactly in a double mantissa
+    private static final double MAX_SCALED_VALUE = 1e15;
+    private static final long[] POWERS_OF_TEN = new long[MAX_PRECISION + 1];
+    // Long.MIN_VALUE has 19 digits, plus sign and decimal point
+    public static final int BUFFER_SIZE = 24;
+
+    static {
+        long power = 1;
+        for (int i = 0; i <= MAX_PRECISION; i++) {
+            POWERS_OF_TEN[i] = power;
+            power *= 10;
+        }
+    }
+
+    private CoordinateFormatter() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    // Writes the value into buffer starting at 0 and returns the length, or -1 when it cannot be represented exactly.
+    public static int format(double value, int precision, char[] buffer) {
+        if (precision < 0 || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException(String.format(Messages.INVALID_COORDINATE_PRECISION, precision, MAX_PRECISION));
+        }
+        long scale = POWERS_OF_TEN[precision];
+        double scaledValue = Math.abs(value) * scale;
+        if (Double.isNaN(scaledValue) || scaledValue >= MAX_SCALED_VALUE) {
+            return -1;
+        }
+        long scaled = Math.round(scaledValue);
+        long integerPart = scaled / scale;
+        long fraction = scaled % scale;
+        int position = 0;
+        // Values that round to zero are written as "0", never "-0"
+        if (value < 0 && scaled != 0) {
+            buffer[position++] = '-';
+        }
+        position = writeDigits(integerPart, buffer, position, 0);
+        if (fraction != 0) {
+            int digits = precision;
+            while (fraction % 10 == 0) {
+                fraction /= 10;
+                digits--;
+            }
+            buffer[position++] = '.';
+            position = writeDigits(fraction, buffer, position, digits);
+        }
+        return position;
+    }
+
+    // Writes a non-negative number left-padded with zeros to at least minDigits digits.
+    private static int writeDigits(long number, char[] buffer, int position, int minDigits) {
+        int digits = 1;
+        for (long remaining = number / 10; remaining > 0; remaining /= 10) {
+            digits++;
+        }
+        digits = Math.max(digits, minDigits);
+        int end = position + digits;
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (char) ('0' + number % 10);
+            number /= 10;
+        }
+        return end;
+    }
+}
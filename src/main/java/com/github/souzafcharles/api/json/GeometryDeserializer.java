@@ -1,9 +1,11 @@
 package com.github.souzafcharles.api.json;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.souzafcharles.api.config.GeometryConfig;
 import com.github.souzafcharles.api.utils.Messages;
 import org.locationtech.jts.geom.*;
 
@@ -11,10 +13,36 @@ import java.io.IOException;
 
 public class GeometryDeserializer extends JsonDeserializer<Geometry> {
 
-    private final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+    private final GeometryFactory geometryFactory;
+    private final Mode mode;
+
+    /**
+     * TREE reads the whole geometry into a JsonNode tree before converting it; STREAMING pulls
+     * coordinate tokens straight from the parser into a primitive {@link CoordinateArray}.
+     */
+    public enum Mode {
+        TREE,
+        STREAMING
+    }
+
+    public GeometryDeserializer() {
+        this(Mode.TREE);
+    }
+
+    public GeometryDeserializer(Mode mode) {
+        this(GeometryConfig.packedGeometryFactory(GeometryConfig.CoordinateStorage.DOUBLE), mode);
+    }
+
+    public GeometryDeserializer(GeometryFactory geometryFactory, Mode mode) {
+        this.geometryFactory = geometryFactory;
+        this.mode = mode;
+    }
 
     @Override
     public Geometry deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (mode == Mode.STREAMING) {
+            return deserializeStreaming(parser);
+        }
         JsonNode rootNode = parser.getCodec().readTree(parser);
         if (rootNode.isNull()) {
             return null;
@@ -34,9 +62,10 @@ public class GeometryDeserializer extends JsonDeserializer<Geometry> {
         if (coordinatesNode == null || !coordinatesNode.isArray() || coordinatesNode.size() < 2) {
             return null;
         }
-        double x = coordinatesNode.get(0).asDouble();
-        double y = coordinatesNode.get(1).asDouble();
-        return geometryFactory.createPoint(new Coordinate(x, y));
+        CoordinateSequence sequence = geometryFactory.getCoordinateSequenceFactory().create(1, 2);
+        sequence.setOrdinate(0, CoordinateSequence.X, coordinatesNode.get(0).asDouble());
+        sequence.setOrdinate(0, CoordinateSequence.Y, coordinatesNode.get(1).asDouble());
+        return geometryFactory.createPoint(sequence);
     }
 
     // Deserializes a GeoJSON Polygon structure into a JTS Polygon. Only the exterior ring (shell) is processed here.
@@ -46,8 +75,8 @@ public class GeometryDeserializer extends JsonDeserializer<Geometry> {
         }
         // The first element represents the exterior ring
         JsonNode exteriorRingNode = coordinatesNode.get(0);
-        Coordinate[] exteriorCoordinates = parseCoordinateArray(exteriorRingNode);
-        if (exteriorCoordinates.length < 4) {
+        CoordinateSequence exteriorCoordinates = parseCoordinateArray(exteriorRingNode);
+        if (exteriorCoordinates.size() < 4) {
             throw new IllegalArgumentException(Messages.INVALID_POLYGON_COORDINATES);
         }
         LinearRing shell = geometryFactory.createLinearRing(exteriorCoordinates);
@@ -59,19 +88,104 @@ public class GeometryDeserializer extends JsonDeserializer<Geometry> {
         if (coordinatesNode == null || !coordinatesNode.isArray()) {
             return null;
         }
-        Coordinate[] coordinates = parseCoordinateArray(coordinatesNode);
+        CoordinateSequence coordinates = parseCoordinateArray(coordinatesNode);
         return geometryFactory.createLineString(coordinates);
     }
 
-    // Parses an array of coordinate pairs into a JTS Coordinate array.
-    private Coordinate[] parseCoordinateArray(JsonNode coordinateArrayNode) {
-        Coordinate[] coordinates = new Coordinate[coordinateArrayNode.size()];
+    // Parses an array of coordinate pairs into a sequence created by the configured factory.
+    private CoordinateSequence parseCoordinateArray(JsonNode coordinateArrayNode) {
+        CoordinateSequence coordinates = geometryFactory.getCoordinateSequenceFactory().create(coordinateArrayNode.size(), 2);
         for (int i = 0; i < coordinateArrayNode.size(); i++) {
             JsonNode coordinateNode = coordinateArrayNode.get(i);
-            double x = coordinateNode.get(0).asDouble();
-            double y = coordinateNode.get(1).asDouble();
-            coordinates[i] = new Coordinate(x, y);
+            coordinates.setOrdinate(i, CoordinateSequence.X, coordinateNode.get(0).asDouble());
+            coordinates.setOrdinate(i, CoordinateSequence.Y, coordinateNode.get(1).asDouble());
         }
         return coordinates;
     }
+
+    // ------------------------------------------------------------
+    // STREAMING MODE – tokens → CoordinateArray → CoordinateSequence
+    // ------------------------------------------------------------
+    private Geometry deserializeStreaming(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == null) {
+            token = parser.nextToken();
+        }
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token == JsonToken.START_OBJECT) {
+            token = parser.nextToken();
+        }
+        String geometryType = null;
+        CoordinateArray coordinates = null;
+        // GeoJSON members may come in any order, so coordinates are buffered until the type is known
+        while (token == JsonToken.FIELD_NAME) {
+            String fieldName = parser.currentName();
+            token = parser.nextToken();
+            if ("type".equals(fieldName)) {
+                geometryType = parser.getValueAsString();
+            } else if ("coordinates".equals(fieldName) && token == JsonToken.START_ARRAY) {
+                coordinates = CoordinateArray.read(parser);
+            } else {
+                parser.skipChildren();
+            }
+            token = parser.nextToken();
+        }
+        if (geometryType == null) {
+            throw new IllegalArgumentException(Messages.MISSING_GEOMETRY_TYPE);
+        }
+        return switch (geometryType) {
+            case "Point" -> toPoint(coordinates);
+            case "Polygon" -> toPolygon(coordinates);
+            case "LineString" -> toLineString(coordinates);
+            default -> throw new IllegalArgumentException(String.format(Messages.UNSUPPORTED_GEOMETRY_TYPE, geometryType));
+        };
+    }
+
+    private Point toPoint(CoordinateArray coordinates) {
+        if (coordinates == null || coordinates.depth() != 1 || coordinates.minDimension() < 2) {
+            return null;
+        }
+        return geometryFactory.createPoint(toSequence(coordinates, 0, 1));
+    }
+
+    // Only the exterior ring (shell) is processed, as in TREE mode.
+    private Polygon toPolygon(CoordinateArray coordinates) {
+        if (coordinates == null || coordinates.depth() == 0) {
+            return null;
+        }
+        requireDepth(coordinates, 3);
+        int shellStart = coordinates.lineStart(0);
+        int shellEnd = coordinates.lineEnd(0);
+        if (shellEnd - shellStart < 4) {
+            throw new IllegalArgumentException(Messages.INVALID_POLYGON_COORDINATES);
+        }
+        LinearRing shell = geometryFactory.createLinearRing(toSequence(coordinates, shellStart, shellEnd));
+        return geometryFactory.createPolygon(shell);
+    }
+
+    private LineString toLineString(CoordinateArray coordinates) {
+        if (coordinates == null) {
+            return null;
+        }
+        if (coordinates.depth() == 0) {
+            return geometryFactory.createLineString();
+        }
+        requireDepth(coordinates, 2);
+        return geometryFactory.createLineString(toSequence(coordinates, 0, coordinates.size()));
+    }
+
+    private CoordinateSequence toSequence(CoordinateArray coordinates, int from, int to) {
+        if (coordinates.minDimension() < 2) {
+            throw new IllegalArgumentException(Messages.POINT_COORDINATES_INVALID);
+        }
+        return coordinates.toCoordinateSequence(geometryFactory.getCoordinateSequenceFactory(), from, to);
+    }
+
+    private void requireDepth(CoordinateArray coordinates, int expectedDepth) {
+        if (coordinates.depth() != expectedDepth) {
+            throw new IllegalArgumentException(Messages.INVALID_COORDINATE_STRUCTURE);
+        }
+    }
 }
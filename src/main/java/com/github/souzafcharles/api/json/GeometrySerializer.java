@@ -3,67 +3,187 @@ package com.github.souzafcharles.api.json;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.github.souzafcharles.api.utils.Messages;
+import org.locationtech.jts.geom.CoordinateSequence;
 import org.locationtech.jts.geom.Geometry;
-import org.locationtech.jts.geom.Polygon;
-import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.GeometryCollection;
 import org.locationtech.jts.geom.LineString;
-import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
 
 import java.io.IOException;
 
+/**
+ * Writes JTS geometries as GeoJSON by reading ordinates straight from each CoordinateSequence,
+ * so no Coordinate[] copy is made regardless of the number of vertices. With a non-negative
+ * coordinate precision, ordinates are rounded by {@link CoordinateFormatter} and written as raw
+ * characters into the generator's buffer.
+ */
 public class GeometrySerializer extends JsonSerializer<Geometry> {
 
+    public static final int FULL_PRECISION = -1;
+
+    private static final ThreadLocal<char[]> NUMBER_BUFFER =
+            ThreadLocal.withInitial(() -> new char[CoordinateFormatter.BUFFER_SIZE]);
+
+    private final int coordinatePrecision;
+
+    public GeometrySerializer() {
+        this(FULL_PRECISION);
+    }
+
+    public GeometrySerializer(int coordinatePrecision) {
+        if (coordinatePrecision < FULL_PRECISION || coordinatePrecision > CoordinateFormatter.MAX_PRECISION) {
+            throw new IllegalArgumentException(String.format(Messages.INVALID_COORDINATE_PRECISION, coordinatePrecision, CoordinateFormatter.MAX_PRECISION));
+        }
+        this.coordinatePrecision = coordinatePrecision;
+    }
+
     @Override
     public void serialize(Geometry geometry, JsonGenerator json, SerializerProvider serializers) throws IOException {
         if (geometry == null) {
             json.writeNull();
             return;
         }
+        writeGeometry(geometry, json);
+    }
+
+    private void writeGeometry(Geometry geometry, JsonGenerator json) throws IOException {
         json.writeStartObject();
-        json.writeStringField("type", geometry.getGeometryType());
+        json.writeStringField("type", geometryType(geometry));
         if (geometry instanceof Point point) {
             writePoint(point, json);
-        } else if (geometry instanceof Polygon polygon) {
-            writePolygon(polygon, json);
         } else if (geometry instanceof LineString lineString) {
             writeLineString(lineString, json);
+        } else if (geometry instanceof Polygon polygon) {
+            writePolygon(polygon, json);
+        } else if (geometry instanceof MultiPoint multiPoint) {
+            writeMultiPoint(multiPoint, json);
+        } else if (geometry instanceof MultiLineString multiLineString) {
+            writeMultiLineString(multiLineString, json);
+        } else if (geometry instanceof MultiPolygon multiPolygon) {
+            writeMultiPolygon(multiPolygon, json);
         } else {
-            // Unsupported geometry types fallback
-            json.writeStringField("geometryType", geometry.getGeometryType());
+            // Every remaining JTS geometry is a heterogeneous GeometryCollection
+            writeGeometryCollection((GeometryCollection) geometry, json);
         }
         json.writeEndObject();
     }
 
+    // GeoJSON has no LinearRing type, so rings serialized on their own are written as LineStrings.
+    private String geometryType(Geometry geometry) {
+        return Geometry.TYPENAME_LINEARRING.equals(geometry.getGeometryType())
+                ? Geometry.TYPENAME_LINESTRING
+                : geometry.getGeometryType();
+    }
+
     private void writePoint(Point point, JsonGenerator json) throws IOException {
         json.writeArrayFieldStart("coordinates");
-        json.writeNumber(point.getX());
-        json.writeNumber(point.getY());
+        CoordinateSequence sequence = point.getCoordinateSequence();
+        if (sequence.size() > 0) {
+            writeOrdinates(sequence, 0, json);
+        }
+        json.writeEndArray();
+    }
+
+    private void writeLineString(LineString lineString, JsonGenerator json) throws IOException {
+        json.writeArrayFieldStart("coordinates");
+        writePositions(lineString.getCoordinateSequence(), json);
         json.writeEndArray();
     }
 
     private void writePolygon(Polygon polygon, JsonGenerator json) throws IOException {
         json.writeArrayFieldStart("coordinates");
-        // Exterior ring (shell)
-        json.writeStartArray();
-        Coordinate[] exteriorCoordinates = polygon.getExteriorRing().getCoordinates();
-        for (Coordinate coordinate : exteriorCoordinates) {
+        writeRings(polygon, json);
+        json.writeEndArray();
+    }
+
+    private void writeMultiPoint(MultiPoint multiPoint, JsonGenerator json) throws IOException {
+        json.writeArrayFieldStart("coordinates");
+        for (int i = 0; i < multiPoint.getNumGeometries(); i++) {
+            CoordinateSequence sequence = ((Point) multiPoint.getGeometryN(i)).getCoordinateSequence();
+            if (sequence.size() > 0) {
+                writePosition(sequence, 0, json);
+            }
+        }
+        json.writeEndArray();
+    }
+
+    private void writeMultiLineString(MultiLineString multiLineString, JsonGenerator json) throws IOException {
+        json.writeArrayFieldStart("coordinates");
+        for (int i = 0; i < multiLineString.getNumGeometries(); i++) {
             json.writeStartArray();
-            json.writeNumber(coordinate.getX());
-            json.writeNumber(coordinate.getY());
+            writePositions(((LineString) multiLineString.getGeometryN(i)).getCoordinateSequence(), json);
             json.writeEndArray();
         }
-        json.writeEndArray(); // end exterior ring
-        json.writeEndArray(); // end coordinates
+        json.writeEndArray();
     }
 
-    private void writeLineString(LineString lineString, JsonGenerator json) throws IOException {
+    private void writeMultiPolygon(MultiPolygon multiPolygon, JsonGenerator json) throws IOException {
         json.writeArrayFieldStart("coordinates");
-        for (Coordinate coordinate : lineString.getCoordinates()) {
+        for (int i = 0; i < multiPolygon.getNumGeometries(); i++) {
             json.writeStartArray();
-            json.writeNumber(coordinate.getX());
-            json.writeNumber(coordinate.getY());
+            writeRings((Polygon) multiPolygon.getGeometryN(i), json);
             json.writeEndArray();
         }
         json.writeEndArray();
     }
+
+    private void writeGeometryCollection(GeometryCollection geometryCollection, JsonGenerator json) throws IOException {
+        json.writeArrayFieldStart("geometries");
+        for (int i = 0; i < geometryCollection.getNumGeometries(); i++) {
+            writeGeometry(geometryCollection.getGeometryN(i), json);
+        }
+        json.writeEndArray();
+    }
+
+    // Exterior ring (shell) first, followed by the interior rings (holes).
+    private void writeRings(Polygon polygon, JsonGenerator json) throws IOException {
+        if (polygon.isEmpty()) {
+            return;
+        }
+        json.writeStartArray();
+        writePositions(polygon.getExteriorRing().getCoordinateSequence(), json);
+        json.writeEndArray();
+        for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+            json.writeStartArray();
+            writePositions(polygon.getInteriorRingN(i).getCoordinateSequence(), json);
+            json.writeEndArray();
+        }
+    }
+
+    private void writePositions(CoordinateSequence sequence, JsonGenerator json) throws IOException {
+        for (int i = 0; i < sequence.size(); i++) {
+            writePosition(sequence, i, json);
+        }
+    }
+
+    private void writePosition(CoordinateSequence sequence, int index, JsonGenerator json) throws IOException {
+        json.writeStartArray();
+        writeOrdinates(sequence, index, json);
+        json.writeEndArray();
+    }
+
+    private void writeOrdinates(CoordinateSequence sequence, int index, JsonGenerator json) throws IOException {
+        writeOrdinate(sequence.getOrdinate(index, CoordinateSequence.X), json);
+        writeOrdinate(sequence.getOrdinate(index, CoordinateSequence.Y), json);
+    }
+
+    private void writeOrdinate(double value, JsonGenerator json) throws IOException {
+        if (coordinatePrecision == FULL_PRECISION) {
+            json.writeNumber(value);
+            return;
+        }
+        char[] buffer = NUMBER_BUFFER.get();
+        int length = CoordinateFormatter.format(value, coordinatePrecision, buffer);
+        if (length < 0) {
+            // NaN, infinities and out-of-range magnitudes keep the generator's own formatting
+            json.writeNumber(value);
+        } else {
+            json.writeNumber(buffer, 0, length);
+        }
+    }
 }
@@ -0,0 +1,10 @@
+package com.github.souzafcharles.api.model.dto;
+
+import com.github.souzafcharles.api.model.enums.IngestStatus;
+
+public record IngestTicketResponseDTO(
+        String ticket,
+        IngestStatus status,
+        Long id,
+        String error
+) {}
@@ -0,0 +1,6 @@
+package com.github.souzafcharles.api.model.dto;
+
+public record NdjsonLineErrorDTO(
+        long line,
+        String message
+) {}
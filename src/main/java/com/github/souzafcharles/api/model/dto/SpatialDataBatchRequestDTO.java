@@ -0,0 +1,21 @@
+package com.github.souzafcharles.api.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.souzafcharles.api.utils.Messages;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record SpatialDataBatchRequestDTO(
+        @JsonProperty("serializer")
+        @Size(max = MAX_ITEMS, message = Messages.BATCH_TOO_LARGE)
+        List<@Valid SpatialDataSerializerRequestDTO> serializer,
+
+        @JsonProperty("deserializer")
+        @Size(max = MAX_ITEMS, message = Messages.BATCH_TOO_LARGE)
+        List<SpatialDataDeserializerRequestDTO> deserializer
+) {
+    // Per list; the whole batch is built and flushed in one transaction, larger loads belong on NDJSON or COPY
+    public static final int MAX_ITEMS = 10_000;
+}
@@ -0,0 +1,8 @@
+package com.github.souzafcharles.api.model.dto;
+
+import java.util.List;
+
+public record SpatialDataBatchResponseDTO(
+        int count,
+        List<Long> ids
+) {}
@@ -0,0 +1,11 @@
+package com.github.souzafcharles.api.model.dto;
+
+public record SpatialDataCacheStatsDTO(
+        long hits,
+        long misses,
+        double hitRate,
+        long evictions,
+        long entries,
+        long weightedVertices,
+        long maximumWeight
+) {}
@@ -0,0 +1,12 @@
+package com.github.souzafcharles.api.model.dto;
+
+public record SpatialDataIngestMetricsDTO(
+        long features,
+        long skipped,
+        long bytesRead,
+        long elapsedMillis,
+        double featuresPerSecond,
+        double megabytesPerSecond,
+        long allocatedBytes,
+        long heapUsedBytes
+) {}
@@ -0,0 +1,11 @@
+package com.github.souzafcharles.api.model.dto;
+
+import java.util.List;
+
+public record SpatialDataNdjsonIngestResponseDTO(
+        long lines,
+        long saved,
+        long failed,
+        List<NdjsonLineErrorDTO> errors,
+        boolean errorsTruncated
+) {}
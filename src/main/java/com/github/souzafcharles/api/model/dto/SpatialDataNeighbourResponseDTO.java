@@ -0,0 +1,7 @@
+package com.github.souzafcharles.api.model.dto;
+
+public record SpatialDataNeighbourResponseDTO(
+        double distance,
+        String unit,
+        SpatialDataResponseDTO item
+) {}
@@ -0,0 +1,8 @@
+package com.github.souzafcharles.api.model.dto;
+
+import java.util.List;
+
+public record SpatialDataPageResponseDTO(
+        List<SpatialDataResponseDTO> items,
+        String nextCursor
+) {}
@@ -1,29 +1,26 @@
 package com.github.souzafcharles.api.model.dto;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
-import com.github.souzafcharles.api.utils.Messages;
-import jakarta.validation.constraints.Size;
-
-import java.util.List;
+import com.github.souzafcharles.api.json.CoordinateArray;
+import com.github.souzafcharles.api.validation.ValidCoordinates;
 
+@ValidCoordinates
 public record SpatialDataSerializerRequestDTO(
         @JsonProperty("point")
-        @Size(min = 2, max = 2, message = Messages.POINT_COORDINATES_INVALID)
-        List<Double> point,
+        CoordinateArray point,
 
         @JsonProperty("multipoint")
-        List<@Size(min = 2, max = 2, message = Messages.POINT_COORDINATES_INVALID) List<Double>> multipoint,
+        CoordinateArray multipoint,
 
         @JsonProperty("linestring")
-        @Size(min = 2, message = Messages.LINESTRING_COORDINATES_INVALID)
-        List<@Size(min = 2, max = 2, message = Messages.POINT_COORDINATES_INVALID) List<Double>> linestring,
+        CoordinateArray linestring,
 
         @JsonProperty("multilinestring")
-        List<@Size(min = 2, message = Messages.LINESTRING_COORDINATES_INVALID) List<@Size(min = 2, max = 2, message = Messages.POINT_COORDINATES_INVALID) List<Double>>> multilinestring,
+        CoordinateArray multilinestring,
 
         @JsonProperty("polygon")
-        List<@Size(min = 4, message = Messages.POLYGON_COORDINATES_INVALID) List<@Size(min = 2, max = 2, message = Messages.POINT_COORDINATES_INVALID) List<Double>>> polygon,
+        CoordinateArray polygon,
 
         @JsonProperty("multipolygon")
-        List<List<@Size(min = 4, message = Messages.POLYGON_COORDINATES_INVALID) List<@Size(min = 2, max = 2, message = Messages.POINT_COORDINATES_INVALID) List<Double>>>> multipolygon
-) {}
\ No newline at end of file
+        CoordinateArray multipolygon
+) {}
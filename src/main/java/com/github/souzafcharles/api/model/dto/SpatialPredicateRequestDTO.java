@@ -0,0 +1,24 @@
+package com.github.souzafcharles.api.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.github.souzafcharles.api.utils.Messages;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import org.locationtech.jts.geom.Geometry;
+
+public record SpatialPredicateRequestDTO(
+        @JsonProperty("geometry")
+        @NotNull(message = Messages.QUERY_GEOMETRY_REQUIRED)
+        Geometry geometry,
+
+        @JsonProperty("predicate")
+        @NotBlank(message = Messages.QUERY_PREDICATE_REQUIRED)
+        String predicate,
+
+        @JsonProperty("column")
+        @NotBlank(message = Messages.QUERY_COLUMN_REQUIRED)
+        String column,
+
+        @JsonProperty("limit")
+        Integer limit
+) {}
@@ -1,19 +1,43 @@
 package com.github.souzafcharles.api.model.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.locationtech.jts.geom.*;
 
 import java.io.Serializable;
 
 @Entity
 @Table(name = "spatialdata")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SpatialData.CACHE_REGION)
+@SqlResultSetMapping(
+        name = SpatialData.WITH_DISTANCE_MAPPING,
+        entities = @EntityResult(entityClass = SpatialData.class),
+        columns = @ColumnResult(name = "distance", type = Double.class)
+)
 public class SpatialData implements Serializable {
 
+    // Native queries selecting "s.*, <expr> AS distance" map to {SpatialData, Double} rows
+    public static final String WITH_DISTANCE_MAPPING = "SpatialDataWithDistance";
+
+    // Each spatial_seq value is the low end of a block of this many ids
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // Second-level cache region holding decoded rows, see SecondLevelCacheConfig
+    public static final String CACHE_REGION = "spatial-data";
+
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "spatial_seq_gen")
-    @SequenceGenerator(name = "spatial_seq_gen", sequenceName = "spatial_seq", allocationSize = 1)
+    // One nextval per 50 ids (pooled-lo optimizer, see application.properties); matches hibernate.jdbc.batch_size
+    @SequenceGenerator(name = "spatial_seq_gen", sequenceName = "spatial_seq", allocationSize = SpatialData.ID_ALLOCATION_SIZE)
     private Long id;
 
+    // Bumped by Hibernate on every update; rows added before the column existed, or loaded with COPY, start at 0
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0 not null")
+    private Long version;
+
     @Column(name = "point", columnDefinition = "geometry(Point, 4326)")
     private Point point;
 
@@ -43,6 +67,14 @@ public class SpatialData implements Serializable {
         this.id = id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     public Point getPoint() {
         return point;
     }
@@ -0,0 +1,56 @@
+package com.github.souzafcharles.api.model.enums;
+
+import com.github.souzafcharles.api.model.entity.SpatialData;
+import com.github.souzafcharles.api.utils.Messages;
+import org.locationtech.jts.geom.Geometry;
+
+import java.util.function.Function;
+
+// The six geometry columns of the spatialdata table, in table order, with the JTS type and entity accessor for each.
+public enum GeometryColumn {
+    POINT("point", Geometry.TYPENAME_POINT, SpatialData::getPoint),
+    MULTIPOINT("multipoint", Geometry.TYPENAME_MULTIPOINT, SpatialData::getMultiPoint),
+    LINESTRING("linestring", Geometry.TYPENAME_LINESTRING, SpatialData::getLineString),
+    MULTILINESTRING("multilinestring", Geometry.TYPENAME_MULTILINESTRING, SpatialData::getMultiLineString),
+    POLYGON("polygon", Geometry.TYPENAME_POLYGON, SpatialData::getPolygon),
+    MULTIPOLYGON("multipolygon", Geometry.TYPENAME_MULTIPOLYGON, SpatialData::getMultiPolygon);
+
+    private final String columnName;
+    private final String geometryType;
+    private final Function<SpatialData, Geometry> accessor;
+
+    GeometryColumn(String columnName, String geometryType, Function<SpatialData, Geometry> accessor) {
+        this.columnName = columnName;
+        this.geometryType = geometryType;
+        this.accessor = accessor;
+    }
+
+    public String columnName() {
+        return columnName;
+    }
+
+    public Geometry valueOf(SpatialData spatialData) {
+        return accessor.apply(spatialData);
+    }
+
+    // Resolves a request parameter (case-insensitive column name); the result is the only thing ever spliced into SQL.
+    public static GeometryColumn fromParameter(String parameter) {
+        for (GeometryColumn column : values()) {
+            if (column.columnName.equalsIgnoreCase(parameter)) {
+                return column;
+            }
+        }
+        throw new IllegalArgumentException(String.format(Messages.INVALID_GEOMETRY_COLUMN, parameter));
+    }
+
+    // The column that stores geometries of this JTS type
+    public static GeometryColumn forGeometry(Geometry geometry) {
+        String type = geometry.getGeometryType();
+        for (GeometryColumn column : values()) {
+            if (column.geometryType.equals(type)) {
+                return column;
+            }
+        }
+        throw new IllegalArgumentException(String.format(Messages.UNSUPPORTED_GEOMETRY_TYPE, type));
+    }
+}
@@ -0,0 +1,7 @@
+package com.github.souzafcharles.api.model.enums;
+
+public enum IngestStatus {
+    PENDING,
+    COMPLETED,
+    FAILED
+}
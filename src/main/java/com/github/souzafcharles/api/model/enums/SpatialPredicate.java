@@ -0,0 +1,30 @@
+package com.github.souzafcharles.api.model.enums;
+
+import com.github.souzafcharles.api.utils.Messages;
+
+// DE-9IM predicates evaluated as <function>(stored column, query geometry).
+public enum SpatialPredicate {
+    INTERSECTS("ST_Intersects"),
+    CONTAINS("ST_Contains"),
+    WITHIN("ST_Within"),
+    TOUCHES("ST_Touches");
+
+    private final String function;
+
+    SpatialPredicate(String function) {
+        this.function = function;
+    }
+
+    public String function() {
+        return function;
+    }
+
+    public static SpatialPredicate fromParameter(String parameter) {
+        for (SpatialPredicate predicate : values()) {
+            if (predicate.name().equalsIgnoreCase(parameter)) {
+                return predicate;
+            }
+        }
+        throw new IllegalArgumentException(String.format(Messages.INVALID_SPATIAL_PREDICATE, parameter));
+    }
+}
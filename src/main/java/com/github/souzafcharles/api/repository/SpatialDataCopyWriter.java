@@ -0,0 +1,74 @@
+package com.github.souzafcharles.api.repository;
+
+import com.github.souzafcharles.api.config.GeometryConfig;
+import com.github.souzafcharles.api.model.enums.GeometryColumn;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.ByteOrderValues;
+import org.locationtech.jts.io.OutputStreamOutStream;
+import org.locationtech.jts.io.WKBWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Encodes spatialdata rows in PostgreSQL's binary COPY format, for the staging table a COPY load
+ * writes to. Each row carries an int8 id and one geometry as EWKB (which PostGIS' binary input
+ * accepts) in its column; the other geometry columns are NULL.
+ */
+public final class SpatialDataCopyWriter {
+
+    public static final String STAGING_TABLE = "spatialdata_copy";
+    public static final String COPY_SQL = "COPY " + STAGING_TABLE + " (id, point, multipoint, linestring, multilinestring, polygon, multipolygon)"
+            + " FROM STDIN (FORMAT binary)";
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+    private static final GeometryColumn[] COLUMNS = GeometryColumn.values();
+    private static final short FIELD_COUNT = (short) (COLUMNS.length + 1);
+
+    private final DataOutputStream out;
+    private final WKBWriter wkbWriter = new WKBWriter(2, ByteOrderValues.LITTLE_ENDIAN, true);
+    private final ByteArrayOutputStream geometryBuffer = new ByteArrayOutputStream(256);
+    private final OutputStreamOutStream geometryOut = new OutputStreamOutStream(geometryBuffer);
+    private long rows;
+
+    public SpatialDataCopyWriter(OutputStream out) {
+        this.out = new DataOutputStream(out);
+    }
+
+    public void writeHeader() throws IOException {
+        out.write(SIGNATURE);
+        out.writeInt(0);
+        out.writeInt(0);
+    }
+
+    public void writeRow(long id, GeometryColumn column, Geometry geometry) throws IOException {
+        if (geometry.getSRID() == 0) {
+            geometry.setSRID(GeometryConfig.SRID);
+        }
+        out.writeShort(FIELD_COUNT);
+        out.writeInt(Long.BYTES);
+        out.writeLong(id);
+        for (GeometryColumn current : COLUMNS) {
+            if (current == column) {
+                geometryBuffer.reset();
+                wkbWriter.write(geometry, geometryOut);
+                out.writeInt(geometryBuffer.size());
+                geometryBuffer.writeTo(out);
+            } else {
+                out.writeInt(-1);
+            }
+        }
+        rows++;
+    }
+
+    public void writeTrailer() throws IOException {
+        out.writeShort(-1);
+        out.flush();
+    }
+
+    public long rows() {
+        return rows;
+    }
+}
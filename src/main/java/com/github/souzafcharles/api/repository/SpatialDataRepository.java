@@ -1,9 +1,31 @@
 package com.github.souzafcharles.api.repository;
 
 import com.github.souzafcharles.api.model.entity.SpatialData;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
-public interface SpatialDataRepository extends JpaRepository<SpatialData, Long> {
+public interface SpatialDataRepository extends JpaRepository<SpatialData, Long>, SpatialDataRepositoryCustom {
+
+    // Keyset page: seeks the primary-key index past the last seen id instead of using OFFSET
+    List<SpatialData> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    // Server-side cursor over the whole table; must be consumed inside a transaction so pgjdbc honours the fetch size.
+    // A full scan bypasses the second-level cache so it does not evict the hot rows.
+    @Query("select s from SpatialData s order by s.id")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "BYPASS")
+    })
+    Stream<SpatialData> streamAllOrderById();
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.github.souzafcharles.api.repository;
+
+import com.github.souzafcharles.api.model.entity.SpatialData;
+import com.github.souzafcharles.api.model.enums.GeometryColumn;
+import com.github.souzafcharles.api.model.enums.SpatialPredicate;
+import org.locationtech.jts.geom.Geometry;
+
+import java.util.List;
+
+// Spatial queries whose target column is chosen at runtime, so they are built as native SQL.
+public interface SpatialDataRepositoryCustom {
+
+    List<SpatialData> findIntersectingEnvelope(GeometryColumn column, double minX, double minY, double maxX, double maxY, int limit);
+
+    // k nearest rows by planar distance (degrees), ordered with the index-assisted <-> operator
+    List<Neighbour> findNearest(GeometryColumn column, double x, double y, int k);
+
+    // Takes the nearest candidates by <-> and re-ranks them by geodesic distance (metres)
+    List<Neighbour> findNearestGeodesic(GeometryColumn column, double x, double y, int k, int candidates);
+
+    // Rows within radius metres on the spheroid, nearest first; ST_DWithin uses the functional geography index
+    List<Neighbour> findWithinDistance(GeometryColumn column, double x, double y, double radius, int limit);
+
+    // Rows whose column satisfies predicate(column, geometry)
+    List<SpatialData> findMatching(GeometryColumn column, SpatialPredicate predicate, Geometry geometry, int limit);
+
+    // Mapbox Vector Tile z/x/y with one layer per geometry column, encoded by PostGIS; empty when no row reaches the tile
+    byte[] findTile(int z, int x, int y, int extent, int buffer);
+
+    record Neighbour(SpatialData spatialData, double distance) {}
+}
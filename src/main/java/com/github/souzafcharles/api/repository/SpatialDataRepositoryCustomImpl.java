@@ -0,0 +1,139 @@
+package com.github.souzafcharles.api.repository;
+
+import com.github.souzafcharles.api.config.GeometryConfig;
+import com.github.souzafcharles.api.model.entity.SpatialData;
+import com.github.souzafcharles.api.model.enums.GeometryColumn;
+import com.github.souzafcharles.api.model.enums.SpatialPredicate;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.WKBWriter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+public class SpatialDataRepositoryCustomImpl implements SpatialDataRepositoryCustom {
+
+    private static final String TARGET_POINT = "ST_SetSRID(ST_MakePoint(:x, :y), " + GeometryConfig.SRID + ")";
+    private static final String TILE_SQL = tileSql();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public SpatialDataRepositoryCustomImpl() {
+    }
+
+    SpatialDataRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    // && compares bounding boxes only, which is exactly what the GiST index answers; no ORDER BY so the index scan can stop at the limit
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<SpatialData> findIntersectingEnvelope(GeometryColumn column, double minX, double minY, double maxX, double maxY, int limit) {
+        String sql = "SELECT * FROM spatialdata WHERE " + column.columnName()
+                + " && ST_MakeEnvelope(:minX, :minY, :maxX, :maxY, " + GeometryConfig.SRID + ") LIMIT :limit";
+        return entityManager.createNativeQuery(sql, SpatialData.class)
+                .setParameter("minX", minX)
+                .setParameter("minY", minY)
+                .setParameter("maxX", maxX)
+                .setParameter("maxY", maxY)
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+
+    // ORDER BY <-> LIMIT is answered by a GiST nearest-neighbour index scan instead of a distance per row
+    @Override
+    public List<Neighbour> findNearest(GeometryColumn column, double x, double y, int k) {
+        String sql = "SELECT s.*, " + nearestOrder(column) + " AS distance FROM spatialdata s"
+                + " WHERE s." + column.columnName() + " IS NOT NULL"
+                + " ORDER BY " + nearestOrder(column) + " LIMIT :k";
+        return toNeighbours(neighbourQuery(sql, x, y, k));
+    }
+
+    // The inner query is the same index-assisted scan; only its candidates pay for ST_Distance on geography
+    @Override
+    public List<Neighbour> findNearestGeodesic(GeometryColumn column, double x, double y, int k, int candidates) {
+        String sql = "SELECT c.*, ST_Distance(c." + column.columnName() + "::geography, " + TARGET_POINT + "::geography) AS distance"
+                + " FROM (SELECT s.* FROM spatialdata s WHERE s." + column.columnName() + " IS NOT NULL"
+                + " ORDER BY " + nearestOrder(column) + " LIMIT :candidates) c"
+                + " ORDER BY distance LIMIT :k";
+        return toNeighbours(neighbourQuery(sql, x, y, k).setParameter("candidates", candidates));
+    }
+
+    // "<column>::geography" matches the functional GiST index expression, so ST_DWithin is an index scan plus exact recheck
+    @Override
+    public List<Neighbour> findWithinDistance(GeometryColumn column, double x, double y, double radius, int limit) {
+        String geography = "s." + column.columnName() + "::geography";
+        String sql = "SELECT s.*, ST_Distance(" + geography + ", " + TARGET_POINT + "::geography) AS distance FROM spatialdata s"
+                + " WHERE ST_DWithin(" + geography + ", " + TARGET_POINT + "::geography, :radius)"
+                + " ORDER BY distance LIMIT :k";
+        return toNeighbours(neighbourQuery(sql, x, y, limit).setParameter("radius", radius));
+    }
+
+    // The geometry travels as WKB; the explicit && lets the planner use the GiST index before the exact predicate runs
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<SpatialData> findMatching(GeometryColumn column, SpatialPredicate predicate, Geometry geometry, int limit) {
+        String sql = "WITH q AS (SELECT ST_GeomFromWKB(:wkb, " + GeometryConfig.SRID + ") AS geom)"
+                + " SELECT s.* FROM spatialdata s, q"
+                + " WHERE s." + column.columnName() + " && q.geom"
+                + " AND " + predicate.function() + "(s." + column.columnName() + ", q.geom) LIMIT :limit";
+        return entityManager.createNativeQuery(sql, SpatialData.class)
+                .setParameter("wkb", new WKBWriter().write(geometry))
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+
+    // The tile is a single bytea built inside PostGIS, so no entity or JTS geometry is created for it
+    @Override
+    public byte[] findTile(int z, int x, int y, int extent, int buffer) {
+        return (byte[]) entityManager.createNativeQuery(TILE_SQL)
+                .setParameter("z", z)
+                .setParameter("x", x)
+                .setParameter("y", y)
+                .setParameter("extent", extent)
+                .setParameter("buffer", buffer)
+                .setParameter("margin", (double) buffer / extent)
+                .getSingleResult();
+    }
+
+    // Rows are selected with && against the tile envelope (widened by the buffer) in SRID 4326, so the GiST index
+    // answers the filter; only those rows are cut to it, projected to 3857 and clipped. Cutting in 4326 first keeps the
+    // poles, which Web Mercator cannot project, out of ST_Transform. ST_AsMVT layers concatenate into one tile.
+    private static String tileSql() {
+        StringJoiner layers = new StringJoiner(" || ");
+        for (GeometryColumn column : GeometryColumn.values()) {
+            String name = column.columnName();
+            layers.add("(SELECT COALESCE(ST_AsMVT(t, '" + name + "', :extent, 'geom', 'id'), ''::bytea) FROM ("
+                    + "SELECT s.id, ST_AsMVTGeom(ST_Transform(ST_ClipByBox2D(s." + name + ", b.filter::box2d), 3857), b.tile, :extent, :buffer, true) AS geom"
+                    + " FROM spatialdata s, b WHERE s." + name + " && b.filter) t WHERE t.geom IS NOT NULL)");
+        }
+        return "WITH b AS (SELECT ST_TileEnvelope(:z, :x, :y) AS tile,"
+                + " ST_Transform(ST_TileEnvelope(:z, :x, :y, margin => :margin), " + GeometryConfig.SRID + ") AS filter)"
+                + " SELECT " + layers;
+    }
+
+    private String nearestOrder(GeometryColumn column) {
+        return "s." + column.columnName() + " <-> " + TARGET_POINT;
+    }
+
+    private Query neighbourQuery(String sql, double x, double y, int k) {
+        return entityManager.createNativeQuery(sql, SpatialData.WITH_DISTANCE_MAPPING)
+                .setParameter("x", x)
+                .setParameter("y", y)
+                .setParameter("k", k);
+    }
+
+    private List<Neighbour> toNeighbours(Query query) {
+        List<?> rows = query.getResultList();
+        List<Neighbour> neighbours = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            Object[] columns = (Object[]) row;
+            neighbours.add(new Neighbour((SpatialData) columns[0], ((Number) columns[1]).doubleValue()));
+        }
+        return neighbours;
+    }
+}
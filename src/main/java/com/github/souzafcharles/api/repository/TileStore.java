@@ -0,0 +1,454 @@
+package com.github.souzafcharles.api.repository;
+
+import com.github.souzafcharles.api.utils.Messages;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append-only file of encoded tiles keyed by a packed z/x/y. Each record is the key, the tile length
+ * and the tile bytes; a length of -1 is a tombstone that removes the key. Records are never
+ * overwritten, so a slot stays readable without locking even after the key is replaced or removed.
+ * When dead records outweigh live ones the live records are copied to a new file that replaces the
+ * old one. The copy runs on a background thread without the store's lock; only the records written
+ * meanwhile and the swap itself are done under it. Slots keep the file they were read from, which
+ * stays open through the next compaction and for as long as a read from it is in flight.
+ * The index is rebuilt at open by scanning the file through read-only mappings, and a record torn
+ * by a crash is cut off the end. Tiles themselves are read with positional reads.
+ */
+public class TileStore implements Closeable {
+
+    // "MVT" and a format version; a file with any other header is discarded
+    static final int MAGIC = 0x4d565401;
+    static final int FILE_HEADER_BYTES = Integer.BYTES;
+    static final int RECORD_HEADER_BYTES = Long.BYTES + Integer.BYTES;
+    static final int TOMBSTONE = -1;
+    // Mappings are limited to 2 GB, so the recovery scan maps the file in windows
+    static final long SCAN_WINDOW_BYTES = 1L << 30;
+    // Online compaction waits for this fraction of the maximum size in dead records, so a small store is not
+    // rewritten on every invalidation
+    static final int COMPACTION_MIN_DEAD_FRACTION = 16;
+    // How long close waits for a compaction in progress
+    static final long CLOSE_TIMEOUT_SECONDS = 60;
+
+    // Where a tile lives: its offset and length in the file it was written to or recovered from
+    public static final class Slot {
+
+        private final FileChannel file;
+        private final long offset;
+        private final int length;
+
+        private Slot(FileChannel file, long offset, int length) {
+            this.file = file;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        public long offset() {
+            return offset;
+        }
+
+        public int length() {
+            return length;
+        }
+    }
+
+    private final Path path;
+    private final long maximumBytes;
+    private final Executor compactor;
+    // The compactor's thread when the store created it, shut down on close
+    private final ExecutorService ownedCompactor;
+    private final Map<Long, Slot> index = new ConcurrentHashMap<>();
+    private FileChannel channel;
+    // Files replaced by compaction that are still open for slots taken before it, and reads in flight per file
+    private final List<FileChannel> retired = new ArrayList<>();
+    private final Map<FileChannel, Integer> readers = new HashMap<>();
+    private long size;
+    private long liveBytes;
+    private boolean compacting;
+
+    private TileStore(Path path, long maximumBytes, Executor compactor, ExecutorService ownedCompactor) {
+        this.path = path;
+        this.maximumBytes = maximumBytes;
+        this.compactor = compactor;
+        this.ownedCompactor = ownedCompactor;
+    }
+
+    // Opens (or creates) the store; compacts it first when tombstoned and replaced records outweigh the live ones.
+    public static TileStore open(Path path, long maximumBytes) throws IOException {
+        ExecutorService compactor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "tile-store-compaction");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            return open(path, maximumBytes, compactor, compactor);
+        } catch (IOException | RuntimeException e) {
+            compactor.shutdown();
+            throw e;
+        }
+    }
+
+    // Runs online compactions on the given executor, which the store does not shut down
+    static TileStore open(Path path, long maximumBytes, Executor compactor) throws IOException {
+        return open(path, maximumBytes, compactor, null);
+    }
+
+    private static TileStore open(Path path, long maximumBytes, Executor compactor, ExecutorService ownedCompactor)
+            throws IOException {
+        if (maximumBytes < FILE_HEADER_BYTES) {
+            throw new IllegalArgumentException(String.format(Messages.INVALID_TILE_STORE_SIZE, FILE_HEADER_BYTES, maximumBytes));
+        }
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        TileStore store = new TileStore(path, maximumBytes, compactor, ownedCompactor);
+        store.recover();
+        if (store.deadBytes() > store.liveBytes) {
+            store.compact();
+        }
+        if (store.size > maximumBytes) {
+            store.clear();
+        }
+        return store;
+    }
+
+    // ------------------------------------------------------------
+    // READ
+    // ------------------------------------------------------------
+    public Slot find(long key) {
+        return index.get(key);
+    }
+
+    public Set<Long> keys() {
+        return index.keySet();
+    }
+
+    public int count() {
+        return index.size();
+    }
+
+    public synchronized long sizeBytes() {
+        return size;
+    }
+
+    public byte[] read(Slot slot) throws IOException {
+        acquire(slot);
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(slot.length());
+            readFully(slot.file, buffer, slot.offset());
+            return buffer.array();
+        } finally {
+            release(slot);
+        }
+    }
+
+    // Copies the tile to the target with FileChannel.transferTo. The kernel only skips user space when the target is a
+    // file or socket channel; a channel wrapping a stream is a buffered copy.
+    public void transferTo(Slot slot, WritableByteChannel target) throws IOException {
+        acquire(slot);
+        try {
+            long position = slot.offset();
+            long end = slot.offset() + slot.length();
+            while (position < end) {
+                long transferred = slot.file.transferTo(position, end - position, target);
+                if (transferred <= 0) {
+                    throw new IOException(String.format(Messages.TILE_STORE_TRUNCATED, slot.offset()));
+                }
+                position += transferred;
+            }
+        } finally {
+            release(slot);
+        }
+    }
+
+    private static void readFully(FileChannel file, ByteBuffer buffer, long offset) throws IOException {
+        long position = offset;
+        while (buffer.hasRemaining()) {
+            int read = file.read(buffer, position);
+            if (read < 0) {
+                throw new IOException(String.format(Messages.TILE_STORE_TRUNCATED, offset));
+            }
+            position += read;
+        }
+    }
+
+    private synchronized void acquire(Slot slot) {
+        readers.merge(slot.file, 1, Integer::sum);
+    }
+
+    // The last read from a file that a second compaction has already passed closes it
+    private synchronized void release(Slot slot) throws IOException {
+        if (readers.computeIfPresent(slot.file, (file, count) -> count == 1 ? null : count - 1) == null
+                && !retired.contains(slot.file) && slot.file != channel) {
+            slot.file.close();
+        }
+    }
+
+    // ------------------------------------------------------------
+    // WRITE
+    // ------------------------------------------------------------
+    // Returns the new slot, or null when the tile would take the file past its maximum size. A full file with enough
+    // dead records starts a compaction, so later tiles fit again once it is done.
+    public synchronized Slot append(long key, byte[] tile) throws IOException {
+        if (size + RECORD_HEADER_BYTES + tile.length > maximumBytes && deadBytes() >= minimumCompactionBytes()) {
+            scheduleCompaction();
+        }
+        if (size + RECORD_HEADER_BYTES + tile.length > maximumBytes) {
+            return null;
+        }
+        Slot slot = write(key, tile, tile.length);
+        Slot previous = index.put(key, slot);
+        liveBytes += RECORD_HEADER_BYTES + tile.length - recordBytes(previous);
+        compactIfWasteful();
+        return slot;
+    }
+
+    // Tombstones are written even when the file is full, otherwise a restart would bring the tile back.
+    public synchronized boolean remove(long key) throws IOException {
+        Slot previous = index.remove(key);
+        if (previous == null) {
+            return false;
+        }
+        liveBytes -= recordBytes(previous);
+        write(key, new byte[0], TOMBSTONE);
+        compactIfWasteful();
+        return true;
+    }
+
+    // Waits for a compaction in progress, which needs the lock to finish, before closing the files
+    @Override
+    public void close() throws IOException {
+        if (ownedCompactor != null) {
+            ownedCompactor.shutdown();
+            try {
+                ownedCompactor.awaitTermination(CLOSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            for (FileChannel file : retired) {
+                file.close();
+            }
+            channel.close();
+        }
+    }
+
+    private Slot write(long key, byte[] tile, int length) throws IOException {
+        ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + tile.length);
+        record.putLong(key).putInt(length).put(tile).flip();
+        Slot slot = new Slot(channel, size + RECORD_HEADER_BYTES, tile.length);
+        size = write(channel, record, size);
+        return slot;
+    }
+
+    private static long recordBytes(Slot slot) {
+        return slot == null ? 0 : RECORD_HEADER_BYTES + slot.length();
+    }
+
+    // ------------------------------------------------------------
+    // RECOVERY – index rebuild, compaction
+    // ------------------------------------------------------------
+    // Bytes of replaced, removed and tombstone records
+    private long deadBytes() {
+        return size - FILE_HEADER_BYTES - liveBytes;
+    }
+
+    private long minimumCompactionBytes() {
+        return maximumBytes / COMPACTION_MIN_DEAD_FRACTION;
+    }
+
+    // Each compaction copies the live bytes once and needs at least as many new dead bytes before the next one
+    private void compactIfWasteful() {
+        long dead = deadBytes();
+        if (dead > liveBytes && dead >= minimumCompactionBytes()) {
+            scheduleCompaction();
+        }
+    }
+
+    // Takes the live records as they are now and copies them on the compactor; one compaction runs at a time
+    private void scheduleCompaction() {
+        if (compacting) {
+            return;
+        }
+        compacting = true;
+        List<Map.Entry<Long, Slot>> live = liveRecords();
+        long copiedUpTo = size;
+        try {
+            compactor.execute(() -> {
+                try {
+                    compact(live, copiedUpTo);
+                } catch (IOException e) {
+                    // The store is left as it was, and the next write that finds it wasteful tries again
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // The store is closing
+            compacting = false;
+        }
+    }
+
+    private void recover() throws IOException {
+        channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        index.clear();
+        liveBytes = 0;
+        long fileSize = channel.size();
+        if (fileSize < FILE_HEADER_BYTES || !hasMagic()) {
+            clear();
+            return;
+        }
+        long position = FILE_HEADER_BYTES;
+        MappedByteBuffer window = null;
+        long windowStart = 0;
+        while (position + RECORD_HEADER_BYTES <= fileSize) {
+            if (window == null || position + RECORD_HEADER_BYTES > windowStart + window.capacity()) {
+                windowStart = position;
+                window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(fileSize - position, SCAN_WINDOW_BYTES));
+            }
+            int at = (int) (position - windowStart);
+            long key = window.getLong(at);
+            int length = window.getInt(at + Long.BYTES);
+            long next = position + RECORD_HEADER_BYTES + Math.max(length, 0);
+            if (length < TOMBSTONE || next > fileSize) {
+                break;
+            }
+            Slot previous = length == TOMBSTONE
+                    ? index.remove(key)
+                    : index.put(key, new Slot(channel, position + RECORD_HEADER_BYTES, length));
+            liveBytes += (length == TOMBSTONE ? 0 : RECORD_HEADER_BYTES + length) - recordBytes(previous);
+            position = next;
+        }
+        // Whatever follows the last complete record was torn by a crash
+        if (position < fileSize) {
+            channel.truncate(position);
+        }
+        size = position;
+    }
+
+    private boolean hasMagic() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_BYTES);
+        channel.read(header, 0);
+        return header.getInt(0) == MAGIC;
+    }
+
+    private void clear() throws IOException {
+        index.clear();
+        liveBytes = 0;
+        channel.truncate(0);
+        channel.write(ByteBuffer.allocate(FILE_HEADER_BYTES).putInt(0, MAGIC), 0);
+        size = FILE_HEADER_BYTES;
+    }
+
+    private List<Map.Entry<Long, Slot>> liveRecords() {
+        List<Map.Entry<Long, Slot>> live = new ArrayList<>(index.size());
+        index.forEach((key, slot) -> live.add(Map.entry(key, slot)));
+        live.sort(Comparator.comparingLong(entry -> entry.getValue().offset()));
+        return live;
+    }
+
+    // Compacts in the calling thread; used at open, before the store is shared
+    private synchronized void compact() throws IOException {
+        compacting = true;
+        compact(liveRecords(), size);
+    }
+
+    // Copies the given live records, in file order, to a new file without holding the lock. Under the lock, the records
+    // written after them (tombstones included) are copied as they are and the new file replaces the old one. The old
+    // file is unlinked but its channel stays open for slots taken before; it is closed at the next compaction, which
+    // takes at least as many writes as the store holds live bytes, or after the last read in flight from it.
+    private void compact(List<Map.Entry<Long, Slot>> live, long copiedUpTo) throws IOException {
+        Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+        FileChannel target = null;
+        try {
+            target = FileChannel.open(compacted, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            Map<Long, Slot> moved = new HashMap<>();
+            long position = write(target, ByteBuffer.allocate(FILE_HEADER_BYTES).putInt(0, MAGIC), 0);
+            for (Map.Entry<Long, Slot> entry : live) {
+                Slot slot = entry.getValue();
+                ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_BYTES + slot.length());
+                record.putLong(entry.getKey()).putInt(slot.length()).put(read(slot)).flip();
+                moved.put(entry.getKey(), new Slot(target, position + RECORD_HEADER_BYTES, slot.length()));
+                position = write(target, record, position);
+            }
+            synchronized (this) {
+                position = copyWrittenSince(copiedUpTo, target, position, moved);
+                target.force(true);
+                Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                for (FileChannel file : retired) {
+                    if (!readers.containsKey(file)) {
+                        file.close();
+                    }
+                }
+                retired.clear();
+                retired.add(channel);
+                channel = target;
+                size = position;
+                index.putAll(moved);
+                index.keySet().retainAll(moved.keySet());
+                liveBytes = moved.values().stream().mapToLong(TileStore::recordBytes).sum();
+            }
+        } catch (IOException | RuntimeException e) {
+            if (target != null) {
+                target.close();
+            }
+            Files.deleteIfExists(compacted);
+            throw e;
+        } finally {
+            synchronized (this) {
+                compacting = false;
+            }
+        }
+    }
+
+    // Appends the records written to the current file from the given offset, and applies them to the moved slots
+    private long copyWrittenSince(long from, FileChannel target, long position, Map<Long, Slot> moved) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+        long offset = from;
+        while (offset < size) {
+            header.clear();
+            readFully(channel, header, offset);
+            long key = header.getLong(0);
+            int length = header.getInt(Long.BYTES);
+            int recordLength = RECORD_HEADER_BYTES + Math.max(length, 0);
+            ByteBuffer record = ByteBuffer.allocate(recordLength);
+            readFully(channel, record, offset);
+            record.flip();
+            if (length == TOMBSTONE) {
+                moved.remove(key);
+            } else {
+                moved.put(key, new Slot(target, position + RECORD_HEADER_BYTES, length));
+            }
+            position = write(target, record, position);
+            offset += recordLength;
+        }
+        return position;
+    }
+
+    private static long write(FileChannel file, ByteBuffer buffer, long position) throws IOException {
+        long end = position;
+        while (buffer.hasRemaining()) {
+            end += file.write(buffer, end);
+        }
+        return end;
+    }
+}
@@ -0,0 +1,41 @@
+package com.github.souzafcharles.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.souzafcharles.api.model.dto.SpatialDataCacheStatsDTO;
+import com.github.souzafcharles.api.model.entity.SpatialData;
+import org.springframework.stereotype.Service;
+
+import javax.cache.CacheManager;
+@Service
+public class SpatialDataCacheService {
+
+    private final CacheManager secondLevelCacheManager;
+
+    public SpatialDataCacheService(CacheManager secondLevelCacheManager) {
+        this.secondLevelCacheManager = secondLevelCacheManager;
+    }
+
+    // ------------------------------------------------------------
+    // STATISTICS – SpatialData second-level cache region
+    // ------------------------------------------------------------
+    // Reads Caffeine's own counters behind the JCache region, which are recorded without timing each call.
+    public SpatialDataCacheStatsDTO getStatistics() {
+        Cache<?, ?> cache = secondLevelCacheManager.getCache(SpatialData.CACHE_REGION).unwrap(Cache.class);
+        // Weights and evictions are applied by asynchronous maintenance; run it so the figures are current
+        cache.cleanUp();
+        CacheStats stats = cache.stats();
+        // The region is always weight-bounded, see SecondLevelCacheConfig
+        Policy.Eviction<?, ?> eviction = cache.policy().eviction().orElseThrow();
+        return new SpatialDataCacheStatsDTO(
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.evictionCount(),
+                cache.estimatedSize(),
+                eviction.weightedSize().orElse(0L),
+                eviction.getMaximum()
+        );
+    }
+}
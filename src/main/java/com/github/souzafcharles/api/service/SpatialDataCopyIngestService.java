@@ -0,0 +1,215 @@
+package com.github.souzafcharles.api.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.souzafcharles.api.event.SpatialDataChangedEvent;
+import com.github.souzafcharles.api.model.dto.SpatialDataIngestMetricsDTO;
+import com.github.souzafcharles.api.model.enums.GeometryColumn;
+import com.github.souzafcharles.api.repository.SpatialDataCopyWriter;
+import com.github.souzafcharles.api.utils.GeometryPrecision;
+import com.github.souzafcharles.api.utils.Messages;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.PGCopyOutputStream;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Bulk loads GeoJSON FeatureCollections with binary COPY, bypassing Hibernate. The body is read
+ * token by token, so memory use does not depend on the number of features.
+ */
+@Service
+public class SpatialDataCopyIngestService {
+
+    static final int COPY_BUFFER_SIZE = 1 << 16;
+    private static final String COLUMNS = "id, point, multipoint, linestring, multilinestring, polygon, multipolygon";
+    // Resolved through the search path like nextval, so both read the same sequence
+    static final String SEQUENCE_INCREMENT_SQL = "SELECT seqincrement FROM pg_sequence WHERE seqrelid = 'spatial_seq'::regclass";
+    static final String CREATE_STAGING_SQL = "CREATE TEMPORARY TABLE " + SpatialDataCopyWriter.STAGING_TABLE
+            + " ON COMMIT DROP AS SELECT " + COLUMNS + " FROM spatialdata WITH NO DATA";
+    // One spatial_seq value per block of INCREMENT staged rows, used as the low end of the block like pooled-lo. The
+    // CTE is materialized, so nextval runs exactly once per block whatever join the planner picks.
+    static final String INSERT_STAGED_SQL = "WITH blocks AS MATERIALIZED"
+            + " (SELECT block, nextval('spatial_seq') AS low FROM generate_series(0, ?) AS block)"
+            + " INSERT INTO spatialdata (" + COLUMNS + ")"
+            + " SELECT blocks.low + staged.id % ?, staged.point, staged.multipoint, staged.linestring,"
+            + " staged.multilinestring, staged.polygon, staged.multipolygon"
+            + " FROM " + SpatialDataCopyWriter.STAGING_TABLE + " staged JOIN blocks ON blocks.block = staged.id / ?";
+
+    private final DataSource dataSource;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public SpatialDataCopyIngestService(DataSource dataSource, ObjectMapper objectMapper,
+                                        ApplicationEventPublisher eventPublisher) {
+        this.dataSource = dataSource;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    // ------------------------------------------------------------
+    // INGEST – FeatureCollection through binary COPY
+    // ------------------------------------------------------------
+    // One connection for the whole load: features are copied into a temporary staging table numbered 0..n-1, and once
+    // the COPY has ended a single INSERT ... SELECT moves them to spatialdata with ids drawn from spatial_seq. All rows
+    // commit together or not at all.
+    public SpatialDataIngestMetricsDTO ingestFeatureCollection(InputStream inputStream) throws IOException {
+        long startNanos = System.nanoTime();
+        long allocatedBefore = currentThreadAllocatedBytes();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            CopyIn copyIn = null;
+            CopyResult result;
+            try {
+                long increment = sequenceIncrement(connection);
+                try (PreparedStatement statement = connection.prepareStatement(CREATE_STAGING_SQL)) {
+                    statement.execute();
+                }
+                copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(SpatialDataCopyWriter.COPY_SQL);
+                result = copyFeatures(inputStream, copyIn);
+                insertStaged(connection, result.features(), increment);
+                connection.commit();
+            } catch (IOException | SQLException | RuntimeException ex) {
+                if (copyIn != null && copyIn.isActive()) {
+                    copyIn.cancelCopy();
+                }
+                connection.rollback();
+                throw ex;
+            }
+            // One envelope covering the whole load, so the tile cache is invalidated once rather than per feature
+            if (!result.envelope().isNull()) {
+                eventPublisher.publishEvent(new SpatialDataChangedEvent(List.of(result.envelope())));
+            }
+            return metrics(result, startNanos, allocatedBefore);
+        } catch (SQLException ex) {
+            throw new DataAccessResourceFailureException(Messages.COPY_INGEST_FAILED, ex);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException(Messages.INVALID_JSON_FORMAT, ex);
+        }
+    }
+
+    // Hibernate adapts to the increment it finds (increment_size_mismatch_strategy=fix), so COPY must too: a database
+    // still on INCREMENT BY 1 hands out one id per value, and assuming 50 would collide with JPA's ids.
+    private static long sequenceIncrement(Connection connection) throws SQLException {
+        long increment;
+        try (PreparedStatement statement = connection.prepareStatement(SEQUENCE_INCREMENT_SQL);
+             ResultSet resultSet = statement.executeQuery()) {
+            increment = resultSet.next() ? resultSet.getLong(1) : 0;
+        }
+        if (increment <= 0) {
+            throw new SQLException(String.format(Messages.INVALID_SEQUENCE_INCREMENT, increment));
+        }
+        return increment;
+    }
+
+    private static void insertStaged(Connection connection, long rows, long increment) throws SQLException {
+        if (rows == 0) {
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_STAGED_SQL)) {
+            statement.setLong(1, (rows - 1) / increment);
+            statement.setLong(2, increment);
+            statement.setLong(3, increment);
+            statement.executeUpdate();
+        }
+    }
+
+    private CopyResult copyFeatures(InputStream inputStream, CopyIn copyIn) throws IOException, SQLException {
+        PGCopyOutputStream copyOut = new PGCopyOutputStream(copyIn, COPY_BUFFER_SIZE);
+        SpatialDataCopyWriter writer = new SpatialDataCopyWriter(copyOut);
+        long skipped = 0;
+        long bytesRead;
+        Envelope envelope = new Envelope();
+        try (JsonParser parser = objectMapper.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException(Messages.INVALID_FEATURE_COLLECTION);
+            }
+            writer.writeHeader();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                JsonToken value = parser.nextToken();
+                if (!"features".equals(parser.currentName())) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new IllegalArgumentException(Messages.INVALID_FEATURE_COLLECTION);
+                }
+                JsonToken token;
+                while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                    Geometry geometry = GeometryPrecision.snap(readFeatureGeometry(parser));
+                    if (geometry == null) {
+                        skipped++;
+                    } else {
+                        writer.writeRow(writer.rows(), GeometryColumn.forGeometry(geometry), geometry);
+                        envelope.expandToInclude(geometry.getEnvelopeInternal());
+                    }
+                }
+                if (token != JsonToken.END_ARRAY) {
+                    throw new IllegalArgumentException(Messages.INVALID_FEATURE_COLLECTION);
+                }
+            }
+            writer.writeTrailer();
+            bytesRead = parser.currentLocation().getByteOffset();
+        }
+        copyOut.endCopy();
+        return new CopyResult(writer.rows(), skipped, bytesRead, envelope);
+    }
+
+    // Reads one Feature object and returns its geometry (null for a null geometry), leaving the parser on the Feature's END_OBJECT.
+    private Geometry readFeatureGeometry(JsonParser parser) throws IOException {
+        Geometry geometry = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            JsonToken value = parser.nextToken();
+            if ("geometry".equals(parser.currentName()) && value == JsonToken.START_OBJECT) {
+                geometry = objectMapper.readValue(parser, Geometry.class);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return geometry;
+    }
+
+    private SpatialDataIngestMetricsDTO metrics(CopyResult result, long startNanos, long allocatedBefore) {
+        long elapsedNanos = Math.max(1L, System.nanoTime() - startNanos);
+        double seconds = elapsedNanos / 1e9;
+        long allocatedAfter = currentThreadAllocatedBytes();
+        return new SpatialDataIngestMetricsDTO(
+                result.features(),
+                result.skipped(),
+                result.bytesRead(),
+                elapsedNanos / 1_000_000L,
+                result.features() / seconds,
+                result.bytesRead() / 1_048_576.0 / seconds,
+                allocatedBefore < 0 || allocatedAfter < 0 ? -1L : allocatedAfter - allocatedBefore,
+                ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed()
+        );
+    }
+
+    // Bytes allocated by this thread so far, or -1 where the JVM does not track it
+    private static long currentThreadAllocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean allocationAware
+                && allocationAware.isThreadAllocatedMemoryEnabled()) {
+            return allocationAware.getCurrentThreadAllocatedBytes();
+        }
+        return -1L;
+    }
+
+    private record CopyResult(long features, long skipped, long bytesRead, Envelope envelope) {}
+}
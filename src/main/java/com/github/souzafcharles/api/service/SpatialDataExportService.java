@@ -0,0 +1,117 @@
+package com.github.souzafcharles.api.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.souzafcharles.api.fgb.FlatGeobufWriter;
+import com.github.souzafcharles.api.model.entity.SpatialData;
+import com.github.souzafcharles.api.model.enums.GeometryColumn;
+import com.github.souzafcharles.api.repository.SpatialDataRepository;
+import com.github.souzafcharles.api.utils.Messages;
+import jakarta.persistence.EntityManager;
+import org.locationtech.jts.geom.Geometry;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+@Service
+public class SpatialDataExportService {
+
+    private final SpatialDataRepository spatialDataRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter geometryWriter;
+
+    public SpatialDataExportService(SpatialDataRepository spatialDataRepository, EntityManager entityManager, ObjectMapper objectMapper) {
+        this.spatialDataRepository = spatialDataRepository;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        // The generator is flushed by its own buffer, not after every geometry
+        this.geometryWriter = objectMapper.writerFor(Geometry.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    // ------------------------------------------------------------
+    // EXPORT – Newline-delimited GeoJSON features
+    // ------------------------------------------------------------
+    // Writes one Feature per non-null geometry column of every row. Rows are read through a
+    // database cursor and detached once written, so memory use does not depend on the table size.
+    @Transactional(readOnly = true)
+    public void exportAsGeoJsonSeq(OutputStream outputStream) throws IOException {
+        try (JsonGenerator json = objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8);
+             Stream<SpatialData> rows = spatialDataRepository.streamAllOrderById()) {
+            json.setRootValueSeparator(null);
+            rows.forEach(spatialData -> {
+                writeFeatures(spatialData, json);
+                entityManager.detach(spatialData);
+            });
+            json.flush();
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    // ------------------------------------------------------------
+    // EXPORT – FlatGeobuf file of one geometry column
+    // ------------------------------------------------------------
+    // Rows without a geometry in the column are left out; the writer spools features next to the
+    // target and lays the file out in Hilbert order once the cursor is exhausted.
+    @Transactional(readOnly = true)
+    public long exportAsFlatGeobuf(GeometryColumn column, Path target, int indexNodeSize) throws IOException {
+        try (FlatGeobufWriter writer = new FlatGeobufWriter(target, column.columnName(), indexNodeSize);
+             Stream<SpatialData> rows = spatialDataRepository.streamAllOrderById()) {
+            rows.forEach(spatialData -> {
+                addFeature(spatialData.getId(), column.valueOf(spatialData), writer);
+                entityManager.detach(spatialData);
+            });
+            return writer.finish();
+        } catch (UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    private void addFeature(Long id, Geometry geometry, FlatGeobufWriter writer) {
+        if (geometry == null || geometry.isEmpty()) {
+            return;
+        }
+        try {
+            writer.add(id, geometry);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void writeFeatures(SpatialData spatialData, JsonGenerator json) {
+        try {
+            for (GeometryColumn column : GeometryColumn.values()) {
+                Geometry geometry = column.valueOf(spatialData);
+                if (geometry != null) {
+                    writeFeature(spatialData.getId(), column, geometry, json);
+                }
+            }
+        } catch (IOException ex) {
+            // Client disconnects surface here; rethrown as IOException once the stream is closed
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private void writeFeature(Long id, GeometryColumn column, Geometry geometry, JsonGenerator json) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("type", Messages.GEOJSON_FEATURE_TYPE);
+        json.writeNumberField("id", id);
+        json.writeFieldName("geometry");
+        geometryWriter.writeValue(json, geometry);
+        json.writeObjectFieldStart(Messages.GEOJSON_PROPERTIES_KEY);
+        json.writeNumberField("id", id);
+        json.writeStringField("column", column.columnName());
+        json.writeEndObject();
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+}
@@ -0,0 +1,123 @@
+package com.github.souzafcharles.api.service;
+
+import com.github.souzafcharles.api.event.SpatialDataChangedEvent;
+import com.github.souzafcharles.api.model.enums.GeometryColumn;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * FlatGeobuf exports kept as files, one per geometry column, so Range requests are served from disk
+ * without touching the database. Every build writes a new uniquely named file and its ETag is the
+ * file name. The file it replaces is kept until the build after it, so a request that took the
+ * previous export can still open it; older files of the column are deleted. Any committed write
+ * invalidates all columns, and the next request rebuilds.
+ */
+@Service
+public class SpatialDataFlatGeobufCache {
+
+    static final String FILE_SUFFIX = ".fgb";
+    // FlatGeobufWriter spools features next to the target; a crash mid-build leaves it behind
+    static final String SPOOL_SUFFIX = FILE_SUFFIX + ".spool";
+
+    public record Export(Path path, String etag) {
+    }
+
+    private final SpatialDataExportService spatialDataExportService;
+    private final Path directory;
+    private final int indexNodeSize;
+    private final Map<GeometryColumn, Export> exports = new EnumMap<>(GeometryColumn.class);
+    private final Map<GeometryColumn, Object> buildLocks = new EnumMap<>(GeometryColumn.class);
+    // The last file built per column, cached or not
+    private final Map<GeometryColumn, Path> built = new EnumMap<>(GeometryColumn.class);
+    // Bumped by every invalidation; a file built across a bump is served once but not cached
+    private long generation;
+
+    public SpatialDataFlatGeobufCache(SpatialDataExportService spatialDataExportService,
+                                      @Value("${spatial.fgb.directory:${java.io.tmpdir}/spatial-fgb}") Path directory,
+                                      @Value("${spatial.fgb.index-node-size:16}") int indexNodeSize) throws IOException {
+        this.spatialDataExportService = spatialDataExportService;
+        this.directory = Files.createDirectories(directory);
+        this.indexNodeSize = indexNodeSize;
+        for (GeometryColumn column : GeometryColumn.values()) {
+            buildLocks.put(column, new Object());
+        }
+        // Files left by a previous run may be stale
+        deleteExports(null, Set.of());
+    }
+
+    public Export get(GeometryColumn column) throws IOException {
+        Export cached = cached(column);
+        if (cached != null) {
+            return cached;
+        }
+        synchronized (buildLocks.get(column)) {
+            cached = cached(column);
+            if (cached != null) {
+                return cached;
+            }
+            long observed = generation();
+            Path file = Files.createTempFile(directory, column.columnName() + "-", FILE_SUFFIX);
+            try {
+                spatialDataExportService.exportAsFlatGeobuf(column, file, indexNodeSize);
+            } catch (IOException | RuntimeException ex) {
+                Files.deleteIfExists(file);
+                throw ex;
+            }
+            String name = file.getFileName().toString();
+            Export export = new Export(file, "\"" + name.substring(0, name.length() - FILE_SUFFIX.length()) + "\"");
+            install(column, export, observed);
+            Path previous = replaceBuilt(column, file);
+            deleteExports(column, previous == null ? Set.of(file) : Set.of(file, previous));
+            return export;
+        }
+    }
+
+    private synchronized Export cached(GeometryColumn column) {
+        return exports.get(column);
+    }
+
+    private synchronized long generation() {
+        return generation;
+    }
+
+    private synchronized void install(GeometryColumn column, Export export, long observed) {
+        if (observed == generation) {
+            exports.put(column, export);
+        }
+    }
+
+    private synchronized Path replaceBuilt(GeometryColumn column, Path file) {
+        return built.put(column, file);
+    }
+
+    // Export and spool files of the column (all columns when null) other than keep
+    private void deleteExports(GeometryColumn column, Set<Path> keep) throws IOException {
+        String glob = (column == null ? "*" : column.columnName() + "-*") + "{" + FILE_SUFFIX + "," + SPOOL_SUFFIX + "}";
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, glob)) {
+            for (Path file : files) {
+                if (!keep.contains(file)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    // ------------------------------------------------------------
+    // INVALIDATION – after the writing transaction commits
+    // ------------------------------------------------------------
+    // Files stay on disk until the second build after them, so downloads that already took them finish
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onSpatialDataChanged(SpatialDataChangedEvent event) {
+        generation++;
+        exports.clear();
+    }
+}
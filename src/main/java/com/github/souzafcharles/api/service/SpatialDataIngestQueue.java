@@ -0,0 +1,255 @@
+package com.github.souzafcharles.api.service;
+
+import com.github.souzafcharles.api.exception.IngestQueueFullException;
+import com.github.souzafcharles.api.model.dto.IngestTicketResponseDTO;
+import com.github.souzafcharles.api.model.dto.SpatialDataDeserializerRequestDTO;
+import com.github.souzafcharles.api.model.dto.SpatialDataSerializerRequestDTO;
+import com.github.souzafcharles.api.model.entity.SpatialData;
+import com.github.souzafcharles.api.model.enums.IngestStatus;
+import com.github.souzafcharles.api.repository.SpatialDataRepository;
+import com.github.souzafcharles.api.utils.Messages;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Accepts create requests into a bounded queue and persists them on virtual-thread workers.
+ * Each worker takes whatever is pending, up to the batch size, and saves it in one transaction
+ * (group commit), so the number of open connections is capped by the worker count rather than
+ * by the number of concurrent requests. A full queue is rejected instead of blocking. When the
+ * database rejects a group, its requests are retried one at a time so only the offending ones fail.
+ */
+@Service
+public class SpatialDataIngestQueue {
+
+    static final long POLL_TIMEOUT_MILLIS = 200;
+
+    private final SpatialDataService spatialDataService;
+    private final SpatialDataRepository spatialDataRepository;
+    private final BlockingQueue<PendingIngest> queue;
+    private final int workerCount;
+    private final int batchSize;
+    private final long retryAfterSeconds;
+    private final Duration ticketRetention;
+    private final Clock clock;
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+    private final Queue<Ticket> finishedTickets = new ConcurrentLinkedQueue<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    @Autowired
+    public SpatialDataIngestQueue(SpatialDataService spatialDataService,
+                                  SpatialDataRepository spatialDataRepository,
+                                  @Value("${spatial.ingest.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${spatial.ingest.workers:4}") int workerCount,
+                                  @Value("${spatial.ingest.batch-size:200}") int batchSize,
+                                  @Value("${spatial.ingest.retry-after-seconds:1}") long retryAfterSeconds,
+                                  @Value("${spatial.ingest.ticket-retention:PT10M}") Duration ticketRetention) {
+        this(spatialDataService, spatialDataRepository, queueCapacity, workerCount, batchSize, retryAfterSeconds,
+                ticketRetention, Clock.systemUTC());
+    }
+
+    SpatialDataIngestQueue(SpatialDataService spatialDataService, SpatialDataRepository spatialDataRepository,
+                           int queueCapacity, int workerCount, int batchSize, long retryAfterSeconds,
+                           Duration ticketRetention, Clock clock) {
+        this.spatialDataService = spatialDataService;
+        this.spatialDataRepository = spatialDataRepository;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.ticketRetention = ticketRetention;
+        this.clock = clock;
+    }
+
+    // ------------------------------------------------------------
+    // LIFECYCLE – Virtual-thread workers
+    // ------------------------------------------------------------
+    @PostConstruct
+    public synchronized void start() {
+        running = true;
+        Thread.Builder builder = Thread.ofVirtual().name("spatial-ingest-", 0);
+        for (int i = 0; i < workerCount; i++) {
+            workers.add(builder.start(this::runWorker));
+        }
+    }
+
+    // Stops accepting work and lets the workers drain what is already queued.
+    @PreDestroy
+    public synchronized void stop() throws InterruptedException {
+        running = false;
+        for (Thread worker : workers) {
+            worker.join(Duration.ofSeconds(30));
+        }
+        workers.clear();
+    }
+
+    private void runWorker() {
+        while (running || !queue.isEmpty()) {
+            try {
+                processNextBatch(POLL_TIMEOUT_MILLIS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    // ------------------------------------------------------------
+    // ENQUEUE – 202 with a ticket, or 429 when full
+    // ------------------------------------------------------------
+    public IngestTicketResponseDTO submit(SpatialDataSerializerRequestDTO request) {
+        return enqueue(() -> spatialDataService.toEntity(request));
+    }
+
+    public IngestTicketResponseDTO submit(SpatialDataDeserializerRequestDTO request) {
+        return enqueue(() -> spatialDataService.toEntity(request));
+    }
+
+    private IngestTicketResponseDTO enqueue(Supplier<SpatialData> entity) {
+        if (!running) {
+            throw new IngestQueueFullException(retryAfterSeconds);
+        }
+        Ticket ticket = new Ticket(UUID.randomUUID().toString());
+        tickets.put(ticket.id, ticket);
+        if (!queue.offer(new PendingIngest(ticket, entity))) {
+            tickets.remove(ticket.id);
+            throw new IngestQueueFullException(retryAfterSeconds);
+        }
+        return ticket.toResponse();
+    }
+
+    // ------------------------------------------------------------
+    // READ – Ticket status
+    // ------------------------------------------------------------
+    public IngestTicketResponseDTO getTicket(String ticketId) {
+        Ticket ticket = tickets.get(ticketId);
+        if (ticket == null) {
+            throw new EntityNotFoundException(String.format(Messages.INGEST_TICKET_NOT_FOUND, ticketId));
+        }
+        return ticket.toResponse();
+    }
+
+    // ------------------------------------------------------------
+    // WORKER – Group commit
+    // ------------------------------------------------------------
+    // Waits up to timeoutMillis for one request, then takes whatever else is already queued up to the batch size.
+    int processNextBatch(long timeoutMillis) throws InterruptedException {
+        PendingIngest first = queue.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            evictFinishedTickets();
+            return 0;
+        }
+        List<PendingIngest> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+
+        List<PendingIngest> built = new ArrayList<>(batch.size());
+        List<SpatialData> entities = new ArrayList<>(batch.size());
+        for (PendingIngest pending : batch) {
+            try {
+                entities.add(pending.entity().get());
+                built.add(pending);
+            } catch (RuntimeException ex) {
+                finish(pending.ticket(), IngestStatus.FAILED, null, ex.getMessage());
+            }
+        }
+        if (!entities.isEmpty()) {
+            try {
+                List<SpatialData> saved = spatialDataRepository.saveAll(entities);
+                spatialDataService.publishChanges(saved);
+                for (int i = 0; i < built.size(); i++) {
+                    finish(built.get(i).ticket(), IngestStatus.COMPLETED, saved.get(i).getId(), null);
+                }
+            } catch (DataAccessException ex) {
+                saveOneByOne(built);
+            } catch (RuntimeException ex) {
+                for (PendingIngest pending : built) {
+                    finish(pending.ticket(), IngestStatus.FAILED, null, Messages.DATABASE_ERROR);
+                }
+            }
+        }
+        evictFinishedTickets();
+        return batch.size();
+    }
+
+    // The database rejected the group, so one bad row must not fail the others: each request is saved in its own
+    // transaction. Entities are rebuilt, since the rolled-back ones may already carry an id and version.
+    private void saveOneByOne(List<PendingIngest> batch) {
+        List<SpatialData> saved = new ArrayList<>(batch.size());
+        for (PendingIngest pending : batch) {
+            try {
+                SpatialData entity = spatialDataRepository.save(pending.entity().get());
+                saved.add(entity);
+                finish(pending.ticket(), IngestStatus.COMPLETED, entity.getId(), null);
+            } catch (RuntimeException ex) {
+                finish(pending.ticket(), IngestStatus.FAILED, null, Messages.DATABASE_ERROR);
+            }
+        }
+        if (!saved.isEmpty()) {
+            spatialDataService.publishChanges(saved);
+        }
+    }
+
+    private void finish(Ticket ticket, IngestStatus status, Long id, String error) {
+        ticket.entityId = id;
+        ticket.error = error;
+        ticket.finishedAt = clock.instant();
+        // Written last: a reader that sees the final status also sees the id and error
+        ticket.status = status;
+        finishedTickets.add(ticket);
+    }
+
+    // Finished tickets leave in completion order, so eviction only looks at the head of the queue.
+    private void evictFinishedTickets() {
+        Instant cutoff = clock.instant().minus(ticketRetention);
+        Ticket oldest;
+        while ((oldest = finishedTickets.peek()) != null && oldest.finishedAt.isBefore(cutoff)) {
+            if (finishedTickets.remove(oldest)) {
+                tickets.remove(oldest.id);
+            }
+        }
+    }
+
+    int queuedCount() {
+        return queue.size();
+    }
+
+    private record PendingIngest(Ticket ticket, Supplier<SpatialData> entity) {}
+
+    private static final class Ticket {
+
+        private final String id;
+        private volatile IngestStatus status = IngestStatus.PENDING;
+        private volatile Long entityId;
+        private volatile String error;
+        private volatile Instant finishedAt;
+
+        private Ticket(String id) {
+            this.id = id;
+        }
+
+        private IngestTicketResponseDTO toResponse() {
+            return new IngestTicketResponseDTO(id, status, entityId, error);
+        }
+    }
+}
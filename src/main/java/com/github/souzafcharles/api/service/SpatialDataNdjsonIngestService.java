@@ -0,0 +1,178 @@
+package com.github.souzafcharles.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.github.souzafcharles.api.model.dto.NdjsonLineErrorDTO;
+import com.github.souzafcharles.api.model.dto.SpatialDataDeserializerRequestDTO;
+import com.github.souzafcharles.api.model.dto.SpatialDataNdjsonIngestResponseDTO;
+import com.github.souzafcharles.api.model.entity.SpatialData;
+import com.github.souzafcharles.api.repository.SpatialDataRepository;
+import com.github.souzafcharles.api.utils.Messages;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ingests newline-delimited JSON, one {@link SpatialDataDeserializerRequestDTO} per line, read
+ * line by line from the request body. Rows are saved every batch-size lines, each chunk in its own
+ * transaction, so memory is bounded by the batch size rather than by the upload. A line that cannot
+ * be parsed, or a row the database rejects, is reported and the stream carries on.
+ */
+@Service
+public class SpatialDataNdjsonIngestService {
+
+    private final SpatialDataService spatialDataService;
+    private final SpatialDataRepository spatialDataRepository;
+    private final EntityManager entityManager;
+    private final ObjectReader lineReader;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public SpatialDataNdjsonIngestService(SpatialDataService spatialDataService,
+                                          SpatialDataRepository spatialDataRepository,
+                                          EntityManager entityManager,
+                                          ObjectMapper objectMapper,
+                                          @Value("${spatial.ingest.ndjson.batch-size:500}") int batchSize,
+                                          @Value("${spatial.ingest.ndjson.max-reported-errors:1000}") int maxReportedErrors) {
+        this.spatialDataService = spatialDataService;
+        this.spatialDataRepository = spatialDataRepository;
+        this.entityManager = entityManager;
+        // Two objects on one line are an error for that line, not a silently dropped record
+        this.lineReader = objectMapper.readerFor(SpatialDataDeserializerRequestDTO.class)
+                .with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        this.batchSize = Math.max(1, batchSize);
+        this.maxReportedErrors = Math.max(0, maxReportedErrors);
+    }
+
+    // ------------------------------------------------------------
+    // INGEST – NDJSON stream, saved in chunks of batch-size rows
+    // ------------------------------------------------------------
+    public SpatialDataNdjsonIngestResponseDTO ingest(InputStream inputStream) throws IOException {
+        IngestProgress progress = new IngestProgress();
+        List<SpatialData> chunk = new ArrayList<>(batchSize);
+        long[] chunkLines = new long[batchSize];
+        SpatialDataDeserializerRequestDTO[] chunkRequests = new SpatialDataDeserializerRequestDTO[batchSize];
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String line;
+        long lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            progress.lines++;
+            SpatialDataDeserializerRequestDTO request = parseLine(line, lineNumber, progress);
+            SpatialData entity = request == null ? null : toEntity(request, lineNumber, progress);
+            if (entity == null) {
+                continue;
+            }
+            chunkLines[chunk.size()] = lineNumber;
+            chunkRequests[chunk.size()] = request;
+            chunk.add(entity);
+            if (chunk.size() == batchSize) {
+                flush(chunk, chunkLines, chunkRequests, progress);
+            }
+        }
+        flush(chunk, chunkLines, chunkRequests, progress);
+        return new SpatialDataNdjsonIngestResponseDTO(progress.lines, progress.saved, progress.failed,
+                progress.errors, progress.errorsTruncated);
+    }
+
+    // Returns the request on one line, or null after recording why the line was rejected.
+    private SpatialDataDeserializerRequestDTO parseLine(String line, long lineNumber, IngestProgress progress) {
+        try {
+            SpatialDataDeserializerRequestDTO request = lineReader.readValue(line);
+            if (request == null) {
+                progress.fail(lineNumber, Messages.INVALID_NDJSON_LINE, maxReportedErrors);
+            }
+            return request;
+        } catch (JsonProcessingException ex) {
+            progress.fail(lineNumber, ex.getOriginalMessage(), maxReportedErrors);
+        }
+        return null;
+    }
+
+    // Returns the entity for one request, or null after recording why the line was rejected.
+    private SpatialData toEntity(SpatialDataDeserializerRequestDTO request, long lineNumber, IngestProgress progress) {
+        try {
+            return spatialDataService.toEntity(request);
+        } catch (IllegalArgumentException ex) {
+            progress.fail(lineNumber, ex.getMessage(), maxReportedErrors);
+        } catch (ClassCastException ex) {
+            // e.g. a LineString sent in the "polygon" field
+            progress.fail(lineNumber, Messages.GEOMETRY_FIELD_MISMATCH, maxReportedErrors);
+        }
+        return null;
+    }
+
+    // Saves the chunk in one repository call (one transaction, JDBC-batched) and empties it. The transaction has
+    // flushed the rows by the time saveAll returns, but with open-in-view the request's EntityManager still manages
+    // them, so it is cleared too; otherwise the persistence context would grow with the upload.
+    private void flush(List<SpatialData> chunk, long[] chunkLines, SpatialDataDeserializerRequestDTO[] chunkRequests,
+                       IngestProgress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            spatialDataRepository.saveAll(chunk);
+            progress.saved += chunk.size();
+            spatialDataService.publishChanges(chunk);
+        } catch (DataAccessException ex) {
+            entityManager.clear();
+            saveOneByOne(chunk.size(), chunkLines, chunkRequests, progress);
+        } finally {
+            entityManager.clear();
+        }
+        chunk.clear();
+        Arrays.fill(chunkRequests, null);
+    }
+
+    // The database rejected the chunk, so one bad row must not fail the others: each line is saved in its own
+    // transaction. Entities are rebuilt from the requests, since the rolled-back ones may already carry an id and version.
+    private void saveOneByOne(int count, long[] chunkLines, SpatialDataDeserializerRequestDTO[] chunkRequests,
+                              IngestProgress progress) {
+        List<SpatialData> saved = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            try {
+                saved.add(spatialDataRepository.save(spatialDataService.toEntity(chunkRequests[i])));
+                progress.saved++;
+            } catch (RuntimeException ex) {
+                progress.fail(chunkLines[i], Messages.DATABASE_ERROR, maxReportedErrors);
+            }
+        }
+        if (!saved.isEmpty()) {
+            spatialDataService.publishChanges(saved);
+        }
+    }
+
+    private static final class IngestProgress {
+
+        private final List<NdjsonLineErrorDTO> errors = new ArrayList<>();
+        private long lines;
+        private long saved;
+        private long failed;
+        private boolean errorsTruncated;
+
+        // Every failure is counted; only the first maxReportedErrors are kept, so errors cannot grow with the upload.
+        private void fail(long lineNumber, String message, int maxReportedErrors) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new NdjsonLineErrorDTO(lineNumber, message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.github.souzafcharles.api.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.souzafcharles.api.model.entity.SpatialData;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Caches the encoded JSON of single-record responses, keyed by id and the row's {@code @Version},
+ * so a hot record is serialized once per version and then served as bytes. An update bumps the
+ * version, so bytes of the previous version are never looked up again and age out under the byte
+ * bound. With gzip enabled a compressed copy is kept for clients that accept it.
+ */
+@Service
+public class SpatialDataResponseCache {
+
+    // Plain JSON, plus its gzip encoding when pre-compression is enabled (otherwise null)
+    public record EncodedResponse(byte[] json, byte[] gzip) {
+
+        int weight() {
+            return json.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+
+    private enum Representation {
+        SPATIAL_DATA,
+        POLYGON_GEOJSON
+    }
+
+    private record Key(Long id, Long version, Representation representation) {}
+
+    private final SpatialDataService spatialDataService;
+    private final ObjectMapper objectMapper;
+    private final boolean gzip;
+    private final Cache<Key, EncodedResponse> cache;
+
+    public SpatialDataResponseCache(SpatialDataService spatialDataService,
+                                    ObjectMapper objectMapper,
+                                    @Value("${spatial.response-cache.maximum-bytes:67108864}") long maximumBytes,
+                                    @Value("${spatial.response-cache.gzip:true}") boolean gzip) {
+        this.spatialDataService = spatialDataService;
+        this.objectMapper = objectMapper;
+        this.gzip = gzip;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((Key key, EncodedResponse response) -> response.weight())
+                .build();
+    }
+
+    // ------------------------------------------------------------
+    // READ – Encoded responses
+    // ------------------------------------------------------------
+    public EncodedResponse getById(Long spatialDataId) {
+        return get(spatialDataId, Representation.SPATIAL_DATA, spatialDataService::toResponse);
+    }
+
+    public EncodedResponse getPolygonAsGeoJson(Long spatialDataId) {
+        return get(spatialDataId, Representation.POLYGON_GEOJSON, spatialDataService::toPolygonGeoJson);
+    }
+
+    // The entity itself comes from the second-level cache; only a missing (id, version) pair is mapped and serialized
+    private EncodedResponse get(Long spatialDataId, Representation representation, Function<SpatialData, Object> mapper) {
+        SpatialData spatialData = spatialDataService.findEntity(spatialDataId);
+        Key key = new Key(spatialDataId, spatialData.getVersion(), representation);
+        return cache.get(key, missing -> encode(mapper.apply(spatialData)));
+    }
+
+    private EncodedResponse encode(Object response) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            return new EncodedResponse(json, gzip ? gzip(json) : null);
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream out = new GZIPOutputStream(buffer)) {
+            out.write(json);
+        } catch (IOException ex) {
+            // In-memory streams do not fail
+            throw new UncheckedIOException(ex);
+        }
+        return buffer.toByteArray();
+    }
+}
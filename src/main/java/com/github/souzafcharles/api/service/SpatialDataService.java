@@ -1,203 +1,443 @@
 package com.github.souzafcharles.api.service;
 
+import com.github.souzafcharles.api.event.SpatialDataChangedEvent;
+import com.github.souzafcharles.api.json.CoordinateArray;
 import com.github.souzafcharles.api.model.dto.SpatialDataSerializerRequestDTO;
+import com.github.souzafcharles.api.model.dto.SpatialDataBatchRequestDTO;
+import com.github.souzafcharles.api.model.dto.SpatialDataBatchResponseDTO;
 import com.github.souzafcharles.api.model.dto.SpatialDataDeserializerRequestDTO;
 import com.github.souzafcharles.api.model.dto.SpatialDataResponseDTO;
 import com.github.souzafcharles.api.model.dto.GeoJsonResponseDTO;
+import com.github.souzafcharles.api.model.dto.SpatialDataPageResponseDTO;
+import com.github.souzafcharles.api.model.dto.SpatialDataNeighbourResponseDTO;
+import com.github.souzafcharles.api.model.dto.SpatialPredicateRequestDTO;
 import com.github.souzafcharles.api.model.entity.SpatialData;
+import com.github.souzafcharles.api.model.enums.GeometryColumn;
+import com.github.souzafcharles.api.model.enums.SpatialPredicate;
 import com.github.souzafcharles.api.repository.SpatialDataRepository;
+import com.github.souzafcharles.api.repository.SpatialDataRepositoryCustom.Neighbour;
+import com.github.souzafcharles.api.utils.GeometryPrecision;
+import com.github.souzafcharles.api.utils.KeysetCursor;
 import com.github.souzafcharles.api.utils.Messages;
 import jakarta.persistence.EntityNotFoundException;
 import org.locationtech.jts.geom.*;
+import org.locationtech.jts.operation.valid.IsValidOp;
+import org.locationtech.jts.operation.valid.TopologyValidationError;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntFunction;
 
 @Service
 public class SpatialDataService {
 
+    public static final int DEFAULT_PAGE_SIZE = 100;
+    public static final int MAX_PAGE_SIZE = 1000;
+    public static final int DEFAULT_NEIGHBOUR_COUNT = 10;
+    // Planar (degree) order can differ from geodesic order away from the equator, so more candidates are re-ranked than returned
+    static final int GEODESIC_CANDIDATE_FACTOR = 4;
+    // Multi* geometries with at least this many parts are built on the construction pool
+    static final int DEFAULT_PARALLEL_PART_THRESHOLD = 256;
+    // Parts built sequentially by one fork-join task once the part range has been split
+    static final int PARTS_PER_TASK = 64;
+
     private final SpatialDataRepository spatialDataRepository;
     private final GeometryFactory geometryFactory;
+    private final ForkJoinPool constructionPool;
+    private final int parallelPartThreshold;
+    private final ApplicationEventPublisher eventPublisher;
+
+    SpatialDataService(SpatialDataRepository spatialDataRepository, GeometryFactory geometryFactory) {
+        this(spatialDataRepository, geometryFactory, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_PART_THRESHOLD, event -> {
+        });
+    }
 
-    public SpatialDataService(SpatialDataRepository spatialDataRepository) {
+    @Autowired
+    public SpatialDataService(SpatialDataRepository spatialDataRepository,
+                              GeometryFactory geometryFactory,
+                              ForkJoinPool geometryConstructionPool,
+                              @Value("${spatial.geometry.parallel-part-threshold:256}") int parallelPartThreshold,
+                              ApplicationEventPublisher eventPublisher) {
         this.spatialDataRepository = spatialDataRepository;
-        this.geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
+        this.geometryFactory = geometryFactory;
+        this.constructionPool = geometryConstructionPool;
+        this.parallelPartThreshold = parallelPartThreshold;
+        this.eventPublisher = eventPublisher;
     }
 
     // ------------------------------------------------------------
     // CREATE – From Serializer Format (lists of coordinates)
     // ------------------------------------------------------------
     public SpatialDataResponseDTO createFromSerializerFormat(SpatialDataSerializerRequestDTO request) {
+        SpatialData savedEntity = spatialDataRepository.save(toEntity(request));
+        publishChanges(List.of(savedEntity));
+        return toResponse(savedEntity);
+    }
+
+    // ------------------------------------------------------------
+    // CREATE – From Deserializer Format (JTS Geometry objects)
+    // ------------------------------------------------------------
+    public SpatialDataResponseDTO createFromDeserializerFormat(SpatialDataDeserializerRequestDTO request) {
+        SpatialData savedEntity = spatialDataRepository.save(toEntity(request));
+        publishChanges(List.of(savedEntity));
+        return toResponse(savedEntity);
+    }
+
+    // ------------------------------------------------------------
+    // CREATE – Batch (one transaction, JDBC-batched inserts)
+    // ------------------------------------------------------------
+    // Ids come from the pooled-lo sequence without a round trip per row, and the inserts are
+    // flushed at commit in hibernate.jdbc.batch_size groups.
+    @Transactional
+    public SpatialDataBatchResponseDTO createBatch(SpatialDataBatchRequestDTO request) {
+        int size = sizeOf(request.serializer()) + sizeOf(request.deserializer());
+        if (size == 0) {
+            throw new IllegalArgumentException(Messages.EMPTY_BATCH);
+        }
+        List<SpatialData> entities = new ArrayList<>(size);
+        if (request.serializer() != null) {
+            for (SpatialDataSerializerRequestDTO item : request.serializer()) {
+                entities.add(toEntity(item));
+            }
+        }
+        if (request.deserializer() != null) {
+            for (SpatialDataDeserializerRequestDTO item : request.deserializer()) {
+                entities.add(toEntity(item));
+            }
+        }
+        List<SpatialData> savedEntities = spatialDataRepository.saveAll(entities);
+        publishChanges(savedEntities);
+        List<Long> ids = new ArrayList<>(savedEntities.size());
+        for (SpatialData savedEntity : savedEntities) {
+            ids.add(savedEntity.getId());
+        }
+        return new SpatialDataBatchResponseDTO(ids.size(), ids);
+    }
+
+    private int sizeOf(List<?> items) {
+        return items == null ? 0 : items.size();
+    }
+
+    // ------------------------------------------------------------
+    // READ – Keyset page ordered by ID
+    // ------------------------------------------------------------
+    public SpatialDataPageResponseDTO getSpatialDataPage(String after, int limit) {
+        validateLimit(limit);
+        long lastSeenId = after == null || after.isBlank() ? 0L : KeysetCursor.decode(after);
+        // One extra row tells whether another page exists without a COUNT query
+        List<SpatialData> rows = spatialDataRepository.findByIdGreaterThanOrderByIdAsc(lastSeenId, Limit.of(limit + 1));
+        boolean hasMore = rows.size() > limit;
+        List<SpatialDataResponseDTO> items = new ArrayList<>(Math.min(rows.size(), limit));
+        for (int i = 0; i < rows.size() && i < limit; i++) {
+            items.add(toResponse(rows.get(i)));
+        }
+        String nextCursor = hasMore ? KeysetCursor.encode(items.get(items.size() - 1).id()) : null;
+        return new SpatialDataPageResponseDTO(items, nextCursor);
+    }
+
+    // ------------------------------------------------------------
+    // READ – Bounding box (GiST-indexed && on one column)
+    // ------------------------------------------------------------
+    public List<SpatialDataResponseDTO> findInBoundingBox(String column, double minX, double minY, double maxX, double maxY, int limit) {
+        GeometryColumn geometryColumn = GeometryColumn.fromParameter(column);
+        if (!Double.isFinite(minX) || !Double.isFinite(minY) || !Double.isFinite(maxX) || !Double.isFinite(maxY)
+                || minX > maxX || minY > maxY) {
+            throw new IllegalArgumentException(Messages.INVALID_BOUNDING_BOX);
+        }
+        validateLimit(limit);
+        return spatialDataRepository.findIntersectingEnvelope(geometryColumn, minX, minY, maxX, maxY, limit)
+                .stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    // ------------------------------------------------------------
+    // READ – k nearest neighbours (<-> ordering, optional geodesic re-rank)
+    // ------------------------------------------------------------
+    public List<SpatialDataNeighbourResponseDTO> findNearest(String column, double x, double y, int k, boolean geodesic) {
+        GeometryColumn geometryColumn = GeometryColumn.fromParameter(column);
+        validateTarget(x, y);
+        validateLimit(k);
+        List<Neighbour> neighbours = geodesic
+                ? spatialDataRepository.findNearestGeodesic(geometryColumn, x, y, k, k * GEODESIC_CANDIDATE_FACTOR)
+                : spatialDataRepository.findNearest(geometryColumn, x, y, k);
+        String unit = geodesic ? Messages.DISTANCE_UNIT_METRES : Messages.DISTANCE_UNIT_DEGREES;
+        return neighbours.stream()
+                .map(neighbour -> new SpatialDataNeighbourResponseDTO(neighbour.distance(), unit, toResponse(neighbour.spatialData())))
+                .toList();
+    }
+
+    // ------------------------------------------------------------
+    // READ – Radius search (ST_DWithin on geography, metres)
+    // ------------------------------------------------------------
+    public List<SpatialDataNeighbourResponseDTO> findWithinDistance(String column, double x, double y, double radius, int limit) {
+        GeometryColumn geometryColumn = GeometryColumn.fromParameter(column);
+        validateTarget(x, y);
+        if (!(radius > 0.0) || Double.isInfinite(radius)) {
+            throw new IllegalArgumentException(Messages.INVALID_RADIUS);
+        }
+        validateLimit(limit);
+        return spatialDataRepository.findWithinDistance(geometryColumn, x, y, radius, limit).stream()
+                .map(neighbour -> new SpatialDataNeighbourResponseDTO(neighbour.distance(), Messages.DISTANCE_UNIT_METRES, toResponse(neighbour.spatialData())))
+                .toList();
+    }
+
+    // ------------------------------------------------------------
+    // READ – Spatial predicate (bbox prefilter + exact test in PostGIS)
+    // ------------------------------------------------------------
+    public List<SpatialDataResponseDTO> findMatching(SpatialPredicateRequestDTO request) {
+        GeometryColumn geometryColumn = GeometryColumn.fromParameter(request.column());
+        SpatialPredicate predicate = SpatialPredicate.fromParameter(request.predicate());
+        int limit = request.limit() == null ? DEFAULT_PAGE_SIZE : request.limit();
+        validateLimit(limit);
+        return spatialDataRepository.findMatching(geometryColumn, predicate, request.geometry(), limit).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    // ------------------------------------------------------------
+    // READ – Find by ID
+    // ------------------------------------------------------------
+    public SpatialDataResponseDTO getById(Long spatialDataId) {
+        return toResponse(findEntity(spatialDataId));
+    }
+
+    // Served from the second-level cache for hot ids; the version identifies the encoded responses cached for the row
+    SpatialData findEntity(Long spatialDataId) {
+        return spatialDataRepository.findById(spatialDataId).orElseThrow(() -> new EntityNotFoundException(String.format(Messages.SPATIAL_DATA_NOT_FOUND, spatialDataId)));
+    }
+
+    // ------------------------------------------------------------
+    // READ – GeoJSON (Polygon only)
+    // ------------------------------------------------------------
+    public GeoJsonResponseDTO getPolygonAsGeoJson(Long spatialDataId) {
+        return toPolygonGeoJson(findEntity(spatialDataId));
+    }
+
+    GeoJsonResponseDTO toPolygonGeoJson(SpatialData spatialData) {
+        if (spatialData.getPolygon() == null) {
+            throw new IllegalArgumentException(String.format(Messages.NO_POLYGON_FOUND, spatialData.getId())
+            );
+        }
+        return new GeoJsonResponseDTO(Messages.GEOJSON_FEATURE_TYPE, convertToGeoJsonGeometry(spatialData.getPolygon()), new GeoJsonProperties(Messages.GEOJSON_PROPERTIES_DESCRIPTION, spatialData.getId())
+        );
+    }
+
+    // ------------------------------------------------------------
+    // CHANGE NOTIFICATION
+    // ------------------------------------------------------------
+    // Listeners bound to the transaction (the tile cache) receive the event once the rows are committed.
+    void publishChanges(List<SpatialData> savedEntities) {
+        List<Envelope> envelopes = new ArrayList<>(savedEntities.size());
+        for (SpatialData spatialData : savedEntities) {
+            for (GeometryColumn column : GeometryColumn.values()) {
+                Geometry geometry = column.valueOf(spatialData);
+                if (geometry != null && !geometry.isEmpty()) {
+                    envelopes.add(geometry.getEnvelopeInternal());
+                }
+            }
+        }
+        if (!envelopes.isEmpty()) {
+            eventPublisher.publishEvent(new SpatialDataChangedEvent(envelopes));
+        }
+    }
+
+    // ------------------------------------------------------------
+    // ENTITY CONSTRUCTION
+    // ------------------------------------------------------------
+    SpatialData toEntity(SpatialDataSerializerRequestDTO request) {
         SpatialData spatialData = new SpatialData();
         // Point
         if (hasValidPointCoordinates(request.point())) {
-            spatialData.setPoint(createPoint(request.point()));
+            spatialData.setPoint(GeometryPrecision.snap(createPoint(request.point())));
         }
         // MultiPoint
         if (hasValidMultiPointCoordinates(request.multipoint())) {
-            spatialData.setMultiPoint(createMultiPoint(request.multipoint()));
+            spatialData.setMultiPoint(GeometryPrecision.snap(createMultiPoint(request.multipoint())));
         }
         // LineString
         if (hasValidLineStringCoordinates(request.linestring())) {
-            spatialData.setLineString(createLineString(request.linestring()));
+            spatialData.setLineString(GeometryPrecision.snap(createLineString(request.linestring())));
         }
         // MultiLineString
         if (hasValidMultiLineStringCoordinates(request.multilinestring())) {
-            spatialData.setMultiLineString(createMultiLineString(request.multilinestring()));
+            spatialData.setMultiLineString(GeometryPrecision.snap(createMultiLineString(request.multilinestring())));
         }
         // Polygon
         if (hasValidPolygonCoordinates(request.polygon())) {
-            spatialData.setPolygon(createPolygon(request.polygon()));
+            spatialData.setPolygon(GeometryPrecision.snap(createPolygon(request.polygon())));
         }
         // MultiPolygon
         if (hasValidMultiPolygonCoordinates(request.multipolygon())) {
-            spatialData.setMultiPolygon(createMultiPolygon(request.multipolygon()));
+            spatialData.setMultiPolygon(GeometryPrecision.snap(createMultiPolygon(request.multipolygon())));
         }
-        SpatialData savedEntity = spatialDataRepository.save(spatialData);
-        return toResponse(savedEntity);
+        return spatialData;
     }
 
-    // ------------------------------------------------------------
-    // CREATE – From Deserializer Format (JTS Geometry objects)
-    // ------------------------------------------------------------
-    public SpatialDataResponseDTO createFromDeserializerFormat(SpatialDataDeserializerRequestDTO request) {
+    SpatialData toEntity(SpatialDataDeserializerRequestDTO request) {
         SpatialData spatialData = new SpatialData();
         if (request.point() != null) {
-            spatialData.setPoint((Point) request.point());
+            spatialData.setPoint(GeometryPrecision.snap((Point) request.point()));
         }
         if (request.multipoint() != null) {
-            spatialData.setMultiPoint((MultiPoint) request.multipoint());
+            spatialData.setMultiPoint(GeometryPrecision.snap((MultiPoint) request.multipoint()));
         }
         if (request.linestring() != null) {
-            spatialData.setLineString((LineString) request.linestring());
+            spatialData.setLineString(GeometryPrecision.snap((LineString) request.linestring()));
         }
         if (request.multilinestring() != null) {
-            spatialData.setMultiLineString((MultiLineString) request.multilinestring());
+            spatialData.setMultiLineString(GeometryPrecision.snap((MultiLineString) request.multilinestring()));
         }
         if (request.polygon() != null) {
-            spatialData.setPolygon((Polygon) request.polygon());
+            spatialData.setPolygon(GeometryPrecision.snap((Polygon) request.polygon()));
         }
         if (request.multipolygon() != null) {
-            spatialData.setMultiPolygon((MultiPolygon) request.multipolygon());
+            spatialData.setMultiPolygon(GeometryPrecision.snap((MultiPolygon) request.multipolygon()));
         }
-
-        SpatialData savedEntity = spatialDataRepository.save(spatialData);
-        return toResponse(savedEntity);
+        return spatialData;
     }
 
     // ------------------------------------------------------------
-    // READ – List all
+    // GEOMETRY CREATION (COORDINATES → JTS)
     // ------------------------------------------------------------
-    public List<SpatialDataResponseDTO> getAllSpatialData() {
-        List<SpatialData> allSpatialData = spatialDataRepository.findAll();
-        List<SpatialDataResponseDTO> responses = new ArrayList<>();
-        for (SpatialData spatialData : allSpatialData) {
-            responses.add(toResponse(spatialData));
+    private void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException(String.format(Messages.INVALID_PAGE_LIMIT, MAX_PAGE_SIZE));
         }
-        return responses;
     }
 
-    // ------------------------------------------------------------
-    // READ – Find by ID
-    // ------------------------------------------------------------
-    public SpatialDataResponseDTO getById(Long spatialDataId) {
-        SpatialData spatialData = spatialDataRepository.findById(spatialDataId).orElseThrow(() -> new EntityNotFoundException(String.format(Messages.SPATIAL_DATA_NOT_FOUND, spatialDataId)));
-        return toResponse(spatialData);
+    // Geography casts only accept longitudes and latitudes inside the WGS84 domain
+    private void validateTarget(double x, double y) {
+        if (!(x >= -180.0 && x <= 180.0 && y >= -90.0 && y <= 90.0)) {
+            throw new IllegalArgumentException(Messages.INVALID_TARGET_COORDINATE);
+        }
     }
 
-    // ------------------------------------------------------------
-    // READ – GeoJSON (Polygon only)
-    // ------------------------------------------------------------
-    public GeoJsonResponseDTO getPolygonAsGeoJson(Long spatialDataId) {
-        SpatialData spatialData = spatialDataRepository.findById(spatialDataId).orElseThrow(() -> new EntityNotFoundException(String.format(Messages.SPATIAL_DATA_NOT_FOUND, spatialDataId)));
-        if (spatialData.getPolygon() == null) {
-            throw new IllegalArgumentException(String.format(Messages.NO_POLYGON_FOUND, spatialDataId)
-            );
-        }
-        return new GeoJsonResponseDTO(Messages.GEOJSON_FEATURE_TYPE, convertToGeoJsonGeometry(spatialData.getPolygon()), new GeoJsonProperties(Messages.GEOJSON_PROPERTIES_DESCRIPTION, spatialDataId)
-        );
+    private boolean hasValidPointCoordinates(CoordinateArray coordinates) {
+        return hasCoordinates(coordinates, 1) && coordinates.minDimension() >= 2;
     }
 
-    // ------------------------------------------------------------
-    // GEOMETRY CREATION (COORDINATES → JTS)
-    // ------------------------------------------------------------
-    private boolean hasValidPointCoordinates(List<Double> coordinates) {
-        return coordinates != null && coordinates.size() >= 2;
+    private boolean hasValidMultiPointCoordinates(CoordinateArray coordinates) {
+        return hasCoordinates(coordinates, 2);
     }
 
-    private boolean hasValidMultiPointCoordinates(List<List<Double>> coordinates) {
-        return coordinates != null && !coordinates.isEmpty();
+    private boolean hasValidLineStringCoordinates(CoordinateArray coordinates) {
+        return hasCoordinates(coordinates, 2);
     }
 
-    private boolean hasValidLineStringCoordinates(List<List<Double>> coordinates) {
-        return coordinates != null && !coordinates.isEmpty();
+    private boolean hasValidMultiLineStringCoordinates(CoordinateArray coordinates) {
+        return hasCoordinates(coordinates, 3);
     }
 
-    private boolean hasValidMultiLineStringCoordinates(List<List<List<Double>>> coordinates) {
-        return coordinates != null && !coordinates.isEmpty();
+    private boolean hasValidPolygonCoordinates(CoordinateArray coordinates) {
+        return hasCoordinates(coordinates, 3);
     }
 
-    private boolean hasValidPolygonCoordinates(List<List<List<Double>>> coordinates) {
-        return coordinates != null && !coordinates.isEmpty();
+    private boolean hasValidMultiPolygonCoordinates(CoordinateArray coordinates) {
+        return hasCoordinates(coordinates, 4);
     }
 
-    private boolean hasValidMultiPolygonCoordinates(List<List<List<List<Double>>>> coordinates) {
-        return coordinates != null && !coordinates.isEmpty();
+    // Absent and empty arrays are skipped; any nesting depth other than the geometry's is rejected.
+    private boolean hasCoordinates(CoordinateArray coordinates, int depth) {
+        if (coordinates == null || coordinates.depth() == 0) {
+            return false;
+        }
+        if (coordinates.depth() != depth) {
+            throw new IllegalArgumentException(Messages.INVALID_COORDINATE_STRUCTURE);
+        }
+        return true;
     }
 
-    private Point createPoint(List<Double> coordinates) {
-        return geometryFactory.createPoint(
-                new Coordinate(coordinates.get(0), coordinates.get(1))
-        );
+    private Point createPoint(CoordinateArray coordinates) {
+        CoordinateSequence sequence = geometryFactory.getCoordinateSequenceFactory().create(1, 2);
+        sequence.setOrdinate(0, CoordinateSequence.X, coordinates.getX(0));
+        sequence.setOrdinate(0, CoordinateSequence.Y, coordinates.getY(0));
+        return geometryFactory.createPoint(sequence);
     }
 
-    private MultiPoint createMultiPoint(List<List<Double>> multiPointCoordinates) {
-        Point[] points = new Point[multiPointCoordinates.size()];
-        for (int i = 0; i < multiPointCoordinates.size(); i++) {
-            List<Double> coord = multiPointCoordinates.get(i);
-            points[i] = geometryFactory.createPoint(new Coordinate(coord.get(0), coord.get(1)));
-        }
-        return geometryFactory.createMultiPoint(points);
+    private MultiPoint createMultiPoint(CoordinateArray multiPointCoordinates) {
+        return geometryFactory.createMultiPoint(createCoordinateSequence(multiPointCoordinates, 0, multiPointCoordinates.size()));
     }
 
-    private LineString createLineString(List<List<Double>> lineCoordinates) {
-        Coordinate[] coordinates = new Coordinate[lineCoordinates.size()];
-        for (int i = 0; i < lineCoordinates.size(); i++) {
-            coordinates[i] = new Coordinate(lineCoordinates.get(i).get(0), lineCoordinates.get(i).get(1));
-        }
-        return geometryFactory.createLineString(coordinates);
+    private LineString createLineString(CoordinateArray lineCoordinates) {
+        return geometryFactory.createLineString(createCoordinateSequence(lineCoordinates, 0, lineCoordinates.size()));
     }
 
-    private MultiLineString createMultiLineString(List<List<List<Double>>> multiLineStringCoordinates) {
-        LineString[] lineStrings = new LineString[multiLineStringCoordinates.size()];
-        for (int i = 0; i < multiLineStringCoordinates.size(); i++) {
-            lineStrings[i] = createLineString(multiLineStringCoordinates.get(i));
-        }
+    private MultiLineString createMultiLineString(CoordinateArray multiLineStringCoordinates) {
+        LineString[] lineStrings = buildParts(new LineString[multiLineStringCoordinates.lineCount()],
+                i -> geometryFactory.createLineString(createCoordinateSequence(multiLineStringCoordinates,
+                        multiLineStringCoordinates.lineStart(i), multiLineStringCoordinates.lineEnd(i))));
         return geometryFactory.createMultiLineString(lineStrings);
     }
 
-    private Polygon createPolygon(List<List<List<Double>>> polygonCoordinates) {
-        List<List<Double>> exteriorRing = polygonCoordinates.get(0);
-        if (exteriorRing.size() < 4) {
+    private Polygon createPolygon(CoordinateArray polygonCoordinates) {
+        return createPolygon(polygonCoordinates, 0);
+    }
+
+    // The exterior ring (shell) is the polygon's first line; only the shell is processed here.
+    // Size and closure are checked on the flat buffer in the same pass that builds the ring; the built polygon is
+    // then checked for self-intersections, inside the part task when it belongs to a large MultiPolygon.
+    private Polygon createPolygon(CoordinateArray coordinates, int shellLine) {
+        int start = coordinates.lineStart(shellLine);
+        int end = coordinates.lineEnd(shellLine);
+        if (end - start < 4 || !isClosed(coordinates, start, end - 1)) {
             throw new IllegalArgumentException(Messages.INVALID_POLYGON_COORDINATES);
         }
-        Coordinate[] shellCoordinates = new Coordinate[exteriorRing.size()];
-        for (int i = 0; i < exteriorRing.size(); i++) {
-            shellCoordinates[i] = new Coordinate(exteriorRing.get(i).get(0), exteriorRing.get(i).get(1));
+        LinearRing shell = geometryFactory.createLinearRing(createCoordinateSequence(coordinates, start, end));
+        Polygon polygon = geometryFactory.createPolygon(shell);
+        TopologyValidationError error = new IsValidOp(polygon).getValidationError();
+        if (error != null) {
+            Coordinate at = error.getCoordinate();
+            throw new IllegalArgumentException(String.format(Messages.INVALID_POLYGON_RING, error.getMessage(), at.x, at.y));
         }
-        LinearRing shell = geometryFactory.createLinearRing(shellCoordinates);
-        return geometryFactory.createPolygon(shell);
+        return polygon;
     }
 
-    private MultiPolygon createMultiPolygon(List<List<List<List<Double>>>> multiPolygonCoordinates) {
-        Polygon[] polygons = new Polygon[multiPolygonCoordinates.size()];
-        for (int i = 0; i < multiPolygonCoordinates.size(); i++) {
-            polygons[i] = createPolygon(multiPolygonCoordinates.get(i));
-        }
+    private MultiPolygon createMultiPolygon(CoordinateArray multiPolygonCoordinates) {
+        Polygon[] polygons = buildParts(new Polygon[multiPolygonCoordinates.polygonCount()],
+                i -> createPolygon(multiPolygonCoordinates, multiPolygonCoordinates.polygonStart(i)));
         return geometryFactory.createMultiPolygon(polygons);
     }
 
+    private boolean isClosed(CoordinateArray coordinates, int first, int last) {
+        return coordinates.getX(first) == coordinates.getX(last) && coordinates.getY(first) == coordinates.getY(last);
+    }
+
+    // Fills every slot of parts, on the calling thread below the threshold and on the construction pool above it.
+    // Parts only read the shared CoordinateArray and each writes its own slot, so no further coordination is needed.
+    private <T extends Geometry> T[] buildParts(T[] parts, IntFunction<T> partBuilder) {
+        if (parts.length < parallelPartThreshold) {
+            for (int i = 0; i < parts.length; i++) {
+                parts[i] = partBuilder.apply(i);
+            }
+            return parts;
+        }
+        try {
+            constructionPool.invoke(new PartTask<>(parts, partBuilder, 0, parts.length));
+        } catch (IllegalArgumentException ex) {
+            // Each fork-join level that crosses threads wraps the exception in a copy; rethrow the original so its message is unchanged
+            IllegalArgumentException original = ex;
+            while (original.getCause() instanceof IllegalArgumentException cause) {
+                original = cause;
+            }
+            throw original;
+        }
+        return parts;
+    }
+
+    // Copies positions [from, to) from the flat ordinate buffer into a sequence from the shared factory, without boxing.
+    private CoordinateSequence createCoordinateSequence(CoordinateArray coordinates, int from, int to) {
+        return coordinates.toCoordinateSequence(geometryFactory.getCoordinateSequenceFactory(), from, to);
+    }
+
     // ------------------------------------------------------------
     // CONVERT JTS → GEOJSON
     // ------------------------------------------------------------
@@ -288,7 +528,7 @@ public class SpatialDataService {
     // ------------------------------------------------------------
     // MAPPER
     // ------------------------------------------------------------
-    private SpatialDataResponseDTO toResponse(SpatialData entity) {
+    SpatialDataResponseDTO toResponse(SpatialData entity) {
         return new SpatialDataResponseDTO(
                 entity.getId(),
                 entity.getPoint(),
@@ -300,6 +540,34 @@ public class SpatialDataService {
         );
     }
 
+    // Splits a part range in halves until it is small enough to build sequentially
+    private static final class PartTask<T extends Geometry> extends RecursiveAction {
+
+        private final T[] parts;
+        private final IntFunction<T> partBuilder;
+        private final int from;
+        private final int to;
+
+        PartTask(T[] parts, IntFunction<T> partBuilder, int from, int to) {
+            this.parts = parts;
+            this.partBuilder = partBuilder;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PARTS_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    parts[i] = partBuilder.apply(i);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new PartTask<>(parts, partBuilder, from, middle), new PartTask<>(parts, partBuilder, middle, to));
+        }
+    }
+
     // ------------------------------------------------------------
     // Internal Helper Records
     // ------------------------------------------------------------
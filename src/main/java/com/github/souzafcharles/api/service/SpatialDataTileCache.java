@@ -0,0 +1,242 @@
+package com.github.souzafcharles.api.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.souzafcharles.api.event.SpatialDataChangedEvent;
+import com.github.souzafcharles.api.repository.TileStore;
+import jakarta.annotation.PreDestroy;
+import org.locationtech.jts.geom.Envelope;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Two-tier cache of encoded vector tiles: a byte-weighted in-memory tier in front of an append-only
+ * {@link TileStore} on disk that survives restarts. Tiles larger than the per-tile memory limit are
+ * only kept on disk and streamed from the file. Committed writes invalidate exactly the tiles whose
+ * buffered extent their envelopes touch, at every zoom level.
+ */
+@Service
+public class SpatialDataTileCache {
+
+    static final String STORE_FILE_NAME = "tiles.mvtlog";
+    // Above this many tiles per zoom, cached keys are scanned instead of enumerating the range
+    static final int DIRECT_INVALIDATION_LIMIT = 256;
+    private static final double MAX_MERCATOR_LATITUDE = 85.0511287798066;
+    private static final int COORDINATE_BITS = 24;
+    private static final long COORDINATE_MASK = (1L << COORDINATE_BITS) - 1;
+
+    // An encoded tile, held in memory or left in the store and copied from the file when written out.
+    public static final class Tile {
+
+        private final byte[] bytes;
+        private final TileStore.Slot slot;
+        private final TileStore store;
+
+        private Tile(byte[] bytes, TileStore.Slot slot, TileStore store) {
+            this.bytes = bytes;
+            this.slot = slot;
+            this.store = store;
+        }
+
+        public static Tile of(byte[] bytes) {
+            return new Tile(bytes, null, null);
+        }
+
+        public int length() {
+            return bytes != null ? bytes.length : slot.length();
+        }
+
+        public void writeTo(OutputStream outputStream) throws IOException {
+            if (bytes != null) {
+                outputStream.write(bytes);
+            } else {
+                store.transferTo(slot, Channels.newChannel(outputStream));
+            }
+        }
+    }
+
+    private final TileStore store;
+    private final Cache<Long, byte[]> memory;
+    private final int memoryMaxTileBytes;
+    // A token per tile being read or built; invalidating the tile drops its token so the result is not cached
+    private final Map<Long, Object> loads = new HashMap<>();
+
+    public SpatialDataTileCache(@Value("${spatial.tiles.cache.directory:${java.io.tmpdir}/spatial-tiles}") Path directory,
+                                @Value("${spatial.tiles.cache.disk-bytes:1073741824}") long diskBytes,
+                                @Value("${spatial.tiles.cache.memory-bytes:33554432}") long memoryBytes,
+                                @Value("${spatial.tiles.cache.memory-max-tile-bytes:262144}") int memoryMaxTileBytes) throws IOException {
+        this.store = TileStore.open(directory.resolve(STORE_FILE_NAME), diskBytes);
+        this.memory = Caffeine.newBuilder()
+                .maximumWeight(memoryBytes)
+                .<Long, byte[]>weigher((key, tile) -> tile.length)
+                .build();
+        this.memoryMaxTileBytes = memoryMaxTileBytes;
+    }
+
+    // ------------------------------------------------------------
+    // READ – memory, then disk, then the loader
+    // ------------------------------------------------------------
+    public Tile get(int z, int x, int y, Supplier<byte[]> loader) {
+        long key = key(z, x, y);
+        byte[] cached = memory.getIfPresent(key);
+        if (cached != null) {
+            return Tile.of(cached);
+        }
+        Object load = beginLoad(key);
+        try {
+            TileStore.Slot slot = store.find(key);
+            if (slot != null) {
+                if (slot.length() > memoryMaxTileBytes) {
+                    return new Tile(null, slot, store);
+                }
+                byte[] stored = store.read(slot);
+                promote(key, stored, load);
+                return Tile.of(stored);
+            }
+            byte[] built = loader.get();
+            fill(key, built, load);
+            return Tile.of(built);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } finally {
+            endLoad(key, load);
+        }
+    }
+
+    // A later load of the same tile replaces the token, so only the most recent one is cached
+    private synchronized Object beginLoad(long key) {
+        Object load = new Object();
+        loads.put(key, load);
+        return load;
+    }
+
+    private synchronized void endLoad(long key, Object load) {
+        loads.remove(key, load);
+    }
+
+    private synchronized void promote(long key, byte[] tile, Object load) {
+        if (loads.get(key) == load) {
+            memory.put(key, tile);
+        }
+    }
+
+    private synchronized void fill(long key, byte[] tile, Object load) throws IOException {
+        if (loads.get(key) != load) {
+            return;
+        }
+        // A full store keeps new tiles in memory only
+        store.append(key, tile);
+        if (tile.length <= memoryMaxTileBytes) {
+            memory.put(key, tile);
+        }
+    }
+
+    // ------------------------------------------------------------
+    // INVALIDATION – after the writing transaction commits
+    // ------------------------------------------------------------
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSpatialDataChanged(SpatialDataChangedEvent event) {
+        invalidate(event.envelopes());
+    }
+
+    synchronized void invalidate(List<Envelope> envelopes) {
+        List<List<long[]>> scanRanges = new ArrayList<>();
+        for (int z = 0; z <= SpatialDataTileService.MAX_ZOOM; z++) {
+            scanRanges.add(new ArrayList<>());
+        }
+        boolean scan = false;
+        try {
+            for (Envelope envelope : envelopes) {
+                for (int z = 0; z <= SpatialDataTileService.MAX_ZOOM; z++) {
+                    long[] range = tileRange(envelope, z);
+                    if ((range[2] - range[0] + 1) * (range[3] - range[1] + 1) <= DIRECT_INVALIDATION_LIMIT) {
+                        for (long x = range[0]; x <= range[2]; x++) {
+                            for (long y = range[1]; y <= range[3]; y++) {
+                                evict(key(z, (int) x, (int) y));
+                            }
+                        }
+                    } else {
+                        scanRanges.get(z).add(range);
+                        scan = true;
+                    }
+                }
+            }
+            if (scan) {
+                evictScanned(scanRanges);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // One pass over every cached or loading key for all the ranges too large to enumerate
+    private void evictScanned(List<List<long[]>> scanRanges) throws IOException {
+        List<Long> keys = new ArrayList<>(memory.asMap().keySet());
+        keys.addAll(store.keys());
+        keys.addAll(loads.keySet());
+        for (long key : keys) {
+            int z = (int) (key >>> (2 * COORDINATE_BITS));
+            long x = (key >>> COORDINATE_BITS) & COORDINATE_MASK;
+            long y = key & COORDINATE_MASK;
+            for (long[] range : scanRanges.get(z)) {
+                if (x >= range[0] && x <= range[2] && y >= range[1] && y <= range[3]) {
+                    evict(key);
+                    break;
+                }
+            }
+        }
+    }
+
+    private void evict(long key) throws IOException {
+        loads.remove(key);
+        memory.invalidate(key);
+        store.remove(key);
+    }
+
+    // Tiles {minX, minY, maxX, maxY} whose buffered extent the envelope touches: the same margin the tile query filters with.
+    static long[] tileRange(Envelope envelope, int z) {
+        long tiles = 1L << z;
+        double margin = (double) SpatialDataTileService.TILE_BUFFER / SpatialDataTileService.TILE_EXTENT;
+        return new long[]{
+                clamp(Math.floor(tileX(envelope.getMinX(), tiles) - margin), tiles),
+                clamp(Math.floor(tileY(envelope.getMaxY(), tiles) - margin), tiles),
+                clamp(Math.floor(tileX(envelope.getMaxX(), tiles) + margin), tiles),
+                clamp(Math.floor(tileY(envelope.getMinY(), tiles) + margin), tiles)
+        };
+    }
+
+    private static double tileX(double longitude, long tiles) {
+        return (longitude + 180.0) / 360.0 * tiles;
+    }
+
+    // Web Mercator rows grow southwards; latitudes beyond the projection's limit fall in the first or last row
+    private static double tileY(double latitude, long tiles) {
+        double radians = Math.toRadians(Math.max(-MAX_MERCATOR_LATITUDE, Math.min(MAX_MERCATOR_LATITUDE, latitude)));
+        return (1.0 - Math.log(Math.tan(radians) + 1.0 / Math.cos(radians)) / Math.PI) / 2.0 * tiles;
+    }
+
+    private static long clamp(double tile, long tiles) {
+        return (long) Math.max(0, Math.min(tiles - 1, tile));
+    }
+
+    static long key(int z, int x, int y) {
+        return (long) z << (2 * COORDINATE_BITS) | (long) x << COORDINATE_BITS | y;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        store.close();
+    }
+}
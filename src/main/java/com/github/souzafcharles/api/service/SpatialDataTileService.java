@@ -0,0 +1,37 @@
+package com.github.souzafcharles.api.service;
+
+import com.github.souzafcharles.api.repository.SpatialDataRepository;
+import com.github.souzafcharles.api.utils.Messages;
+import org.springframework.stereotype.Service;
+
+@Service
+public class SpatialDataTileService {
+
+    public static final String MVT_MEDIA_TYPE = "application/vnd.mapbox-vector-tile";
+    public static final int MAX_ZOOM = 24;
+    // Tile coordinate space and the clipping buffer around it, in tile units (the usual 4096 / 256)
+    static final int TILE_EXTENT = 4096;
+    static final int TILE_BUFFER = 256;
+
+    private final SpatialDataRepository spatialDataRepository;
+    private final SpatialDataTileCache spatialDataTileCache;
+
+    public SpatialDataTileService(SpatialDataRepository spatialDataRepository, SpatialDataTileCache spatialDataTileCache) {
+        this.spatialDataRepository = spatialDataRepository;
+        this.spatialDataTileCache = spatialDataTileCache;
+    }
+
+    // ------------------------------------------------------------
+    // READ – Mapbox Vector Tiles
+    // ------------------------------------------------------------
+    public SpatialDataTileCache.Tile getTile(int z, int x, int y) {
+        validateTile(z, x, y);
+        return spatialDataTileCache.get(z, x, y, () -> spatialDataRepository.findTile(z, x, y, TILE_EXTENT, TILE_BUFFER));
+    }
+
+    static void validateTile(int z, int x, int y) {
+        if (z < 0 || z > MAX_ZOOM || x < 0 || y < 0 || x >= 1 << z || y >= 1 << z) {
+            throw new IllegalArgumentException(String.format(Messages.INVALID_TILE_COORDINATES, z, x, y, MAX_ZOOM));
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.github.souzafcharles.api.utils;
+
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.geom.PrecisionModel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+// Snaps incoming geometries to the fixed grid of their factory's PrecisionModel before they are persisted.
+public class GeometryPrecision {
+
+    private static final int MIN_LINESTRING_POINTS = 2;
+    private static final int MIN_RING_POINTS = 4;
+
+    private GeometryPrecision() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    // Floating models are left untouched. Otherwise every ordinate is rounded in one pass and vertices that land on
+    // the same grid cell are merged. The geometry keeps its type, vertex order and ring orientation; no overlay is
+    // run, so a Multi* with one part or overlapping parts stays as sent. Lines and rings left with too few vertices
+    // are dropped, and a geometry with nothing left is rejected.
+    @SuppressWarnings("unchecked")
+    public static <T extends Geometry> T snap(T geometry) {
+        if (geometry == null) {
+            return null;
+        }
+        PrecisionModel precisionModel = geometry.getPrecisionModel();
+        if (precisionModel.isFloating()) {
+            return geometry;
+        }
+        Geometry snapped = snapGeometry(geometry, precisionModel, geometry.getFactory());
+        if (snapped.isEmpty() && !geometry.isEmpty()) {
+            throw new IllegalArgumentException(String.format(Messages.GEOMETRY_PRECISION_COLLAPSED,
+                    geometry.getGeometryType(), precisionModel.getScale()));
+        }
+        return (T) snapped;
+    }
+
+    private static Geometry snapGeometry(Geometry geometry, PrecisionModel precisionModel, GeometryFactory factory) {
+        return switch (geometry) {
+            case Point point -> factory.createPoint(snap(point.getCoordinateSequence(), precisionModel, factory));
+            case LinearRing ring -> snapRing(ring, precisionModel, factory);
+            case LineString lineString -> snapLineString(lineString, precisionModel, factory);
+            case Polygon polygon -> snapPolygon(polygon, precisionModel, factory);
+            case MultiPoint multiPoint -> factory.createMultiPoint(snapParts(multiPoint, precisionModel, factory, Point[]::new));
+            case MultiLineString multiLineString ->
+                    factory.createMultiLineString(snapParts(multiLineString, precisionModel, factory, LineString[]::new));
+            case MultiPolygon multiPolygon -> factory.createMultiPolygon(snapParts(multiPolygon, precisionModel, factory, Polygon[]::new));
+            case GeometryCollection collection ->
+                    factory.createGeometryCollection(snapParts(collection, precisionModel, factory, Geometry[]::new));
+            default -> throw new IllegalArgumentException(String.format(Messages.UNSUPPORTED_GEOMETRY_TYPE, geometry.getGeometryType()));
+        };
+    }
+
+    private static LineString snapLineString(LineString lineString, PrecisionModel precisionModel, GeometryFactory factory) {
+        CoordinateSequence sequence = snap(lineString.getCoordinateSequence(), precisionModel, factory);
+        return sequence.size() < MIN_LINESTRING_POINTS ? factory.createLineString() : factory.createLineString(sequence);
+    }
+
+    private static LinearRing snapRing(LinearRing ring, PrecisionModel precisionModel, GeometryFactory factory) {
+        CoordinateSequence sequence = snap(ring.getCoordinateSequence(), precisionModel, factory);
+        return sequence.size() < MIN_RING_POINTS ? factory.createLinearRing() : factory.createLinearRing(sequence);
+    }
+
+    // A collapsed shell empties the polygon; collapsed holes are dropped
+    private static Polygon snapPolygon(Polygon polygon, PrecisionModel precisionModel, GeometryFactory factory) {
+        LinearRing shell = snapRing(polygon.getExteriorRing(), precisionModel, factory);
+        if (shell.isEmpty()) {
+            return factory.createPolygon();
+        }
+        List<LinearRing> holes = new ArrayList<>(polygon.getNumInteriorRing());
+        for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+            LinearRing hole = snapRing(polygon.getInteriorRingN(i), precisionModel, factory);
+            if (!hole.isEmpty()) {
+                holes.add(hole);
+            }
+        }
+        return factory.createPolygon(shell, holes.toArray(LinearRing[]::new));
+    }
+
+    // Snapped parts of a collection, without the ones that collapsed
+    @SuppressWarnings("unchecked")
+    private static <P extends Geometry> P[] snapParts(GeometryCollection collection, PrecisionModel precisionModel,
+                                                     GeometryFactory factory, IntFunction<P[]> array) {
+        List<P> parts = new ArrayList<>(collection.getNumGeometries());
+        for (int i = 0; i < collection.getNumGeometries(); i++) {
+            Geometry part = snapGeometry(collection.getGeometryN(i), precisionModel, factory);
+            if (!part.isEmpty()) {
+                parts.add((P) part);
+            }
+        }
+        return parts.toArray(array);
+    }
+
+    // Rounds x and y in a single pass and skips a vertex equal to the one kept before it
+    private static CoordinateSequence snap(CoordinateSequence sequence, PrecisionModel precisionModel, GeometryFactory factory) {
+        int size = sequence.size();
+        double[] xy = new double[2 * size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            double x = precisionModel.makePrecise(sequence.getX(i));
+            double y = precisionModel.makePrecise(sequence.getY(i));
+            if (count > 0 && x == xy[2 * count - 2] && y == xy[2 * count - 1]) {
+                continue;
+            }
+            xy[2 * count] = x;
+            xy[2 * count + 1] = y;
+            count++;
+        }
+        CoordinateSequence snapped = factory.getCoordinateSequenceFactory().create(count, 2);
+        for (int i = 0; i < count; i++) {
+            snapped.setOrdinate(i, CoordinateSequence.X, xy[2 * i]);
+            snapped.setOrdinate(i, CoordinateSequence.Y, xy[2 * i + 1]);
+        }
+        return snapped;
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.souzafcharles.api.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Opaque pagination cursor wrapping the last id of a page; clients must treat it as an unparsed token.
+public class KeysetCursor {
+
+    private static final String PREFIX = "id:";
+
+    private KeysetCursor() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static String encode(Long lastId) {
+        byte[] raw = (PREFIX + lastId).getBytes(StandardCharsets.US_ASCII);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    public static long decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            if (!raw.startsWith(PREFIX)) {
+                throw new IllegalArgumentException(String.format(Messages.INVALID_CURSOR, cursor));
+            }
+            return Long.parseLong(raw.substring(PREFIX.length()));
+        } catch (IllegalArgumentException ex) {
+            // Covers malformed Base64 as well as NumberFormatException
+            throw new IllegalArgumentException(String.format(Messages.INVALID_CURSOR, cursor), ex);
+        }
+    }
+}
@@ -13,12 +13,51 @@ public class Messages {
     public static final String SPATIAL_DATA_NOT_FOUND = "Spatial data not found with id: %s";
     public static final String NO_POLYGON_FOUND = "Spatial data with id %s does not contain a polygon";
     public static final String INVALID_POLYGON_COORDINATES = "Polygon must contain at least 4 coordinates (closed ring)";
+    public static final String INVALID_POLYGON_RING = "Polygon ring is not valid: %s at (%s, %s)";
     public static final String UNSUPPORTED_GEOMETRY_TYPE = "Unsupported geometry type: %s";
+    public static final String MISSING_GEOMETRY_TYPE = "Geometry must declare a 'type' member";
+    public static final String INVALID_COORDINATE_STRUCTURE = "Coordinates array has an invalid nesting structure";
+    public static final String INVALID_CURSOR = "Invalid pagination cursor: %s";
+    public static final String INVALID_PAGE_LIMIT = "Page limit must be between 1 and %s";
+    public static final String INVALID_GEOMETRY_COLUMN = "Unknown geometry column: %s. Expected one of point, multipoint, linestring, multilinestring, polygon, multipolygon";
+    public static final String INVALID_BOUNDING_BOX = "Bounding box must have finite coordinates with minX <= maxX and minY <= maxY";
+    public static final String INVALID_TARGET_COORDINATE = "Target must be a WGS84 coordinate with -180 <= x <= 180 and -90 <= y <= 90";
+    public static final String INVALID_RADIUS = "Radius must be a positive number of metres";
+    public static final String INVALID_SPATIAL_PREDICATE = "Unknown spatial predicate: %s. Expected one of intersects, contains, within, touches";
+    public static final String QUERY_GEOMETRY_REQUIRED = "Query geometry is required";
+    public static final String QUERY_PREDICATE_REQUIRED = "Spatial predicate is required";
+    public static final String QUERY_COLUMN_REQUIRED = "Target geometry column is required";
+    public static final String EMPTY_BATCH = "Batch must contain at least one serializer or deserializer item";
+    public static final String BATCH_TOO_LARGE = "Batch lists may hold at most {max} items each; use the NDJSON or COPY ingest for larger loads";
+    public static final String INVALID_FEATURE_COLLECTION = "Body must be a GeoJSON FeatureCollection object with a 'features' array of Feature objects";
+    public static final String INVALID_NDJSON_LINE = "Line must be a JSON object with GeoJSON geometry fields";
+    public static final String GEOMETRY_FIELD_MISMATCH = "Geometry type does not match the field it was sent in";
+    public static final String COPY_INGEST_FAILED = "Bulk COPY ingest failed";
+    public static final String INVALID_SEQUENCE_INCREMENT = "spatial_seq must have a positive INCREMENT, got %s";
+    public static final String INGEST_QUEUE_FULL = "Ingest queue is full, retry later";
+    public static final String INGEST_TICKET_NOT_FOUND = "Ingest ticket not found: %s";
+    public static final String INVALID_TILE_COORDINATES = "Tile %s/%s/%s is outside the tile matrix: zoom must be between 0 and %s, and x and y between 0 and 2^zoom - 1";
+    public static final String INVALID_PRECISION_SCALE = "Precision scale must be 0 (floating) or a positive finite number, got %s";
+    public static final String INVALID_WKB = "Body must be WKB or EWKB of a point, linestring, polygon, their Multi* types, or a GeometryCollection of them";
+    public static final String INVALID_WKB_SRID = "WKB geometry must use SRID %s, got %s";
+    public static final String INVALID_WKB_DIMENSION = "WKB coordinates must be 2D (x, y) without Z or M values, got %s ordinates per coordinate";
+    public static final String DUPLICATE_GEOMETRY_TYPE = "GeometryCollection holds more than one %s; each geometry type fills a single column";
+    public static final String INVALID_TWKB = "Body must be TWKB of a point, linestring, polygon, their Multi* types, or a GeometryCollection of them";
+    public static final String INVALID_TWKB_PRECISION = "TWKB precision must be between -%s and %1$s decimal places, got %s";
+    public static final String TWKB_TRUNCATED = "TWKB ends before the geometry is complete";
+    public static final String TWKB_TRAILING_BYTES = "TWKB has %s bytes after the geometry";
+    public static final String INVALID_TILE_STORE_SIZE = "Tile store size must be at least %s bytes, got %s";
+    public static final String TILE_STORE_TRUNCATED = "Tile store ends before the tile at offset %s";
+    public static final String INVALID_FGB_INDEX_NODE_SIZE = "FlatGeobuf index node size must be between 2 and 65535, got %s";
+    public static final String FGB_EMPTY_GEOMETRY = "FlatGeobuf features need a non-empty geometry";
+    public static final String INVALID_COORDINATE_PRECISION = "Coordinate precision must be between 0 and %2$s decimal places, got %1$s";
 
     // Validation messages
     public static final String POINT_COORDINATES_INVALID = "Point must have exactly 2 coordinates [longitude, latitude]";
     public static final String LINESTRING_COORDINATES_INVALID = "LineString must have at least 2 coordinate pairs";
     public static final String POLYGON_COORDINATES_INVALID = "Polygon coordinates are invalid";
+    public static final String COORDINATE_OUT_OF_RANGE = "Coordinates must be WGS84 with -180 <= longitude <= 180 and -90 <= latitude <= 90";
+    public static final String GEOMETRY_PRECISION_COLLAPSED = "%s collapsed to an empty geometry when snapped to a precision scale of %s";
 
     // Exception messages
     public static final String DATA_INTEGRITY_VIOLATION = "Data integrity violation";
@@ -42,10 +81,41 @@ public class Messages {
     public static final String CREATE_SERIALIZER_DESCRIPTION = "Accepts coordinate arrays and creates JTS geometries";
     public static final String CREATE_DESERIALIZER_SUMMARY = "Create spatial data from GeoJSON geometries";
     public static final String CREATE_DESERIALIZER_DESCRIPTION = "Accepts GeoJSON geometry objects and stores them as JTS geometries";
-    public static final String GET_ALL_SUMMARY = "Retrieve all spatial data";
-    public static final String GET_ALL_DESCRIPTION = "Returns all spatial data records with their JTS geometries";
+    public static final String CREATE_BATCH_SUMMARY = "Create spatial data in bulk";
+    public static final String CREATE_BATCH_DESCRIPTION = "Accepts arrays of serializer and/or deserializer items and inserts them in one transaction using JDBC batching; returns the generated IDs";
+    public static final String INGEST_COPY_SUMMARY = "Bulk load a GeoJSON FeatureCollection";
+    public static final String INGEST_COPY_DESCRIPTION = "Streams the FeatureCollection into spatialdata with binary COPY, one row per feature with its geometry in the matching column, in a single transaction; returns throughput and memory metrics";
+    public static final String INGEST_NDJSON_SUMMARY = "Stream newline-delimited spatial data";
+    public static final String INGEST_NDJSON_DESCRIPTION = "Reads one deserializer-format JSON object per line and saves the rows in chunks, each chunk in its own transaction; invalid lines are reported by line number without aborting the upload";
+    public static final String ASYNC_SERIALIZER_SUMMARY = "Queue spatial data creation from coordinate lists";
+    public static final String ASYNC_DESERIALIZER_SUMMARY = "Queue spatial data creation from GeoJSON geometries";
+    public static final String ASYNC_DESCRIPTION = "Returns 202 with a ticket; the record is built and saved by a background worker in a group commit. Returns 429 with Retry-After when the queue is full";
+    public static final String ASYNC_STATUS_SUMMARY = "Get the status of a queued creation";
+    public static final String ASYNC_STATUS_DESCRIPTION = "Returns PENDING, COMPLETED with the new ID, or FAILED with the reason";
+    public static final String GET_ALL_SUMMARY = "Retrieve a page of spatial data";
+    public static final String GET_ALL_DESCRIPTION = "Returns spatial data records ordered by ID using keyset pagination; pass the returned nextCursor as 'after' to fetch the following page";
+    public static final String EXPORT_SUMMARY = "Export all spatial data as GeoJSON text sequence";
+    public static final String EXPORT_DESCRIPTION = "Streams newline-delimited GeoJSON features, one per non-null geometry column of every record, read through a database cursor";
+    public static final String EXPORT_FGB_SUMMARY = "Export one geometry column as FlatGeobuf";
+    public static final String EXPORT_FGB_DESCRIPTION = "Returns a FlatGeobuf file of the non-empty geometries in the column, with the record ID as the id property, in Hilbert order with a packed R-tree index. The file is built once and kept until the next committed write; Range requests read parts of it, so clients can fetch only the features in a bbox, and If-Range with an outdated ETag returns the whole current file";
+    public static final String TILE_SUMMARY = "Get a Mapbox Vector Tile";
+    public static final String TILE_DESCRIPTION = "Builds the z/x/y tile (Web Mercator) inside PostGIS with ST_AsMVT, one layer per geometry column named after it and the record ID as feature ID; returns 204 when the tile is empty";
+    public static final String CACHE_STATS_SUMMARY = "Get second-level cache statistics";
+    public static final String CACHE_STATS_DESCRIPTION = "Returns hits, misses, evictions and the vertex-weighted size of the SpatialData second-level cache since startup";
+    public static final String BBOX_SUMMARY = "Find spatial data intersecting a bounding box";
+    public static final String BBOX_DESCRIPTION = "Returns records whose geometry in the given column intersects the envelope (WGS84), using the column's GiST index";
+    public static final String NEAREST_SUMMARY = "Find the k nearest spatial data records to a coordinate";
+    public static final String NEAREST_DESCRIPTION = "Orders the given column by the PostGIS <-> operator (GiST index-assisted); distances are in degrees, or in metres when geodesic=true re-ranks the nearest candidates on the spheroid";
+    public static final String WITHIN_SUMMARY = "Find spatial data within a radius of a coordinate";
+    public static final String WITHIN_DESCRIPTION = "Returns records whose geometry in the given column lies within the radius (metres) of the coordinate, nearest first, using ST_DWithin on geography";
+    public static final String QUERY_SUMMARY = "Find spatial data matching a spatial predicate";
+    public static final String QUERY_DESCRIPTION = "Evaluates intersects, contains, within or touches between the given column and a GeoJSON geometry in PostGIS, with a bounding-box prefilter on the column's GiST index";
+    public static final String DISTANCE_UNIT_DEGREES = "degrees";
+    public static final String DISTANCE_UNIT_METRES = "metres";
     public static final String GET_BY_ID_SUMMARY = "Get spatial data by ID";
     public static final String GET_BY_ID_DESCRIPTION = "Returns a specific spatial data record by its ID";
+    public static final String GET_BY_ID_WKB_SUMMARY = "Get spatial data by ID as WKB or TWKB";
+    public static final String GET_BY_ID_WKB_DESCRIPTION = "Returns the record as one GeometryCollection of its non-null geometries, in EWKB (application/vnd.ogc.wkb, SRID 4326) or Tiny WKB (application/x-twkb), with the record URL in Content-Location; the application/x-spatial-data-* types wrap it in a length-prefixed record frame";
     public static final String GET_GEOJSON_SUMMARY = "Get polygon as GeoJSON";
     public static final String GET_GEOJSON_DESCRIPTION = "Returns a specific polygon geometry in GeoJSON format";
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package com.github.souzafcharles.api.validation;
+
+import com.github.souzafcharles.api.json.CoordinateArray;
+import com.github.souzafcharles.api.model.dto.SpatialDataSerializerRequestDTO;
+import com.github.souzafcharles.api.model.enums.GeometryColumn;
+import com.github.souzafcharles.api.utils.Messages;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class SpatialDataSerializerRequestValidator implements ConstraintValidator<ValidCoordinates, SpatialDataSerializerRequestDTO> {
+
+    private static final int MIN_LINESTRING_POSITIONS = 2;
+    private static final int MIN_RING_POSITIONS = 4;
+
+    @Override
+    public boolean isValid(SpatialDataSerializerRequestDTO request, ConstraintValidatorContext context) {
+        if (request == null) {
+            return true;
+        }
+        context.disableDefaultConstraintViolation();
+        boolean valid = validate(request.point(), GeometryColumn.POINT, context);
+        valid &= validate(request.multipoint(), GeometryColumn.MULTIPOINT, context);
+        valid &= validate(request.linestring(), GeometryColumn.LINESTRING, context);
+        valid &= validate(request.multilinestring(), GeometryColumn.MULTILINESTRING, context);
+        valid &= validate(request.polygon(), GeometryColumn.POLYGON, context);
+        valid &= validate(request.multipolygon(), GeometryColumn.MULTIPOLYGON, context);
+        return valid;
+    }
+
+    // Field names match the column names, so the violation lands on the JSON property that caused it.
+    private boolean validate(CoordinateArray coordinates, GeometryColumn column, ConstraintValidatorContext context) {
+        String message = coordinates == null ? null : violation(coordinates, column);
+        if (message == null) {
+            return true;
+        }
+        context.buildConstraintViolationWithTemplate(message)
+                .addPropertyNode(column.columnName())
+                .addConstraintViolation();
+        return false;
+    }
+
+    // Returns the message of the first rule the coordinates break, or null when they fit the geometry type.
+    static String violation(CoordinateArray coordinates, GeometryColumn column) {
+        int depth = coordinates.depth();
+        if (column == GeometryColumn.POINT) {
+            if (depth > 1) {
+                return Messages.INVALID_COORDINATE_STRUCTURE;
+            }
+            if (depth == 0 || !hasTwoOrdinates(coordinates)) {
+                return Messages.POINT_COORDINATES_INVALID;
+            }
+            return inRange(coordinates, 0) ? null : Messages.COORDINATE_OUT_OF_RANGE;
+        }
+        // An empty LineString or Polygon has no valid shape (the nested @Size used to reject it); empty Multi* are allowed
+        if (depth == 0) {
+            return switch (column) {
+                case LINESTRING -> Messages.LINESTRING_COORDINATES_INVALID;
+                case POLYGON -> Messages.POLYGON_COORDINATES_INVALID;
+                default -> null;
+            };
+        }
+        if (depth != depthOf(column)) {
+            return Messages.INVALID_COORDINATE_STRUCTURE;
+        }
+        if (!hasTwoOrdinates(coordinates)) {
+            return Messages.POINT_COORDINATES_INVALID;
+        }
+        // Above a single position, lines partition the positions, so this loop visits each one once
+        for (int line = 0; line < coordinates.lineCount(); line++) {
+            String message = lineViolation(coordinates, column, coordinates.lineStart(line), coordinates.lineEnd(line));
+            if (message != null) {
+                return message;
+            }
+        }
+        return null;
+    }
+
+    private static String lineViolation(CoordinateArray coordinates, GeometryColumn column, int start, int end) {
+        boolean ring = column == GeometryColumn.POLYGON || column == GeometryColumn.MULTIPOLYGON;
+        boolean line = column == GeometryColumn.LINESTRING || column == GeometryColumn.MULTILINESTRING;
+        if (ring && end - start < MIN_RING_POSITIONS) {
+            return Messages.POLYGON_COORDINATES_INVALID;
+        }
+        if (line && end - start < MIN_LINESTRING_POSITIONS) {
+            return Messages.LINESTRING_COORDINATES_INVALID;
+        }
+        for (int i = start; i < end; i++) {
+            if (!inRange(coordinates, i)) {
+                return Messages.COORDINATE_OUT_OF_RANGE;
+            }
+        }
+        if (ring && !isClosed(coordinates, start, end - 1)) {
+            return Messages.POLYGON_COORDINATES_INVALID;
+        }
+        return null;
+    }
+
+    // Nesting depth of a GeoJSON coordinates array for each geometry type
+    static int depthOf(GeometryColumn column) {
+        return switch (column) {
+            case POINT -> 1;
+            case MULTIPOINT, LINESTRING -> 2;
+            case MULTILINESTRING, POLYGON -> 3;
+            case MULTIPOLYGON -> 4;
+        };
+    }
+
+    // Every position must be [x, y]; arrays of empty lines have no positions to check.
+    private static boolean hasTwoOrdinates(CoordinateArray coordinates) {
+        return coordinates.size() == 0
+                || coordinates.minDimension() == 2 && coordinates.maxDimension() == 2;
+    }
+
+    // Rejects NaN as well, since every comparison with NaN is false
+    private static boolean inRange(CoordinateArray coordinates, int index) {
+        double x = coordinates.getX(index);
+        double y = coordinates.getY(index);
+        return x >= -180.0 && x <= 180.0 && y >= -90.0 && y <= 90.0;
+    }
+
+    private static boolean isClosed(CoordinateArray coordinates, int first, int last) {
+        return coordinates.getX(first) == coordinates.getX(last) && coordinates.getY(first) == coordinates.getY(last);
+    }
+}
@@ -0,0 +1,27 @@
+package com.github.souzafcharles.api.validation;
+
+import com.github.souzafcharles.api.utils.Messages;
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Validates every coordinates field of a serializer-format request in a single pass per field:
+ * nesting depth, position arity, vertices per line, ring closure and WGS84 ranges. Violations are
+ * reported on the offending field, so they surface as field errors like a field-level constraint.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = SpatialDataSerializerRequestValidator.class)
+public @interface ValidCoordinates {
+
+    String message() default Messages.INVALID_COORDINATE_STRUCTURE;
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
@@ -0,0 +1,235 @@
+package com.github.souzafcharles.api.wkb;
+
+import com.github.souzafcharles.api.config.GeometryConfig;
+import com.github.souzafcharles.api.model.dto.SpatialDataDeserializerRequestDTO;
+import com.github.souzafcharles.api.model.dto.SpatialDataNeighbourResponseDTO;
+import com.github.souzafcharles.api.model.dto.SpatialDataPageResponseDTO;
+import com.github.souzafcharles.api.model.dto.SpatialDataResponseDTO;
+import com.github.souzafcharles.api.model.enums.GeometryColumn;
+import com.github.souzafcharles.api.utils.Messages;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.GeometryComponentFilter;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.io.ParseException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes SpatialData records in a binary geometry encoding and reads create requests from it. A
+ * record is one GeometryCollection of its non-null geometries; each geometry type has its own
+ * column, so a collection maps back to the columns without any field names. The single media type
+ * carries one bare record. Lists and pages use the records media type, framed per record as a
+ * big-endian int length, then the id (long), the distance (double, NaN outside nearest/within
+ * results) and the encoded geometry. Subclasses only supply the encoding.
+ */
+public abstract class SpatialDataBinaryHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    static final int FRAME_HEADER_BYTES = Long.BYTES + Double.BYTES;
+    private static final String RECORD_LOCATION = "/api/spatial-data/";
+
+    private final GeometryFactory geometryFactory;
+    private final MediaType single;
+    private final MediaType records;
+    private final String invalidBodyMessage;
+
+    protected SpatialDataBinaryHttpMessageConverter(GeometryFactory geometryFactory, MediaType single,
+                                                    MediaType records, String invalidBodyMessage) {
+        super(single, records);
+        this.geometryFactory = geometryFactory;
+        this.single = single;
+        this.records = records;
+        this.invalidBodyMessage = invalidBodyMessage;
+    }
+
+    protected abstract byte[] encode(Geometry geometry);
+
+    protected abstract Geometry decode(byte[] bytes) throws ParseException;
+
+    protected GeometryFactory geometryFactory() {
+        return geometryFactory;
+    }
+
+    // ------------------------------------------------------------
+    // SUPPORTED TYPES
+    // ------------------------------------------------------------
+    // Lists are only claimed through their element type, see canWrite(Type, ...)
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return clazz == SpatialDataResponseDTO.class
+                || clazz == SpatialDataPageResponseDTO.class
+                || clazz == SpatialDataDeserializerRequestDTO.class;
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return clazz == SpatialDataDeserializerRequestDTO.class && (mediaType == null || single.includes(mediaType));
+    }
+
+    @Override
+    public boolean canWrite(Class<?> clazz, MediaType mediaType) {
+        return clazz != SpatialDataDeserializerRequestDTO.class && supports(clazz) && writable(clazz, mediaType);
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        if (type instanceof ParameterizedType parameterized && parameterized.getRawType() == List.class) {
+            Type element = parameterized.getActualTypeArguments()[0];
+            return (element == SpatialDataResponseDTO.class || element == SpatialDataNeighbourResponseDTO.class)
+                    && writable(List.class, mediaType);
+        }
+        return canWrite(clazz, mediaType);
+    }
+
+    // A lone record can go bare; anything holding several records needs the framing
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return clazz == SpatialDataResponseDTO.class ? List.of(single, records) : List.of(records);
+    }
+
+    @Override
+    protected MediaType getDefaultContentType(Object body) {
+        return body instanceof SpatialDataResponseDTO ? single : records;
+    }
+
+    private boolean writable(Class<?> clazz, MediaType mediaType) {
+        if (mediaType == null) {
+            return true;
+        }
+        for (MediaType supported : getSupportedMediaTypes(clazz)) {
+            if (supported.isCompatibleWith(mediaType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ------------------------------------------------------------
+    // WRITE – bare records and record frames
+    // ------------------------------------------------------------
+    @Override
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        MediaType contentType = outputMessage.getHeaders().getContentType();
+        if (body instanceof SpatialDataResponseDTO spatialData && contentType != null && single.isCompatibleWith(contentType)) {
+            // A bare record has no room for the id, so it travels as the record's location
+            outputMessage.getHeaders().set(HttpHeaders.CONTENT_LOCATION, RECORD_LOCATION + spatialData.id());
+            outputMessage.getBody().write(toBytes(spatialData));
+            return;
+        }
+        if (body instanceof SpatialDataPageResponseDTO page && page.nextCursor() != null) {
+            outputMessage.getHeaders().set(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        DataOutputStream frames = new DataOutputStream(outputMessage.getBody());
+        switch (body) {
+            case SpatialDataResponseDTO spatialData -> writeFrame(frames, spatialData, Double.NaN);
+            case SpatialDataPageResponseDTO page -> writeFrames(frames, page.items());
+            case List<?> list -> writeFrames(frames, list);
+            default -> throw new IllegalStateException(body.getClass().getName());
+        }
+        frames.flush();
+    }
+
+    private void writeFrames(DataOutputStream frames, List<?> items) throws IOException {
+        for (Object item : items) {
+            if (item instanceof SpatialDataNeighbourResponseDTO neighbour) {
+                writeFrame(frames, neighbour.item(), neighbour.distance());
+            } else {
+                writeFrame(frames, (SpatialDataResponseDTO) item, Double.NaN);
+            }
+        }
+    }
+
+    private void writeFrame(DataOutputStream frames, SpatialDataResponseDTO spatialData, double distance) throws IOException {
+        byte[] geometry = toBytes(spatialData);
+        frames.writeInt(FRAME_HEADER_BYTES + geometry.length);
+        frames.writeLong(spatialData.id());
+        frames.writeDouble(distance);
+        frames.write(geometry);
+    }
+
+    byte[] toBytes(SpatialDataResponseDTO spatialData) {
+        List<Geometry> geometries = new ArrayList<>(GeometryColumn.values().length);
+        for (Geometry geometry : new Geometry[]{spatialData.point(), spatialData.multiPoint(), spatialData.lineString(),
+                spatialData.multiLineString(), spatialData.polygon(), spatialData.multiPolygon()}) {
+            if (geometry != null) {
+                geometries.add(geometry);
+            }
+        }
+        GeometryCollection collection = geometryFactory.createGeometryCollection(geometries.toArray(new Geometry[0]));
+        return encode(collection);
+    }
+
+    // ------------------------------------------------------------
+    // READ – create requests
+    // ------------------------------------------------------------
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return read(clazz, null, inputMessage);
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        byte[] bytes = inputMessage.getBody().readAllBytes();
+        Geometry geometry;
+        try {
+            geometry = decode(bytes);
+        } catch (ParseException ex) {
+            throw new IllegalArgumentException(invalidBodyMessage, ex);
+        }
+        if (geometry.getSRID() != GeometryConfig.SRID) {
+            throw new IllegalArgumentException(String.format(Messages.INVALID_WKB_SRID, GeometryConfig.SRID, geometry.getSRID()));
+        }
+        int dimension = coordinateDimension(geometry);
+        if (dimension != 2) {
+            throw new IllegalArgumentException(String.format(Messages.INVALID_WKB_DIMENSION, dimension));
+        }
+        return toRequest(geometry);
+    }
+
+    // The columns are 2D, so a Z or M ordinate would only fail on insert. Empty parts count too, as PostGIS checks
+    // their declared dimension as well.
+    static int coordinateDimension(Geometry geometry) {
+        int[] dimension = {2};
+        geometry.apply((GeometryComponentFilter) component -> {
+            CoordinateSequence sequence = switch (component) {
+                case Point point -> point.getCoordinateSequence();
+                case LineString lineString -> lineString.getCoordinateSequence();
+                default -> null;
+            };
+            if (sequence != null) {
+                dimension[0] = Math.max(dimension[0], sequence.getDimension());
+            }
+        });
+        return dimension[0];
+    }
+
+    // A plain GeometryCollection spreads over the columns; any other geometry fills the column of its type
+    static SpatialDataDeserializerRequestDTO toRequest(Geometry geometry) {
+        Geometry[] columns = new Geometry[GeometryColumn.values().length];
+        boolean collection = geometry.getClass() == GeometryCollection.class;
+        int count = collection ? geometry.getNumGeometries() : 1;
+        for (int i = 0; i < count; i++) {
+            Geometry member = collection ? geometry.getGeometryN(i) : geometry;
+            GeometryColumn column = GeometryColumn.forGeometry(member);
+            if (columns[column.ordinal()] != null) {
+                throw new IllegalArgumentException(String.format(Messages.DUPLICATE_GEOMETRY_TYPE, member.getGeometryType()));
+            }
+            columns[column.ordinal()] = member;
+        }
+        return new SpatialDataDeserializerRequestDTO(columns[0], columns[1], columns[2], columns[3], columns[4], columns[5]);
+    }
+}
@@ -0,0 +1,38 @@
+package com.github.souzafcharles.api.wkb;
+
+import com.github.souzafcharles.api.utils.Messages;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.io.ParseException;
+import org.springframework.http.MediaType;
+
+/**
+ * Records as Tiny WKB, for clients on slow links; create requests may be TWKB too. TWKB has no
+ * SRID, so geometries are always read and written as SRID 4326.
+ */
+public class SpatialDataTwkbHttpMessageConverter extends SpatialDataBinaryHttpMessageConverter {
+
+    public static final String TWKB_VALUE = "application/x-twkb";
+    public static final String TWKB_RECORDS_VALUE = "application/x-spatial-data-twkb";
+    public static final MediaType TWKB = MediaType.parseMediaType(TWKB_VALUE);
+    public static final MediaType TWKB_RECORDS = MediaType.parseMediaType(TWKB_RECORDS_VALUE);
+
+    private final TwkbWriter writer;
+    private final TwkbReader reader;
+
+    public SpatialDataTwkbHttpMessageConverter(GeometryFactory geometryFactory, int precision, boolean includeBbox) {
+        super(geometryFactory, TWKB, TWKB_RECORDS, Messages.INVALID_TWKB);
+        this.writer = new TwkbWriter(precision, includeBbox);
+        this.reader = new TwkbReader(geometryFactory);
+    }
+
+    @Override
+    protected byte[] encode(Geometry geometry) {
+        return writer.write(geometry);
+    }
+
+    @Override
+    protected Geometry decode(byte[] bytes) throws ParseException {
+        return reader.read(bytes);
+    }
+}
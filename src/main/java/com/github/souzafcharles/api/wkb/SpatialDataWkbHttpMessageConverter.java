@@ -0,0 +1,36 @@
+package com.github.souzafcharles.api.wkb;
+
+import com.github.souzafcharles.api.utils.Messages;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.io.ByteOrderValues;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKBReader;
+import org.locationtech.jts.io.WKBWriter;
+import org.springframework.http.MediaType;
+
+/**
+ * Records as EWKB (big-endian, SRID 4326); create requests may be WKB or EWKB.
+ */
+public class SpatialDataWkbHttpMessageConverter extends SpatialDataBinaryHttpMessageConverter {
+
+    public static final String WKB_VALUE = "application/vnd.ogc.wkb";
+    public static final String WKB_RECORDS_VALUE = "application/x-spatial-data-wkb";
+    public static final MediaType WKB = MediaType.parseMediaType(WKB_VALUE);
+    public static final MediaType WKB_RECORDS = MediaType.parseMediaType(WKB_RECORDS_VALUE);
+
+    public SpatialDataWkbHttpMessageConverter(GeometryFactory geometryFactory) {
+        super(geometryFactory, WKB, WKB_RECORDS, Messages.INVALID_WKB);
+    }
+
+    // The writer and reader keep per-call state, so one is created per geometry
+    @Override
+    protected byte[] encode(Geometry geometry) {
+        return new WKBWriter(2, ByteOrderValues.BIG_ENDIAN, true).write(geometry);
+    }
+
+    @Override
+    protected Geometry decode(byte[] bytes) throws ParseException {
+        return new WKBReader(geometryFactory()).read(bytes);
+    }
+}
@@ -0,0 +1,192 @@
+package com.github.souzafcharles.api.wkb;
+
+import com.github.souzafcharles.api.utils.Messages;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.io.ParseException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Decodes Tiny WKB (TWKB 1.0) into geometries of the given factory, which supplies the SRID and the
+ * coordinate sequences. Z and M ordinates are read and dropped, as are size headers, bounding
+ * boxes and id lists, since records are 2D and carry their ids elsewhere.
+ */
+public class TwkbReader {
+
+    private final GeometryFactory geometryFactory;
+
+    public TwkbReader(GeometryFactory geometryFactory) {
+        this.geometryFactory = geometryFactory;
+    }
+
+    public Geometry read(byte[] bytes) throws ParseException {
+        ByteBuffer in = ByteBuffer.wrap(bytes);
+        try {
+            Geometry geometry = readGeometry(in);
+            if (in.hasRemaining()) {
+                throw new ParseException(String.format(Messages.TWKB_TRAILING_BYTES, in.remaining()));
+            }
+            return geometry;
+        } catch (BufferUnderflowException ex) {
+            throw new ParseException(Messages.TWKB_TRUNCATED);
+        }
+    }
+
+    private Geometry readGeometry(ByteBuffer in) throws ParseException {
+        int header = in.get() & 0xFF;
+        int type = header & 0x0F;
+        int precision = (int) unzigzag(header >>> 4);
+        int metadata = in.get() & 0xFF;
+        int dimensions = 2;
+        if ((metadata & TwkbWriter.EXTENDED_DIMENSIONS) != 0) {
+            int extended = in.get();
+            dimensions += (extended & 0x01) + (extended >> 1 & 0x01);
+        }
+        if ((metadata & TwkbWriter.SIZE) != 0) {
+            readUnsigned(in);
+        }
+        if ((metadata & TwkbWriter.EMPTY) != 0) {
+            return empty(type);
+        }
+        if ((metadata & TwkbWriter.BBOX) != 0) {
+            for (int i = 0; i < 2 * dimensions; i++) {
+                readUnsigned(in);
+            }
+        }
+        Ordinates ordinates = new Ordinates(dimensions, precision);
+        boolean idList = (metadata & TwkbWriter.ID_LIST) != 0;
+        return switch (type) {
+            case TwkbWriter.POINT -> geometryFactory.createPoint(ordinates.read(in, 1));
+            case TwkbWriter.LINESTRING -> geometryFactory.createLineString(ordinates.read(in, readCount(in)));
+            case TwkbWriter.POLYGON -> readPolygon(in, ordinates);
+            case TwkbWriter.MULTIPOINT -> {
+                Point[] points = new Point[readParts(in, idList)];
+                for (int i = 0; i < points.length; i++) {
+                    points[i] = geometryFactory.createPoint(ordinates.read(in, 1));
+                }
+                yield geometryFactory.createMultiPoint(points);
+            }
+            case TwkbWriter.MULTILINESTRING -> {
+                LineString[] lineStrings = new LineString[readParts(in, idList)];
+                for (int i = 0; i < lineStrings.length; i++) {
+                    lineStrings[i] = geometryFactory.createLineString(ordinates.read(in, readCount(in)));
+                }
+                yield geometryFactory.createMultiLineString(lineStrings);
+            }
+            case TwkbWriter.MULTIPOLYGON -> {
+                Polygon[] polygons = new Polygon[readParts(in, idList)];
+                for (int i = 0; i < polygons.length; i++) {
+                    polygons[i] = readPolygon(in, ordinates);
+                }
+                yield geometryFactory.createMultiPolygon(polygons);
+            }
+            case TwkbWriter.GEOMETRYCOLLECTION -> {
+                Geometry[] geometries = new Geometry[readParts(in, idList)];
+                for (int i = 0; i < geometries.length; i++) {
+                    geometries[i] = readGeometry(in);
+                }
+                yield geometryFactory.createGeometryCollection(geometries);
+            }
+            default -> throw new ParseException(String.format(Messages.UNSUPPORTED_GEOMETRY_TYPE, "TWKB type " + type));
+        };
+    }
+
+    private Polygon readPolygon(ByteBuffer in, Ordinates ordinates) throws ParseException {
+        int rings = readCount(in);
+        if (rings == 0) {
+            return geometryFactory.createPolygon();
+        }
+        LinearRing shell = geometryFactory.createLinearRing(ordinates.read(in, readCount(in)));
+        LinearRing[] holes = new LinearRing[rings - 1];
+        for (int i = 0; i < holes.length; i++) {
+            holes[i] = geometryFactory.createLinearRing(ordinates.read(in, readCount(in)));
+        }
+        return geometryFactory.createPolygon(shell, holes);
+    }
+
+    private static int readParts(ByteBuffer in, boolean idList) throws ParseException {
+        int parts = readCount(in);
+        if (idList) {
+            for (int i = 0; i < parts; i++) {
+                readUnsigned(in);
+            }
+        }
+        return parts;
+    }
+
+    // Every element takes at least one byte, so a count beyond the remaining bytes is corrupt rather than a huge allocation
+    private static int readCount(ByteBuffer in) throws ParseException {
+        long count = readUnsigned(in);
+        if (count > in.remaining()) {
+            throw new ParseException(Messages.TWKB_TRUNCATED);
+        }
+        return (int) count;
+    }
+
+    private Geometry empty(int type) throws ParseException {
+        return switch (type) {
+            case TwkbWriter.POINT -> geometryFactory.createPoint();
+            case TwkbWriter.LINESTRING -> geometryFactory.createLineString();
+            case TwkbWriter.POLYGON -> geometryFactory.createPolygon();
+            case TwkbWriter.MULTIPOINT -> geometryFactory.createMultiPoint();
+            case TwkbWriter.MULTILINESTRING -> geometryFactory.createMultiLineString();
+            case TwkbWriter.MULTIPOLYGON -> geometryFactory.createMultiPolygon();
+            case TwkbWriter.GEOMETRYCOLLECTION -> geometryFactory.createGeometryCollection();
+            default -> throw new ParseException(String.format(Messages.UNSUPPORTED_GEOMETRY_TYPE, "TWKB type " + type));
+        };
+    }
+
+    static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static long readUnsigned(ByteBuffer in) throws ParseException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new ParseException(Messages.TWKB_TRUNCATED);
+    }
+
+    // The delta chain of one geometry: every part continues from the last vertex of the previous part
+    private final class Ordinates {
+
+        private final long[] previous;
+        private final int precision;
+        private final double factor;
+
+        // Dividing by 10^precision (or multiplying for negative precision) keeps decimal values exact
+        private Ordinates(int dimensions, int precision) {
+            this.previous = new long[dimensions];
+            this.precision = precision;
+            this.factor = Math.pow(10, Math.abs(precision));
+        }
+
+        private double value(long ordinate) {
+            return precision >= 0 ? ordinate / factor : ordinate * factor;
+        }
+
+        private CoordinateSequence read(ByteBuffer in, int size) throws ParseException {
+            CoordinateSequence sequence = geometryFactory.getCoordinateSequenceFactory().create(size, 2);
+            for (int i = 0; i < size; i++) {
+                for (int dimension = 0; dimension < previous.length; dimension++) {
+                    previous[dimension] += unzigzag(readUnsigned(in));
+                }
+                sequence.setOrdinate(i, CoordinateSequence.X, value(previous[0]));
+                sequence.setOrdinate(i, CoordinateSequence.Y, value(previous[1]));
+            }
+            return sequence;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.github.souzafcharles.api.wkb;
+
+import com.github.souzafcharles.api.utils.Messages;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryCollection;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPoint;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Encodes 2D geometries as Tiny WKB (TWKB 1.0). Ordinates are scaled by 10^precision and rounded to
+ * integers, and each vertex is written as the zigzag varint delta from the previous vertex of the
+ * same geometry, so nearby vertices take one or two bytes per ordinate. An optional bounding box
+ * header lets clients filter without decoding the coordinates.
+ */
+public class TwkbWriter {
+
+    public static final int MAX_PRECISION = 7;
+    static final int POINT = 1;
+    static final int LINESTRING = 2;
+    static final int POLYGON = 3;
+    static final int MULTIPOINT = 4;
+    static final int MULTILINESTRING = 5;
+    static final int MULTIPOLYGON = 6;
+    static final int GEOMETRYCOLLECTION = 7;
+    // Metadata header flags
+    static final int BBOX = 0x01;
+    static final int SIZE = 0x02;
+    static final int ID_LIST = 0x04;
+    static final int EXTENDED_DIMENSIONS = 0x08;
+    static final int EMPTY = 0x10;
+
+    private final int precision;
+    private final double scale;
+    private final boolean includeBbox;
+
+    public TwkbWriter(int precision, boolean includeBbox) {
+        if (precision < -MAX_PRECISION || precision > MAX_PRECISION) {
+            throw new IllegalArgumentException(String.format(Messages.INVALID_TWKB_PRECISION, MAX_PRECISION, precision));
+        }
+        this.precision = precision;
+        this.scale = Math.pow(10, precision);
+        this.includeBbox = includeBbox;
+    }
+
+    public byte[] write(Geometry geometry) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 + 2 * geometry.getNumPoints());
+        writeGeometry(geometry, out);
+        return out.toByteArray();
+    }
+
+    // Collection members are complete TWKB geometries, each with its own header and delta chain
+    private void writeGeometry(Geometry geometry, ByteArrayOutputStream out) {
+        out.write((int) zigzag(precision) << 4 | typeOf(geometry));
+        if (geometry.isEmpty()) {
+            out.write(EMPTY);
+            return;
+        }
+        out.write(includeBbox ? BBOX : 0);
+        if (includeBbox) {
+            writeBbox(geometry.getEnvelopeInternal(), out);
+        }
+        long[] previous = new long[2];
+        switch (geometry) {
+            case Point point -> writeCoordinates(point.getCoordinateSequence(), previous, out);
+            case LineString lineString -> writeLine(lineString, previous, out);
+            case Polygon polygon -> writePolygon(polygon, previous, out);
+            case MultiPoint multiPoint -> {
+                // Empty points have no coordinates to delta against, so they are left out
+                writeUnsigned(multiPoint.getNumPoints(), out);
+                for (int i = 0; i < multiPoint.getNumGeometries(); i++) {
+                    writeCoordinates(((Point) multiPoint.getGeometryN(i)).getCoordinateSequence(), previous, out);
+                }
+            }
+            case MultiLineString multiLineString -> {
+                writeUnsigned(multiLineString.getNumGeometries(), out);
+                for (int i = 0; i < multiLineString.getNumGeometries(); i++) {
+                    writeLine((LineString) multiLineString.getGeometryN(i), previous, out);
+                }
+            }
+            case MultiPolygon multiPolygon -> {
+                writeUnsigned(multiPolygon.getNumGeometries(), out);
+                for (int i = 0; i < multiPolygon.getNumGeometries(); i++) {
+                    writePolygon((Polygon) multiPolygon.getGeometryN(i), previous, out);
+                }
+            }
+            case GeometryCollection collection -> {
+                writeUnsigned(collection.getNumGeometries(), out);
+                for (int i = 0; i < collection.getNumGeometries(); i++) {
+                    writeGeometry(collection.getGeometryN(i), out);
+                }
+            }
+            default -> throw new IllegalArgumentException(String.format(Messages.UNSUPPORTED_GEOMETRY_TYPE, geometry.getGeometryType()));
+        }
+    }
+
+    private void writeLine(LineString lineString, long[] previous, ByteArrayOutputStream out) {
+        writeUnsigned(lineString.getNumPoints(), out);
+        writeCoordinates(lineString.getCoordinateSequence(), previous, out);
+    }
+
+    private void writePolygon(Polygon polygon, long[] previous, ByteArrayOutputStream out) {
+        if (polygon.isEmpty()) {
+            writeUnsigned(0, out);
+            return;
+        }
+        writeUnsigned(1 + polygon.getNumInteriorRing(), out);
+        writeLine(polygon.getExteriorRing(), previous, out);
+        for (int i = 0; i < polygon.getNumInteriorRing(); i++) {
+            writeLine(polygon.getInteriorRingN(i), previous, out);
+        }
+    }
+
+    // Ordinates are read straight from the sequence, as in GeometrySerializer
+    private void writeCoordinates(CoordinateSequence sequence, long[] previous, ByteArrayOutputStream out) {
+        for (int i = 0; i < sequence.size(); i++) {
+            long x = Math.round(sequence.getX(i) * scale);
+            long y = Math.round(sequence.getY(i) * scale);
+            writeSigned(x - previous[0], out);
+            writeSigned(y - previous[1], out);
+            previous[0] = x;
+            previous[1] = y;
+        }
+    }
+
+    // Rounding is monotonic, so the rounded envelope bounds the rounded vertices exactly
+    private void writeBbox(Envelope envelope, ByteArrayOutputStream out) {
+        long minX = Math.round(envelope.getMinX() * scale);
+        long minY = Math.round(envelope.getMinY() * scale);
+        writeSigned(minX, out);
+        writeSigned(Math.round(envelope.getMaxX() * scale) - minX, out);
+        writeSigned(minY, out);
+        writeSigned(Math.round(envelope.getMaxY() * scale) - minY, out);
+    }
+
+    private static int typeOf(Geometry geometry) {
+        return switch (geometry) {
+            case Point ignored -> POINT;
+            case LineString ignored -> LINESTRING;
+            case Polygon ignored -> POLYGON;
+            case MultiPoint ignored -> MULTIPOINT;
+            case MultiLineString ignored -> MULTILINESTRING;
+            case MultiPolygon ignored -> MULTIPOLYGON;
+            case GeometryCollection ignored -> GEOMETRYCOLLECTION;
+            default -> throw new IllegalArgumentException(String.format(Messages.UNSUPPORTED_GEOMETRY_TYPE, geometry.getGeometryType()));
+        };
+    }
+
+    static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static void writeSigned(long value, ByteArrayOutputStream out) {
+        writeUnsigned(zigzag(value), out);
+    }
+
+    // Little-endian base-128 varint: seven bits per byte, high bit set while more bytes follow
+    static void writeUnsigned(long value, ByteArrayOutputStream out) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+}
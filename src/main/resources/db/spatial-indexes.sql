@@ -0,0 +1,17 @@
+-- GiST indexes for the bounding-box (&&) and distance (<->) operators.
+-- Runs after Hibernate has created or updated the spatialdata table.
+CREATE INDEX IF NOT EXISTS idx_spatialdata_point_gist ON spatialdata USING GIST (point);
+CREATE INDEX IF NOT EXISTS idx_spatialdata_multipoint_gist ON spatialdata USING GIST (multipoint);
+CREATE INDEX IF NOT EXISTS idx_spatialdata_linestring_gist ON spatialdata USING GIST (linestring);
+CREATE INDEX IF NOT EXISTS idx_spatialdata_multilinestring_gist ON spatialdata USING GIST (multilinestring);
+CREATE INDEX IF NOT EXISTS idx_spatialdata_polygon_gist ON spatialdata USING GIST (polygon);
+CREATE INDEX IF NOT EXISTS idx_spatialdata_multipolygon_gist ON spatialdata USING GIST (multipolygon);
+
+-- Functional GiST indexes on the geography cast, used by ST_DWithin radius searches in metres.
+-- The indexed expression must match the query's "<column>::geography" exactly.
+CREATE INDEX IF NOT EXISTS idx_spatialdata_point_geog_gist ON spatialdata USING GIST ((point::geography));
+CREATE INDEX IF NOT EXISTS idx_spatialdata_multipoint_geog_gist ON spatialdata USING GIST ((multipoint::geography));
+CREATE INDEX IF NOT EXISTS idx_spatialdata_linestring_geog_gist ON spatialdata USING GIST ((linestring::geography));
+CREATE INDEX IF NOT EXISTS idx_spatialdata_multilinestring_geog_gist ON spatialdata USING GIST ((multilinestring::geography));
+CREATE INDEX IF NOT EXISTS idx_spatialdata_polygon_geog_gist ON spatialdata USING GIST ((polygon::geography));
+CREATE INDEX IF NOT EXISTS idx_spatialdata_multipolygon_geog_gist ON spatialdata USING GIST ((multipolygon::geography));
@@ -0,0 +1,3 @@
+-- spatial_seq must advance by the entity's allocationSize (50) for the pooled-lo optimizer.
+-- Databases created before batching used INCREMENT BY 1; Hibernate falls back to that size until this has run.
+ALTER SEQUENCE IF EXISTS spatial_seq INCREMENT BY 50;
@@ -1,11 +1,13 @@
 package com.github.souzafcharles.api.advice;
 
+import com.github.souzafcharles.api.exception.IngestQueueFullException;
 import com.github.souzafcharles.api.utils.Messages;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -28,6 +30,23 @@ class GlobalExceptionHandlerTest {
     private final GlobalExceptionHandler exceptionHandler = new GlobalExceptionHandler();
     private final DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
+    // ------------------------------------------------------------
+    // TEST: IngestQueueFullException
+    // ------------------------------------------------------------
+    @Test
+    void handleIngestQueueFull_ShouldReturnTooManyRequestsWithRetryAfter() {
+        // Arrange
+        IngestQueueFullException ex = new IngestQueueFullException(5);
+
+        // Act
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response = exceptionHandler.handleIngestQueueFull(ex);
+
+        // Assert
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("5", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(Messages.INGEST_QUEUE_FULL, response.getBody().message());
+    }
+
     // ------------------------------------------------------------
     // TEST: EntityNotFoundException
     // ------------------------------------------------------------
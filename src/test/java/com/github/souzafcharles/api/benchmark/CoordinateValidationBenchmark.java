@@ -0,0 +1,95 @@
+package com.github.souzafcharles.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.souzafcharles.api.model.dto.SpatialDataSerializerRequestDTO;
+import com.github.souzafcharles.api.utils.Messages;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.Size;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares validating a large multipolygon with the nested type-argument @Size annotations the
+ * serializer DTO used to carry against the single-pass @ValidCoordinates class-level validator.
+ * Both requests are bound once in setup, so only validation is measured. Run with {@code main}
+ * from the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CoordinateValidationBenchmark {
+
+    @Param({"1000", "50000"})
+    private int vertices;
+
+    private ValidatorFactory validatorFactory;
+    private Validator validator;
+    private NestedSizeRequest nestedSizeRequest;
+    private SpatialDataSerializerRequestDTO singlePassRequest;
+
+    // The multipolygon field as it was declared before the class-level validator
+    public record NestedSizeRequest(
+            List<List<@Size(min = 4, message = Messages.POLYGON_COORDINATES_INVALID) List<@Size(min = 2, max = 2, message = Messages.POINT_COORDINATES_INVALID) List<Double>>>> multipolygon
+    ) {}
+
+    @Setup
+    public void setUp() throws IOException {
+        int parts = 10;
+        int perPart = vertices / parts;
+        StringBuilder json = new StringBuilder("{\"multipolygon\":[");
+        for (int part = 0; part < parts; part++) {
+            json.append(part == 0 ? "[[" : ",[[");
+            for (int i = 0; i < perPart; i++) {
+                double angle = 2 * Math.PI * i / perPart;
+                json.append('[').append(part + 0.4 * Math.cos(angle)).append(',')
+                        .append(0.4 * Math.sin(angle)).append("],");
+            }
+            // Close the ring with an exact copy of the first vertex
+            json.append('[').append(part + 0.4).append(",0.0]]]");
+        }
+        byte[] requestJson = json.append("]}").toString().getBytes();
+        ObjectMapper objectMapper = new ObjectMapper();
+        nestedSizeRequest = objectMapper.readValue(requestJson, NestedSizeRequest.class);
+        singlePassRequest = objectMapper.readValue(requestJson, SpatialDataSerializerRequestDTO.class);
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<NestedSizeRequest>> nestedSizeAnnotations() {
+        return validator.validate(nestedSizeRequest);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<SpatialDataSerializerRequestDTO>> singlePassValidator() {
+        return validator.validate(singlePassRequest);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(CoordinateValidationBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
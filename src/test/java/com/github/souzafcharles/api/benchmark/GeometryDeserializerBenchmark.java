@@ -0,0 +1,76 @@
+package com.github.souzafcharles.api.benchmark;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.souzafcharles.api.config.GeometryConfig;
+import com.github.souzafcharles.api.config.JacksonConfig;
+import com.github.souzafcharles.api.json.GeometryDeserializer;
+import com.github.souzafcharles.api.json.GeometrySerializer;
+import org.locationtech.jts.geom.Geometry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the JsonNode tree path of {@link GeometryDeserializer} with the token streaming path
+ * on large polygon shells. Run with {@code main} from the test classpath; the GC profiler reports
+ * allocated bytes per operation next to the timings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeometryDeserializerBenchmark {
+
+    @Param({"1000", "200000"})
+    private int vertices;
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper(
+            GeometryConfig.packedGeometryFactory(GeometryConfig.CoordinateStorage.DOUBLE), GeometrySerializer.FULL_PRECISION);
+    private final GeometryDeserializer treeDeserializer = new GeometryDeserializer(GeometryDeserializer.Mode.TREE);
+    private final GeometryDeserializer streamingDeserializer = new GeometryDeserializer(GeometryDeserializer.Mode.STREAMING);
+    private byte[] polygonJson;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("{\"type\":\"Polygon\",\"coordinates\":[[");
+        for (int i = 0; i < vertices; i++) {
+            double angle = 2 * Math.PI * i / vertices;
+            json.append('[').append(-46.57 + 0.05 * Math.cos(angle)).append(',')
+                    .append(-22.59 + 0.05 * Math.sin(angle)).append("],");
+        }
+        // Close the ring with an exact copy of the first vertex
+        json.append('[').append(-46.57 + 0.05).append(',').append(-22.59).append("]]]}");
+        polygonJson = json.toString().getBytes();
+    }
+
+    @Benchmark
+    public Geometry tree() throws IOException {
+        try (JsonParser parser = objectMapper.createParser(polygonJson)) {
+            return treeDeserializer.deserialize(parser, null);
+        }
+    }
+
+    @Benchmark
+    public Geometry streaming() throws IOException {
+        try (JsonParser parser = objectMapper.createParser(polygonJson)) {
+            return streamingDeserializer.deserialize(parser, null);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(GeometryDeserializerBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
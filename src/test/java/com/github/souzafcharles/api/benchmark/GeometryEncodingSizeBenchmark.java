@@ -0,0 +1,164 @@
+package com.github.souzafcharles.api.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.souzafcharles.api.config.GeometryConfig;
+import com.github.souzafcharles.api.config.JacksonConfig;
+import com.github.souzafcharles.api.wkb.TwkbWriter;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.io.ByteOrderValues;
+import org.locationtech.jts.io.WKBWriter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares GeoJSON (7 decimal places), EWKB and TWKB (precision 7) for a GPS-like track, a block
+ * of small parcels and a smooth ring. main() prints the payload sizes before running; pass
+ * -Dgeojson=path/to/collection.geojson to add a real FeatureCollection to the size table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeometryEncodingSizeBenchmark {
+
+    private static final int PRECISION = 7;
+    private static final GeometryFactory GEOMETRY_FACTORY = GeometryConfig.packedGeometryFactory(GeometryConfig.CoordinateStorage.DOUBLE);
+
+    @Param({"track", "parcels", "ring"})
+    private String dataset;
+
+    @Param({"geojson", "wkb", "twkb"})
+    private String encoding;
+
+    private Geometry geometry;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        geometry = dataset(dataset);
+        objectMapper = new JacksonConfig().objectMapper(GEOMETRY_FACTORY, PRECISION);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        return encode(geometry, encoding, objectMapper);
+    }
+
+    private static byte[] encode(Geometry geometry, String encoding, ObjectMapper objectMapper) throws IOException {
+        return switch (encoding) {
+            case "geojson" -> objectMapper.writeValueAsBytes(geometry);
+            case "wkb" -> new WKBWriter(2, ByteOrderValues.BIG_ENDIAN, true).write(geometry);
+            case "twkb" -> new TwkbWriter(PRECISION, false).write(geometry);
+            default -> throw new IllegalArgumentException(encoding);
+        };
+    }
+
+    private static Geometry dataset(String name) {
+        return switch (name) {
+            case "track" -> track(100_000);
+            case "parcels" -> parcels(100);
+            case "ring" -> ring(100_000);
+            default -> throw new IllegalArgumentException(name);
+        };
+    }
+
+    // A random walk with steps of a few metres, like a GPS trace sampled every second
+    private static Geometry track(int vertices) {
+        Random random = new Random(42);
+        CoordinateSequence sequence = GEOMETRY_FACTORY.getCoordinateSequenceFactory().create(vertices, 2);
+        double x = -46.57;
+        double y = -22.59;
+        for (int i = 0; i < vertices; i++) {
+            x += (random.nextDouble() - 0.5) * 1e-4;
+            y += (random.nextDouble() - 0.5) * 1e-4;
+            sequence.setOrdinate(i, CoordinateSequence.X, x);
+            sequence.setOrdinate(i, CoordinateSequence.Y, y);
+        }
+        return GEOMETRY_FACTORY.createLineString(sequence);
+    }
+
+    // A side x side block of roughly 20 m parcels
+    private static Geometry parcels(int side) {
+        double size = 2e-4;
+        Polygon[] polygons = new Polygon[side * side];
+        for (int row = 0; row < side; row++) {
+            for (int column = 0; column < side; column++) {
+                double x = -46.57 + column * size;
+                double y = -22.59 + row * size;
+                polygons[row * side + column] = GEOMETRY_FACTORY.createPolygon(new Coordinate[]{
+                        new Coordinate(x, y), new Coordinate(x + size, y), new Coordinate(x + size, y + size),
+                        new Coordinate(x, y + size), new Coordinate(x, y)});
+            }
+        }
+        return GEOMETRY_FACTORY.createMultiPolygon(polygons);
+    }
+
+    // Same ring as GeometrySerializerBenchmark
+    private static Geometry ring(int vertices) {
+        CoordinateSequence shell = GEOMETRY_FACTORY.getCoordinateSequenceFactory().create(vertices + 1, 2);
+        for (int i = 0; i < vertices; i++) {
+            double angle = 2 * Math.PI * i / vertices;
+            shell.setOrdinate(i, CoordinateSequence.X, -46.57 + 0.05 * Math.cos(angle));
+            shell.setOrdinate(i, CoordinateSequence.Y, -22.59 + 0.05 * Math.sin(angle));
+        }
+        shell.setOrdinate(vertices, CoordinateSequence.X, shell.getX(0));
+        shell.setOrdinate(vertices, CoordinateSequence.Y, shell.getY(0));
+        return GEOMETRY_FACTORY.createPolygon(shell);
+    }
+
+    // Feature geometries of a GeoJSON FeatureCollection, as one GeometryCollection
+    private static Geometry featureCollection(Path path, ObjectMapper objectMapper) throws IOException {
+        List<Geometry> geometries = new ArrayList<>();
+        for (JsonNode feature : objectMapper.readTree(path.toFile()).path("features")) {
+            if (feature.hasNonNull("geometry")) {
+                geometries.add(objectMapper.treeToValue(feature.get("geometry"), Geometry.class));
+            }
+        }
+        return GEOMETRY_FACTORY.createGeometryCollection(geometries.toArray(Geometry[]::new));
+    }
+
+    private static void printSizes() throws IOException {
+        ObjectMapper objectMapper = new JacksonConfig().objectMapper(GEOMETRY_FACTORY, PRECISION);
+        List<String> names = new ArrayList<>(List.of("track", "parcels", "ring"));
+        String file = System.getProperty("geojson");
+        if (file != null) {
+            names.add(file);
+        }
+        System.out.printf("%-24s %10s %14s %14s %14s %8s%n", "dataset", "vertices", "geojson", "wkb", "twkb", "twkb/wkb");
+        for (String name : names) {
+            Geometry geometry = name.equals(file) ? featureCollection(Path.of(file), objectMapper) : dataset(name);
+            int geoJson = encode(geometry, "geojson", objectMapper).length;
+            int wkb = encode(geometry, "wkb", objectMapper).length;
+            int twkb = encode(geometry, "twkb", objectMapper).length;
+            System.out.printf("%-24s %10d %14d %14d %14d %8.2f%n",
+                    Path.of(name).getFileName(), geometry.getNumPoints(), geoJson, wkb, twkb, (double) twkb / wkb);
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        printSizes();
+        Options options = new OptionsBuilder()
+                .include(GeometryEncodingSizeBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
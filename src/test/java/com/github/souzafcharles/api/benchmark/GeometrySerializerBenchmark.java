@@ -0,0 +1,67 @@
+package com.github.souzafcharles.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.souzafcharles.api.config.GeometryConfig;
+import com.github.souzafcharles.api.config.JacksonConfig;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Polygon;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures GeoJSON serialization of a large polygon at full double precision versus the fixed
+ * precision writer. The returned byte[] length shows the payload size difference.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeometrySerializerBenchmark {
+
+    @Param({"-1", "6", "7"})
+    private int coordinatePrecision;
+
+    @Param({"200000"})
+    private int vertices;
+
+    private ObjectMapper objectMapper;
+    private Polygon polygon;
+
+    @Setup
+    public void setUp() {
+        GeometryFactory geometryFactory = GeometryConfig.packedGeometryFactory(GeometryConfig.CoordinateStorage.DOUBLE);
+        objectMapper = new JacksonConfig().objectMapper(geometryFactory, coordinatePrecision);
+        CoordinateSequence shell = geometryFactory.getCoordinateSequenceFactory().create(vertices + 1, 2);
+        for (int i = 0; i < vertices; i++) {
+            double angle = 2 * Math.PI * i / vertices;
+            shell.setOrdinate(i, CoordinateSequence.X, -46.57 + 0.05 * Math.cos(angle));
+            shell.setOrdinate(i, CoordinateSequence.Y, -22.59 + 0.05 * Math.sin(angle));
+        }
+        shell.setOrdinate(vertices, CoordinateSequence.X, shell.getX(0));
+        shell.setOrdinate(vertices, CoordinateSequence.Y, shell.getY(0));
+        polygon = geometryFactory.createPolygon(shell);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(polygon);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(GeometrySerializerBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
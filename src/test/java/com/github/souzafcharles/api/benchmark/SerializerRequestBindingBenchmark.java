@@ -0,0 +1,72 @@
+package com.github.souzafcharles.api.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.souzafcharles.api.model.dto.SpatialDataSerializerRequestDTO;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares binding a serializer-format multipolygon into nested List&lt;Double&gt; values, as the
+ * DTO used to declare it, with binding into the flat CoordinateArray it declares now. Run with
+ * {@code main} from the test classpath; the GC profiler reports allocated bytes per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializerRequestBindingBenchmark {
+
+    @Param({"1000", "50000"})
+    private int vertices;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private byte[] requestJson;
+
+    // The previous shape of the multipolygon field
+    public record NestedListRequest(List<List<List<List<Double>>>> multipolygon) {}
+
+    @Setup
+    public void setUp() {
+        int parts = 10;
+        int perPart = vertices / parts;
+        StringBuilder json = new StringBuilder("{\"multipolygon\":[");
+        for (int part = 0; part < parts; part++) {
+            json.append(part == 0 ? "[[" : ",[[");
+            for (int i = 0; i < perPart; i++) {
+                double angle = 2 * Math.PI * i / perPart;
+                json.append('[').append(part + 0.4 * Math.cos(angle)).append(',')
+                        .append(0.4 * Math.sin(angle)).append("],");
+            }
+            json.append('[').append(part + 0.4).append(",0.0]]]");
+        }
+        requestJson = json.append("]}").toString().getBytes();
+    }
+
+    @Benchmark
+    public NestedListRequest nestedLists() throws IOException {
+        return objectMapper.readValue(requestJson, NestedListRequest.class);
+    }
+
+    @Benchmark
+    public SpatialDataSerializerRequestDTO coordinateArray() throws IOException {
+        return objectMapper.readValue(requestJson, SpatialDataSerializerRequestDTO.class);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(SerializerRequestBindingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
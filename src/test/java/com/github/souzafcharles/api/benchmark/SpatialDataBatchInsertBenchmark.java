@@ -0,0 +1,92 @@
+package com.github.souzafcharles.api.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares insert throughput of the single-row serializer endpoint with POST /batch against a
+ * running application (start it with the default profile and point baseUrl at it). Scores are
+ * rows per second: each batch invocation counts as batchSize operations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class SpatialDataBatchInsertBenchmark {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Param({"http://localhost:8080"})
+    private String baseUrl;
+
+    private HttpClient client;
+    private HttpRequest singleRequest;
+    private HttpRequest batchRequest;
+
+    @Setup
+    public void setUp() {
+        client = HttpClient.newHttpClient();
+        singleRequest = post("/api/spatial-data/serializer", item(0));
+        StringJoiner items = new StringJoiner(",", "{\"serializer\":[", "]}");
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            items.add(item(i));
+        }
+        batchRequest = post("/api/spatial-data/batch", items.toString());
+    }
+
+    @Benchmark
+    public int singleRow() throws IOException, InterruptedException {
+        return send(singleRequest);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public int batch() throws IOException, InterruptedException {
+        return send(batchRequest);
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+
+    private HttpRequest post(String path, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    // A point plus a short line string around Socorro-SP, shifted per item
+    private String item(int i) {
+        double x = -46.57 + i * 1e-5;
+        double y = -22.59 + i * 1e-5;
+        return String.format(Locale.ROOT,
+                "{\"point\":[%1$.6f,%2$.6f],\"linestring\":[[%1$.6f,%2$.6f],[%3$.6f,%4$.6f]]}",
+                x, y, x + 0.01, y + 0.01);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(SpatialDataBatchInsertBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
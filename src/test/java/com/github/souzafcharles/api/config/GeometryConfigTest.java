@@ -0,0 +1,113 @@
+package com.github.souzafcharles.api.config;
+
+import com.github.souzafcharles.api.utils.Messages;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequenceFactory;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeometryConfigTest {
+
+    private final GeometryConfig geometryConfig = new GeometryConfig();
+
+    // ------------------------------------------------------------
+    // TEST: Double Storage
+    // ------------------------------------------------------------
+    @Test
+    void geometryFactory_WhenDoubleStorage_ShouldUsePackedDoubleSequences() {
+        // Arrange & Act
+        GeometryFactory geometryFactory = geometryConfig.geometryFactory(GeometryConfig.CoordinateStorage.DOUBLE, GeometryConfig.FLOATING_PRECISION);
+        LineString lineString = geometryFactory.createLineString(
+                new Coordinate[]{new Coordinate(1.123456789, 2.0), new Coordinate(3.0, 4.0)});
+
+        // Assert
+        assertEquals(GeometryConfig.SRID, geometryFactory.getSRID());
+        assertSame(PackedCoordinateSequenceFactory.DOUBLE_FACTORY, geometryFactory.getCoordinateSequenceFactory());
+        assertInstanceOf(PackedCoordinateSequence.Double.class, lineString.getCoordinateSequence());
+        assertEquals(1.123456789, lineString.getCoordinateN(0).x);
+        assertTrue(geometryFactory.getPrecisionModel().isFloating());
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Fixed Precision Model
+    // ------------------------------------------------------------
+    @Test
+    void geometryFactory_WhenPrecisionScaleSet_ShouldUseFixedPrecisionModel() {
+        // Arrange & Act
+        GeometryFactory geometryFactory = geometryConfig.geometryFactory(GeometryConfig.CoordinateStorage.DOUBLE, 1e7);
+
+        // Assert
+        assertEquals(PrecisionModel.FIXED, geometryFactory.getPrecisionModel().getType());
+        assertEquals(1e7, geometryFactory.getPrecisionModel().getScale());
+        assertSame(PackedCoordinateSequenceFactory.DOUBLE_FACTORY, geometryFactory.getCoordinateSequenceFactory());
+    }
+
+    @Test
+    void geometryFactory_WhenPrecisionScaleNegative_ShouldThrowException() {
+        // Arrange & Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> geometryConfig.geometryFactory(GeometryConfig.CoordinateStorage.DOUBLE, -1));
+
+        // Assert
+        assertEquals(String.format(Messages.INVALID_PRECISION_SCALE, -1.0), exception.getMessage());
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Float Storage
+    // ------------------------------------------------------------
+    @Test
+    void geometryFactory_WhenFloatStorage_ShouldUsePackedFloatSequences() {
+        // Arrange & Act
+        GeometryFactory geometryFactory = geometryConfig.geometryFactory(GeometryConfig.CoordinateStorage.FLOAT, GeometryConfig.FLOATING_PRECISION);
+        LineString lineString = geometryFactory.createLineString(
+                new Coordinate[]{new Coordinate(1.5, 2.5), new Coordinate(3.0, 4.0)});
+
+        // Assert
+        assertSame(PackedCoordinateSequenceFactory.FLOAT_FACTORY, geometryFactory.getCoordinateSequenceFactory());
+        assertInstanceOf(PackedCoordinateSequence.Float.class, lineString.getCoordinateSequence());
+        assertEquals(2.5, lineString.getCoordinateN(0).y);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Bean Annotation Present
+    // ------------------------------------------------------------
+    @Test
+    void geometryFactoryMethod_ShouldHaveBeanAnnotation() throws NoSuchMethodException {
+        // Arrange & Act
+        var method = GeometryConfig.class.getMethod("geometryFactory", GeometryConfig.CoordinateStorage.class, double.class);
+
+        // Assert
+        assertTrue(method.isAnnotationPresent(org.springframework.context.annotation.Bean.class));
+        assertTrue(GeometryConfig.class.isAnnotationPresent(org.springframework.context.annotation.Configuration.class));
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Geometry Construction Pool
+    // ------------------------------------------------------------
+    @Test
+    void geometryConstructionPool_WhenParallelismSet_ShouldUseIt() {
+        // Arrange & Act
+        ForkJoinPool pool = geometryConfig.geometryConstructionPool(3);
+
+        // Assert
+        assertEquals(3, pool.getParallelism());
+        pool.shutdown();
+    }
+
+    @Test
+    void geometryConstructionPool_WhenParallelismZero_ShouldUseAvailableProcessors() {
+        // Arrange & Act
+        ForkJoinPool pool = geometryConfig.geometryConstructionPool(0);
+
+        // Assert
+        assertEquals(Runtime.getRuntime().availableProcessors(), pool.getParallelism());
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,36 @@
+package com.github.souzafcharles.api.config;
+
+import com.github.souzafcharles.api.wkb.SpatialDataTwkbHttpMessageConverter;
+import com.github.souzafcharles.api.wkb.SpatialDataWkbHttpMessageConverter;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpMessageConverterConfigTest {
+
+    private final HttpMessageConverterConfig config = new HttpMessageConverterConfig(
+            GeometryConfig.packedGeometryFactory(GeometryConfig.CoordinateStorage.DOUBLE), 7, false);
+
+    // ------------------------------------------------------------
+    // TEST: Converter Registration
+    // ------------------------------------------------------------
+    @Test
+    void extendMessageConverters_ShouldAppendBinaryConvertersAfterJson() {
+        // Arrange
+        List<HttpMessageConverter<?>> converters = new ArrayList<>(List.of(new MappingJackson2HttpMessageConverter()));
+
+        // Act
+        config.extendMessageConverters(converters);
+
+        // Assert
+        assertEquals(3, converters.size());
+        assertInstanceOf(MappingJackson2HttpMessageConverter.class, converters.get(0));
+        assertInstanceOf(SpatialDataWkbHttpMessageConverter.class, converters.get(1));
+        assertInstanceOf(SpatialDataTwkbHttpMessageConverter.class, converters.get(2));
+    }
+}
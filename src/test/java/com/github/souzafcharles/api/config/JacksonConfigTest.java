@@ -2,12 +2,15 @@ package com.github.souzafcharles.api.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class JacksonConfigTest {
 
     private final JacksonConfig jacksonConfig = new JacksonConfig();
+    private final GeometryFactory geometryFactory = GeometryConfig.packedGeometryFactory(GeometryConfig.CoordinateStorage.DOUBLE);
 
     // ------------------------------------------------------------
     // TEST: ObjectMapper Bean Creation
@@ -15,7 +18,7 @@ class JacksonConfigTest {
     @Test
     void objectMapper_WhenCreated_ShouldNotBeNull() {
         // Arrange & Act
-        ObjectMapper objectMapper = jacksonConfig.objectMapper();
+        ObjectMapper objectMapper = jacksonConfig.objectMapper(geometryFactory, 7);
 
         // Assert
         assertNotNull(objectMapper);
@@ -27,7 +30,7 @@ class JacksonConfigTest {
     @Test
     void objectMapper_WhenCreated_ShouldHaveCustomModule() {
         // Arrange & Act
-        ObjectMapper objectMapper = jacksonConfig.objectMapper();
+        ObjectMapper objectMapper = jacksonConfig.objectMapper(geometryFactory, 7);
 
         // Assert
         assertNotNull(objectMapper);
@@ -43,7 +46,7 @@ class JacksonConfigTest {
     @Test
     void objectMapper_WhenCreated_ShouldBeProperlyConfigured() {
         // Arrange & Act
-        ObjectMapper objectMapper = jacksonConfig.objectMapper();
+        ObjectMapper objectMapper = jacksonConfig.objectMapper(geometryFactory, 7);
 
         // Assert
         assertNotNull(objectMapper);
@@ -70,7 +73,7 @@ class JacksonConfigTest {
     @Test
     void objectMapper_ShouldRegisterCustomModule() {
         // Arrange
-        ObjectMapper objectMapper = jacksonConfig.objectMapper();
+        ObjectMapper objectMapper = jacksonConfig.objectMapper(geometryFactory, 7);
 
         // Act
         int moduleCount = objectMapper.getRegisteredModuleIds().size();
@@ -85,7 +88,7 @@ class JacksonConfigTest {
     @Test
     void objectMapper_ShouldReturnCorrectType() {
         // Arrange & Act
-        ObjectMapper objectMapper = jacksonConfig.objectMapper();
+        ObjectMapper objectMapper = jacksonConfig.objectMapper(geometryFactory, 7);
 
         // Assert
         assertInstanceOf(ObjectMapper.class, objectMapper, "Should return ObjectMapper instance");
@@ -110,7 +113,7 @@ class JacksonConfigTest {
     @Test
     void objectMapperMethod_ShouldHaveBeanAnnotation() throws NoSuchMethodException {
         // Arrange & Act
-        var method = JacksonConfig.class.getMethod("objectMapper");
+        var method = JacksonConfig.class.getMethod("objectMapper", GeometryFactory.class, int.class);
         boolean hasBeanAnnotation = method.isAnnotationPresent(org.springframework.context.annotation.Bean.class);
 
         // Assert
@@ -123,7 +126,7 @@ class JacksonConfigTest {
     @Test
     void objectMapper_ShouldSerializeAndDeserializeBasicJson() throws Exception {
         // Arrange
-        ObjectMapper objectMapper = jacksonConfig.objectMapper();
+        ObjectMapper objectMapper = jacksonConfig.objectMapper(geometryFactory, 7);
         TestObject original = new TestObject("test value");
 
         // Act
@@ -136,6 +139,23 @@ class JacksonConfigTest {
         assertEquals(original.value, deserialized.value);
     }
 
+    // ------------------------------------------------------------
+    // TEST: Geometry Module Round Trip With Coordinate Precision
+    // ------------------------------------------------------------
+    @Test
+    void objectMapper_ShouldWriteGeometriesWithConfiguredPrecision() throws Exception {
+        // Arrange
+        ObjectMapper objectMapper = jacksonConfig.objectMapper(geometryFactory, 6);
+        String input = "{\"type\":\"Point\",\"coordinates\":[-46.57923612345,-22.5933654999]}";
+
+        // Act
+        Geometry geometry = objectMapper.readValue(input, Geometry.class);
+        String json = objectMapper.writeValueAsString(geometry);
+
+        // Assert
+        assertEquals("{\"type\":\"Point\",\"coordinates\":[-46.579236,-22.593365]}", json);
+    }
+
     // ------------------------------------------------------------
     // Helper class for testing basic serialization
     // ------------------------------------------------------------
@@ -0,0 +1,115 @@
+package com.github.souzafcharles.api.config;
+
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.souzafcharles.api.model.entity.SpatialData;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.entry.CacheEntry;
+import org.hibernate.cache.spi.support.AbstractReadWriteAccess;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SecondLevelCacheConfigTest {
+
+    private final SecondLevelCacheConfig secondLevelCacheConfig = new SecondLevelCacheConfig();
+    private final GeometryFactory geometryFactory = GeometryConfig.packedGeometryFactory(GeometryConfig.CoordinateStorage.DOUBLE);
+    private final SpatialDataCacheWeigher weigher = new SpatialDataCacheWeigher();
+
+    private CacheEntry cacheEntry(Serializable... state) {
+        CacheEntry entry = mock(CacheEntry.class);
+        when(entry.getDisassembledState()).thenReturn(state);
+        return entry;
+    }
+
+    private LineString lineString(int vertices) {
+        Coordinate[] coordinates = new Coordinate[vertices];
+        for (int i = 0; i < vertices; i++) {
+            coordinates[i] = new Coordinate(i, i);
+        }
+        return geometryFactory.createLineString(coordinates);
+    }
+
+    private Policy.Eviction<?, ?> eviction(Cache<Object, Object> cache) {
+        com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine = cache.unwrap(com.github.benmanes.caffeine.cache.Cache.class);
+        caffeine.cleanUp();
+        return caffeine.policy().eviction().orElseThrow();
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Cache Manager
+    // ------------------------------------------------------------
+    @Test
+    void secondLevelCacheManager_ShouldCreateWeightBoundedSpatialDataRegion() {
+        // Arrange & Act
+        try (CacheManager cacheManager = secondLevelCacheConfig.secondLevelCacheManager(1000)) {
+            Policy.Eviction<?, ?> eviction = eviction(cacheManager.getCache(SpatialData.CACHE_REGION));
+
+            // Assert
+            assertTrue(eviction.isWeighted());
+            assertEquals(1000, eviction.getMaximum());
+        }
+    }
+
+    @Test
+    void secondLevelCacheManager_ShouldWeighEntriesByVertexCount() {
+        // Arrange
+        try (CacheManager cacheManager = secondLevelCacheConfig.secondLevelCacheManager(1000)) {
+            Cache<Object, Object> cache = cacheManager.getCache(SpatialData.CACHE_REGION);
+            CacheEntry entry = cacheEntry(lineString(99), null);
+
+            // Act
+            cache.put(1L, entry);
+
+            // Assert
+            assertEquals(100, eviction(cache).weightedSize().orElseThrow());
+            assertSame(entry, cache.get(1L), "Entries should be stored by reference");
+        }
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Hibernate Properties
+    // ------------------------------------------------------------
+    @Test
+    void secondLevelCacheCustomizer_ShouldPassCacheManagerToHibernate() {
+        // Arrange
+        CacheManager cacheManager = mock(CacheManager.class);
+        Map<String, Object> properties = new HashMap<>();
+
+        // Act
+        secondLevelCacheConfig.secondLevelCacheCustomizer(cacheManager).customize(properties);
+
+        // Assert
+        assertSame(cacheManager, properties.get(ConfigSettings.CACHE_MANAGER));
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Vertex Count Weigher
+    // ------------------------------------------------------------
+    @Test
+    void weigh_WhenReadWriteItem_ShouldCountVerticesOfAllGeometryColumns() {
+        // Arrange
+        CacheEntry entry = cacheEntry(geometryFactory.createPoint(new Coordinate(1, 2)), lineString(10), null);
+        AbstractReadWriteAccess.Item item = mock(AbstractReadWriteAccess.Item.class);
+        when(item.getValue()).thenReturn(entry);
+
+        // Act & Assert
+        assertEquals(12, weigher.weigh(1L, item));
+    }
+
+    @Test
+    void weigh_WhenValueIsNotACacheEntry_ShouldReturnOne() {
+        // Arrange & Act & Assert
+        assertEquals(1, weigher.weigh(1L, "lock"));
+        assertEquals(1, weigher.weigh(1L, cacheEntry()));
+    }
+}
@@ -1,19 +1,48 @@
 package com.github.souzafcharles.api.controller;
 
+import com.github.souzafcharles.api.json.CoordinateArray;
 import com.github.souzafcharles.api.model.dto.*;
+import com.github.souzafcharles.api.model.enums.IngestStatus;
+import com.github.souzafcharles.api.service.SpatialDataCacheService;
+import com.github.souzafcharles.api.service.SpatialDataCopyIngestService;
+import com.github.souzafcharles.api.fgb.FlatGeobufWriter;
+import com.github.souzafcharles.api.model.enums.GeometryColumn;
+import com.github.souzafcharles.api.service.SpatialDataExportService;
+import com.github.souzafcharles.api.service.SpatialDataFlatGeobufCache;
+import com.github.souzafcharles.api.service.SpatialDataIngestQueue;
+import com.github.souzafcharles.api.service.SpatialDataNdjsonIngestService;
+import com.github.souzafcharles.api.service.SpatialDataResponseCache;
+import com.github.souzafcharles.api.service.SpatialDataResponseCache.EncodedResponse;
 import com.github.souzafcharles.api.service.SpatialDataService;
+import com.github.souzafcharles.api.service.SpatialDataTileCache;
+import com.github.souzafcharles.api.service.SpatialDataTileService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RequestMapping;
-
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 
+import static com.github.souzafcharles.api.json.CoordinateArrays.coordinates;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -23,15 +52,41 @@ class SpatialDataControllerTest {
     @Mock
     private SpatialDataService spatialDataService;
 
+    @Mock
+    private SpatialDataExportService spatialDataExportService;
+
+    @Mock
+    private SpatialDataCopyIngestService spatialDataCopyIngestService;
+
+    @Mock
+    private SpatialDataIngestQueue spatialDataIngestQueue;
+
+    @Mock
+    private SpatialDataNdjsonIngestService spatialDataNdjsonIngestService;
+
+    @Mock
+    private SpatialDataCacheService spatialDataCacheService;
+
+    @Mock
+    private SpatialDataResponseCache spatialDataResponseCache;
+
+    @Mock
+    private SpatialDataTileService spatialDataTileService;
+
+    @Mock
+    private SpatialDataFlatGeobufCache spatialDataFlatGeobufCache;
+
     @InjectMocks
     private SpatialDataController spatialDataController;
 
     // Test Data
-    private final List<Double> pointCoordinates = Arrays.asList(1.0, 2.0);
-    private final List<List<Double>> multiPointCoordinates = Arrays.asList(
+    private final CoordinateArray pointCoordinates = coordinates(Arrays.asList(1.0, 2.0));
+    private final byte[] json = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+    private final byte[] gzip = {0x1f, (byte) 0x8b};
+    private final CoordinateArray multiPointCoordinates = coordinates(Arrays.asList(
             Arrays.asList(1.0, 2.0),
             Arrays.asList(3.0, 4.0)
-    );
+    ));
 
     // ------------------------------------------------------------
     // CREATE – From Serializer
@@ -89,102 +144,429 @@ class SpatialDataControllerTest {
     // GET ALL
     // ------------------------------------------------------------
     @Test
-    void getAll_WhenDataExists_ShouldReturnList() {
+    void getAll_WhenDataExists_ShouldReturnPage() {
         // Arrange
         SpatialDataResponseDTO response1 = new SpatialDataResponseDTO(1L, null, null, null, null, null, null);
         SpatialDataResponseDTO response2 = new SpatialDataResponseDTO(2L, null, null, null, null, null, null);
-        List<SpatialDataResponseDTO> serviceResponse = Arrays.asList(response1, response2);
+        SpatialDataPageResponseDTO serviceResponse = new SpatialDataPageResponseDTO(Arrays.asList(response1, response2), "aWQ6Mg");
 
-        when(spatialDataService.getAllSpatialData()).thenReturn(serviceResponse);
+        when(spatialDataService.getSpatialDataPage(null, 2)).thenReturn(serviceResponse);
 
         // Act
-        ResponseEntity<List<SpatialDataResponseDTO>> result = spatialDataController.getAll();
+        ResponseEntity<SpatialDataPageResponseDTO> result = spatialDataController.getAll(2, null);
 
         // Assert
         assertNotNull(result);
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertEquals(serviceResponse, result.getBody());
-        assertEquals(2, result.getBody().size());
-        verify(spatialDataService, times(1)).getAllSpatialData();
+        assertEquals(2, result.getBody().items().size());
+        verify(spatialDataService, times(1)).getSpatialDataPage(null, 2);
     }
 
     @Test
-    void getAll_WhenNoData_ShouldReturnEmptyList() {
+    void getAll_WhenNoData_ShouldReturnEmptyPage() {
         // Arrange
-        List<SpatialDataResponseDTO> serviceResponse = Arrays.asList();
-        when(spatialDataService.getAllSpatialData()).thenReturn(serviceResponse);
+        SpatialDataPageResponseDTO serviceResponse = new SpatialDataPageResponseDTO(List.of(), null);
+        when(spatialDataService.getSpatialDataPage("aWQ6Mg", 100)).thenReturn(serviceResponse);
 
         // Act
-        ResponseEntity<List<SpatialDataResponseDTO>> result = spatialDataController.getAll();
+        ResponseEntity<SpatialDataPageResponseDTO> result = spatialDataController.getAll(100, "aWQ6Mg");
 
         // Assert
         assertNotNull(result);
         assertEquals(HttpStatus.OK, result.getStatusCode());
-        assertTrue(result.getBody().isEmpty());
-        verify(spatialDataService, times(1)).getAllSpatialData();
+        assertTrue(result.getBody().items().isEmpty());
+        assertNull(result.getBody().nextCursor());
+        verify(spatialDataService, times(1)).getSpatialDataPage("aWQ6Mg", 100);
     }
 
     // ------------------------------------------------------------
     // GET BY ID
     // ------------------------------------------------------------
     @Test
-    void getById_WhenExists_ShouldReturnSpatialData() {
+    void getById_WhenExists_ShouldReturnEncodedJson() {
         // Arrange
         Long spatialDataId = 1L;
-        SpatialDataResponseDTO serviceResponse = new SpatialDataResponseDTO(
-                spatialDataId, null, null, null, null, null, null
-        );
-
-        when(spatialDataService.getById(spatialDataId)).thenReturn(serviceResponse);
+        EncodedResponse encoded = new EncodedResponse(json, gzip);
+        when(spatialDataResponseCache.getById(spatialDataId)).thenReturn(encoded);
 
         // Act
-        ResponseEntity<SpatialDataResponseDTO> result = spatialDataController.getById(spatialDataId);
+        ResponseEntity<byte[]> result = spatialDataController.getById(spatialDataId, null);
 
         // Assert
         assertNotNull(result);
         assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertSame(json, result.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, result.getHeaders().getContentType());
+        assertNull(result.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(List.of(HttpHeaders.ACCEPT_ENCODING), result.getHeaders().getVary());
+        verify(spatialDataResponseCache, times(1)).getById(spatialDataId);
+    }
+
+    @Test
+    void getById_WhenClientAcceptsGzip_ShouldReturnPrecompressedBytes() {
+        // Arrange
+        when(spatialDataResponseCache.getById(1L)).thenReturn(new EncodedResponse(json, gzip));
+
+        // Act
+        ResponseEntity<byte[]> result = spatialDataController.getById(1L, "br, gzip;q=0.8");
+
+        // Assert
+        assertSame(gzip, result.getBody());
+        assertEquals("gzip", result.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void getById_WhenGzipNotCached_ShouldReturnPlainJson() {
+        // Arrange
+        when(spatialDataResponseCache.getById(1L)).thenReturn(new EncodedResponse(json, null));
+
+        // Act
+        ResponseEntity<byte[]> result = spatialDataController.getById(1L, "gzip");
+
+        // Assert
+        assertSame(json, result.getBody());
+        assertNull(result.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void getByIdAsWkb_WhenExists_ShouldReturnDtoForWkbConverter() {
+        // Arrange
+        SpatialDataResponseDTO response = new SpatialDataResponseDTO(1L, null, null, null, null, null, null);
+        when(spatialDataService.getById(1L)).thenReturn(response);
+
+        // Act
+        ResponseEntity<SpatialDataResponseDTO> result = spatialDataController.getByIdAsWkb(1L);
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertSame(response, result.getBody());
+        verifyNoInteractions(spatialDataResponseCache);
+    }
+
+    @Test
+    void acceptsGzip_ShouldHonourCodingListAndQuality() {
+        // Arrange & Act & Assert
+        assertTrue(SpatialDataController.acceptsGzip("gzip, deflate"));
+        assertTrue(SpatialDataController.acceptsGzip("GZIP"));
+        assertTrue(SpatialDataController.acceptsGzip("*"));
+        assertFalse(SpatialDataController.acceptsGzip(null));
+        assertFalse(SpatialDataController.acceptsGzip("br, deflate"));
+        assertFalse(SpatialDataController.acceptsGzip("gzip;q=0"));
+        assertFalse(SpatialDataController.acceptsGzip("gzip;q=abc"));
+        assertTrue(SpatialDataController.acceptsGzip("*;q=0, gzip"));
+        assertFalse(SpatialDataController.acceptsGzip("*, gzip;q=0"));
+        assertFalse(SpatialDataController.acceptsGzip("br, *;q=0"));
+    }
+
+    // ------------------------------------------------------------
+    // GET VECTOR TILE
+    // ------------------------------------------------------------
+    @Test
+    void getTile_WhenTileHasFeatures_ShouldStreamMvtBytes() throws Exception {
+        // Arrange
+        byte[] tile = {0x1a, 0x02};
+        when(spatialDataTileService.getTile(12, 1517, 2323)).thenReturn(SpatialDataTileCache.Tile.of(tile));
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+
+        // Act
+        ResponseEntity<StreamingResponseBody> result = spatialDataController.getTile(12, 1517, 2323);
+        result.getBody().writeTo(written);
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertArrayEquals(tile, written.toByteArray());
+        assertEquals(tile.length, result.getHeaders().getContentLength());
+        assertEquals(MediaType.parseMediaType(SpatialDataTileService.MVT_MEDIA_TYPE), result.getHeaders().getContentType());
+    }
+
+    @Test
+    void getTile_WhenTileEmpty_ShouldReturnNoContent() {
+        // Arrange
+        when(spatialDataTileService.getTile(0, 0, 0)).thenReturn(SpatialDataTileCache.Tile.of(new byte[0]));
+
+        // Act
+        ResponseEntity<StreamingResponseBody> result = spatialDataController.getTile(0, 0, 0);
+
+        // Assert
+        assertEquals(HttpStatus.NO_CONTENT, result.getStatusCode());
+        assertNull(result.getBody());
+    }
+
+    // ------------------------------------------------------------
+    // EXPORT – FlatGeobuf
+    // ------------------------------------------------------------
+    @Test
+    void exportAsFlatGeobuf_ShouldReturnRangeableFileWithEtag(@TempDir Path directory) throws Exception {
+        // Arrange
+        Path file = Files.write(directory.resolve("polygon-1.fgb"), new byte[]{0x66, 0x67, 0x62});
+        when(spatialDataFlatGeobufCache.get(GeometryColumn.POLYGON)).thenReturn(new SpatialDataFlatGeobufCache.Export(file, "\"polygon-1\""));
+
+        // Act
+        ResponseEntity<Resource> result = spatialDataController.exportAsFlatGeobuf("polygon", null);
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertInstanceOf(FileSystemResource.class, result.getBody());
+        assertEquals(file, result.getBody().getFile().toPath());
+        assertEquals("\"polygon-1\"", result.getHeaders().getETag());
+        assertEquals(MediaType.parseMediaType(FlatGeobufWriter.MEDIA_TYPE), result.getHeaders().getContentType());
+    }
+
+    @Test
+    void exportAsFlatGeobuf_WhenIfRangeOutdated_ShouldReturnWholeFile(@TempDir Path directory) throws Exception {
+        // Arrange
+        Path file = Files.write(directory.resolve("polygon-2.fgb"), new byte[]{0x66, 0x67, 0x62});
+        when(spatialDataFlatGeobufCache.get(GeometryColumn.POLYGON)).thenReturn(new SpatialDataFlatGeobufCache.Export(file, "\"polygon-2\""));
+
+        // Act
+        ResponseEntity<Resource> result = spatialDataController.exportAsFlatGeobuf("polygon", "\"polygon-1\"");
+
+        // Assert - Spring applies Range only to resources it can reopen, not to an InputStreamResource
+        assertInstanceOf(InputStreamResource.class, result.getBody());
+        assertEquals(3, result.getHeaders().getContentLength());
+        try (InputStream body = result.getBody().getInputStream()) {
+            assertArrayEquals(new byte[]{0x66, 0x67, 0x62}, body.readAllBytes());
+        }
+    }
+
+    // ------------------------------------------------------------
+    // GET CACHE STATS
+    // ------------------------------------------------------------
+    @Test
+    void getCacheStats_ShouldReturnServiceStatistics() {
+        // Arrange
+        SpatialDataCacheStatsDTO serviceResponse = new SpatialDataCacheStatsDTO(9, 1, 0.9, 0, 3, 120, 5_000_000);
+        when(spatialDataCacheService.getStatistics()).thenReturn(serviceResponse);
+
+        // Act
+        ResponseEntity<SpatialDataCacheStatsDTO> result = spatialDataController.getCacheStats();
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
         assertEquals(serviceResponse, result.getBody());
-        assertEquals(spatialDataId, result.getBody().id());
-        verify(spatialDataService, times(1)).getById(spatialDataId);
+        verify(spatialDataCacheService).getStatistics();
     }
 
     // ------------------------------------------------------------
     // GET GEOJSON
     // ------------------------------------------------------------
     @Test
-    void getAsGeoJson_WhenExists_ShouldReturnGeoJson() {
+    void getAsGeoJson_WhenExists_ShouldReturnEncodedGeoJson() {
         // Arrange
         Long spatialDataId = 1L;
+        when(spatialDataResponseCache.getPolygonAsGeoJson(spatialDataId)).thenReturn(new EncodedResponse(json, gzip));
 
-        Object mockGeometry = new Object() {
-            public final String type = "Polygon";
-            public final double[][][] coordinates = {{{1.0, 2.0}, {3.0, 4.0}, {5.0, 6.0}, {1.0, 2.0}}};
-        };
+        // Act
+        ResponseEntity<byte[]> result = spatialDataController.getAsGeoJson(spatialDataId, "gzip");
 
-        Object mockProperties = new Object() {
-            public final String description = "Polygon from SpatialData";
-            public final Long id = spatialDataId;
-        };
+        // Assert
+        assertNotNull(result);
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertSame(gzip, result.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, result.getHeaders().getContentType());
+        verify(spatialDataResponseCache, times(1)).getPolygonAsGeoJson(spatialDataId);
+    }
 
-        GeoJsonResponseDTO serviceResponse = new GeoJsonResponseDTO(
-                "Feature",
-                mockGeometry,
-                mockProperties
-        );
+    // ------------------------------------------------------------
+    // CREATE – Async queue
+    // ------------------------------------------------------------
+    @Test
+    void createFromSerializerAsync_ShouldReturnAcceptedWithTicketLocation() {
+        // Arrange
+        SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(pointCoordinates, null, null, null, null, null);
+        IngestTicketResponseDTO ticket = new IngestTicketResponseDTO("abc", IngestStatus.PENDING, null, null);
+        when(spatialDataIngestQueue.submit(request)).thenReturn(ticket);
+
+        // Act
+        ResponseEntity<IngestTicketResponseDTO> result = spatialDataController.createFromSerializerAsync(request);
 
-        when(spatialDataService.getPolygonAsGeoJson(spatialDataId)).thenReturn(serviceResponse);
+        // Assert
+        assertEquals(HttpStatus.ACCEPTED, result.getStatusCode());
+        assertEquals(ticket, result.getBody());
+        assertEquals("/api/spatial-data/async/abc", result.getHeaders().getLocation().toString());
+    }
+
+    @Test
+    void createFromDeserializerAsync_ShouldReturnAccepted() {
+        // Arrange
+        SpatialDataDeserializerRequestDTO request = new SpatialDataDeserializerRequestDTO(null, null, null, null, null, null);
+        IngestTicketResponseDTO ticket = new IngestTicketResponseDTO("def", IngestStatus.PENDING, null, null);
+        when(spatialDataIngestQueue.submit(request)).thenReturn(ticket);
 
         // Act
-        ResponseEntity<GeoJsonResponseDTO> result = spatialDataController.getAsGeoJson(spatialDataId);
+        ResponseEntity<IngestTicketResponseDTO> result = spatialDataController.createFromDeserializerAsync(request);
+
+        // Assert
+        assertEquals(HttpStatus.ACCEPTED, result.getStatusCode());
+        assertEquals(ticket, result.getBody());
+    }
+
+    @Test
+    void getAsyncStatus_ShouldReturnTicket() {
+        // Arrange
+        IngestTicketResponseDTO ticket = new IngestTicketResponseDTO("abc", IngestStatus.COMPLETED, 42L, null);
+        when(spatialDataIngestQueue.getTicket("abc")).thenReturn(ticket);
+
+        // Act
+        ResponseEntity<IngestTicketResponseDTO> result = spatialDataController.getAsyncStatus("abc");
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(ticket, result.getBody());
+    }
+
+    // ------------------------------------------------------------
+    // CREATE – Batch
+    // ------------------------------------------------------------
+    @Test
+    void createBatch_WithValidRequest_ShouldReturnGeneratedIds() {
+        // Arrange
+        SpatialDataBatchRequestDTO request = new SpatialDataBatchRequestDTO(List.of(
+                new SpatialDataSerializerRequestDTO(pointCoordinates, null, null, null, null, null)), null);
+        SpatialDataBatchResponseDTO serviceResponse = new SpatialDataBatchResponseDTO(1, List.of(51L));
+        when(spatialDataService.createBatch(request)).thenReturn(serviceResponse);
+
+        // Act
+        ResponseEntity<SpatialDataBatchResponseDTO> result = spatialDataController.createBatch(request);
 
         // Assert
-        assertNotNull(result);
         assertEquals(HttpStatus.OK, result.getStatusCode());
         assertEquals(serviceResponse, result.getBody());
-        assertEquals("Feature", result.getBody().type());
-        assertNotNull(result.getBody().geometry());
-        assertNotNull(result.getBody().properties());
-        verify(spatialDataService, times(1)).getPolygonAsGeoJson(spatialDataId);
+        verify(spatialDataService, times(1)).createBatch(request);
+    }
+
+    // ------------------------------------------------------------
+    // INGEST – FeatureCollection through COPY
+    // ------------------------------------------------------------
+    @Test
+    void ingestFeatureCollection_ShouldReturnLoadMetrics() throws Exception {
+        // Arrange
+        InputStream body = new ByteArrayInputStream("{\"features\":[]}".getBytes());
+        SpatialDataIngestMetricsDTO metrics = new SpatialDataIngestMetricsDTO(0, 0, 15, 1, 0.0, 0.01, 1024, 2048);
+        when(spatialDataCopyIngestService.ingestFeatureCollection(body)).thenReturn(metrics);
+
+        // Act
+        ResponseEntity<SpatialDataIngestMetricsDTO> result = spatialDataController.ingestFeatureCollection(body);
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(metrics, result.getBody());
+        verify(spatialDataCopyIngestService, times(1)).ingestFeatureCollection(body);
+    }
+
+    // ------------------------------------------------------------
+    // INGEST – NDJSON stream
+    // ------------------------------------------------------------
+    @Test
+    void ingestNdjson_ShouldReturnLineReport() throws Exception {
+        // Arrange
+        InputStream body = new ByteArrayInputStream("{}\n".getBytes());
+        SpatialDataNdjsonIngestResponseDTO report = new SpatialDataNdjsonIngestResponseDTO(1, 1, 0, List.of(), false);
+        when(spatialDataNdjsonIngestService.ingest(body)).thenReturn(report);
+
+        // Act
+        ResponseEntity<SpatialDataNdjsonIngestResponseDTO> result = spatialDataController.ingestNdjson(body);
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(report, result.getBody());
+    }
+
+    // ------------------------------------------------------------
+    // READ – Bounding box
+    // ------------------------------------------------------------
+    @Test
+    void getInBoundingBox_ShouldReturnServiceResult() {
+        // Arrange
+        List<SpatialDataResponseDTO> serviceResponse = List.of(new SpatialDataResponseDTO(1L, null, null, null, null, null, null));
+        when(spatialDataService.findInBoundingBox("polygon", -47.0, -23.0, -46.0, -22.0, 100)).thenReturn(serviceResponse);
+
+        // Act
+        ResponseEntity<List<SpatialDataResponseDTO>> result =
+                spatialDataController.getInBoundingBox(-47.0, -23.0, -46.0, -22.0, "polygon", 100);
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(serviceResponse, result.getBody());
+        verify(spatialDataService, times(1)).findInBoundingBox("polygon", -47.0, -23.0, -46.0, -22.0, 100);
+    }
+
+    // ------------------------------------------------------------
+    // READ – k nearest neighbours
+    // ------------------------------------------------------------
+    @Test
+    void getNearest_ShouldReturnServiceResult() {
+        // Arrange
+        List<SpatialDataNeighbourResponseDTO> serviceResponse = List.of(new SpatialDataNeighbourResponseDTO(
+                12.5, "metres", new SpatialDataResponseDTO(1L, null, null, null, null, null, null)));
+        when(spatialDataService.findNearest("point", -46.5, -22.5, 3, true)).thenReturn(serviceResponse);
+
+        // Act
+        ResponseEntity<List<SpatialDataNeighbourResponseDTO>> result =
+                spatialDataController.getNearest(-46.5, -22.5, "point", 3, true);
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(serviceResponse, result.getBody());
+        verify(spatialDataService, times(1)).findNearest("point", -46.5, -22.5, 3, true);
+    }
+
+    // ------------------------------------------------------------
+    // READ – Radius search
+    // ------------------------------------------------------------
+    @Test
+    void getWithinDistance_ShouldReturnServiceResult() {
+        // Arrange
+        List<SpatialDataNeighbourResponseDTO> serviceResponse = List.of(new SpatialDataNeighbourResponseDTO(
+                80.0, "metres", new SpatialDataResponseDTO(2L, null, null, null, null, null, null)));
+        when(spatialDataService.findWithinDistance("point", -46.5, -22.5, 250.0, 100)).thenReturn(serviceResponse);
+
+        // Act
+        ResponseEntity<List<SpatialDataNeighbourResponseDTO>> result =
+                spatialDataController.getWithinDistance(-46.5, -22.5, 250.0, "point", 100);
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(serviceResponse, result.getBody());
+        verify(spatialDataService, times(1)).findWithinDistance("point", -46.5, -22.5, 250.0, 100);
+    }
+
+    // ------------------------------------------------------------
+    // READ – Spatial predicate
+    // ------------------------------------------------------------
+    @Test
+    void query_WithValidRequest_ShouldReturnServiceResult() {
+        // Arrange
+        SpatialPredicateRequestDTO request = new SpatialPredicateRequestDTO(null, "intersects", "polygon", 10);
+        List<SpatialDataResponseDTO> serviceResponse = List.of(new SpatialDataResponseDTO(5L, null, null, null, null, null, null));
+        when(spatialDataService.findMatching(request)).thenReturn(serviceResponse);
+
+        // Act
+        ResponseEntity<List<SpatialDataResponseDTO>> result = spatialDataController.query(request);
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(serviceResponse, result.getBody());
+        verify(spatialDataService, times(1)).findMatching(request);
+    }
+
+    // ------------------------------------------------------------
+    // EXPORT – GeoJSON Text Sequence
+    // ------------------------------------------------------------
+    @Test
+    void exportAsGeoJsonSeq_ShouldStreamThroughExportService() throws Exception {
+        // Arrange
+        OutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        ResponseEntity<StreamingResponseBody> result = spatialDataController.exportAsGeoJsonSeq();
+        result.getBody().writeTo(outputStream);
+
+        // Assert
+        assertEquals(HttpStatus.OK, result.getStatusCode());
+        assertEquals(MediaType.APPLICATION_NDJSON, result.getHeaders().getContentType());
+        verify(spatialDataExportService, times(1)).exportAsGeoJsonSeq(outputStream);
     }
 
     // ------------------------------------------------------------
@@ -194,28 +576,28 @@ class SpatialDataControllerTest {
     void getById_WhenServiceThrowsException_ShouldPropagateException() {
         // Arrange
         Long spatialDataId = 999L;
-        when(spatialDataService.getById(spatialDataId))
+        when(spatialDataResponseCache.getById(spatialDataId))
                 .thenThrow(new jakarta.persistence.EntityNotFoundException("Not found"));
 
         // Act & Assert
         assertThrows(jakarta.persistence.EntityNotFoundException.class,
-                () -> spatialDataController.getById(spatialDataId));
+                () -> spatialDataController.getById(spatialDataId, null));
 
-        verify(spatialDataService, times(1)).getById(spatialDataId);
+        verify(spatialDataResponseCache, times(1)).getById(spatialDataId);
     }
 
     @Test
     void getAsGeoJson_WhenServiceThrowsException_ShouldPropagateException() {
         // Arrange
         Long spatialDataId = 999L;
-        when(spatialDataService.getPolygonAsGeoJson(spatialDataId))
+        when(spatialDataResponseCache.getPolygonAsGeoJson(spatialDataId))
                 .thenThrow(new IllegalArgumentException("No polygon found"));
 
         // Act & Assert
         assertThrows(IllegalArgumentException.class,
-                () -> spatialDataController.getAsGeoJson(spatialDataId));
+                () -> spatialDataController.getAsGeoJson(spatialDataId, null));
 
-        verify(spatialDataService, times(1)).getPolygonAsGeoJson(spatialDataId);
+        verify(spatialDataResponseCache, times(1)).getPolygonAsGeoJson(spatialDataId);
     }
 
     // ------------------------------------------------------------
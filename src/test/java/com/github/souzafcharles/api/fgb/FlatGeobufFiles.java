@@ -0,0 +1,230 @@
+package com.github.souzafcharles.api.fgb;
+
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.Polygon;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test data helper: reads a FlatGeobuf file written by {@link FlatGeobufWriter} or another encoder
+ * back into its header, index nodes and features, failing on any FlatBuffers scalar that is not
+ * aligned to its size. Absent scalars take their schema default, as reference builders omit them.
+ */
+public final class FlatGeobufFiles {
+
+    private static final int DEFAULT_INDEX_NODE_SIZE = 16;
+
+    public record Header(String name, int geometryType, long featuresCount, int indexNodeSize, double[] envelope,
+                         String columnName, int columnType, String crsOrg, int crsCode) {
+    }
+
+    public record Node(double minX, double minY, double maxX, double maxY, long offset) {
+    }
+
+    // offset is the feature's position in the feature section, as referenced by the leaf nodes
+    public record Feature(long offset, long id, Geometry geometry) {
+    }
+
+    public record Contents(Header header, List<Node> nodes, List<Feature> features) {
+    }
+
+    private FlatGeobufFiles() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static Contents read(Path file, GeometryFactory geometryFactory) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        byte[] magic = new byte[FlatGeobufWriter.MAGIC.length];
+        in.get(magic);
+        if (!Arrays.equals(FlatGeobufWriter.MAGIC, magic)) {
+            throw new IllegalStateException("Not a FlatGeobuf file");
+        }
+        ByteBuffer headerBuffer = sizePrefixed(in);
+        Header header = header(headerBuffer);
+        List<Node> nodes = new ArrayList<>();
+        if (header.indexNodeSize() > 0) {
+            long size = PackedRTree.size(header.featuresCount(), header.indexNodeSize());
+            for (long i = 0; i < size / PackedRTree.NODE_ITEM_BYTES; i++) {
+                nodes.add(new Node(in.getDouble(), in.getDouble(), in.getDouble(), in.getDouble(), in.getLong()));
+            }
+        }
+        int featuresStart = in.position();
+        List<Feature> features = new ArrayList<>();
+        while (in.hasRemaining()) {
+            long offset = in.position() - featuresStart;
+            ByteBuffer feature = sizePrefixed(in);
+            int table = root(feature);
+            ByteBuffer properties = vector(feature, table, FlatGeobufWriter.FEATURE_PROPERTIES, 1);
+            if (properties.getShort() != 0) {
+                throw new IllegalStateException("Unexpected property column");
+            }
+            Geometry geometry = geometry(feature, field(feature, table, FlatGeobufWriter.FEATURE_GEOMETRY), header.geometryType(), geometryFactory);
+            features.add(new Feature(offset, properties.getLong(), geometry));
+        }
+        return new Contents(header, nodes, features);
+    }
+
+    private static Header header(ByteBuffer buffer) {
+        int table = root(buffer);
+        int column = element(buffer, field(buffer, table, FlatGeobufWriter.HEADER_COLUMNS), 0);
+        int crs = target(buffer, field(buffer, table, FlatGeobufWriter.HEADER_CRS));
+        int envelopeField = field(buffer, table, FlatGeobufWriter.HEADER_ENVELOPE);
+        double[] envelope = envelopeField == 0 ? null : doubles(vector(buffer, table, FlatGeobufWriter.HEADER_ENVELOPE, Double.BYTES));
+        return new Header(
+                string(buffer, field(buffer, table, FlatGeobufWriter.HEADER_NAME)),
+                (int) scalar(buffer, table, FlatGeobufWriter.HEADER_GEOMETRY_TYPE, Byte.BYTES, FlatGeobufWriter.UNKNOWN),
+                scalar(buffer, table, FlatGeobufWriter.HEADER_FEATURES_COUNT, Long.BYTES, 0),
+                (int) scalar(buffer, table, FlatGeobufWriter.HEADER_INDEX_NODE_SIZE, Short.BYTES, DEFAULT_INDEX_NODE_SIZE),
+                envelope,
+                string(buffer, field(buffer, column, FlatGeobufWriter.COLUMN_NAME)),
+                (int) scalar(buffer, column, FlatGeobufWriter.COLUMN_TYPE, Byte.BYTES, 0),
+                string(buffer, field(buffer, crs, FlatGeobufWriter.CRS_ORG)),
+                (int) scalar(buffer, crs, FlatGeobufWriter.CRS_CODE, Integer.BYTES, 0));
+    }
+
+    private static Geometry geometry(ByteBuffer buffer, int field, int headerType, GeometryFactory geometryFactory) {
+        int table = target(buffer, field);
+        int typeField = field(buffer, table, FlatGeobufWriter.GEOMETRY_TYPE);
+        int type = headerType != FlatGeobufWriter.UNKNOWN || typeField == 0 ? headerType : buffer.get(typeField);
+        if (type == FlatGeobufWriter.MULTIPOLYGON || type == FlatGeobufWriter.GEOMETRYCOLLECTION) {
+            int parts = field(buffer, table, FlatGeobufWriter.GEOMETRY_PARTS);
+            Geometry[] geometries = new Geometry[length(buffer, parts)];
+            for (int i = 0; i < geometries.length; i++) {
+                int partType = type == FlatGeobufWriter.MULTIPOLYGON ? FlatGeobufWriter.POLYGON : FlatGeobufWriter.UNKNOWN;
+                geometries[i] = geometry(buffer, target(buffer, parts) + Integer.BYTES * (i + 1), partType, geometryFactory);
+            }
+            return type == FlatGeobufWriter.MULTIPOLYGON
+                    ? geometryFactory.createMultiPolygon(Arrays.copyOf(geometries, geometries.length, Polygon[].class))
+                    : geometryFactory.createGeometryCollection(geometries);
+        }
+        double[] xy = doubles(vector(buffer, table, FlatGeobufWriter.GEOMETRY_XY, Double.BYTES));
+        Coordinate[] coordinates = new Coordinate[xy.length / 2];
+        for (int i = 0; i < coordinates.length; i++) {
+            coordinates[i] = new Coordinate(xy[2 * i], xy[2 * i + 1]);
+        }
+        int[] ends = field(buffer, table, FlatGeobufWriter.GEOMETRY_ENDS) == 0
+                ? new int[]{coordinates.length}
+                : uints(vector(buffer, table, FlatGeobufWriter.GEOMETRY_ENDS, Integer.BYTES));
+        return switch (type) {
+            case FlatGeobufWriter.POINT -> geometryFactory.createPoint(coordinates[0]);
+            case FlatGeobufWriter.MULTIPOINT -> geometryFactory.createMultiPointFromCoords(coordinates);
+            case FlatGeobufWriter.LINESTRING -> geometryFactory.createLineString(coordinates);
+            case FlatGeobufWriter.MULTILINESTRING -> {
+                LineString[] lineStrings = new LineString[ends.length];
+                for (int i = 0; i < ends.length; i++) {
+                    lineStrings[i] = geometryFactory.createLineString(Arrays.copyOfRange(coordinates, i == 0 ? 0 : ends[i - 1], ends[i]));
+                }
+                yield geometryFactory.createMultiLineString(lineStrings);
+            }
+            case FlatGeobufWriter.POLYGON -> {
+                LinearRing[] rings = new LinearRing[ends.length];
+                for (int i = 0; i < ends.length; i++) {
+                    rings[i] = geometryFactory.createLinearRing(Arrays.copyOfRange(coordinates, i == 0 ? 0 : ends[i - 1], ends[i]));
+                }
+                yield geometryFactory.createPolygon(rings[0], Arrays.copyOfRange(rings, 1, rings.length));
+            }
+            default -> throw new IllegalStateException("Unexpected geometry type " + type);
+        };
+    }
+
+    // ------------------------------------------------------------
+    // FLATBUFFERS
+    // ------------------------------------------------------------
+    // The buffer keeps its size prefix, as FlatBuffers verifiers align size-prefixed buffers from it
+    private static ByteBuffer sizePrefixed(ByteBuffer in) {
+        int size = Integer.BYTES + in.getInt(in.position());
+        ByteBuffer buffer = in.slice(in.position(), size).order(ByteOrder.LITTLE_ENDIAN);
+        in.position(in.position() + size);
+        return buffer;
+    }
+
+    private static int root(ByteBuffer buffer) {
+        return target(buffer, Integer.BYTES);
+    }
+
+    private static int target(ByteBuffer buffer, int field) {
+        aligned(field, Integer.BYTES);
+        int target = field + buffer.getInt(field);
+        aligned(target, Integer.BYTES);
+        return target;
+    }
+
+    // Absolute position of a table field, 0 when absent
+    private static int field(ByteBuffer buffer, int table, int slot) {
+        int vtable = table - buffer.getInt(table);
+        aligned(vtable, Short.BYTES);
+        int entry = 2 * Short.BYTES + slot * Short.BYTES;
+        if (entry >= buffer.getShort(vtable)) {
+            return 0;
+        }
+        int offset = buffer.getShort(vtable + entry);
+        return offset == 0 ? 0 : table + offset;
+    }
+
+    private static long scalar(ByteBuffer buffer, int table, int slot, int size, long defaultValue) {
+        int field = field(buffer, table, slot);
+        return field == 0 ? defaultValue : scalar(buffer, field, size);
+    }
+
+    private static long scalar(ByteBuffer buffer, int field, int size) {
+        aligned(field, size);
+        return switch (size) {
+            case Byte.BYTES -> Byte.toUnsignedInt(buffer.get(field));
+            case Short.BYTES -> Short.toUnsignedInt(buffer.getShort(field));
+            case Integer.BYTES -> buffer.getInt(field);
+            default -> buffer.getLong(field);
+        };
+    }
+
+    private static int length(ByteBuffer buffer, int field) {
+        return buffer.getInt(target(buffer, field));
+    }
+
+    private static int element(ByteBuffer buffer, int field, int index) {
+        return target(buffer, target(buffer, field) + Integer.BYTES * (index + 1));
+    }
+
+    // The elements of a vector field, as a little-endian buffer limited to them
+    private static ByteBuffer vector(ByteBuffer buffer, int table, int slot, int elementSize) {
+        int vector = target(buffer, field(buffer, table, slot));
+        aligned(vector + Integer.BYTES, elementSize);
+        return buffer.slice(vector + Integer.BYTES, buffer.getInt(vector) * elementSize).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static String string(ByteBuffer buffer, int field) {
+        int vector = target(buffer, field);
+        byte[] utf8 = new byte[buffer.getInt(vector)];
+        buffer.get(vector + Integer.BYTES, utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static double[] doubles(ByteBuffer elements) {
+        double[] values = new double[elements.remaining() / Double.BYTES];
+        elements.asDoubleBuffer().get(values);
+        return values;
+    }
+
+    private static int[] uints(ByteBuffer elements) {
+        int[] values = new int[elements.remaining() / Integer.BYTES];
+        elements.asIntBuffer().get(values);
+        return values;
+    }
+
+    private static void aligned(int position, int size) {
+        if (position % size != 0) {
+            throw new IllegalStateException("Position " + position + " is not aligned to " + size + " bytes");
+        }
+    }
+}
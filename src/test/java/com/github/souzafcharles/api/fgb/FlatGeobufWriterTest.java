@@ -0,0 +1,396 @@
+package com.github.souzafcharles.api.fgb;
+
+import com.github.souzafcharles.api.config.GeometryConfig;
+import com.github.souzafcharles.api.utils.Messages;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.io.WKTReader;
+import org.wololo.flatgeobuf.GeometryConversions;
+import org.wololo.flatgeobuf.HeaderMeta;
+import org.wololo.flatgeobuf.generated.Feature;
+import org.wololo.flatgeobuf.generated.Header;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlatGeobufWriterTest {
+
+    @TempDir
+    Path directory;
+
+    private final GeometryFactory geometryFactory = GeometryConfig.packedGeometryFactory(GeometryConfig.CoordinateStorage.DOUBLE);
+
+    private Geometry wkt(String wkt) throws Exception {
+        return new WKTReader(geometryFactory).read(wkt);
+    }
+
+    private Path write(int indexNodeSize, Map<Long, Geometry> features) throws Exception {
+        Path target = directory.resolve("export.fgb");
+        try (FlatGeobufWriter writer = new FlatGeobufWriter(target, "polygon", indexNodeSize)) {
+            for (Map.Entry<Long, Geometry> feature : features.entrySet()) {
+                writer.add(feature.getKey(), feature.getValue());
+            }
+            assertEquals(features.size(), writer.finish());
+        }
+        return target;
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Header and Features
+    // ------------------------------------------------------------
+    @Test
+    void finish_ShouldWriteHeaderAndEveryFeature() throws Exception {
+        // Arrange
+        Map<Long, Geometry> features = new HashMap<>();
+        features.put(1L, wkt("POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0), (2 2, 2 4, 4 4, 2 2))"));
+        features.put(2L, wkt("POLYGON ((-46.6 -23.6, -46.5 -23.6, -46.5 -23.5, -46.6 -23.6))"));
+
+        // Act
+        FlatGeobufFiles.Contents contents = FlatGeobufFiles.read(write(16, features), geometryFactory);
+
+        // Assert
+        FlatGeobufFiles.Header header = contents.header();
+        assertEquals("polygon", header.name());
+        assertEquals(FlatGeobufWriter.POLYGON, header.geometryType());
+        assertEquals(2L, header.featuresCount());
+        assertEquals(16, header.indexNodeSize());
+        assertArrayEquals(new double[]{-46.6, -23.6, 10, 10}, header.envelope());
+        assertEquals(FlatGeobufWriter.ID_COLUMN, header.columnName());
+        assertEquals(FlatGeobufWriter.COLUMN_TYPE_LONG, header.columnType());
+        assertEquals("EPSG", header.crsOrg());
+        assertEquals(GeometryConfig.SRID, header.crsCode());
+        assertEquals(2, contents.features().size());
+        for (FlatGeobufFiles.Feature feature : contents.features()) {
+            assertTrue(features.get(feature.id()).equalsExact(feature.geometry()));
+        }
+    }
+
+    @Test
+    void finish_WhenTypesMixed_ShouldWriteUnknownHeaderTypeAndTypedGeometries() throws Exception {
+        // Arrange
+        Map<Long, Geometry> features = new HashMap<>();
+        features.put(1L, wkt("POINT (1 2)"));
+        features.put(2L, wkt("MULTIPOINT ((1 2), (3 4))"));
+        features.put(3L, wkt("LINESTRING (0 0, 1 1, 2 0)"));
+        features.put(4L, wkt("MULTILINESTRING ((0 0, 1 1), (2 2, 3 3, 4 5))"));
+        features.put(5L, wkt("MULTIPOLYGON (((0 0, 1 0, 1 1, 0 0)), ((5 5, 6 5, 6 6, 5 5), (5.2 5.1, 5.8 5.1, 5.8 5.7, 5.2 5.1)))"));
+        features.put(6L, wkt("GEOMETRYCOLLECTION (POINT (1 2), LINESTRING (0 0, 1 1))"));
+
+        // Act
+        FlatGeobufFiles.Contents contents = FlatGeobufFiles.read(write(16, features), geometryFactory);
+
+        // Assert
+        assertEquals(FlatGeobufWriter.UNKNOWN, contents.header().geometryType());
+        assertEquals(features.size(), contents.features().size());
+        for (FlatGeobufFiles.Feature feature : contents.features()) {
+            assertTrue(features.get(feature.id()).equalsExact(feature.geometry()), features.get(feature.id()).toText());
+        }
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Packed Hilbert R-tree
+    // ------------------------------------------------------------
+    @Test
+    void finish_ShouldIndexFeaturesInHilbertOrder() throws Exception {
+        // Arrange - a 20 x 20 grid of small squares
+        Map<Long, Geometry> features = new HashMap<>();
+        for (int row = 0; row < 20; row++) {
+            for (int column = 0; column < 20; column++) {
+                double x = -47 + column * 0.01;
+                double y = -24 + row * 0.01;
+                features.put((long) row * 20 + column, geometryFactory.toGeometry(new Envelope(x, x + 0.005, y, y + 0.005)));
+            }
+        }
+
+        // Act
+        FlatGeobufFiles.Contents contents = FlatGeobufFiles.read(write(4, features), geometryFactory);
+
+        // Assert - leaves are the last 400 nodes, in feature order, each bounding its feature
+        List<FlatGeobufFiles.Node> nodes = contents.nodes();
+        assertEquals(PackedRTree.size(400, 4) / PackedRTree.NODE_ITEM_BYTES, nodes.size());
+        List<FlatGeobufFiles.Node> leaves = nodes.subList(nodes.size() - 400, nodes.size());
+        for (int i = 0; i < leaves.size(); i++) {
+            FlatGeobufFiles.Feature feature = contents.features().get(i);
+            assertEquals(feature.offset(), leaves.get(i).offset());
+            Envelope envelope = feature.geometry().getEnvelopeInternal();
+            assertEquals(envelope, new Envelope(leaves.get(i).minX(), leaves.get(i).maxX(), leaves.get(i).minY(), leaves.get(i).maxY()));
+        }
+        FlatGeobufFiles.Node root = nodes.get(0);
+        assertEquals(new Envelope(-47, -46.805, -24, -23.805), new Envelope(root.minX(), root.maxX(), root.minY(), root.maxY()));
+        // Consecutive features are close on the curve: about one grid cell (0.01) apart on average, against ~7 in random order
+        double steps = 0;
+        for (int i = 1; i < contents.features().size(); i++) {
+            steps += contents.features().get(i).geometry().getCentroid().distance(contents.features().get(i - 1).geometry().getCentroid());
+        }
+        assertTrue(steps / (contents.features().size() - 1) < 0.015);
+    }
+
+    @Test
+    void finish_WhenNoFeatures_ShouldWriteHeaderWithoutIndex() throws Exception {
+        // Arrange & Act
+        FlatGeobufFiles.Contents contents = FlatGeobufFiles.read(write(16, Map.of()), geometryFactory);
+
+        // Assert
+        assertEquals(0L, contents.header().featuresCount());
+        assertEquals(0, contents.header().indexNodeSize());
+        assertNull(contents.header().envelope());
+        assertTrue(contents.nodes().isEmpty());
+        assertTrue(contents.features().isEmpty());
+    }
+
+    @Test
+    void close_ShouldDeleteSpool() throws Exception {
+        // Arrange & Act
+        write(16, Map.of(1L, wkt("POINT (1 2)")));
+
+        // Assert
+        try (var files = Files.list(directory)) {
+            assertEquals(List.of(directory.resolve("export.fgb")), files.toList());
+        }
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Reference Fixture
+    // ------------------------------------------------------------
+    // reference-polygons.fgb holds the two features below, laid out the way GDAL's ogr2ogr writes them through
+    // flatc's generated builders: back to front, vtables shared, fields equal to their schema default (such as
+    // index_node_size 16) omitted, and a CRS name the writer does not produce. The index is spec-defined, so its
+    // boxes must match byte for byte; feature offsets depend on each encoder's table layout.
+    private static final Map<Long, String> REFERENCE_FEATURES = Map.of(
+            1L, "POLYGON ((0 0, 4 0, 4 4, 0 0))",
+            2L, "POLYGON ((6 6, 10 6, 10 10, 6 10, 6 6), (7 7, 7 9, 9 9, 7 7))");
+
+    private Path referenceFixture() throws Exception {
+        return Path.of(getClass().getResource("/fgb/reference-polygons.fgb").toURI());
+    }
+
+    private static byte[] indexBytes(Path file, long featuresCount, int indexNodeSize) throws Exception {
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+        int start = FlatGeobufWriter.MAGIC.length + Integer.BYTES + bytes.getInt(FlatGeobufWriter.MAGIC.length);
+        return Arrays.copyOfRange(bytes.array(), start, start + (int) PackedRTree.size(featuresCount, indexNodeSize));
+    }
+
+    @Test
+    void read_WhenReferenceFixture_ShouldDecodeHeaderIndexAndFeatures() throws Exception {
+        // Arrange & Act
+        FlatGeobufFiles.Contents contents = FlatGeobufFiles.read(referenceFixture(), geometryFactory);
+
+        // Assert
+        FlatGeobufFiles.Header header = contents.header();
+        assertEquals("polygon", header.name());
+        assertEquals(FlatGeobufWriter.POLYGON, header.geometryType());
+        assertEquals(2L, header.featuresCount());
+        assertEquals(16, header.indexNodeSize());
+        assertArrayEquals(new double[]{0, 0, 10, 10}, header.envelope());
+        assertEquals(FlatGeobufWriter.ID_COLUMN, header.columnName());
+        assertEquals(FlatGeobufWriter.COLUMN_TYPE_LONG, header.columnType());
+        assertEquals("EPSG", header.crsOrg());
+        assertEquals(GeometryConfig.SRID, header.crsCode());
+        assertEquals(List.of(
+                new FlatGeobufFiles.Node(0, 0, 10, 10, 1),
+                new FlatGeobufFiles.Node(6, 6, 10, 10, 0),
+                new FlatGeobufFiles.Node(0, 0, 4, 4, 224)), contents.nodes());
+        assertEquals(List.of(0L, 224L), contents.features().stream().map(FlatGeobufFiles.Feature::offset).toList());
+        assertEquals(List.of(2L, 1L), contents.features().stream().map(FlatGeobufFiles.Feature::id).toList());
+        for (FlatGeobufFiles.Feature feature : contents.features()) {
+            assertTrue(wkt(REFERENCE_FEATURES.get(feature.id())).equalsExact(feature.geometry()));
+        }
+    }
+
+    @Test
+    void finish_ShouldMatchReferenceFixture() throws Exception {
+        // Arrange
+        Map<Long, Geometry> features = new HashMap<>();
+        for (Map.Entry<Long, String> feature : REFERENCE_FEATURES.entrySet()) {
+            features.put(feature.getKey(), wkt(feature.getValue()));
+        }
+        Path reference = referenceFixture();
+
+        // Act
+        Path written = write(16, features);
+
+        // Assert - same magic, header values, index boxes and features, in the same Hilbert order; every buffer is
+        // padded to 8 bytes, so scalars stay aligned within the file as in the reference
+        byte[] referenceBytes = Files.readAllBytes(reference);
+        byte[] writtenBytes = Files.readAllBytes(written);
+        assertEquals(0, referenceBytes.length % Long.BYTES);
+        assertEquals(0, writtenBytes.length % Long.BYTES);
+        assertArrayEquals(Arrays.copyOf(referenceBytes, FlatGeobufWriter.MAGIC.length),
+                Arrays.copyOf(writtenBytes, FlatGeobufWriter.MAGIC.length));
+        FlatGeobufFiles.Contents expected = FlatGeobufFiles.read(reference, geometryFactory);
+        FlatGeobufFiles.Contents actual = FlatGeobufFiles.read(written, geometryFactory);
+        FlatGeobufFiles.Header expectedHeader = expected.header();
+        FlatGeobufFiles.Header actualHeader = actual.header();
+        assertEquals(expectedHeader.name(), actualHeader.name());
+        assertEquals(expectedHeader.geometryType(), actualHeader.geometryType());
+        assertEquals(expectedHeader.featuresCount(), actualHeader.featuresCount());
+        assertEquals(expectedHeader.indexNodeSize(), actualHeader.indexNodeSize());
+        assertArrayEquals(expectedHeader.envelope(), actualHeader.envelope());
+        assertEquals(expectedHeader.columnName(), actualHeader.columnName());
+        assertEquals(expectedHeader.columnType(), actualHeader.columnType());
+        assertEquals(expectedHeader.crsOrg(), actualHeader.crsOrg());
+        assertEquals(expectedHeader.crsCode(), actualHeader.crsCode());
+        byte[] expectedIndex = indexBytes(reference, 2, 16);
+        byte[] actualIndex = indexBytes(written, 2, 16);
+        assertArrayEquals(Arrays.copyOf(expectedIndex, PackedRTree.NODE_ITEM_BYTES), Arrays.copyOf(actualIndex, PackedRTree.NODE_ITEM_BYTES));
+        for (int node = 1; node < expected.nodes().size(); node++) {
+            int box = node * PackedRTree.NODE_ITEM_BYTES;
+            assertArrayEquals(Arrays.copyOfRange(expectedIndex, box, box + 4 * Double.BYTES),
+                    Arrays.copyOfRange(actualIndex, box, box + 4 * Double.BYTES));
+            assertEquals(actual.features().get(node - 1).offset(), actual.nodes().get(node).offset());
+        }
+        for (int i = 0; i < expected.features().size(); i++) {
+            assertEquals(expected.features().get(i).id(), actual.features().get(i).id());
+            assertTrue(expected.features().get(i).geometry().equalsExact(actual.features().get(i).geometry()));
+        }
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Reference Reader
+    // ------------------------------------------------------------
+    // The flatgeobuf library reads the header, index and features through flatc's generated tables, independently of
+    // FlatGeobufFiles and of the writer's own FlatBufferBuilder
+    private static ByteBuffer bytes(Path file) throws Exception {
+        return ByteBuffer.wrap(Files.readAllBytes(file)).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    private static long featuresStart(HeaderMeta header) {
+        return header.indexNodeSize == 0
+                ? header.offset
+                : header.offset + org.wololo.flatgeobuf.PackedRTree.calcSize((int) header.featuresCount, header.indexNodeSize);
+    }
+
+    private static Feature feature(ByteBuffer bytes, long offset) {
+        int size = bytes.getInt((int) offset);
+        return Feature.getRootAsFeature(bytes.slice((int) offset + Integer.BYTES, size).order(ByteOrder.LITTLE_ENDIAN));
+    }
+
+    // As in the library's FeatureConversions, a mixed-type file takes each geometry's own type
+    private static Geometry geometry(Feature feature, HeaderMeta header) {
+        int type = header.geometryType == FlatGeobufWriter.UNKNOWN ? feature.geometry().type() : header.geometryType;
+        return GeometryConversions.deserialize(feature.geometry(), type);
+    }
+
+    // The only property is the id column: its uint16 index, then the value
+    private static long id(Feature feature) {
+        ByteBuffer properties = ByteBuffer.allocate(feature.propertiesLength()).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < feature.propertiesLength(); i++) {
+            properties.put((byte) feature.properties(i));
+        }
+        assertEquals(0, properties.getShort(0));
+        return properties.getLong(Short.BYTES);
+    }
+
+    @Test
+    void finish_ShouldBeReadableByReferenceReader() throws Exception {
+        // Arrange
+        Map<Long, Geometry> features = new HashMap<>();
+        features.put(1L, wkt("POINT (1 2)"));
+        features.put(2L, wkt("MULTIPOINT ((1 2), (3 4))"));
+        features.put(3L, wkt("LINESTRING (0 0, 1 1, 2 0)"));
+        features.put(4L, wkt("MULTILINESTRING ((0 0, 1 1), (2 2, 3 3, 4 5))"));
+        features.put(5L, wkt("POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0), (2 2, 2 4, 4 4, 2 2))"));
+        features.put(6L, wkt("MULTIPOLYGON (((0 0, 1 0, 1 1, 0 0)), ((5 5, 6 5, 6 6, 5 5), (5.2 5.1, 5.8 5.1, 5.8 5.7, 5.2 5.1)))"));
+
+        // Act
+        ByteBuffer bytes = bytes(write(16, features));
+
+        // Assert
+        HeaderMeta header = HeaderMeta.read(bytes);
+        int headerSize = bytes.getInt(FlatGeobufWriter.MAGIC.length);
+        // HeaderMeta skips the name, so it is read from the generated table
+        assertEquals("polygon", Header.getRootAsHeader(bytes.slice(FlatGeobufWriter.MAGIC.length + Integer.BYTES, headerSize)
+                .order(ByteOrder.LITTLE_ENDIAN)).name());
+        assertEquals(FlatGeobufWriter.UNKNOWN, header.geometryType);
+        assertEquals(features.size(), header.featuresCount);
+        assertEquals(16, header.indexNodeSize);
+        assertEquals(GeometryConfig.SRID, header.srid);
+        assertEquals(new Envelope(0, 10, 0, 10), header.envelope);
+        assertEquals(1, header.columns.size());
+        assertEquals(FlatGeobufWriter.ID_COLUMN, header.columns.get(0).name);
+        assertEquals(FlatGeobufWriter.COLUMN_TYPE_LONG, header.columns.get(0).type);
+        long offset = featuresStart(header);
+        for (int i = 0; i < header.featuresCount; i++) {
+            Feature feature = feature(bytes, offset);
+            Geometry geometry = geometry(feature, header);
+            Geometry expected = features.get(id(feature));
+            assertTrue(expected.equalsExact(geometry), expected.toText());
+            offset += Integer.BYTES + bytes.getInt((int) offset);
+        }
+        assertEquals(bytes.capacity(), offset);
+    }
+
+    @Test
+    void finish_ShouldBeSearchableByReferenceReader() throws Exception {
+        // Arrange - a 20 x 20 grid of small squares
+        Map<Long, Geometry> features = new HashMap<>();
+        for (int row = 0; row < 20; row++) {
+            for (int column = 0; column < 20; column++) {
+                double x = -47 + column * 0.01;
+                double y = -24 + row * 0.01;
+                features.put((long) row * 20 + column, geometryFactory.toGeometry(new Envelope(x, x + 0.005, y, y + 0.005)));
+            }
+        }
+        Envelope query = new Envelope(-46.955, -46.925, -23.935, -23.905);
+
+        // Act
+        ByteBuffer bytes = bytes(write(4, features));
+
+        // Assert - the library's R-tree search finds exactly the features whose boxes meet the query
+        HeaderMeta header = HeaderMeta.read(bytes);
+        long featuresStart = featuresStart(header);
+        List<Long> found = new ArrayList<>();
+        for (org.wololo.flatgeobuf.PackedRTree.SearchHit hit : org.wololo.flatgeobuf.PackedRTree.search(
+                bytes, header.offset, (int) header.featuresCount, header.indexNodeSize, query)) {
+            Feature feature = feature(bytes, featuresStart + hit.offset);
+            found.add(id(feature));
+            assertTrue(geometry(feature, header).equalsExact(features.get(id(feature))));
+        }
+        List<Long> expected = features.entrySet().stream()
+                .filter(feature -> feature.getValue().getEnvelopeInternal().intersects(query))
+                .map(Map.Entry::getKey)
+                .sorted()
+                .toList();
+        assertEquals(12, expected.size());
+        assertEquals(expected, found.stream().sorted().toList());
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Invalid Input
+    // ------------------------------------------------------------
+    @Test
+    void add_WhenGeometryEmpty_ShouldThrowException() throws Exception {
+        // Arrange
+        try (FlatGeobufWriter writer = new FlatGeobufWriter(directory.resolve("export.fgb"), "point", 16)) {
+
+            // Act
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                    () -> writer.add(1L, geometryFactory.createPoint()));
+
+            // Assert
+            assertEquals(Messages.FGB_EMPTY_GEOMETRY, exception.getMessage());
+        }
+    }
+
+    @Test
+    void flatGeobufWriter_WhenIndexNodeSizeTooSmall_ShouldThrowException() {
+        // Arrange & Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> new FlatGeobufWriter(directory.resolve("export.fgb"), "point", 1));
+
+        // Assert
+        assertEquals(String.format(Messages.INVALID_FGB_INDEX_NODE_SIZE, 1), exception.getMessage());
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.souzafcharles.api.fgb;
+
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Envelope;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedRTreeTest {
+
+    // ------------------------------------------------------------
+    // TEST: Hilbert Curve
+    // ------------------------------------------------------------
+    @Test
+    void hilbert_ShouldVisitEveryCellOnceThroughNeighbours() {
+        // Arrange
+        int side = 16;
+        int[][] cells = new int[side * side][];
+        Set<Integer> seen = new HashSet<>();
+
+        // Act
+        for (int x = 0; x < side; x++) {
+            for (int y = 0; y < side; y++) {
+                int value = PackedRTree.hilbert(x, y);
+                assertTrue(value >= 0 && value < side * side, "Corner block must map to the start of the curve");
+                seen.add(value);
+                cells[value] = new int[]{x, y};
+            }
+        }
+
+        // Assert - a permutation of 0..255 where each step moves to an adjacent cell
+        assertEquals(side * side, seen.size());
+        for (int i = 1; i < cells.length; i++) {
+            assertEquals(1, Math.abs(cells[i][0] - cells[i - 1][0]) + Math.abs(cells[i][1] - cells[i - 1][1]));
+        }
+    }
+
+    @Test
+    void hilbertOrder_ShouldSortByDescendingHilbertValue() {
+        // Arrange - items at the four corners of the extent
+        double[] bounds = {0, 0, 0, 0, 0, 10, 0, 10, 10, 10, 10, 10, 10, 0, 10, 0};
+        Envelope extent = new Envelope(0, 10, 0, 10);
+
+        // Act
+        int[] order = PackedRTree.hilbertOrder(bounds, 4, extent);
+
+        // Assert
+        for (int i = 1; i < order.length; i++) {
+            long previous = Integer.toUnsignedLong(hilbertOf(bounds, order[i - 1], extent));
+            long current = Integer.toUnsignedLong(hilbertOf(bounds, order[i], extent));
+            assertTrue(previous >= current);
+        }
+        assertEquals(0, order[order.length - 1]);
+    }
+
+    private static int hilbertOf(double[] bounds, int item, Envelope extent) {
+        int max = (1 << 16) - 1;
+        int x = (int) Math.floor(max * (bounds[4 * item] - extent.getMinX()) / extent.getWidth());
+        int y = (int) Math.floor(max * (bounds[4 * item + 1] - extent.getMinY()) / extent.getHeight());
+        return PackedRTree.hilbert(x, y);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Packing
+    // ------------------------------------------------------------
+    @Test
+    void size_ShouldCountEveryLevelUpToTheRoot() {
+        // Arrange & Act & Assert
+        assertEquals(2L * PackedRTree.NODE_ITEM_BYTES, PackedRTree.size(1, 16));
+        assertEquals(17L * PackedRTree.NODE_ITEM_BYTES, PackedRTree.size(16, 16));
+        assertEquals(20L * PackedRTree.NODE_ITEM_BYTES, PackedRTree.size(17, 16));
+        assertEquals(1L + 2 + 4 + 8, PackedRTree.size(8, 2) / PackedRTree.NODE_ITEM_BYTES);
+    }
+
+    @Test
+    void write_ShouldStoreRootFirstWithChildIndexes() throws Exception {
+        // Arrange - three leaves, node size 2: root, two parents, three leaves
+        double[] leafBounds = {0, 0, 1, 1, 2, 2, 3, 3, 4, 4, 5, 5};
+        long[] leafOffsets = {0, 100, 200};
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        PackedRTree.write(leafBounds, leafOffsets, 3, 2, out);
+
+        // Assert
+        ByteBuffer nodes = ByteBuffer.wrap(out.toByteArray()).order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(6 * PackedRTree.NODE_ITEM_BYTES, nodes.remaining());
+        assertNode(nodes, 0, 0, 0, 5, 5, 1);
+        assertNode(nodes, 1, 0, 0, 3, 3, 3);
+        assertNode(nodes, 2, 4, 4, 5, 5, 5);
+        assertNode(nodes, 3, 0, 0, 1, 1, 0);
+        assertNode(nodes, 5, 4, 4, 5, 5, 200);
+    }
+
+    private static void assertNode(ByteBuffer nodes, int node, double minX, double minY, double maxX, double maxY, long offset) {
+        int position = node * PackedRTree.NODE_ITEM_BYTES;
+        assertArrayEquals(new double[]{minX, minY, maxX, maxY}, new double[]{
+                nodes.getDouble(position), nodes.getDouble(position + 8), nodes.getDouble(position + 16), nodes.getDouble(position + 24)});
+        assertEquals(offset, nodes.getLong(position + 32));
+    }
+}
@@ -0,0 +1,163 @@
+package com.github.souzafcharles.api.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.CoordinateSequence;
+import org.locationtech.jts.geom.impl.CoordinateArraySequenceFactory;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoordinateArrayTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private CoordinateArray read(String json) throws IOException {
+        JsonParser parser = objectMapper.createParser(json);
+        parser.nextToken();
+        return CoordinateArray.read(parser);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Depth Detection
+    // ------------------------------------------------------------
+    @Test
+    void read_WhenPosition_ShouldHaveDepthOne() throws IOException {
+        // Arrange & Act
+        CoordinateArray array = read("[1.5,2.5]");
+
+        // Assert
+        assertEquals(1, array.depth());
+        assertEquals(1, array.size());
+        assertEquals(1.5, array.getX(0));
+        assertEquals(2.5, array.getY(0));
+        assertEquals(2, array.minDimension());
+    }
+
+    @Test
+    void read_WhenEmptyArray_ShouldHaveDepthZero() throws IOException {
+        // Arrange & Act
+        CoordinateArray array = read("[]");
+
+        // Assert
+        assertEquals(0, array.depth());
+        assertEquals(0, array.size());
+        assertEquals(0, array.minDimension());
+    }
+
+    @Test
+    void read_WhenMultiPolygon_ShouldRecordLineAndPolygonOffsets() throws IOException {
+        // Arrange
+        String json = "[[[[0,0],[0,1],[1,1],[0,0]],[[0.2,0.2],[0.2,0.3],[0.3,0.3],[0.2,0.2]]],[[[5,5],[5,6],[6,6],[5,5]]]]";
+
+        // Act
+        CoordinateArray array = read(json);
+
+        // Assert
+        assertEquals(4, array.depth());
+        assertEquals(12, array.size());
+        assertEquals(3, array.lineCount());
+        assertEquals(2, array.polygonCount());
+        assertEquals(0, array.polygonStart(0));
+        assertEquals(2, array.polygonEnd(0));
+        assertEquals(2, array.polygonStart(1));
+        assertEquals(3, array.polygonEnd(1));
+        assertEquals(8, array.lineStart(2));
+        assertEquals(12, array.lineEnd(2));
+        assertEquals(5.0, array.getX(8));
+    }
+
+    @Test
+    void read_WhenLargeLine_ShouldGrowBuffers() throws IOException {
+        // Arrange
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            json.append(i == 0 ? "" : ",").append('[').append(i).append(',').append(-i).append(']');
+        }
+        json.append(']');
+
+        // Act
+        CoordinateArray array = read(json.toString());
+
+        // Assert
+        assertEquals(2, array.depth());
+        assertEquals(1000, array.size());
+        assertEquals(999.0, array.getX(999));
+        assertEquals(-999.0, array.getY(999));
+    }
+
+    @Test
+    void read_WhenThreeDimensionalPositions_ShouldKeepXYAndTrackDimension() throws IOException {
+        // Arrange & Act
+        CoordinateArray array = read("[[1,2,3],[4,5]]");
+
+        // Assert
+        assertEquals(2, array.minDimension());
+        assertEquals(3, array.maxDimension());
+        assertEquals(4.0, array.getX(1));
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Invalid Structure
+    // ------------------------------------------------------------
+    @Test
+    void read_WhenNotAnArray_ShouldThrowException() throws IOException {
+        // Arrange
+        JsonParser parser = objectMapper.createParser("{}");
+        parser.nextToken();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> CoordinateArray.read(parser));
+    }
+
+    @Test
+    void read_WhenTooDeep_ShouldThrowException() {
+        // Arrange & Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> read("[[[[[0,0]]]]]"));
+    }
+
+    @Test
+    void read_WhenMixedDepth_ShouldThrowException() {
+        // Arrange & Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> read("[[0,0],[[1,1]]]"));
+        assertThrows(IllegalArgumentException.class, () -> read("[[0,0],null]"));
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Request Binding
+    // ------------------------------------------------------------
+    @Test
+    void readValue_ShouldBindThroughCoordinateArrayDeserializer() throws IOException {
+        // Arrange & Act
+        CoordinateArray array = objectMapper.readValue("[[0,0],[1,2]]", CoordinateArray.class);
+
+        // Assert
+        assertEquals(2, array.depth());
+        assertEquals(2.0, array.getY(1));
+    }
+
+    @Test
+    void readValue_WhenNull_ShouldBindNull() throws IOException {
+        // Arrange & Act & Assert
+        assertNull(objectMapper.readValue("null", CoordinateArray.class));
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Sequence Conversion
+    // ------------------------------------------------------------
+    @Test
+    void toCoordinateSequence_ShouldCopyRequestedRange() throws IOException {
+        // Arrange
+        CoordinateArray array = read("[[0,0],[1,2],[3,4],[5,6]]");
+
+        // Act
+        CoordinateSequence sequence = array.toCoordinateSequence(CoordinateArraySequenceFactory.instance(), 1, 3);
+
+        // Assert
+        assertEquals(2, sequence.size());
+        assertEquals(1.0, sequence.getX(0));
+        assertEquals(4.0, sequence.getY(1));
+    }
+}
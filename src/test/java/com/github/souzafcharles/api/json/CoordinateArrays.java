@@ -0,0 +1,27 @@
+package com.github.souzafcharles.api.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Test data helper: binds nested lists of numbers into a {@link CoordinateArray} through the same
+ * Jackson path a request body takes.
+ */
+public final class CoordinateArrays {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private CoordinateArrays() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static CoordinateArray coordinates(Object nestedCoordinates) {
+        try {
+            return MAPPER.readValue(MAPPER.writeValueAsBytes(nestedCoordinates), CoordinateArray.class);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.github.souzafcharles.api.json;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CoordinateFormatterTest {
+
+    private final char[] buffer = new char[CoordinateFormatter.BUFFER_SIZE];
+
+    private String format(double value, int precision) {
+        int length = CoordinateFormatter.format(value, precision, buffer);
+        return length < 0 ? null : new String(buffer, 0, length);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Rounding and Trailing Zeros
+    // ------------------------------------------------------------
+    @Test
+    void format_WhenValueHasMoreDigits_ShouldRoundToPrecision() {
+        // Arrange & Act & Assert
+        assertEquals("-46.579236", format(-46.5792361234, 6));
+        assertEquals("-22.5933655", format(-22.59336549999, 7));
+        assertEquals("0.000001", format(0.0000005, 6));
+        assertEquals("180", format(179.9999999, 6));
+    }
+
+    @Test
+    void format_WhenFractionHasTrailingZeros_ShouldStripThem() {
+        // Arrange & Act & Assert
+        assertEquals("10.5", format(10.5, 7));
+        assertEquals("10", format(10.0, 7));
+        assertEquals("0.05", format(0.05, 7));
+        assertEquals("-0.0001", format(-0.0001, 7));
+    }
+
+    @Test
+    void format_WhenPrecisionIsZero_ShouldWriteIntegers() {
+        // Arrange & Act & Assert
+        assertEquals("47", format(46.5, 0));
+        assertEquals("-3", format(-2.6, 0));
+    }
+
+    @Test
+    void format_WhenValueRoundsToZero_ShouldNotWriteNegativeZero() {
+        // Arrange & Act & Assert
+        assertEquals("0", format(-0.00000001, 6));
+        assertEquals("0", format(-0.0, 6));
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Values Outside the Exact Range
+    // ------------------------------------------------------------
+    @Test
+    void format_WhenValueCannotBeRepresented_ShouldReturnMinusOne() {
+        // Arrange & Act & Assert
+        assertNull(format(Double.NaN, 6));
+        assertNull(format(Double.POSITIVE_INFINITY, 6));
+        assertNull(format(1e12, 6));
+    }
+
+    @Test
+    void format_WhenPrecisionIsOutOfRange_ShouldThrowException() {
+        // Arrange & Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> CoordinateFormatter.format(1.0, -1, buffer));
+        assertThrows(IllegalArgumentException.class,
+                () -> CoordinateFormatter.format(1.0, CoordinateFormatter.MAX_PRECISION + 1, buffer));
+    }
+
+    @Test
+    void format_WhenLargestSupportedValue_ShouldFitBuffer() {
+        // Arrange & Act & Assert
+        assertEquals("-999.999999999999", format(-999.999999999999, 12));
+    }
+}
@@ -273,4 +273,140 @@ class GeometryDeserializerTest {
         // Assert
         assertNull(result);
     }
-}
\ No newline at end of file
+
+    // ------------------------------------------------------------
+    // TEST: Streaming Mode
+    // ------------------------------------------------------------
+    private final GeometryDeserializer streamingDeserializer = new GeometryDeserializer(GeometryDeserializer.Mode.STREAMING);
+
+    @Test
+    void deserializeStreaming_WhenValidPoint_ShouldReturnPoint() throws IOException {
+        // Arrange
+        String json = "{\"type\":\"Point\",\"coordinates\":[10.5,20.5]}";
+        JsonParser parser = objectMapper.createParser(json);
+
+        // Act
+        Geometry result = streamingDeserializer.deserialize(parser, null);
+
+        // Assert
+        assertInstanceOf(Point.class, result);
+        assertEquals(10.5, ((Point) result).getX(), 0.001);
+        assertEquals(20.5, ((Point) result).getY(), 0.001);
+        assertEquals(4326, result.getSRID());
+    }
+
+    @Test
+    void deserializeStreaming_WhenCoordinatesPrecedeType_ShouldReturnLineString() throws IOException {
+        // Arrange
+        String json = "{\"coordinates\":[[0,0],[10,10,5],[20,20]],\"bbox\":[0,0,20,20],\"type\":\"LineString\"}";
+        JsonParser parser = objectMapper.createParser(json);
+
+        // Act
+        Geometry result = streamingDeserializer.deserialize(parser, null);
+
+        // Assert
+        assertInstanceOf(LineString.class, result);
+        LineString lineString = (LineString) result;
+        assertEquals(3, lineString.getNumPoints());
+        assertEquals(10.0, lineString.getCoordinateN(1).x, 0.001);
+        assertEquals(20.0, lineString.getCoordinateN(2).y, 0.001);
+    }
+
+    @Test
+    void deserializeStreaming_WhenValidPolygon_ShouldReturnShellOnly() throws IOException {
+        // Arrange
+        String json = "{\"type\":\"Polygon\",\"coordinates\":[[[0,0],[0,10],[10,10],[10,0],[0,0]],[[2,2],[2,3],[3,3],[2,2]]]}";
+        JsonParser parser = objectMapper.createParser(json);
+
+        // Act
+        Geometry result = streamingDeserializer.deserialize(parser, null);
+
+        // Assert
+        assertInstanceOf(Polygon.class, result);
+        Polygon polygon = (Polygon) result;
+        assertEquals(5, polygon.getExteriorRing().getNumPoints());
+        assertEquals(0, polygon.getNumInteriorRing());
+    }
+
+    @Test
+    void deserializeStreaming_WhenPolygonRingTooShort_ShouldThrowException() throws IOException {
+        // Arrange
+        String json = "{\"type\":\"Polygon\",\"coordinates\":[[[0,0],[0,10],[10,10]]]}";
+        JsonParser parser = objectMapper.createParser(json);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> streamingDeserializer.deserialize(parser, null));
+    }
+
+    @Test
+    void deserializeStreaming_WhenEmptyOrNullCoordinates_ShouldMatchTreeMode() throws IOException {
+        // Arrange
+        String[] inputs = {
+                "{\"type\":\"Point\",\"coordinates\":null}",
+                "{\"type\":\"Point\",\"coordinates\":[]}",
+                "{\"type\":\"Polygon\",\"coordinates\":[]}",
+                "{\"type\":\"LineString\",\"coordinates\":null}",
+                "null"
+        };
+
+        // Act & Assert
+        for (String json : inputs) {
+            assertNull(streamingDeserializer.deserialize(objectMapper.createParser(json), null), json);
+        }
+        Geometry emptyLine = streamingDeserializer.deserialize(
+                objectMapper.createParser("{\"type\":\"LineString\",\"coordinates\":[]}"), null);
+        assertTrue(emptyLine.isEmpty());
+    }
+
+    @Test
+    void deserializeStreaming_WhenMissingType_ShouldThrowException() throws IOException {
+        // Arrange
+        JsonParser parser = objectMapper.createParser("{\"coordinates\":[10,20]}");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> streamingDeserializer.deserialize(parser, null));
+    }
+
+    @Test
+    void deserializeStreaming_WhenUnsupportedType_ShouldThrowException() throws IOException {
+        // Arrange
+        JsonParser parser = objectMapper.createParser("{\"type\":\"MultiPoint\",\"coordinates\":[[1,2],[3,4]]}");
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> streamingDeserializer.deserialize(parser, null));
+    }
+
+    @Test
+    void deserializeStreaming_WhenNestingIsInconsistent_ShouldThrowException() throws IOException {
+        // Arrange
+        String[] inputs = {
+                "{\"type\":\"LineString\",\"coordinates\":[[0,0],[[1,1]]]}",
+                "{\"type\":\"LineString\",\"coordinates\":[[0,0],[\"1\",1]]}",
+                "{\"type\":\"LineString\",\"coordinates\":[[0,0],[1]]}",
+                "{\"type\":\"Polygon\",\"coordinates\":[[0,0],[1,1]]}"
+        };
+
+        // Act & Assert
+        for (String json : inputs) {
+            JsonParser parser = objectMapper.createParser(json);
+            assertThrows(IllegalArgumentException.class,
+                    () -> streamingDeserializer.deserialize(parser, null), json);
+        }
+    }
+
+    @Test
+    void deserializeStreaming_WhenSameInput_ShouldEqualTreeMode() throws IOException {
+        // Arrange
+        String json = "{\"type\":\"Polygon\",\"coordinates\":[[[-46.57,-22.59],[-46.56,-22.60],[-46.54,-22.59],[-46.57,-22.59]]]}";
+
+        // Act
+        Geometry tree = deserializer.deserialize(objectMapper.createParser(json), null);
+        Geometry streaming = streamingDeserializer.deserialize(objectMapper.createParser(json), null);
+
+        // Assert
+        assertTrue(tree.equalsExact(streaming));
+    }
+}
@@ -1,7 +1,9 @@
 package com.github.souzafcharles.api.json;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.locationtech.jts.geom.*;
@@ -11,6 +13,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.IOException;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -113,10 +117,10 @@ class GeometrySerializerTest {
     }
 
     // ------------------------------------------------------------
-    // TEST: Serialize Unsupported Geometry Type
+    // TEST: Serialize MultiPoint
     // ------------------------------------------------------------
     @Test
-    void serialize_WhenGeometryIsUnsupportedType_ShouldWriteBasicInfo() throws IOException {
+    void serialize_WhenGeometryIsMultiPoint_ShouldWriteCoordinates() throws IOException {
         // Arrange
         MultiPoint multiPoint = geometryFactory.createMultiPointFromCoords(
                 new Coordinate[]{new Coordinate(1.0, 2.0), new Coordinate(3.0, 4.0)}
@@ -126,11 +130,16 @@ class GeometrySerializerTest {
         serializer.serialize(multiPoint, jsonGenerator, serializerProvider);
 
         // Assert
-        verify(jsonGenerator).writeStartObject();
-        verify(jsonGenerator).writeStringField("type", "MultiPoint");
-        verify(jsonGenerator).writeStringField("geometryType", "MultiPoint");
-        verify(jsonGenerator).writeEndObject();
-        verify(jsonGenerator, never()).writeArrayFieldStart("coordinates");
+        InOrder inOrder = inOrder(jsonGenerator);
+        inOrder.verify(jsonGenerator).writeStartObject();
+        inOrder.verify(jsonGenerator).writeStringField("type", "MultiPoint");
+        inOrder.verify(jsonGenerator).writeArrayFieldStart("coordinates");
+        inOrder.verify(jsonGenerator).writeNumber(1.0);
+        inOrder.verify(jsonGenerator).writeNumber(2.0);
+        inOrder.verify(jsonGenerator).writeNumber(3.0);
+        inOrder.verify(jsonGenerator).writeNumber(4.0);
+        inOrder.verify(jsonGenerator).writeEndObject();
+        verify(jsonGenerator, never()).writeStringField(eq("geometryType"), anyString());
     }
 
     // ------------------------------------------------------------
@@ -190,10 +199,10 @@ class GeometrySerializerTest {
     }
 
     // ------------------------------------------------------------
-    // TEST: MultiLineString (Unsupported)
+    // TEST: Serialize MultiLineString
     // ------------------------------------------------------------
     @Test
-    void serialize_WhenGeometryIsMultiLineString_ShouldWriteBasicInfo() throws IOException {
+    void serialize_WhenGeometryIsMultiLineString_ShouldWriteCoordinates() throws IOException {
         // Arrange
         LineString[] lineStrings = {
                 geometryFactory.createLineString(new Coordinate[]{new Coordinate(0,0), new Coordinate(1,1)}),
@@ -207,16 +216,17 @@ class GeometrySerializerTest {
         // Assert
         verify(jsonGenerator).writeStartObject();
         verify(jsonGenerator).writeStringField("type", "MultiLineString");
-        verify(jsonGenerator).writeStringField("geometryType", "MultiLineString");
+        verify(jsonGenerator).writeArrayFieldStart("coordinates");
+        verify(jsonGenerator, times(8)).writeNumber(anyDouble());
+        verify(jsonGenerator, times(2)).writeNumber(3.0);
         verify(jsonGenerator).writeEndObject();
-        verify(jsonGenerator, never()).writeArrayFieldStart("coordinates");
     }
 
     // ------------------------------------------------------------
-    // TEST: Geometry Collection (Unsupported)
+    // TEST: Serialize GeometryCollection
     // ------------------------------------------------------------
     @Test
-    void serialize_WhenGeometryIsGeometryCollection_ShouldWriteBasicInfo() throws IOException {
+    void serialize_WhenGeometryIsGeometryCollection_ShouldWriteNestedGeometries() throws IOException {
         // Arrange
         Geometry[] geometries = {
                 geometryFactory.createPoint(new Coordinate(1, 2)),
@@ -228,17 +238,21 @@ class GeometrySerializerTest {
         serializer.serialize(geometryCollection, jsonGenerator, serializerProvider);
 
         // Assert
-        verify(jsonGenerator).writeStartObject();
-        verify(jsonGenerator).writeStringField("type", "GeometryCollection");
-        verify(jsonGenerator).writeStringField("geometryType", "GeometryCollection");
-        verify(jsonGenerator).writeEndObject();
+        InOrder inOrder = inOrder(jsonGenerator);
+        inOrder.verify(jsonGenerator).writeStartObject();
+        inOrder.verify(jsonGenerator).writeStringField("type", "GeometryCollection");
+        inOrder.verify(jsonGenerator).writeArrayFieldStart("geometries");
+        inOrder.verify(jsonGenerator).writeStringField("type", "Point");
+        inOrder.verify(jsonGenerator).writeStringField("type", "LineString");
+        verify(jsonGenerator, times(3)).writeStartObject();
+        verify(jsonGenerator, times(3)).writeEndObject();
     }
 
     // ------------------------------------------------------------
-    // TEST: MultiPolygon (Unsupported)
+    // TEST: Serialize MultiPolygon
     // ------------------------------------------------------------
     @Test
-    void serialize_WhenGeometryIsMultiPolygon_ShouldWriteBasicInfo() throws IOException {
+    void serialize_WhenGeometryIsMultiPolygon_ShouldWriteCoordinates() throws IOException {
         // Arrange
         Polygon[] polygons = {
                 geometryFactory.createPolygon(new Coordinate[]{
@@ -253,7 +267,87 @@ class GeometrySerializerTest {
         // Assert
         verify(jsonGenerator).writeStartObject();
         verify(jsonGenerator).writeStringField("type", "MultiPolygon");
-        verify(jsonGenerator).writeStringField("geometryType", "MultiPolygon");
+        verify(jsonGenerator).writeArrayFieldStart("coordinates");
+        verify(jsonGenerator, times(10)).writeNumber(anyDouble());
         verify(jsonGenerator).writeEndObject();
     }
-}
\ No newline at end of file
+
+    // ------------------------------------------------------------
+    // TEST: GeoJSON Output Through ObjectMapper
+    // ------------------------------------------------------------
+    @Test
+    void serialize_WhenPolygonHasHole_ShouldWriteInteriorRings() throws IOException {
+        // Arrange
+        LinearRing shell = geometryFactory.createLinearRing(new Coordinate[]{
+                new Coordinate(0, 0), new Coordinate(0, 10), new Coordinate(10, 10), new Coordinate(10, 0), new Coordinate(0, 0)
+        });
+        LinearRing hole = geometryFactory.createLinearRing(new Coordinate[]{
+                new Coordinate(2, 2), new Coordinate(2, 3), new Coordinate(3, 3), new Coordinate(2, 2)
+        });
+        Polygon polygon = geometryFactory.createPolygon(shell, new LinearRing[]{hole});
+
+        // Act
+        String json = objectMapper().writeValueAsString(polygon);
+
+        // Assert
+        assertEquals("{\"type\":\"Polygon\",\"coordinates\":[[[0.0,0.0],[0.0,10.0],[10.0,10.0],[10.0,0.0],[0.0,0.0]],"
+                + "[[2.0,2.0],[2.0,3.0],[3.0,3.0],[2.0,2.0]]]}", json);
+    }
+
+    @Test
+    void serialize_WhenGeometriesAreEmpty_ShouldWriteEmptyCoordinates() throws IOException {
+        // Arrange
+        ObjectMapper objectMapper = objectMapper();
+
+        // Act & Assert
+        assertEquals("{\"type\":\"Point\",\"coordinates\":[]}", objectMapper.writeValueAsString(geometryFactory.createPoint()));
+        assertEquals("{\"type\":\"Polygon\",\"coordinates\":[]}", objectMapper.writeValueAsString(geometryFactory.createPolygon()));
+        assertEquals("{\"type\":\"LineString\",\"coordinates\":[]}", objectMapper.writeValueAsString(geometryFactory.createLinearRing()));
+    }
+
+    private ObjectMapper objectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new SimpleModule().addSerializer(Geometry.class, serializer));
+        return objectMapper;
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Fixed Coordinate Precision
+    // ------------------------------------------------------------
+    @Test
+    void serialize_WhenPrecisionConfigured_ShouldWriteRoundedRawNumbers() throws IOException {
+        // Arrange
+        GeometrySerializer preciseSerializer = new GeometrySerializer(6);
+        Point point = geometryFactory.createPoint(new Coordinate(-46.5792361234, Double.NaN));
+
+        // Act
+        preciseSerializer.serialize(point, jsonGenerator, serializerProvider);
+
+        // Assert
+        verify(jsonGenerator).writeNumber(any(char[].class), eq(0), eq(10));
+        verify(jsonGenerator).writeNumber(Double.NaN);
+    }
+
+    @Test
+    void serialize_WhenPrecisionConfigured_ShouldShortenGeoJson() throws IOException {
+        // Arrange
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new SimpleModule().addSerializer(Geometry.class, new GeometrySerializer(7)));
+        LineString lineString = geometryFactory.createLineString(new Coordinate[]{
+                new Coordinate(-46.57923612345678, -22.59336512345678), new Coordinate(-46.5, 10)
+        });
+
+        // Act
+        String json = objectMapper.writeValueAsString(lineString);
+
+        // Assert
+        assertEquals("{\"type\":\"LineString\",\"coordinates\":[[-46.5792361,-22.5933651],[-46.5,10]]}", json);
+    }
+
+    @Test
+    void constructor_WhenPrecisionOutOfRange_ShouldThrowException() {
+        // Arrange & Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new GeometrySerializer(-2));
+        assertThrows(IllegalArgumentException.class, () -> new GeometrySerializer(CoordinateFormatter.MAX_PRECISION + 1));
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.souzafcharles.api.model.enums;
+
+import com.github.souzafcharles.api.model.entity.SpatialData;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeometryColumnTest {
+
+    // ------------------------------------------------------------
+    // TEST: Parameter Resolution
+    // ------------------------------------------------------------
+    @Test
+    void fromParameter_ShouldResolveColumnNamesIgnoringCase() {
+        // Arrange & Act & Assert
+        assertEquals(GeometryColumn.POINT, GeometryColumn.fromParameter("point"));
+        assertEquals(GeometryColumn.MULTILINESTRING, GeometryColumn.fromParameter("MultiLineString"));
+        for (GeometryColumn column : GeometryColumn.values()) {
+            assertEquals(column, GeometryColumn.fromParameter(column.columnName()));
+        }
+    }
+
+    @Test
+    void fromParameter_WhenUnknown_ShouldThrowIllegalArgumentException() {
+        // Arrange & Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> GeometryColumn.fromParameter("id"));
+        assertThrows(IllegalArgumentException.class, () -> GeometryColumn.fromParameter(null));
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Column for Geometry Type
+    // ------------------------------------------------------------
+    @Test
+    void forGeometry_ShouldResolveColumnFromGeometryType() {
+        // Arrange
+        GeometryFactory factory = new GeometryFactory();
+        Point point = factory.createPoint(new Coordinate(1, 2));
+
+        // Act & Assert
+        assertEquals(GeometryColumn.POINT, GeometryColumn.forGeometry(point));
+        assertEquals(GeometryColumn.MULTIPOINT, GeometryColumn.forGeometry(factory.createMultiPoint(new Point[]{point})));
+        assertEquals(GeometryColumn.MULTIPOLYGON, GeometryColumn.forGeometry(factory.createMultiPolygon()));
+    }
+
+    @Test
+    void forGeometry_WhenNoColumnStoresType_ShouldThrowIllegalArgumentException() {
+        // Arrange
+        GeometryFactory factory = new GeometryFactory();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> GeometryColumn.forGeometry(factory.createGeometryCollection()));
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Entity Accessor
+    // ------------------------------------------------------------
+    @Test
+    void valueOf_ShouldReadMatchingEntityField() {
+        // Arrange
+        Point point = new GeometryFactory().createPoint(new Coordinate(1, 2));
+        SpatialData spatialData = new SpatialData();
+        spatialData.setPoint(point);
+
+        // Act & Assert
+        assertSame(point, GeometryColumn.POINT.valueOf(spatialData));
+        assertNull(GeometryColumn.POLYGON.valueOf(spatialData));
+    }
+}
@@ -0,0 +1,39 @@
+package com.github.souzafcharles.api.model.enums;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialPredicateTest {
+
+    // ------------------------------------------------------------
+    // TEST: Parameter Resolution
+    // ------------------------------------------------------------
+    @Test
+    void fromParameter_ShouldResolvePredicateNamesIgnoringCase() {
+        // Arrange & Act & Assert
+        assertEquals(SpatialPredicate.INTERSECTS, SpatialPredicate.fromParameter("intersects"));
+        assertEquals(SpatialPredicate.CONTAINS, SpatialPredicate.fromParameter("Contains"));
+        assertEquals(SpatialPredicate.WITHIN, SpatialPredicate.fromParameter("WITHIN"));
+        assertEquals(SpatialPredicate.TOUCHES, SpatialPredicate.fromParameter("touches"));
+    }
+
+    @Test
+    void fromParameter_WhenUnknown_ShouldThrowIllegalArgumentException() {
+        // Arrange & Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> SpatialPredicate.fromParameter("ST_Intersects"));
+        assertThrows(IllegalArgumentException.class, () -> SpatialPredicate.fromParameter(null));
+    }
+
+    // ------------------------------------------------------------
+    // TEST: PostGIS Function Names
+    // ------------------------------------------------------------
+    @Test
+    void function_ShouldNamePostgisFunction() {
+        // Arrange & Act & Assert
+        assertEquals("ST_Intersects", SpatialPredicate.INTERSECTS.function());
+        assertEquals("ST_Contains", SpatialPredicate.CONTAINS.function());
+        assertEquals("ST_Within", SpatialPredicate.WITHIN.function());
+        assertEquals("ST_Touches", SpatialPredicate.TOUCHES.function());
+    }
+}
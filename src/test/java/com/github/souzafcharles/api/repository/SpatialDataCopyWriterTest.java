@@ -0,0 +1,85 @@
+package com.github.souzafcharles.api.repository;
+
+import com.github.souzafcharles.api.model.enums.GeometryColumn;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.io.WKBReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialDataCopyWriterTest {
+
+    private final GeometryFactory geometryFactory = new GeometryFactory();
+
+    // ------------------------------------------------------------
+    // TEST: Binary COPY Layout
+    // ------------------------------------------------------------
+    @Test
+    void writeRow_ShouldEncodeIdAndEwkbInMatchingColumn() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SpatialDataCopyWriter writer = new SpatialDataCopyWriter(out);
+        LineString lineString = geometryFactory.createLineString(new Coordinate[]{
+                new Coordinate(-46.5, -22.5), new Coordinate(-46.4, -22.4)
+        });
+
+        // Act
+        writer.writeHeader();
+        writer.writeRow(51L, GeometryColumn.LINESTRING, lineString);
+        writer.writeTrailer();
+
+        // Assert
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+        byte[] signature = new byte[11];
+        in.readFully(signature);
+        assertArrayEquals(new byte[]{'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0}, signature);
+        assertEquals(0, in.readInt());
+        assertEquals(0, in.readInt());
+        assertEquals(7, in.readShort());
+        assertEquals(8, in.readInt());
+        assertEquals(51L, in.readLong());
+        assertEquals(-1, in.readInt());
+        assertEquals(-1, in.readInt());
+        byte[] ewkb = new byte[in.readInt()];
+        in.readFully(ewkb);
+        Geometry decoded = new WKBReader().read(ewkb);
+        assertTrue(lineString.equalsExact(decoded));
+        assertEquals(4326, decoded.getSRID());
+        assertEquals(-1, in.readInt());
+        assertEquals(-1, in.readInt());
+        assertEquals(-1, in.readInt());
+        assertEquals(-1, in.readShort());
+        assertEquals(0, in.available());
+        assertEquals(1L, writer.rows());
+    }
+
+    @Test
+    void writeRow_ShouldKeepExistingSrid() throws Exception {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SpatialDataCopyWriter writer = new SpatialDataCopyWriter(out);
+        Point point = geometryFactory.createPoint(new Coordinate(1, 2));
+        point.setSRID(3857);
+
+        // Act
+        writer.writeRow(1L, GeometryColumn.POINT, point);
+
+        // Assert
+        byte[] bytes = out.toByteArray();
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        in.skipBytes(2 + 4 + 8);
+        byte[] ewkb = new byte[in.readInt()];
+        in.readFully(ewkb);
+        assertEquals(3857, new WKBReader().read(ewkb).getSRID());
+        assertTrue(Arrays.equals(new byte[]{0, 7}, Arrays.copyOf(bytes, 2)));
+    }
+}
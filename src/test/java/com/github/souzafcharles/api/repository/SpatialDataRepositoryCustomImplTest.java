@@ -0,0 +1,198 @@
+package com.github.souzafcharles.api.repository;
+
+import com.github.souzafcharles.api.model.entity.SpatialData;
+import com.github.souzafcharles.api.model.enums.GeometryColumn;
+import com.github.souzafcharles.api.model.enums.SpatialPredicate;
+import com.github.souzafcharles.api.repository.SpatialDataRepositoryCustom.Neighbour;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.io.WKBReader;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpatialDataRepositoryCustomImplTest {
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Query query;
+
+    private SpatialDataRepositoryCustomImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new SpatialDataRepositoryCustomImpl(entityManager);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Bounding Box Query
+    // ------------------------------------------------------------
+    @Test
+    void findIntersectingEnvelope_ShouldUseBoxOperatorOnColumn() {
+        // Arrange
+        SpatialData spatialData = new SpatialData();
+        when(entityManager.createNativeQuery(anyString(), eq(SpatialData.class))).thenReturn(query);
+        when(query.setParameter(anyString(), any())).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of(spatialData));
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+
+        // Act
+        List<SpatialData> result = repository.findIntersectingEnvelope(GeometryColumn.MULTIPOLYGON, -47.0, -23.0, -46.0, -22.0, 25);
+
+        // Assert
+        assertEquals(List.of(spatialData), result);
+        verify(entityManager).createNativeQuery(sql.capture(), eq(SpatialData.class));
+        assertTrue(sql.getValue().contains("multipolygon && ST_MakeEnvelope(:minX, :minY, :maxX, :maxY, 4326)"));
+        verify(query).setParameter("minX", -47.0);
+        verify(query).setParameter("maxY", -22.0);
+        verify(query).setParameter("limit", 25);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Nearest Neighbour Queries
+    // ------------------------------------------------------------
+    @Test
+    void findNearest_ShouldOrderByDistanceOperatorAndMapDistance() {
+        // Arrange
+        SpatialData spatialData = new SpatialData();
+        when(entityManager.createNativeQuery(anyString(), eq(SpatialData.WITH_DISTANCE_MAPPING))).thenReturn(query);
+        when(query.setParameter(anyString(), any())).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of((Object) new Object[]{spatialData, 0.5}));
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+
+        // Act
+        List<Neighbour> result = repository.findNearest(GeometryColumn.POINT, -46.5, -22.5, 3);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertSame(spatialData, result.get(0).spatialData());
+        assertEquals(0.5, result.get(0).distance());
+        verify(entityManager).createNativeQuery(sql.capture(), eq(SpatialData.WITH_DISTANCE_MAPPING));
+        assertTrue(sql.getValue().contains("ORDER BY s.point <-> ST_SetSRID(ST_MakePoint(:x, :y), 4326) LIMIT :k"));
+        verify(query).setParameter("k", 3);
+    }
+
+    @Test
+    void findNearestGeodesic_ShouldReRankIndexCandidatesOnGeography() {
+        // Arrange
+        SpatialData spatialData = new SpatialData();
+        when(entityManager.createNativeQuery(anyString(), eq(SpatialData.WITH_DISTANCE_MAPPING))).thenReturn(query);
+        when(query.setParameter(anyString(), any())).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of((Object) new Object[]{spatialData, 1500.25}));
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+
+        // Act
+        List<Neighbour> result = repository.findNearestGeodesic(GeometryColumn.POLYGON, 10.0, 60.0, 2, 8);
+
+        // Assert
+        assertEquals(1500.25, result.get(0).distance());
+        verify(entityManager).createNativeQuery(sql.capture(), eq(SpatialData.WITH_DISTANCE_MAPPING));
+        assertTrue(sql.getValue().contains("ORDER BY s.polygon <-> ST_SetSRID(ST_MakePoint(:x, :y), 4326) LIMIT :candidates"));
+        assertTrue(sql.getValue().contains("ST_Distance(c.polygon::geography"));
+        verify(query).setParameter("candidates", 8);
+        verify(query).setParameter("k", 2);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Radius Query
+    // ------------------------------------------------------------
+    @Test
+    void findWithinDistance_ShouldFilterWithDWithinOnGeographyCast() {
+        // Arrange
+        SpatialData spatialData = new SpatialData();
+        when(entityManager.createNativeQuery(anyString(), eq(SpatialData.WITH_DISTANCE_MAPPING))).thenReturn(query);
+        when(query.setParameter(anyString(), any())).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of((Object) new Object[]{spatialData, 42.0}));
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+
+        // Act
+        List<Neighbour> result = repository.findWithinDistance(GeometryColumn.LINESTRING, -46.5, -22.5, 100.0, 50);
+
+        // Assert
+        assertEquals(42.0, result.get(0).distance());
+        verify(entityManager).createNativeQuery(sql.capture(), eq(SpatialData.WITH_DISTANCE_MAPPING));
+        assertTrue(sql.getValue().contains("WHERE ST_DWithin(s.linestring::geography, ST_SetSRID(ST_MakePoint(:x, :y), 4326)::geography, :radius)"));
+        verify(query).setParameter("radius", 100.0);
+        verify(query).setParameter("k", 50);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Spatial Predicate Query
+    // ------------------------------------------------------------
+    @Test
+    void findMatching_ShouldPrefilterWithBoxOperatorAndBindWkb() throws Exception {
+        // Arrange
+        Point fence = new GeometryFactory().createPoint(new Coordinate(-46.5, -22.5));
+        when(entityManager.createNativeQuery(anyString(), eq(SpatialData.class))).thenReturn(query);
+        when(query.setParameter(anyString(), any())).thenReturn(query);
+        when(query.getResultList()).thenReturn(List.of());
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<Object> wkb = ArgumentCaptor.forClass(Object.class);
+
+        // Act
+        List<SpatialData> result = repository.findMatching(GeometryColumn.POLYGON, SpatialPredicate.TOUCHES, fence, 10);
+
+        // Assert
+        assertTrue(result.isEmpty());
+        verify(entityManager).createNativeQuery(sql.capture(), eq(SpatialData.class));
+        assertTrue(sql.getValue().contains("ST_GeomFromWKB(:wkb, 4326)"));
+        assertTrue(sql.getValue().contains("WHERE s.polygon && q.geom AND ST_Touches(s.polygon, q.geom)"));
+        verify(query).setParameter(eq("wkb"), wkb.capture());
+        assertTrue(fence.equalsExact(new WKBReader().read((byte[]) wkb.getValue())));
+        verify(query).setParameter("limit", 10);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Vector Tile Query
+    // ------------------------------------------------------------
+    @Test
+    void findTile_ShouldBuildOneLayerPerColumnInsidePostgis() {
+        // Arrange
+        byte[] tile = {0x1a, 0x02};
+        when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+        when(query.setParameter(anyString(), any())).thenReturn(query);
+        when(query.getSingleResult()).thenReturn(tile);
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+
+        // Act
+        byte[] result = repository.findTile(12, 1517, 2323, 4096, 256);
+
+        // Assert
+        assertSame(tile, result);
+        verify(entityManager).createNativeQuery(sql.capture());
+        assertTrue(sql.getValue().contains("ST_TileEnvelope(:z, :x, :y) AS tile"));
+        assertTrue(sql.getValue().contains("ST_Transform(ST_TileEnvelope(:z, :x, :y, margin => :margin), 4326) AS filter"));
+        for (GeometryColumn column : GeometryColumn.values()) {
+            assertTrue(sql.getValue().contains("ST_AsMVT(t, '" + column.columnName() + "', :extent, 'geom', 'id')"));
+            assertTrue(sql.getValue().contains("WHERE s." + column.columnName() + " && b.filter"));
+            assertTrue(sql.getValue().contains("ST_Transform(ST_ClipByBox2D(s." + column.columnName() + ", b.filter::box2d), 3857)"));
+        }
+        verify(query).setParameter("z", 12);
+        verify(query).setParameter("extent", 4096);
+        verify(query).setParameter("margin", 0.0625);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Default Constructor
+    // ------------------------------------------------------------
+    @Test
+    void constructor_WhenDefault_ShouldCreateInstance() {
+        // Arrange & Act & Assert
+        assertNotNull(new SpatialDataRepositoryCustomImpl());
+    }
+}
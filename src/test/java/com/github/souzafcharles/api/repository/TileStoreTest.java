@@ -0,0 +1,294 @@
+package com.github.souzafcharles.api.repository;
+
+import com.github.souzafcharles.api.utils.Messages;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TileStoreTest {
+
+    private static final long MAXIMUM_BYTES = 1 << 20;
+
+    @TempDir
+    Path directory;
+
+    private Path file() {
+        return directory.resolve("tiles.mvtlog");
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Append and Read
+    // ------------------------------------------------------------
+    @Test
+    void append_ShouldBeReadableAndTransferable() throws Exception {
+        // Arrange
+        byte[] tile = {0x1a, 0x02, 0x03};
+        ByteArrayOutputStream transferred = new ByteArrayOutputStream();
+
+        try (TileStore store = TileStore.open(file(), MAXIMUM_BYTES)) {
+            // Act
+            TileStore.Slot slot = store.append(42L, tile);
+            store.transferTo(store.find(42L), Channels.newChannel(transferred));
+
+            // Assert
+            assertEquals(TileStore.FILE_HEADER_BYTES + TileStore.RECORD_HEADER_BYTES, slot.offset());
+            assertEquals(3, slot.length());
+            assertArrayEquals(tile, store.read(slot));
+            assertArrayEquals(tile, transferred.toByteArray());
+            assertNull(store.find(7L));
+        }
+    }
+
+    @Test
+    void append_WhenStoreFull_ShouldReturnNull() throws Exception {
+        // Arrange
+        long maximumBytes = TileStore.FILE_HEADER_BYTES + TileStore.RECORD_HEADER_BYTES + 4;
+
+        try (TileStore store = TileStore.open(file(), maximumBytes)) {
+            // Act
+            TileStore.Slot first = store.append(1L, new byte[4]);
+            TileStore.Slot second = store.append(2L, new byte[1]);
+
+            // Assert
+            assertNotNull(first);
+            assertNull(second);
+            assertEquals(1, store.count());
+            assertTrue(store.remove(1L));
+            assertNull(store.find(1L));
+        }
+    }
+
+    @Test
+    void open_WhenMaximumBelowHeader_ShouldThrowException() {
+        // Arrange & Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> TileStore.open(file(), 2));
+
+        // Assert
+        assertEquals(String.format(Messages.INVALID_TILE_STORE_SIZE, TileStore.FILE_HEADER_BYTES, 2), exception.getMessage());
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Restart Recovery
+    // ------------------------------------------------------------
+    @Test
+    void open_AfterRestart_ShouldRecoverLatestTilesAndTombstones() throws Exception {
+        // Arrange
+        try (TileStore store = TileStore.open(file(), MAXIMUM_BYTES)) {
+            store.append(1L, new byte[]{1});
+            store.append(2L, new byte[]{2});
+            store.append(1L, new byte[]{1, 1});
+            store.remove(2L);
+            assertFalse(store.remove(3L));
+        }
+
+        // Act
+        try (TileStore reopened = TileStore.open(file(), MAXIMUM_BYTES)) {
+            // Assert
+            assertArrayEquals(new byte[]{1, 1}, reopened.read(reopened.find(1L)));
+            assertNull(reopened.find(2L));
+            assertEquals(1, reopened.count());
+        }
+    }
+
+    @Test
+    void open_WhenTailTorn_ShouldTruncateToLastCompleteRecord() throws Exception {
+        // Arrange - the second record claims 100 bytes but only 3 reached the file
+        long complete;
+        try (TileStore store = TileStore.open(file(), MAXIMUM_BYTES)) {
+            store.append(1L, new byte[]{1, 2});
+            complete = store.sizeBytes();
+        }
+        try (FileChannel channel = FileChannel.open(file(), StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            channel.write(ByteBuffer.allocate(TileStore.RECORD_HEADER_BYTES + 3).putLong(2L).putInt(100).rewind());
+        }
+
+        // Act
+        try (TileStore reopened = TileStore.open(file(), MAXIMUM_BYTES)) {
+            // Assert
+            assertEquals(complete, reopened.sizeBytes());
+            assertEquals(complete, Files.size(file()));
+            assertNull(reopened.find(2L));
+            assertArrayEquals(new byte[]{1, 2}, reopened.read(reopened.find(1L)));
+        }
+    }
+
+    @Test
+    void open_WhenHeaderUnknown_ShouldStartEmpty() throws Exception {
+        // Arrange
+        Files.write(file(), new byte[]{0, 0, 0, 0, 9, 9, 9});
+
+        // Act
+        try (TileStore store = TileStore.open(file(), MAXIMUM_BYTES)) {
+            // Assert
+            assertEquals(0, store.count());
+            assertEquals(TileStore.FILE_HEADER_BYTES, store.sizeBytes());
+        }
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Startup Compaction
+    // ------------------------------------------------------------
+    @Test
+    void open_WhenDeadRecordsOutweighLive_ShouldCompact() throws Exception {
+        // Arrange
+        try (TileStore store = TileStore.open(file(), MAXIMUM_BYTES)) {
+            for (int i = 0; i < 10; i++) {
+                store.append(1L, new byte[100]);
+            }
+            store.append(2L, new byte[]{7});
+        }
+
+        // Act
+        try (TileStore reopened = TileStore.open(file(), MAXIMUM_BYTES)) {
+            // Assert
+            assertEquals(TileStore.FILE_HEADER_BYTES + 2L * TileStore.RECORD_HEADER_BYTES + 101, reopened.sizeBytes());
+            assertEquals(100, reopened.read(reopened.find(1L)).length);
+            assertArrayEquals(new byte[]{7}, reopened.read(reopened.find(2L)));
+            assertFalse(Files.exists(directory.resolve("tiles.mvtlog.compact")));
+        }
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Online Compaction
+    // ------------------------------------------------------------
+    // These run the compaction in the writing thread; the store normally runs it on its own thread
+    @Test
+    void append_WhenReplacedTilesFillStore_ShouldCompactAndKeepAccepting() throws Exception {
+        // Arrange - room for four records of 100 bytes
+        long maximumBytes = TileStore.FILE_HEADER_BYTES + 4L * (TileStore.RECORD_HEADER_BYTES + 100);
+
+        try (TileStore store = TileStore.open(file(), maximumBytes, Runnable::run)) {
+            // Act
+            for (int i = 0; i < 20; i++) {
+                byte[] tile = new byte[100];
+                tile[0] = (byte) i;
+                assertNotNull(store.append(1L, tile));
+            }
+
+            // Assert
+            assertEquals(19, store.read(store.find(1L))[0]);
+            assertEquals(1, store.count());
+            assertTrue(store.sizeBytes() <= maximumBytes);
+            assertFalse(Files.exists(directory.resolve("tiles.mvtlog.compact")));
+        }
+    }
+
+    @Test
+    void remove_WhenDeadRecordsOutweighLive_ShouldCompact() throws Exception {
+        // Arrange
+        long maximumBytes = 16L * (TileStore.RECORD_HEADER_BYTES + 100);
+
+        try (TileStore store = TileStore.open(file(), maximumBytes, Runnable::run)) {
+            store.append(1L, new byte[]{7});
+            store.append(2L, new byte[100]);
+
+            // Act
+            store.remove(2L);
+
+            // Assert
+            assertEquals(TileStore.FILE_HEADER_BYTES + TileStore.RECORD_HEADER_BYTES + 1L, store.sizeBytes());
+            assertEquals(store.sizeBytes(), Files.size(file()));
+            assertArrayEquals(new byte[]{7}, store.read(store.find(1L)));
+        }
+    }
+
+    @Test
+    void read_WhenSlotTakenBeforeCompaction_ShouldStillServeTile() throws Exception {
+        // Arrange
+        long maximumBytes = TileStore.FILE_HEADER_BYTES + 4L * (TileStore.RECORD_HEADER_BYTES + 100);
+        byte[] tile = {0x1a, 0x02, 0x03};
+        ByteArrayOutputStream transferred = new ByteArrayOutputStream();
+
+        try (TileStore store = TileStore.open(file(), maximumBytes, Runnable::run)) {
+            TileStore.Slot slot = store.append(1L, tile);
+
+            // Act - the second replacement leaves more dead bytes than live ones and compacts
+            store.append(1L, new byte[100]);
+            store.append(1L, new byte[100]);
+            store.transferTo(slot, Channels.newChannel(transferred));
+
+            // Assert
+            assertEquals(TileStore.FILE_HEADER_BYTES + TileStore.RECORD_HEADER_BYTES + 100L, store.sizeBytes());
+            assertArrayEquals(tile, store.read(slot));
+            assertArrayEquals(tile, transferred.toByteArray());
+        }
+    }
+
+    @Test
+    void append_WhenWrittenDuringCompaction_ShouldCarryRecordsToCompactedFile() throws Exception {
+        // Arrange
+        long maximumBytes = 16L * (TileStore.RECORD_HEADER_BYTES + 100);
+        List<Runnable> compactions = new ArrayList<>();
+
+        try (TileStore store = TileStore.open(file(), maximumBytes, compactions::add)) {
+            store.append(1L, new byte[100]);
+            store.append(1L, new byte[100]);
+            store.append(1L, new byte[100]);
+            store.append(2L, new byte[]{5});
+            store.append(1L, new byte[]{9});
+            store.append(3L, new byte[]{1});
+            store.remove(3L);
+
+            // Act - the compaction scheduled by the third append copies what the store held then
+            assertEquals(1, compactions.size());
+            compactions.get(0).run();
+
+            // Assert
+            assertArrayEquals(new byte[]{9}, store.read(store.find(1L)));
+            assertArrayEquals(new byte[]{5}, store.read(store.find(2L)));
+            assertNull(store.find(3L));
+            assertEquals(TileStore.FILE_HEADER_BYTES + TileStore.RECORD_HEADER_BYTES + 100L
+                    + 3L * (TileStore.RECORD_HEADER_BYTES + 1) + TileStore.RECORD_HEADER_BYTES, store.sizeBytes());
+            assertEquals(store.sizeBytes(), Files.size(file()));
+        }
+        try (TileStore reopened = TileStore.open(file(), maximumBytes)) {
+            assertEquals(2, reopened.count());
+            assertArrayEquals(new byte[]{9}, reopened.read(reopened.find(1L)));
+            assertNull(reopened.find(3L));
+        }
+    }
+
+    @Test
+    void append_WhenCompactingInBackground_ShouldCompactBeforeClose() throws Exception {
+        // Arrange
+        long maximumBytes = 16L * (TileStore.RECORD_HEADER_BYTES + 100);
+
+        try (TileStore store = TileStore.open(file(), maximumBytes)) {
+            // Act
+            store.append(1L, new byte[100]);
+            store.append(1L, new byte[100]);
+            store.append(1L, new byte[]{4});
+        }
+
+        // Assert - close waited for the compaction, so the file holds the live record only
+        assertEquals(TileStore.FILE_HEADER_BYTES + TileStore.RECORD_HEADER_BYTES + 1L, Files.size(file()));
+        assertFalse(Files.exists(directory.resolve("tiles.mvtlog.compact")));
+    }
+
+    @Test
+    void open_WhenLargerThanMaximum_ShouldClear() throws Exception {
+        // Arrange
+        try (TileStore store = TileStore.open(file(), MAXIMUM_BYTES)) {
+            store.append(1L, new byte[100]);
+        }
+
+        // Act
+        try (TileStore reopened = TileStore.open(file(), 64)) {
+            // Assert
+            assertEquals(0, reopened.count());
+            assertEquals(TileStore.FILE_HEADER_BYTES, Files.size(file()));
+        }
+    }
+}
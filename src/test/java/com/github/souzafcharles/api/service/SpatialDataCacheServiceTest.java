@@ -0,0 +1,67 @@
+package com.github.souzafcharles.api.service;
+
+import com.github.souzafcharles.api.config.SecondLevelCacheConfig;
+import com.github.souzafcharles.api.model.dto.SpatialDataCacheStatsDTO;
+import com.github.souzafcharles.api.model.entity.SpatialData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.cache.Cache;
+import javax.cache.CacheManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialDataCacheServiceTest {
+
+    private CacheManager cacheManager;
+    private SpatialDataCacheService spatialDataCacheService;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new SecondLevelCacheConfig().secondLevelCacheManager(500);
+        spatialDataCacheService = new SpatialDataCacheService(cacheManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cacheManager.close();
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Hit / Miss Statistics
+    // ------------------------------------------------------------
+    @Test
+    void getStatistics_ShouldReportHitsMissesAndSize() {
+        // Arrange
+        Cache<Object, Object> cache = cacheManager.getCache(SpatialData.CACHE_REGION);
+        cache.put(1L, "row");
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(2L);
+
+        // Act
+        SpatialDataCacheStatsDTO stats = spatialDataCacheService.getStatistics();
+
+        // Assert
+        assertEquals(2, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(2.0 / 3.0, stats.hitRate(), 1e-9);
+        assertEquals(0, stats.evictions());
+        assertEquals(1, stats.entries());
+        assertEquals(1, stats.weightedVertices());
+        assertEquals(500, stats.maximumWeight());
+    }
+
+    @Test
+    void getStatistics_WhenCacheEmpty_ShouldReportZeroes() {
+        // Arrange & Act
+        SpatialDataCacheStatsDTO stats = spatialDataCacheService.getStatistics();
+
+        // Assert
+        assertEquals(0, stats.hits());
+        assertEquals(0, stats.misses());
+        assertEquals(1.0, stats.hitRate());
+        assertEquals(0, stats.entries());
+    }
+}
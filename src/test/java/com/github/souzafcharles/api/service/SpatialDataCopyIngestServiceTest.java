@@ -0,0 +1,319 @@
+package com.github.souzafcharles.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.souzafcharles.api.config.GeometryConfig;
+import com.github.souzafcharles.api.config.JacksonConfig;
+import com.github.souzafcharles.api.event.SpatialDataChangedEvent;
+import com.github.souzafcharles.api.model.dto.SpatialDataIngestMetricsDTO;
+import com.github.souzafcharles.api.repository.SpatialDataCopyWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.io.WKBReader;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpatialDataCopyIngestServiceTest {
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PGConnection pgConnection;
+
+    @Mock
+    private CopyManager copyManager;
+
+    @Mock
+    private CopyIn copyIn;
+
+    @Mock
+    private PreparedStatement createStatement;
+
+    @Mock
+    private PreparedStatement insertStatement;
+
+    @Mock
+    private PreparedStatement incrementStatement;
+
+    @Mock
+    private ResultSet incrementResultSet;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper(
+            GeometryConfig.packedGeometryFactory(GeometryConfig.CoordinateStorage.DOUBLE), -1);
+    private final ByteArrayOutputStream copied = new ByteArrayOutputStream();
+
+    private SpatialDataCopyIngestService ingestService;
+
+    @BeforeEach
+    void setUp() {
+        ingestService = new SpatialDataCopyIngestService(dataSource, objectMapper, eventPublisher);
+    }
+
+    private void givenCopyConnection() throws Exception {
+        givenSequenceIncrement(50);
+        when(connection.prepareStatement(SpatialDataCopyIngestService.CREATE_STAGING_SQL)).thenReturn(createStatement);
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI()).thenReturn(copyManager);
+        when(copyManager.copyIn(SpatialDataCopyWriter.COPY_SQL)).thenReturn(copyIn);
+        lenient().when(connection.prepareStatement(SpatialDataCopyIngestService.INSERT_STAGED_SQL)).thenReturn(insertStatement);
+        lenient().doAnswer(invocation -> {
+            copied.write(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2));
+            return null;
+        }).when(copyIn).writeToCopy(any(byte[].class), anyInt(), anyInt());
+    }
+
+    private void givenSequenceIncrement(long increment) throws Exception {
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(SpatialDataCopyIngestService.SEQUENCE_INCREMENT_SQL)).thenReturn(incrementStatement);
+        when(incrementStatement.executeQuery()).thenReturn(incrementResultSet);
+        when(incrementResultSet.next()).thenReturn(true);
+        lenient().when(incrementResultSet.getLong(1)).thenReturn(increment);
+    }
+
+    private static String points(int count) {
+        return "{\"features\":[" + String.join(",", Collections.nCopies(count,
+                "{\"geometry\":{\"type\":\"Point\",\"coordinates\":[0,0]}}")) + "]}";
+    }
+
+    private static InputStream body(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Successful Load
+    // ------------------------------------------------------------
+    @Test
+    void ingestFeatureCollection_ShouldCopyOneRowPerFeatureAndCommit() throws Exception {
+        // Arrange
+        givenCopyConnection();
+        String json = """
+                {"type":"FeatureCollection","name":"capitals","features":[
+                  {"type":"Feature","properties":{"name":"a","tags":[1,2]},"geometry":{"type":"Point","coordinates":[-46.5,-22.5]}},
+                  {"type":"Feature","geometry":null},
+                  {"type":"Feature","geometry":{"type":"LineString","coordinates":[[0,0],[1,1]]},"id":7}
+                ]}""";
+
+        // Act
+        SpatialDataIngestMetricsDTO metrics = ingestService.ingestFeatureCollection(body(json));
+
+        // Assert
+        assertEquals(2, metrics.features());
+        assertEquals(1, metrics.skipped());
+        assertEquals(json.length(), metrics.bytesRead());
+        assertTrue(metrics.featuresPerSecond() > 0);
+        verify(dataSource).getConnection();
+        verify(createStatement).execute();
+        verify(copyIn).endCopy();
+        verify(connection).setAutoCommit(false);
+        verify(insertStatement).setLong(1, 0L);
+        verify(insertStatement).setLong(2, 50L);
+        verify(insertStatement).setLong(3, 50L);
+        verify(insertStatement).executeUpdate();
+        verify(connection).commit();
+        verify(connection, never()).rollback();
+        verify(eventPublisher).publishEvent(new SpatialDataChangedEvent(List.of(new Envelope(-46.5, 1.0, -22.5, 1.0))));
+
+        DataInputStream rows = new DataInputStream(new ByteArrayInputStream(copied.toByteArray()));
+        rows.skipBytes(19);
+        assertEquals(7, rows.readShort());
+        rows.skipBytes(4);
+        assertEquals(0L, rows.readLong());
+        Geometry point = new WKBReader().read(rows.readNBytes(rows.readInt()));
+        assertEquals("Point", point.getGeometryType());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(-1, rows.readInt());
+        }
+        assertEquals(7, rows.readShort());
+        rows.skipBytes(4);
+        assertEquals(1L, rows.readLong());
+        assertEquals(-1, rows.readInt());
+        assertEquals(-1, rows.readInt());
+        Geometry lineString = new WKBReader().read(rows.readNBytes(rows.readInt()));
+        assertEquals("LineString", lineString.getGeometryType());
+        rows.skipBytes(12);
+        assertEquals(-1, rows.readShort());
+    }
+
+    @Test
+    void ingestFeatureCollection_WhenMoreRowsThanIncrement_ShouldDrawOneSequenceValuePerBlock() throws Exception {
+        // Arrange
+        givenCopyConnection();
+
+        // Act
+        SpatialDataIngestMetricsDTO metrics = ingestService.ingestFeatureCollection(body(points(51)));
+
+        // Assert - staged ids 0..50 fall in blocks 0 and 1
+        assertEquals(51, metrics.features());
+        verify(insertStatement).setLong(1, 1L);
+        DataInputStream rows = new DataInputStream(new ByteArrayInputStream(copied.toByteArray()));
+        rows.skipBytes(19);
+        for (long expectedId = 0; expectedId < 51; expectedId++) {
+            rows.skipBytes(2 + 4);
+            assertEquals(expectedId, rows.readLong());
+            rows.skipBytes(rows.readInt());
+            rows.skipBytes(5 * 4);
+        }
+    }
+
+    @Test
+    void ingestFeatureCollection_WhenSequenceIncrementIsOne_ShouldDrawOneSequenceValuePerRow() throws Exception {
+        // Arrange
+        givenCopyConnection();
+        when(incrementResultSet.getLong(1)).thenReturn(1L);
+
+        // Act
+        ingestService.ingestFeatureCollection(body(points(3)));
+
+        // Assert
+        verify(insertStatement).setLong(1, 2L);
+        verify(insertStatement).setLong(2, 1L);
+        verify(insertStatement).setLong(3, 1L);
+    }
+
+    @Test
+    void ingestFeatureCollection_WhenNoFeatures_ShouldSkipInsertAndCommit() throws Exception {
+        // Arrange
+        givenCopyConnection();
+
+        // Act
+        SpatialDataIngestMetricsDTO metrics = ingestService.ingestFeatureCollection(body(points(0)));
+
+        // Assert
+        assertEquals(0, metrics.features());
+        verify(connection, never()).prepareStatement(SpatialDataCopyIngestService.INSERT_STAGED_SQL);
+        verify(connection).commit();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void ingestFeatureCollection_WhenSequenceIncrementNotPositive_ShouldRollbackAndThrowDataAccessException() throws Exception {
+        // Arrange
+        givenSequenceIncrement(-1);
+
+        // Act & Assert
+        assertThrows(DataAccessResourceFailureException.class, () -> ingestService.ingestFeatureCollection(body(points(1))));
+        verify(connection).rollback();
+        verify(connection, never()).prepareStatement(SpatialDataCopyIngestService.CREATE_STAGING_SQL);
+        verifyNoInteractions(pgConnection);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Invalid Bodies Roll Back
+    // ------------------------------------------------------------
+    @Test
+    void ingestFeatureCollection_WhenNotAnObject_ShouldCancelCopyAndRollback() throws Exception {
+        // Arrange
+        givenCopyConnection();
+        when(copyIn.isActive()).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> ingestService.ingestFeatureCollection(body("[]")));
+        verify(copyIn).cancelCopy();
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void ingestFeatureCollection_WhenFeaturesNotArray_ShouldThrowIllegalArgumentException() throws Exception {
+        // Arrange
+        givenCopyConnection();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> ingestService.ingestFeatureCollection(body("{\"features\":{}}")));
+        verify(connection).rollback();
+    }
+
+    @Test
+    void ingestFeatureCollection_WhenFeatureNotObject_ShouldThrowIllegalArgumentException() throws Exception {
+        // Arrange
+        givenCopyConnection();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> ingestService.ingestFeatureCollection(body("{\"features\":[1]}")));
+        verify(connection).rollback();
+    }
+
+    @Test
+    void ingestFeatureCollection_WhenJsonMalformed_ShouldThrowIllegalArgumentException() throws Exception {
+        // Arrange
+        givenCopyConnection();
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> ingestService.ingestFeatureCollection(body("{\"features\":[{\"geometry\":")));
+        verify(connection).rollback();
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Database Failures
+    // ------------------------------------------------------------
+    @Test
+    void ingestFeatureCollection_WhenConnectionFails_ShouldThrowDataAccessException() throws Exception {
+        // Arrange
+        when(dataSource.getConnection()).thenThrow(new SQLException("refused"));
+
+        // Act & Assert
+        assertThrows(DataAccessResourceFailureException.class,
+                () -> ingestService.ingestFeatureCollection(body("{\"features\":[]}")));
+    }
+
+    @Test
+    void ingestFeatureCollection_WhenCopyFails_ShouldRollbackAndThrowDataAccessException() throws Exception {
+        // Arrange
+        givenCopyConnection();
+        when(copyIn.endCopy()).thenThrow(new SQLException("invalid geometry"));
+
+        // Act & Assert
+        assertThrows(DataAccessResourceFailureException.class,
+                () -> ingestService.ingestFeatureCollection(body("{\"features\":[]}")));
+        verify(connection).rollback();
+    }
+
+    @Test
+    void ingestFeatureCollection_WhenInsertFails_ShouldRollbackAndThrowDataAccessException() throws Exception {
+        // Arrange
+        givenCopyConnection();
+        when(insertStatement.executeUpdate()).thenThrow(new SQLException("duplicate key"));
+
+        // Act & Assert
+        assertThrows(DataAccessResourceFailureException.class, () -> ingestService.ingestFeatureCollection(body(points(2))));
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+        verifyNoInteractions(eventPublisher);
+    }
+}
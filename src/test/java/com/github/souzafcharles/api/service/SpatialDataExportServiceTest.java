@@ -0,0 +1,172 @@
+package com.github.souzafcharles.api.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.souzafcharles.api.config.GeometryConfig;
+import com.github.souzafcharles.api.config.JacksonConfig;
+import com.github.souzafcharles.api.fgb.FlatGeobufFiles;
+import com.github.souzafcharles.api.model.entity.SpatialData;
+import com.github.souzafcharles.api.model.enums.GeometryColumn;
+import com.github.souzafcharles.api.repository.SpatialDataRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpatialDataExportServiceTest {
+
+    @Mock
+    private SpatialDataRepository spatialDataRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final GeometryFactory geometryFactory = GeometryConfig.packedGeometryFactory(GeometryConfig.CoordinateStorage.DOUBLE);
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper(geometryFactory, 7);
+
+    private SpatialDataExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new SpatialDataExportService(spatialDataRepository, entityManager, objectMapper);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: One Feature Per Non-Null Geometry Column
+    // ------------------------------------------------------------
+    @Test
+    void exportAsGeoJsonSeq_ShouldWriteOneFeaturePerGeometryColumn() throws Exception {
+        // Arrange
+        SpatialData first = new SpatialData();
+        first.setId(1L);
+        first.setPoint(geometryFactory.createPoint(new Coordinate(1.0, 2.0)));
+        first.setPolygon(geometryFactory.createPolygon(new Coordinate[]{
+                new Coordinate(0, 0), new Coordinate(0, 1), new Coordinate(1, 1), new Coordinate(0, 0)
+        }));
+        SpatialData second = new SpatialData();
+        second.setId(2L);
+        second.setLineString(geometryFactory.createLineString(new Coordinate[]{
+                new Coordinate(1, 2), new Coordinate(3, 4)
+        }));
+        when(spatialDataRepository.streamAllOrderById()).thenReturn(Stream.of(first, second));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        exportService.exportAsGeoJsonSeq(outputStream);
+
+        // Assert
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        JsonNode point = objectMapper.readTree(lines[0]);
+        assertEquals("Feature", point.get("type").asText());
+        assertEquals(1L, point.get("id").asLong());
+        assertEquals("Point", point.get("geometry").get("type").asText());
+        assertEquals("point", point.get("properties").get("column").asText());
+        assertEquals("polygon", objectMapper.readTree(lines[1]).get("properties").get("column").asText());
+        JsonNode lineString = objectMapper.readTree(lines[2]);
+        assertEquals(2L, lineString.get("properties").get("id").asLong());
+        assertEquals("[[1,2],[3,4]]", lineString.get("geometry").get("coordinates").toString());
+        verify(entityManager).detach(first);
+        verify(entityManager).detach(second);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Rows Without Geometries
+    // ------------------------------------------------------------
+    @Test
+    void exportAsGeoJsonSeq_WhenRowHasNoGeometry_ShouldWriteNothingButDetach() throws Exception {
+        // Arrange
+        SpatialData empty = new SpatialData();
+        empty.setId(3L);
+        when(spatialDataRepository.streamAllOrderById()).thenReturn(Stream.of(empty));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        // Act
+        exportService.exportAsGeoJsonSeq(outputStream);
+
+        // Assert
+        assertEquals(0, outputStream.size());
+        verify(entityManager).detach(empty);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Output Failures
+    // ------------------------------------------------------------
+    @Test
+    void exportAsGeoJsonSeq_WhenOutputFails_ShouldThrowIOExceptionAndCloseCursor() {
+        // Arrange
+        Coordinate[] coordinates = new Coordinate[5000];
+        for (int i = 0; i < coordinates.length; i++) {
+            coordinates[i] = new Coordinate(i, i);
+        }
+        SpatialData large = new SpatialData();
+        large.setId(4L);
+        large.setLineString(geometryFactory.createLineString(coordinates));
+        AtomicBoolean closed = new AtomicBoolean();
+        when(spatialDataRepository.streamAllOrderById())
+                .thenReturn(Stream.of(large).onClose(() -> closed.set(true)));
+        OutputStream failing = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // Act & Assert
+        IOException exception = assertThrows(IOException.class, () -> exportService.exportAsGeoJsonSeq(failing));
+        assertEquals("Broken pipe", exception.getMessage());
+        assertTrue(closed.get());
+    }
+
+    // ------------------------------------------------------------
+    // TEST: FlatGeobuf Export
+    // ------------------------------------------------------------
+    @Test
+    void exportAsFlatGeobuf_ShouldWriteRowsWithGeometryInColumn(@TempDir Path directory) throws Exception {
+        // Arrange
+        SpatialData withPoint = new SpatialData();
+        withPoint.setId(5L);
+        withPoint.setPoint(geometryFactory.createPoint(new Coordinate(-46.63, -23.55)));
+        SpatialData withoutPoint = new SpatialData();
+        withoutPoint.setId(6L);
+        withoutPoint.setLineString(geometryFactory.createLineString(new Coordinate[]{
+                new Coordinate(1, 2), new Coordinate(3, 4)
+        }));
+        when(spatialDataRepository.streamAllOrderById()).thenReturn(Stream.of(withPoint, withoutPoint));
+        Path target = directory.resolve("point.fgb");
+
+        // Act
+        long features = exportService.exportAsFlatGeobuf(GeometryColumn.POINT, target, 16);
+
+        // Assert
+        FlatGeobufFiles.Contents contents = FlatGeobufFiles.read(target, geometryFactory);
+        assertEquals(1L, features);
+        assertEquals("point", contents.header().name());
+        assertEquals(5L, contents.features().get(0).id());
+        assertTrue(withPoint.getPoint().equalsExact(contents.features().get(0).geometry()));
+        verify(entityManager).detach(withPoint);
+        verify(entityManager).detach(withoutPoint);
+    }
+}
@@ -0,0 +1,151 @@
+package com.github.souzafcharles.api.service;
+
+import com.github.souzafcharles.api.event.SpatialDataChangedEvent;
+import com.github.souzafcharles.api.model.enums.GeometryColumn;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpatialDataFlatGeobufCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private SpatialDataExportService spatialDataExportService;
+
+    private SpatialDataFlatGeobufCache flatGeobufCache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        flatGeobufCache = new SpatialDataFlatGeobufCache(spatialDataExportService, directory, 16);
+    }
+
+    private void exportWrites(String content) throws IOException {
+        when(spatialDataExportService.exportAsFlatGeobuf(eq(GeometryColumn.POLYGON), any(Path.class), eq(16))).thenAnswer(invocation -> {
+            Files.writeString(invocation.getArgument(1), content);
+            return 1L;
+        });
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Build Once, Serve From Disk
+    // ------------------------------------------------------------
+    @Test
+    void get_WhenCalledTwice_ShouldBuildOnce() throws Exception {
+        // Arrange
+        exportWrites("first");
+
+        // Act
+        SpatialDataFlatGeobufCache.Export first = flatGeobufCache.get(GeometryColumn.POLYGON);
+        SpatialDataFlatGeobufCache.Export second = flatGeobufCache.get(GeometryColumn.POLYGON);
+
+        // Assert
+        assertSame(first, second);
+        assertEquals("first", Files.readString(first.path()));
+        assertEquals(directory, first.path().getParent());
+        String name = first.path().getFileName().toString();
+        assertEquals("\"" + name.substring(0, name.length() - SpatialDataFlatGeobufCache.FILE_SUFFIX.length()) + "\"", first.etag());
+        verify(spatialDataExportService, times(1)).exportAsFlatGeobuf(eq(GeometryColumn.POLYGON), any(Path.class), anyInt());
+    }
+
+    @Test
+    void get_AfterWrite_ShouldRebuildAndKeepPreviousFile() throws Exception {
+        // Arrange
+        exportWrites("first");
+        SpatialDataFlatGeobufCache.Export first = flatGeobufCache.get(GeometryColumn.POLYGON);
+        exportWrites("second");
+
+        // Act
+        flatGeobufCache.onSpatialDataChanged(new SpatialDataChangedEvent(List.of()));
+        SpatialDataFlatGeobufCache.Export second = flatGeobufCache.get(GeometryColumn.POLYGON);
+
+        // Assert - a request that took the first export before the write can still read it
+        assertNotEquals(first.etag(), second.etag());
+        assertEquals("second", Files.readString(second.path()));
+        assertEquals("first", Files.readString(first.path()));
+    }
+
+    @Test
+    void get_AfterSecondRebuild_ShouldDeleteFileBeforePrevious() throws Exception {
+        // Arrange
+        exportWrites("first");
+        SpatialDataFlatGeobufCache.Export first = flatGeobufCache.get(GeometryColumn.POLYGON);
+        flatGeobufCache.onSpatialDataChanged(new SpatialDataChangedEvent(List.of()));
+        SpatialDataFlatGeobufCache.Export second = flatGeobufCache.get(GeometryColumn.POLYGON);
+        exportWrites("third");
+
+        // Act
+        flatGeobufCache.onSpatialDataChanged(new SpatialDataChangedEvent(List.of()));
+        SpatialDataFlatGeobufCache.Export third = flatGeobufCache.get(GeometryColumn.POLYGON);
+
+        // Assert
+        assertFalse(Files.exists(first.path()));
+        assertTrue(Files.exists(second.path()));
+        assertEquals("third", Files.readString(third.path()));
+    }
+
+    @Test
+    void get_WhenWriteCommitsDuringBuild_ShouldServeFileButNotCacheIt() throws Exception {
+        // Arrange
+        when(spatialDataExportService.exportAsFlatGeobuf(eq(GeometryColumn.POLYGON), any(Path.class), eq(16))).thenAnswer(invocation -> {
+            flatGeobufCache.onSpatialDataChanged(new SpatialDataChangedEvent(List.of()));
+            Files.writeString(invocation.getArgument(1), "stale");
+            return 1L;
+        });
+
+        // Act
+        SpatialDataFlatGeobufCache.Export first = flatGeobufCache.get(GeometryColumn.POLYGON);
+        SpatialDataFlatGeobufCache.Export second = flatGeobufCache.get(GeometryColumn.POLYGON);
+
+        // Assert
+        assertEquals("stale", Files.readString(second.path()));
+        assertNotEquals(first.etag(), second.etag());
+        verify(spatialDataExportService, times(2)).exportAsFlatGeobuf(eq(GeometryColumn.POLYGON), any(Path.class), anyInt());
+    }
+
+    @Test
+    void get_WhenExportFails_ShouldDeletePartialFile() throws Exception {
+        // Arrange
+        when(spatialDataExportService.exportAsFlatGeobuf(eq(GeometryColumn.POLYGON), any(Path.class), eq(16)))
+                .thenThrow(new IOException("Disk full"));
+
+        // Act
+        IOException exception = assertThrows(IOException.class, () -> flatGeobufCache.get(GeometryColumn.POLYGON));
+
+        // Assert
+        assertEquals("Disk full", exception.getMessage());
+        try (var files = Files.list(directory)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    void spatialDataFlatGeobufCache_OnStartup_ShouldDeleteLeftoverExports() throws Exception {
+        // Arrange
+        Path leftover = Files.writeString(directory.resolve("polygon-123" + SpatialDataFlatGeobufCache.FILE_SUFFIX), "old");
+        Path spool = Files.writeString(directory.resolve("polygon-456" + SpatialDataFlatGeobufCache.SPOOL_SUFFIX), "partial");
+
+        // Act
+        new SpatialDataFlatGeobufCache(spatialDataExportService, directory, 16);
+
+        // Assert
+        assertFalse(Files.exists(leftover));
+        assertFalse(Files.exists(spool));
+    }
+}
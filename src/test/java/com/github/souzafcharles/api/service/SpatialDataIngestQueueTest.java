@@ -0,0 +1,313 @@
+package com.github.souzafcharles.api.service;
+
+import com.github.souzafcharles.api.config.GeometryConfig;
+import com.github.souzafcharles.api.exception.IngestQueueFullException;
+import com.github.souzafcharles.api.model.dto.IngestTicketResponseDTO;
+import com.github.souzafcharles.api.model.dto.SpatialDataDeserializerRequestDTO;
+import com.github.souzafcharles.api.model.dto.SpatialDataSerializerRequestDTO;
+import com.github.souzafcharles.api.model.entity.SpatialData;
+import com.github.souzafcharles.api.model.enums.IngestStatus;
+import com.github.souzafcharles.api.repository.SpatialDataRepository;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.github.souzafcharles.api.json.CoordinateArrays.coordinates;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpatialDataIngestQueueTest {
+
+    @Mock
+    private SpatialDataRepository spatialDataRepository;
+
+    private final GeometryFactory geometryFactory = GeometryConfig.packedGeometryFactory(GeometryConfig.CoordinateStorage.DOUBLE);
+    private final MutableClock clock = new MutableClock();
+    private SpatialDataIngestQueue ingestQueue;
+
+    private SpatialDataIngestQueue newQueue(int capacity, int workers, int batchSize) {
+        SpatialDataService spatialDataService = new SpatialDataService(spatialDataRepository, geometryFactory);
+        ingestQueue = new SpatialDataIngestQueue(spatialDataService, spatialDataRepository, capacity, workers, batchSize,
+                3, Duration.ofMinutes(10), clock);
+        ingestQueue.start();
+        return ingestQueue;
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (ingestQueue != null) {
+            ingestQueue.stop();
+        }
+    }
+
+    private void givenSaveAllAssignsIds() {
+        AtomicLong nextId = new AtomicLong(1);
+        when(spatialDataRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<SpatialData> entities = invocation.getArgument(0);
+            entities.forEach(entity -> entity.setId(nextId.getAndIncrement()));
+            return entities;
+        });
+    }
+
+    private SpatialDataSerializerRequestDTO pointRequest() {
+        return new SpatialDataSerializerRequestDTO(coordinates(List.of(1.0, 2.0)), null, null, null, null, null);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Enqueue and Group Commit
+    // ------------------------------------------------------------
+    @Test
+    @SuppressWarnings("unchecked")
+    void processNextBatch_ShouldSaveQueuedRequestsInOneCall() throws Exception {
+        // Arrange
+        newQueue(10, 0, 10);
+        givenSaveAllAssignsIds();
+        LineString lineString = geometryFactory.createLineString(new Coordinate[]{new Coordinate(0, 0), new Coordinate(1, 1)});
+        IngestTicketResponseDTO first = ingestQueue.submit(pointRequest());
+        IngestTicketResponseDTO second = ingestQueue.submit(
+                new SpatialDataDeserializerRequestDTO(null, null, lineString, null, null, null));
+
+        // Act
+        int processed = ingestQueue.processNextBatch(10);
+
+        // Assert
+        assertEquals(IngestStatus.PENDING, first.status());
+        assertEquals(2, processed);
+        ArgumentCaptor<List<SpatialData>> saved = ArgumentCaptor.forClass(List.class);
+        verify(spatialDataRepository, times(1)).saveAll(saved.capture());
+        assertNotNull(saved.getValue().get(0).getPoint());
+        assertSame(lineString, saved.getValue().get(1).getLineString());
+        assertEquals(new IngestTicketResponseDTO(first.ticket(), IngestStatus.COMPLETED, 1L, null), ingestQueue.getTicket(first.ticket()));
+        assertEquals(2L, ingestQueue.getTicket(second.ticket()).id());
+    }
+
+    @Test
+    void processNextBatch_ShouldTakeAtMostBatchSize() throws Exception {
+        // Arrange
+        newQueue(10, 0, 2);
+        givenSaveAllAssignsIds();
+        for (int i = 0; i < 3; i++) {
+            ingestQueue.submit(pointRequest());
+        }
+
+        // Act & Assert
+        assertEquals(2, ingestQueue.processNextBatch(10));
+        assertEquals(1, ingestQueue.queuedCount());
+        assertEquals(1, ingestQueue.processNextBatch(10));
+        assertEquals(0, ingestQueue.processNextBatch(1));
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Backpressure
+    // ------------------------------------------------------------
+    @Test
+    void submit_WhenQueueFull_ShouldRejectWithRetryAfter() {
+        // Arrange
+        newQueue(1, 0, 10);
+        ingestQueue.submit(pointRequest());
+
+        // Act
+        IngestQueueFullException exception = assertThrows(IngestQueueFullException.class,
+                () -> ingestQueue.submit(pointRequest()));
+
+        // Assert
+        assertEquals(3, exception.getRetryAfterSeconds());
+        assertEquals(1, ingestQueue.queuedCount());
+    }
+
+    @Test
+    void submit_WhenStopped_ShouldReject() throws Exception {
+        // Arrange
+        newQueue(10, 0, 10);
+        ingestQueue.stop();
+
+        // Act & Assert
+        assertThrows(IngestQueueFullException.class, () -> ingestQueue.submit(pointRequest()));
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Failures
+    // ------------------------------------------------------------
+    @Test
+    @SuppressWarnings("unchecked")
+    void processNextBatch_WhenOneRequestInvalid_ShouldFailOnlyThatTicket() throws Exception {
+        // Arrange
+        newQueue(10, 0, 10);
+        givenSaveAllAssignsIds();
+        IngestTicketResponseDTO valid = ingestQueue.submit(pointRequest());
+        IngestTicketResponseDTO invalid = ingestQueue.submit(new SpatialDataSerializerRequestDTO(
+                null, null, null, null, coordinates(List.of(List.of(List.of(0.0, 0.0), List.of(1.0, 1.0)))), null));
+
+        // Act
+        ingestQueue.processNextBatch(10);
+
+        // Assert
+        assertEquals(IngestStatus.COMPLETED, ingestQueue.getTicket(valid.ticket()).status());
+        IngestTicketResponseDTO failed = ingestQueue.getTicket(invalid.ticket());
+        assertEquals(IngestStatus.FAILED, failed.status());
+        assertNull(failed.id());
+        assertNotNull(failed.error());
+        ArgumentCaptor<List<SpatialData>> saved = ArgumentCaptor.forClass(List.class);
+        verify(spatialDataRepository).saveAll(saved.capture());
+        assertEquals(1, saved.getValue().size());
+    }
+
+    @Test
+    void processNextBatch_WhenGroupRejected_ShouldRetryEachRequestAndFailOnlyTheOffendingOne() throws Exception {
+        // Arrange
+        newQueue(10, 0, 10);
+        when(spatialDataRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("constraint"));
+        AtomicLong nextId = new AtomicLong(1);
+        when(spatialDataRepository.save(any(SpatialData.class))).thenAnswer(invocation -> {
+            SpatialData entity = invocation.getArgument(0);
+            if (entity.getMultiPoint() != null) {
+                throw new DataIntegrityViolationException("constraint");
+            }
+            entity.setId(nextId.getAndIncrement());
+            return entity;
+        });
+        IngestTicketResponseDTO first = ingestQueue.submit(pointRequest());
+        IngestTicketResponseDTO offending = ingestQueue.submit(new SpatialDataSerializerRequestDTO(
+                null, coordinates(List.of(List.of(1.0, 2.0))), null, null, null, null));
+        IngestTicketResponseDTO third = ingestQueue.submit(pointRequest());
+
+        // Act
+        ingestQueue.processNextBatch(10);
+
+        // Assert
+        assertEquals(new IngestTicketResponseDTO(first.ticket(), IngestStatus.COMPLETED, 1L, null), ingestQueue.getTicket(first.ticket()));
+        assertEquals(new IngestTicketResponseDTO(offending.ticket(), IngestStatus.FAILED, null, "Database error occurred"),
+                ingestQueue.getTicket(offending.ticket()));
+        assertEquals(new IngestTicketResponseDTO(third.ticket(), IngestStatus.COMPLETED, 2L, null), ingestQueue.getTicket(third.ticket()));
+        verify(spatialDataRepository, times(3)).save(any(SpatialData.class));
+    }
+
+    @Test
+    void processNextBatch_WhenSaveFailsOutsideDatabase_ShouldFailWholeBatch() throws Exception {
+        // Arrange
+        newQueue(10, 0, 10);
+        when(spatialDataRepository.saveAll(anyList())).thenThrow(new IllegalStateException("closed"));
+        IngestTicketResponseDTO first = ingestQueue.submit(pointRequest());
+        IngestTicketResponseDTO second = ingestQueue.submit(pointRequest());
+
+        // Act
+        ingestQueue.processNextBatch(10);
+
+        // Assert
+        assertEquals(IngestStatus.FAILED, ingestQueue.getTicket(first.ticket()).status());
+        assertEquals("Database error occurred", ingestQueue.getTicket(second.ticket()).error());
+        verify(spatialDataRepository, never()).save(any(SpatialData.class));
+    }
+
+    @Test
+    void processNextBatch_WhenOnlyInvalidRequests_ShouldNotCallRepository() throws Exception {
+        // Arrange
+        newQueue(10, 0, 10);
+        ingestQueue.submit(new SpatialDataSerializerRequestDTO(
+                null, null, null, null, coordinates(List.of(List.of(List.of(0.0, 0.0)))), null));
+
+        // Act
+        ingestQueue.processNextBatch(10);
+
+        // Assert
+        verifyNoInteractions(spatialDataRepository);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Ticket Lookup and Retention
+    // ------------------------------------------------------------
+    @Test
+    void getTicket_WhenUnknown_ShouldThrowEntityNotFound() {
+        // Arrange
+        newQueue(10, 0, 10);
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> ingestQueue.getTicket("missing"));
+    }
+
+    @Test
+    void processNextBatch_ShouldEvictTicketsFinishedBeforeRetention() throws Exception {
+        // Arrange
+        newQueue(10, 0, 10);
+        givenSaveAllAssignsIds();
+        IngestTicketResponseDTO ticket = ingestQueue.submit(pointRequest());
+        ingestQueue.processNextBatch(10);
+        clock.advance(Duration.ofMinutes(5));
+
+        // Act
+        ingestQueue.processNextBatch(1);
+        IngestTicketResponseDTO stillKept = ingestQueue.getTicket(ticket.ticket());
+        clock.advance(Duration.ofMinutes(6));
+        ingestQueue.processNextBatch(1);
+
+        // Assert
+        assertEquals(IngestStatus.COMPLETED, stillKept.status());
+        assertThrows(EntityNotFoundException.class, () -> ingestQueue.getTicket(ticket.ticket()));
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Virtual-Thread Workers
+    // ------------------------------------------------------------
+    @Test
+    void stop_ShouldLetWorkersDrainQueuedRequests() throws Exception {
+        // Arrange
+        newQueue(100, 2, 10);
+        givenSaveAllAssignsIds();
+        IngestTicketResponseDTO[] tickets = new IngestTicketResponseDTO[20];
+        for (int i = 0; i < tickets.length; i++) {
+            tickets[i] = ingestQueue.submit(pointRequest());
+        }
+
+        // Act
+        ingestQueue.stop();
+
+        // Assert
+        for (IngestTicketResponseDTO ticket : tickets) {
+            assertEquals(IngestStatus.COMPLETED, ingestQueue.getTicket(ticket.ticket()).status());
+        }
+        assertEquals(0, ingestQueue.queuedCount());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.github.souzafcharles.api.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.souzafcharles.api.config.GeometryConfig;
+import com.github.souzafcharles.api.config.JacksonConfig;
+import com.github.souzafcharles.api.model.dto.NdjsonLineErrorDTO;
+import com.github.souzafcharles.api.model.dto.SpatialDataNdjsonIngestResponseDTO;
+import com.github.souzafcharles.api.model.entity.SpatialData;
+import com.github.souzafcharles.api.repository.SpatialDataRepository;
+import com.github.souzafcharles.api.utils.Messages;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpatialDataNdjsonIngestServiceTest {
+
+    private static final String POINT_LINE = "{\"point\":{\"type\":\"Point\",\"coordinates\":[-46.57,-22.59]}}";
+
+    @Mock
+    private SpatialDataRepository spatialDataRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final List<Integer> savedChunkSizes = new ArrayList<>();
+    private SpatialDataService spatialDataService;
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        GeometryFactory geometryFactory = GeometryConfig.packedGeometryFactory(GeometryConfig.CoordinateStorage.DOUBLE);
+        spatialDataService = new SpatialDataService(spatialDataRepository, geometryFactory);
+        objectMapper = new JacksonConfig().objectMapper(geometryFactory, -1);
+    }
+
+    private SpatialDataNdjsonIngestService newService(int batchSize, int maxReportedErrors) {
+        return new SpatialDataNdjsonIngestService(spatialDataService, spatialDataRepository, entityManager, objectMapper, batchSize, maxReportedErrors);
+    }
+
+    // saveAll returns a copy of its argument, since the service reuses the chunk list after each flush
+    private void givenSaveAllRecordsChunkSizes() {
+        when(spatialDataRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<SpatialData> chunk = invocation.getArgument(0);
+            savedChunkSizes.add(chunk.size());
+            return List.copyOf(chunk);
+        });
+    }
+
+    private SpatialDataNdjsonIngestResponseDTO ingest(SpatialDataNdjsonIngestService service, String body) throws IOException {
+        return service.ingest(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Chunked Saves
+    // ------------------------------------------------------------
+    @Test
+    void ingest_ShouldSaveEveryBatchSizeLines() throws Exception {
+        // Arrange
+        givenSaveAllRecordsChunkSizes();
+        String body = (POINT_LINE + "\n").repeat(5);
+
+        // Act
+        SpatialDataNdjsonIngestResponseDTO result = ingest(newService(2, 10), body);
+
+        // Assert
+        assertEquals(List.of(2, 2, 1), savedChunkSizes);
+        assertEquals(new SpatialDataNdjsonIngestResponseDTO(5, 5, 0, List.of(), false), result);
+    }
+
+    @Test
+    void ingest_ShouldClearPersistenceContextAfterEveryChunk() throws Exception {
+        // Arrange
+        List<SpatialData> managed = new ArrayList<>();
+        List<Integer> managedBeforeSave = new ArrayList<>();
+        when(spatialDataRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<SpatialData> chunk = invocation.getArgument(0);
+            managedBeforeSave.add(managed.size());
+            managed.addAll(chunk);
+            return List.copyOf(chunk);
+        });
+        doAnswer(invocation -> {
+            managed.clear();
+            return null;
+        }).when(entityManager).clear();
+        String body = (POINT_LINE + "\n").repeat(5);
+
+        // Act
+        ingest(newService(2, 10), body);
+
+        // Assert
+        assertEquals(List.of(0, 0, 0), managedBeforeSave);
+        assertTrue(managed.isEmpty());
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    void ingest_ShouldMapGeometriesWithGeometryDeserializer() throws Exception {
+        // Arrange
+        List<SpatialData> saved = new ArrayList<>();
+        when(spatialDataRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            saved.addAll(invocation.getArgument(0));
+            return List.copyOf(saved);
+        });
+        String line = "{\"linestring\":{\"type\":\"LineString\",\"coordinates\":[[0,0],[1,1]]}}";
+
+        // Act
+        ingest(newService(10, 10), line);
+
+        // Assert
+        SpatialData entity = saved.get(0);
+        assertEquals(2, entity.getLineString().getNumPoints());
+        assertNull(entity.getPoint());
+    }
+
+    @Test
+    void ingest_ShouldSkipBlankLinesAndAcceptCrlf() throws Exception {
+        // Arrange
+        givenSaveAllRecordsChunkSizes();
+        String body = POINT_LINE + "\r\n\r\n   \n" + POINT_LINE;
+
+        // Act
+        SpatialDataNdjsonIngestResponseDTO result = ingest(newService(10, 10), body);
+
+        // Assert
+        assertEquals(2, result.lines());
+        assertEquals(2, result.saved());
+        assertEquals(List.of(2), savedChunkSizes);
+    }
+
+    @Test
+    void ingest_WhenEmptyBody_ShouldNotCallRepository() throws Exception {
+        // Act
+        SpatialDataNdjsonIngestResponseDTO result = ingest(newService(10, 10), "");
+
+        // Assert
+        assertEquals(0, result.lines());
+        verifyNoInteractions(spatialDataRepository);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Per-line Errors
+    // ------------------------------------------------------------
+    @Test
+    void ingest_ShouldReportInvalidLinesAndContinue() throws Exception {
+        // Arrange
+        givenSaveAllRecordsChunkSizes();
+        String body = String.join("\n",
+                POINT_LINE,
+                "{not json",
+                "{\"polygon\":{\"type\":\"Polygon\",\"coordinates\":[[[0,0],[1,1]]]}}",
+                "{\"polygon\":{\"type\":\"Point\",\"coordinates\":[0,0]}}",
+                "null",
+                POINT_LINE + " " + POINT_LINE,
+                POINT_LINE);
+
+        // Act
+        SpatialDataNdjsonIngestResponseDTO result = ingest(newService(10, 10), body);
+
+        // Assert
+        assertEquals(7, result.lines());
+        assertEquals(2, result.saved());
+        assertEquals(5, result.failed());
+        assertEquals(List.of(2L, 3L, 4L, 5L, 6L), result.errors().stream().map(NdjsonLineErrorDTO::line).toList());
+        assertEquals(Messages.INVALID_POLYGON_COORDINATES, result.errors().get(1).message());
+        assertEquals(Messages.GEOMETRY_FIELD_MISMATCH, result.errors().get(2).message());
+        assertEquals(Messages.INVALID_NDJSON_LINE, result.errors().get(3).message());
+        assertFalse(result.errorsTruncated());
+    }
+
+    @Test
+    void ingest_WhenChunkRejected_ShouldRetryEachLineAndFailOnlyTheOffendingOne() throws Exception {
+        // Arrange - the database rejects the first chunk because of line 2
+        List<SpatialData> rejected = new ArrayList<>();
+        when(spatialDataRepository.saveAll(anyList()))
+                .thenAnswer(invocation -> {
+                    rejected.addAll(invocation.getArgument(0));
+                    throw new DataIntegrityViolationException("constraint");
+                })
+                .thenAnswer(invocation -> List.copyOf(invocation.getArgument(0)));
+        List<SpatialData> retried = new ArrayList<>();
+        when(spatialDataRepository.save(any(SpatialData.class))).thenAnswer(invocation -> {
+            retried.add(invocation.getArgument(0));
+            if (retried.size() == 2) {
+                throw new DataIntegrityViolationException("constraint");
+            }
+            return invocation.getArgument(0);
+        });
+        String body = (POINT_LINE + "\n").repeat(4);
+
+        // Act
+        SpatialDataNdjsonIngestResponseDTO result = ingest(newService(3, 10), body);
+
+        // Assert
+        assertEquals(3, result.saved());
+        assertEquals(1, result.failed());
+        assertEquals(List.of(new NdjsonLineErrorDTO(2, Messages.DATABASE_ERROR)), result.errors());
+        assertEquals(3, retried.size());
+        for (int i = 0; i < retried.size(); i++) {
+            assertNotSame(rejected.get(i), retried.get(i));
+            assertNull(retried.get(i).getId());
+        }
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    void ingest_WhenChunkSaveFailsOutsideDatabase_ShouldPropagate() {
+        // Arrange
+        when(spatialDataRepository.saveAll(anyList())).thenThrow(new IllegalStateException("bug"));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> ingest(newService(2, 10), POINT_LINE + "\n"));
+        verify(spatialDataRepository, never()).save(any(SpatialData.class));
+    }
+
+    @Test
+    void ingest_ShouldCapReportedErrors() throws Exception {
+        // Arrange
+        String body = "{bad\n".repeat(4);
+
+        // Act
+        SpatialDataNdjsonIngestResponseDTO result = ingest(newService(10, 2), body);
+
+        // Assert
+        assertEquals(4, result.failed());
+        assertEquals(2, result.errors().size());
+        assertTrue(result.errorsTruncated());
+        verifyNoInteractions(spatialDataRepository);
+    }
+}
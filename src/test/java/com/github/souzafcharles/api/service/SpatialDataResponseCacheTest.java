@@ -0,0 +1,154 @@
+package com.github.souzafcharles.api.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.souzafcharles.api.config.GeometryConfig;
+import com.github.souzafcharles.api.config.JacksonConfig;
+import com.github.souzafcharles.api.model.entity.SpatialData;
+import com.github.souzafcharles.api.repository.SpatialDataRepository;
+import com.github.souzafcharles.api.service.SpatialDataResponseCache.EncodedResponse;
+import com.github.souzafcharles.api.utils.Messages;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpatialDataResponseCacheTest {
+
+    @Mock
+    private SpatialDataRepository spatialDataRepository;
+
+    private final GeometryFactory geometryFactory = GeometryConfig.packedGeometryFactory(GeometryConfig.CoordinateStorage.DOUBLE);
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper(geometryFactory, 7);
+
+    private SpatialDataResponseCache spatialDataResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        SpatialDataService spatialDataService = new SpatialDataService(spatialDataRepository, geometryFactory);
+        spatialDataResponseCache = new SpatialDataResponseCache(spatialDataService, objectMapper, 1 << 20, true);
+    }
+
+    private SpatialData row(long version, double x) {
+        SpatialData spatialData = new SpatialData();
+        spatialData.setId(1L);
+        spatialData.setVersion(version);
+        spatialData.setPoint(geometryFactory.createPoint(new Coordinate(x, 2.0)));
+        spatialData.setPolygon(geometryFactory.createPolygon(new Coordinate[]{
+                new Coordinate(0, 0), new Coordinate(0, 1), new Coordinate(1, 1), new Coordinate(0, 0)}));
+        return spatialData;
+    }
+
+    private static byte[] gunzip(byte[] gzip) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzip))) {
+            return in.readAllBytes();
+        }
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Cache By Id And Version
+    // ------------------------------------------------------------
+    @Test
+    void getById_WhenVersionUnchanged_ShouldReuseEncodedBytes() throws IOException {
+        // Arrange
+        when(spatialDataRepository.findById(1L)).thenReturn(Optional.of(row(0, 1.0)));
+
+        // Act
+        EncodedResponse first = spatialDataResponseCache.getById(1L);
+        EncodedResponse second = spatialDataResponseCache.getById(1L);
+
+        // Assert
+        assertSame(first, second);
+        JsonNode json = objectMapper.readTree(first.json());
+        assertEquals(1, json.get("id").asLong());
+        assertEquals("Point", json.get("point").get("type").asText());
+        assertArrayEquals(first.json(), gunzip(first.gzip()));
+    }
+
+    @Test
+    void getById_WhenVersionChanges_ShouldEncodeAgain() throws IOException {
+        // Arrange
+        when(spatialDataRepository.findById(1L)).thenReturn(Optional.of(row(0, 1.0)), Optional.of(row(1, 5.0)));
+
+        // Act
+        EncodedResponse before = spatialDataResponseCache.getById(1L);
+        EncodedResponse after = spatialDataResponseCache.getById(1L);
+
+        // Assert
+        assertNotSame(before, after);
+        assertEquals(5.0, objectMapper.readTree(after.json()).get("point").get("coordinates").get(0).asDouble());
+    }
+
+    @Test
+    void getPolygonAsGeoJson_ShouldBeCachedApartFromRecord() throws IOException {
+        // Arrange
+        when(spatialDataRepository.findById(1L)).thenReturn(Optional.of(row(0, 1.0)));
+
+        // Act
+        EncodedResponse record = spatialDataResponseCache.getById(1L);
+        EncodedResponse feature = spatialDataResponseCache.getPolygonAsGeoJson(1L);
+
+        // Assert
+        assertNotSame(record, feature);
+        assertEquals(Messages.GEOJSON_FEATURE_TYPE, objectMapper.readTree(feature.json()).get("type").asText());
+        assertSame(feature, spatialDataResponseCache.getPolygonAsGeoJson(1L));
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Gzip Disabled
+    // ------------------------------------------------------------
+    @Test
+    void getById_WhenGzipDisabled_ShouldKeepPlainJsonOnly() {
+        // Arrange
+        SpatialDataResponseCache plainCache = new SpatialDataResponseCache(
+                new SpatialDataService(spatialDataRepository, geometryFactory), objectMapper, 1 << 20, false);
+        when(spatialDataRepository.findById(1L)).thenReturn(Optional.of(row(0, 1.0)));
+
+        // Act
+        EncodedResponse response = plainCache.getById(1L);
+
+        // Assert
+        assertNull(response.gzip());
+        assertTrue(response.json().length > 0);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Errors
+    // ------------------------------------------------------------
+    @Test
+    void getById_WhenNotFound_ShouldThrowException() {
+        // Arrange
+        when(spatialDataRepository.findById(9L)).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(EntityNotFoundException.class, () -> spatialDataResponseCache.getById(9L));
+    }
+
+    @Test
+    void getPolygonAsGeoJson_WhenNoPolygon_ShouldThrowException() {
+        // Arrange
+        SpatialData spatialData = row(0, 1.0);
+        spatialData.setPolygon(null);
+        when(spatialDataRepository.findById(1L)).thenReturn(Optional.of(spatialData));
+
+        // Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> spatialDataResponseCache.getPolygonAsGeoJson(1L));
+
+        // Assert
+        assertEquals(String.format(Messages.NO_POLYGON_FOUND, 1L), exception.getMessage());
+    }
+}
@@ -1,22 +1,37 @@
 package com.github.souzafcharles.api.service;
 
+import com.github.souzafcharles.api.config.GeometryConfig;
+import com.github.souzafcharles.api.event.SpatialDataChangedEvent;
+import com.github.souzafcharles.api.json.CoordinateArray;
 import com.github.souzafcharles.api.model.dto.*;
 import com.github.souzafcharles.api.model.entity.SpatialData;
+import com.github.souzafcharles.api.model.enums.GeometryColumn;
+import com.github.souzafcharles.api.model.enums.SpatialPredicate;
 import com.github.souzafcharles.api.repository.SpatialDataRepository;
+import com.github.souzafcharles.api.repository.SpatialDataRepositoryCustom.Neighbour;
+import com.github.souzafcharles.api.utils.KeysetCursor;
+import com.github.souzafcharles.api.utils.Messages;
 import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.locationtech.jts.geom.*;
+import org.locationtech.jts.geom.impl.PackedCoordinateSequence;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 
+import static com.github.souzafcharles.api.json.CoordinateArrays.coordinates;
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,26 +40,31 @@ class SpatialDataServiceTest {
     @Mock
     private SpatialDataRepository spatialDataRepository;
 
-    @InjectMocks
     private SpatialDataService spatialDataService;
 
+    @BeforeEach
+    void setUp() {
+        spatialDataService = new SpatialDataService(spatialDataRepository,
+                GeometryConfig.packedGeometryFactory(GeometryConfig.CoordinateStorage.DOUBLE));
+    }
+
     // Test Data
-    private final List<Double> pointCoordinates = Arrays.asList(1.0, 2.0);
-    private final List<List<Double>> multiPointCoordinates = Arrays.asList(
+    private final CoordinateArray pointCoordinates = coordinates(Arrays.asList(1.0, 2.0));
+    private final CoordinateArray multiPointCoordinates = coordinates(Arrays.asList(
             Arrays.asList(1.0, 2.0),
             Arrays.asList(3.0, 4.0)
-    );
-    private final List<List<Double>> lineStringCoordinates = Arrays.asList(
+    ));
+    private final CoordinateArray lineStringCoordinates = coordinates(Arrays.asList(
             Arrays.asList(1.0, 2.0),
             Arrays.asList(3.0, 4.0)
-    );
-    private final List<List<List<Double>>> multiLineStringCoordinates = Arrays.asList(
+    ));
+    private final CoordinateArray multiLineStringCoordinates = coordinates(Arrays.asList(
             Arrays.asList(
                     Arrays.asList(1.0, 2.0),
                     Arrays.asList(3.0, 4.0)
             )
-    );
-    private final List<List<List<Double>>> polygonCoordinates = Arrays.asList(
+    ));
+    private final CoordinateArray polygonCoordinates = coordinates(Arrays.asList(
             Arrays.asList(
                     Arrays.asList(0.0, 0.0),
                     Arrays.asList(0.0, 1.0),
@@ -52,8 +72,8 @@ class SpatialDataServiceTest {
                     Arrays.asList(1.0, 0.0),
                     Arrays.asList(0.0, 0.0)
             )
-    );
-    private final List<List<List<List<Double>>>> multiPolygonCoordinates = Arrays.asList(
+    ));
+    private final CoordinateArray multiPolygonCoordinates = coordinates(Arrays.asList(
             Arrays.asList(
                     Arrays.asList(
                             Arrays.asList(0.0, 0.0),
@@ -63,7 +83,7 @@ class SpatialDataServiceTest {
                             Arrays.asList(0.0, 0.0)
                     )
             )
-    );
+    ));
 
     // ------------------------------------------------------------
     // CREATE – From Serializer Format
@@ -90,6 +110,28 @@ class SpatialDataServiceTest {
         verify(spatialDataRepository, times(1)).save(any(SpatialData.class));
     }
 
+    @Test
+    void createFromSerializerFormat_WithValidData_ShouldBuildPackedGeometries() {
+        // Arrange
+        SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
+                pointCoordinates, multiPointCoordinates, lineStringCoordinates,
+                multiLineStringCoordinates, polygonCoordinates, multiPolygonCoordinates
+        );
+        when(spatialDataRepository.save(any(SpatialData.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        SpatialDataResponseDTO result = spatialDataService.createFromSerializerFormat(request);
+
+        // Assert
+        LineString lineString = (LineString) result.lineString();
+        Polygon polygon = (Polygon) result.polygon();
+        assertInstanceOf(PackedCoordinateSequence.Double.class, lineString.getCoordinateSequence());
+        assertInstanceOf(PackedCoordinateSequence.Double.class, polygon.getExteriorRing().getCoordinateSequence());
+        assertEquals(3.0, lineString.getCoordinateN(1).x);
+        assertEquals(4326, polygon.getSRID());
+        assertEquals(2, result.multiPoint().getNumGeometries());
+    }
+
     @Test
     void createFromSerializerFormat_WithNullPoint_ShouldNotCreatePoint() {
         // Arrange
@@ -182,42 +224,311 @@ class SpatialDataServiceTest {
     }
 
     // ------------------------------------------------------------
-    // READ – List all
+    // CREATE – Batch
+    // ------------------------------------------------------------
+    @Test
+    @SuppressWarnings("unchecked")
+    void createBatch_WithBothFormats_ShouldSaveAllInOneCall() {
+        // Arrange
+        SpatialDataSerializerRequestDTO serializerItem = new SpatialDataSerializerRequestDTO(
+                pointCoordinates, null, lineStringCoordinates, null, null, null);
+        Point point = new GeometryFactory().createPoint(new Coordinate(5.0, 6.0));
+        SpatialDataDeserializerRequestDTO deserializerItem = new SpatialDataDeserializerRequestDTO(
+                point, null, null, null, null, null);
+        when(spatialDataRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<SpatialData> entities = invocation.getArgument(0);
+            for (int i = 0; i < entities.size(); i++) {
+                entities.get(i).setId(100L + i);
+            }
+            return entities;
+        });
+
+        // Act
+        SpatialDataBatchResponseDTO result = spatialDataService.createBatch(
+                new SpatialDataBatchRequestDTO(List.of(serializerItem, serializerItem), List.of(deserializerItem)));
+
+        // Assert
+        assertEquals(3, result.count());
+        assertEquals(List.of(100L, 101L, 102L), result.ids());
+        ArgumentCaptor<List<SpatialData>> saved = ArgumentCaptor.forClass(List.class);
+        verify(spatialDataRepository, times(1)).saveAll(saved.capture());
+        verify(spatialDataRepository, never()).save(any());
+        assertNotNull(saved.getValue().get(0).getLineString());
+        assertSame(point, saved.getValue().get(2).getPoint());
+    }
+
+    @Test
+    void createBatch_WithOnlyDeserializerItems_ShouldSaveThem() {
+        // Arrange
+        Point point = new GeometryFactory().createPoint(new Coordinate(1.0, 1.0));
+        when(spatialDataRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        SpatialDataBatchResponseDTO result = spatialDataService.createBatch(new SpatialDataBatchRequestDTO(
+                null, List.of(new SpatialDataDeserializerRequestDTO(point, null, null, null, null, null))));
+
+        // Assert
+        assertEquals(1, result.count());
+    }
+
+    @Test
+    void createBatch_WhenEmpty_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> spatialDataService.createBatch(new SpatialDataBatchRequestDTO(null, null)));
+        assertThrows(IllegalArgumentException.class,
+                () -> spatialDataService.createBatch(new SpatialDataBatchRequestDTO(List.of(), List.of())));
+        verifyNoInteractions(spatialDataRepository);
+    }
+
+    // ------------------------------------------------------------
+    // READ – Keyset page
     // ------------------------------------------------------------
     @Test
-    void getAllSpatialData_WhenDataExists_ShouldReturnList() {
+    void getSpatialDataPage_WhenMoreRowsExist_ShouldReturnNextCursor() {
         // Arrange
         SpatialData spatialData1 = new SpatialData();
         spatialData1.setId(1L);
-
         SpatialData spatialData2 = new SpatialData();
         spatialData2.setId(2L);
+        SpatialData spatialData3 = new SpatialData();
+        spatialData3.setId(3L);
 
-        List<SpatialData> spatialDataList = Arrays.asList(spatialData1, spatialData2);
+        when(spatialDataRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(3)))
+                .thenReturn(Arrays.asList(spatialData1, spatialData2, spatialData3));
+
+        // Act
+        SpatialDataPageResponseDTO result = spatialDataService.getSpatialDataPage(null, 2);
 
-        when(spatialDataRepository.findAll()).thenReturn(spatialDataList);
+        // Assert
+        assertEquals(2, result.items().size());
+        assertEquals(2L, result.items().get(1).id());
+        assertEquals(2L, KeysetCursor.decode(result.nextCursor()));
+    }
+
+    @Test
+    void getSpatialDataPage_WhenCursorGiven_ShouldSeekPastLastId() {
+        // Arrange
+        SpatialData spatialData = new SpatialData();
+        spatialData.setId(42L);
+        when(spatialDataRepository.findByIdGreaterThanOrderByIdAsc(41L, Limit.of(11)))
+                .thenReturn(List.of(spatialData));
 
         // Act
-        List<SpatialDataResponseDTO> result = spatialDataService.getAllSpatialData();
+        SpatialDataPageResponseDTO result = spatialDataService.getSpatialDataPage(KeysetCursor.encode(41L), 10);
 
         // Assert
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        verify(spatialDataRepository, times(1)).findAll();
+        assertEquals(1, result.items().size());
+        assertNull(result.nextCursor());
     }
 
     @Test
-    void getAllSpatialData_WhenNoData_ShouldReturnEmptyList() {
+    void getSpatialDataPage_WhenNoData_ShouldReturnEmptyPage() {
         // Arrange
-        when(spatialDataRepository.findAll()).thenReturn(Arrays.asList());
+        when(spatialDataRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(101))).thenReturn(List.of());
 
         // Act
-        List<SpatialDataResponseDTO> result = spatialDataService.getAllSpatialData();
+        SpatialDataPageResponseDTO result = spatialDataService.getSpatialDataPage(" ", SpatialDataService.DEFAULT_PAGE_SIZE);
+
+        // Assert
+        assertTrue(result.items().isEmpty());
+        assertNull(result.nextCursor());
+        verify(spatialDataRepository, never()).findAll();
+    }
+
+    @Test
+    void getSpatialDataPage_WhenLimitOutOfRange_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> spatialDataService.getSpatialDataPage(null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> spatialDataService.getSpatialDataPage(null, SpatialDataService.MAX_PAGE_SIZE + 1));
+        verifyNoInteractions(spatialDataRepository);
+    }
+
+    @Test
+    void getSpatialDataPage_WhenCursorMalformed_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> spatialDataService.getSpatialDataPage("not-a-cursor", 10));
+    }
+
+    // ------------------------------------------------------------
+    // READ – Bounding box
+    // ------------------------------------------------------------
+    @Test
+    void findInBoundingBox_WithValidEnvelope_ShouldQueryResolvedColumn() {
+        // Arrange
+        SpatialData spatialData = new SpatialData();
+        spatialData.setId(7L);
+        when(spatialDataRepository.findIntersectingEnvelope(GeometryColumn.POLYGON, -47.0, -23.0, -46.0, -22.0, 50))
+                .thenReturn(List.of(spatialData));
+
+        // Act
+        List<SpatialDataResponseDTO> result = spatialDataService.findInBoundingBox("Polygon", -47.0, -23.0, -46.0, -22.0, 50);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals(7L, result.get(0).id());
+    }
+
+    @Test
+    void findInBoundingBox_WhenEnvelopeInvalid_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> spatialDataService.findInBoundingBox("point", 1.0, 0.0, 0.0, 1.0, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> spatialDataService.findInBoundingBox("point", 0.0, 1.0, 1.0, 0.0, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> spatialDataService.findInBoundingBox("point", Double.NaN, 0.0, 1.0, 1.0, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> spatialDataService.findInBoundingBox("point", 0.0, 0.0, Double.POSITIVE_INFINITY, 1.0, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> spatialDataService.findInBoundingBox("point", 0.0, Double.NEGATIVE_INFINITY, 1.0, 1.0, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> spatialDataService.findInBoundingBox("point", 0.0, 0.0, 1.0, Double.NaN, 10));
+        verifyNoInteractions(spatialDataRepository);
+    }
+
+    @Test
+    void findInBoundingBox_WhenColumnOrLimitInvalid_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> spatialDataService.findInBoundingBox("id; DROP TABLE spatialdata", 0.0, 0.0, 1.0, 1.0, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> spatialDataService.findInBoundingBox("point", 0.0, 0.0, 1.0, 1.0, 0));
+        verifyNoInteractions(spatialDataRepository);
+    }
+
+    // ------------------------------------------------------------
+    // READ – k nearest neighbours
+    // ------------------------------------------------------------
+    @Test
+    void findNearest_WhenPlanar_ShouldReturnDistancesInDegrees() {
+        // Arrange
+        SpatialData spatialData = new SpatialData();
+        spatialData.setId(3L);
+        when(spatialDataRepository.findNearest(GeometryColumn.POINT, -46.5, -22.5, 5))
+                .thenReturn(List.of(new Neighbour(spatialData, 0.25)));
+
+        // Act
+        List<SpatialDataNeighbourResponseDTO> result = spatialDataService.findNearest("point", -46.5, -22.5, 5, false);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals(0.25, result.get(0).distance());
+        assertEquals("degrees", result.get(0).unit());
+        assertEquals(3L, result.get(0).item().id());
+        verify(spatialDataRepository, never()).findNearestGeodesic(any(), anyDouble(), anyDouble(), anyInt(), anyInt());
+    }
+
+    @Test
+    void findNearest_WhenGeodesic_ShouldReRankExtraCandidatesInMetres() {
+        // Arrange
+        SpatialData spatialData = new SpatialData();
+        spatialData.setId(4L);
+        when(spatialDataRepository.findNearestGeodesic(GeometryColumn.LINESTRING, 10.0, 60.0, 5, 20))
+                .thenReturn(List.of(new Neighbour(spatialData, 1234.5)));
+
+        // Act
+        List<SpatialDataNeighbourResponseDTO> result = spatialDataService.findNearest("linestring", 10.0, 60.0, 5, true);
+
+        // Assert
+        assertEquals(1234.5, result.get(0).distance());
+        assertEquals("metres", result.get(0).unit());
+    }
+
+    @Test
+    void findNearest_WhenTargetOrKInvalid_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> spatialDataService.findNearest("point", 181.0, 0.0, 5, false));
+        assertThrows(IllegalArgumentException.class, () -> spatialDataService.findNearest("point", -181.0, 0.0, 5, false));
+        assertThrows(IllegalArgumentException.class, () -> spatialDataService.findNearest("point", 0.0, 91.0, 5, false));
+        assertThrows(IllegalArgumentException.class, () -> spatialDataService.findNearest("point", 0.0, -91.0, 5, false));
+        assertThrows(IllegalArgumentException.class, () -> spatialDataService.findNearest("point", Double.NaN, 0.0, 5, false));
+        assertThrows(IllegalArgumentException.class, () -> spatialDataService.findNearest("point", 0.0, 0.0, 0, false));
+        verifyNoInteractions(spatialDataRepository);
+    }
+
+    // ------------------------------------------------------------
+    // READ – Radius search
+    // ------------------------------------------------------------
+    @Test
+    void findWithinDistance_ShouldReturnDistancesInMetres() {
+        // Arrange
+        SpatialData spatialData = new SpatialData();
+        spatialData.setId(9L);
+        when(spatialDataRepository.findWithinDistance(GeometryColumn.POLYGON, -46.5, -22.5, 500.0, 100))
+                .thenReturn(List.of(new Neighbour(spatialData, 120.0)));
+
+        // Act
+        List<SpatialDataNeighbourResponseDTO> result = spatialDataService.findWithinDistance("polygon", -46.5, -22.5, 500.0, 100);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals(120.0, result.get(0).distance());
+        assertEquals("metres", result.get(0).unit());
+        assertEquals(9L, result.get(0).item().id());
+    }
+
+    @Test
+    void findWithinDistance_WhenRadiusInvalid_ShouldThrowException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> spatialDataService.findWithinDistance("point", 0.0, 0.0, 0.0, 10));
+        assertThrows(IllegalArgumentException.class, () -> spatialDataService.findWithinDistance("point", 0.0, 0.0, -5.0, 10));
+        assertThrows(IllegalArgumentException.class, () -> spatialDataService.findWithinDistance("point", 0.0, 0.0, Double.NaN, 10));
+        assertThrows(IllegalArgumentException.class,
+                () -> spatialDataService.findWithinDistance("point", 0.0, 0.0, Double.POSITIVE_INFINITY, 10));
+        assertThrows(IllegalArgumentException.class, () -> spatialDataService.findWithinDistance("point", 0.0, 95.0, 10.0, 10));
+        assertThrows(IllegalArgumentException.class, () -> spatialDataService.findWithinDistance("point", 0.0, 0.0, 10.0, 0));
+        verifyNoInteractions(spatialDataRepository);
+    }
+
+    // ------------------------------------------------------------
+    // READ – Spatial predicate
+    // ------------------------------------------------------------
+    @Test
+    void findMatching_WithValidRequest_ShouldQueryResolvedColumnAndPredicate() {
+        // Arrange
+        Point fence = new GeometryFactory().createPoint(new Coordinate(-46.5, -22.5));
+        SpatialData spatialData = new SpatialData();
+        spatialData.setId(11L);
+        when(spatialDataRepository.findMatching(GeometryColumn.MULTIPOLYGON, SpatialPredicate.CONTAINS, fence, 20))
+                .thenReturn(List.of(spatialData));
+
+        // Act
+        List<SpatialDataResponseDTO> result = spatialDataService.findMatching(
+                new SpatialPredicateRequestDTO(fence, "contains", "multipolygon", 20));
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals(11L, result.get(0).id());
+    }
+
+    @Test
+    void findMatching_WhenLimitMissing_ShouldUseDefaultPageSize() {
+        // Arrange
+        Point fence = new GeometryFactory().createPoint(new Coordinate(0, 0));
+        when(spatialDataRepository.findMatching(GeometryColumn.POINT, SpatialPredicate.WITHIN, fence, SpatialDataService.DEFAULT_PAGE_SIZE))
+                .thenReturn(List.of());
+
+        // Act
+        List<SpatialDataResponseDTO> result = spatialDataService.findMatching(
+                new SpatialPredicateRequestDTO(fence, "WITHIN", "point", null));
 
         // Assert
-        assertNotNull(result);
         assertTrue(result.isEmpty());
-        verify(spatialDataRepository, times(1)).findAll();
+    }
+
+    @Test
+    void findMatching_WhenPredicateOrLimitInvalid_ShouldThrowException() {
+        // Arrange
+        Point fence = new GeometryFactory().createPoint(new Coordinate(0, 0));
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> spatialDataService.findMatching(
+                new SpatialPredicateRequestDTO(fence, "overlaps", "point", 10)));
+        assertThrows(IllegalArgumentException.class, () -> spatialDataService.findMatching(
+                new SpatialPredicateRequestDTO(fence, "intersects", "point", SpatialDataService.MAX_PAGE_SIZE + 1)));
+        verifyNoInteractions(spatialDataRepository);
     }
 
     // ------------------------------------------------------------
@@ -327,14 +638,14 @@ class SpatialDataServiceTest {
     @Test
     void createFromSerializerFormat_WithInvalidPolygonCoordinates_ShouldThrowException() {
         // Arrange
-        List<List<List<Double>>> invalidPolygonCoordinates = Arrays.asList(
+        CoordinateArray invalidPolygonCoordinates = coordinates(Arrays.asList(
                 Arrays.asList(
                         Arrays.asList(0.0, 0.0),
                         Arrays.asList(0.0, 1.0),
                         Arrays.asList(1.0, 1.0)
                         // Missing closing coordinate - less than 4 points
                 )
-        );
+        ));
 
         SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
                 null, null, null, null, invalidPolygonCoordinates, null
@@ -345,16 +656,30 @@ class SpatialDataServiceTest {
                 () -> spatialDataService.createFromSerializerFormat(request));
     }
 
+    @Test
+    void createFromSerializerFormat_WithCoordinatesNestedForAnotherType_ShouldThrowException() {
+        // Arrange - a LineString's coordinates sent as a Polygon
+        SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
+                null, null, null, null, lineStringCoordinates, null
+        );
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> spatialDataService.createFromSerializerFormat(request));
+        assertEquals(Messages.INVALID_COORDINATE_STRUCTURE, exception.getMessage());
+        verify(spatialDataRepository, never()).save(any(SpatialData.class));
+    }
+
     @Test
     void createFromSerializerFormat_WithEmptyCollections_ShouldSaveSuccessfully() {
         // Arrange
         SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
                 pointCoordinates,
-                Arrays.asList(), // empty multipoint
-                Arrays.asList(), // empty linestring
-                Arrays.asList(), // empty multilinestring
-                Arrays.asList(), // empty polygon
-                Arrays.asList()  // empty multipolygon
+                coordinates(Arrays.asList()), // empty multipoint
+                coordinates(Arrays.asList()), // empty linestring
+                coordinates(Arrays.asList()), // empty multilinestring
+                coordinates(Arrays.asList()), // empty polygon
+                coordinates(Arrays.asList())  // empty multipolygon
         );
 
         SpatialData savedEntity = new SpatialData();
@@ -717,7 +1042,7 @@ class SpatialDataServiceTest {
     @Test
     void createFromSerializerFormat_WithInvalidPointCoordinates_ShouldNotCreatePoint() {
         // Arrange
-        List<Double> invalidPoint = Arrays.asList(1.0); // Only one coordinate
+        CoordinateArray invalidPoint = coordinates(Arrays.asList(1.0)); // Only one coordinate
 
         SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
                 invalidPoint, null, null, null, null, null
@@ -741,7 +1066,7 @@ class SpatialDataServiceTest {
     void createFromSerializerFormat_WithEmptyMultiPoint_ShouldNotCreateMultiPoint() {
         // Arrange
         SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
-                null, Arrays.asList(), null, null, null, null
+                null, coordinates(Arrays.asList()), null, null, null, null
         );
 
         SpatialData savedEntity = new SpatialData();
@@ -762,7 +1087,7 @@ class SpatialDataServiceTest {
     void createFromSerializerFormat_WithEmptyLineString_ShouldNotCreateLineString() {
         // Arrange
         SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
-                null, null, Arrays.asList(), null, null, null
+                null, null, coordinates(Arrays.asList()), null, null, null
         );
 
         SpatialData savedEntity = new SpatialData();
@@ -783,7 +1108,7 @@ class SpatialDataServiceTest {
     void createFromSerializerFormat_WithEmptyMultiLineString_ShouldNotCreateMultiLineString() {
         // Arrange
         SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
-                null, null, null, Arrays.asList(), null, null
+                null, null, null, coordinates(Arrays.asList()), null, null
         );
 
         SpatialData savedEntity = new SpatialData();
@@ -804,7 +1129,7 @@ class SpatialDataServiceTest {
     void createFromSerializerFormat_WithEmptyMultiPolygon_ShouldNotCreateMultiPolygon() {
         // Arrange
         SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
-                null, null, null, null, null, Arrays.asList()
+                null, null, null, null, null, coordinates(Arrays.asList())
         );
 
         SpatialData savedEntity = new SpatialData();
@@ -927,14 +1252,14 @@ class SpatialDataServiceTest {
     @Test
     void createFromSerializerFormat_WithMinimumValidPolygon_ShouldCreatePolygon() {
         // Arrange - Polygon with exactly 4 points (minimum for closed polygon)
-        List<List<List<Double>>> minPolygonCoordinates = Arrays.asList(
+        CoordinateArray minPolygonCoordinates = coordinates(Arrays.asList(
                 Arrays.asList(
                         Arrays.asList(0.0, 0.0),
                         Arrays.asList(0.0, 1.0),
                         Arrays.asList(1.0, 1.0),
                         Arrays.asList(0.0, 0.0) // Closing point
                 )
-        );
+        ));
 
         SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
                 null, null, null, null, minPolygonCoordinates, null
@@ -960,9 +1285,9 @@ class SpatialDataServiceTest {
     @Test
     void createFromSerializerFormat_WithValidMultiPointWithSinglePoint_ShouldCreateMultiPoint() {
         // Arrange
-        List<List<Double>> singlePointMultiPoint = Arrays.asList(
+        CoordinateArray singlePointMultiPoint = coordinates(Arrays.asList(
                 Arrays.asList(1.0, 2.0)
-        );
+        ));
 
         SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
                 null, singlePointMultiPoint, null, null, null, null
@@ -985,10 +1310,10 @@ class SpatialDataServiceTest {
     @Test
     void createFromSerializerFormat_WithValidLineStringWithTwoPoints_ShouldCreateLineString() {
         // Arrange
-        List<List<Double>> twoPointLineString = Arrays.asList(
+        CoordinateArray twoPointLineString = coordinates(Arrays.asList(
                 Arrays.asList(1.0, 2.0),
                 Arrays.asList(3.0, 4.0)
-        );
+        ));
 
         SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
                 null, null, twoPointLineString, null, null, null
@@ -1012,7 +1337,8 @@ class SpatialDataServiceTest {
     @Test
     void spatialDataService_WhenConstructed_ShouldInitializeGeometryFactory() {
         // Arrange & Act
-        SpatialDataService service = new SpatialDataService(spatialDataRepository);
+        SpatialDataService service = new SpatialDataService(spatialDataRepository,
+                GeometryConfig.packedGeometryFactory(GeometryConfig.CoordinateStorage.FLOAT));
 
         // Assert
         assertNotNull(service);
@@ -1160,7 +1486,7 @@ class SpatialDataServiceTest {
 
         // Test 1: Valid point coordinates
         SpatialDataSerializerRequestDTO validPointRequest = new SpatialDataSerializerRequestDTO(
-                Arrays.asList(1.0, 2.0), null, null, null, null, null
+                coordinates(Arrays.asList(1.0, 2.0)), null, null, null, null, null
         );
 
         // Test 2: Invalid point coordinates (null)
@@ -1170,7 +1496,7 @@ class SpatialDataServiceTest {
 
         // Test 3: Empty collections
         SpatialDataSerializerRequestDTO emptyCollectionsRequest = new SpatialDataSerializerRequestDTO(
-                null, Arrays.asList(), Arrays.asList(), Arrays.asList(), Arrays.asList(), Arrays.asList()
+                null, coordinates(Arrays.asList()), coordinates(Arrays.asList()), coordinates(Arrays.asList()), coordinates(Arrays.asList()), coordinates(Arrays.asList())
         );
 
         SpatialData savedEntity = new SpatialData();
@@ -1198,7 +1524,7 @@ class SpatialDataServiceTest {
     @Test
     void createFromSerializerFormat_WithComplexMultiPolygon_ShouldCreateSuccessfully() {
         // Arrange
-        List<List<List<List<Double>>>> complexMultiPolygon = Arrays.asList(
+        CoordinateArray complexMultiPolygon = coordinates(Arrays.asList(
                 Arrays.asList( // First polygon
                         Arrays.asList( // Exterior ring
                                 Arrays.asList(0.0, 0.0),
@@ -1217,7 +1543,7 @@ class SpatialDataServiceTest {
                                 Arrays.asList(6.0, 6.0)
                         )
                 )
-        );
+        ));
 
         SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
                 null, null, null, null, null, complexMultiPolygon
@@ -1240,7 +1566,7 @@ class SpatialDataServiceTest {
     @Test
     void createFromSerializerFormat_WithComplexMultiLineString_ShouldCreateSuccessfully() {
         // Arrange
-        List<List<List<Double>>> complexMultiLineString = Arrays.asList(
+        CoordinateArray complexMultiLineString = coordinates(Arrays.asList(
                 Arrays.asList( // First line string
                         Arrays.asList(0.0, 0.0),
                         Arrays.asList(1.0, 1.0),
@@ -1251,7 +1577,7 @@ class SpatialDataServiceTest {
                         Arrays.asList(4.0, 4.0),
                         Arrays.asList(5.0, 3.0)
                 )
-        );
+        ));
 
         SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
                 null, null, null, complexMultiLineString, null, null
@@ -1291,7 +1617,7 @@ class SpatialDataServiceTest {
                 Arrays.asList(0.0, 0.0)
         );
 
-        List<List<List<Double>>> polygonWithManyPoints = Arrays.asList(manyPoints);
+        CoordinateArray polygonWithManyPoints = coordinates(Arrays.asList(manyPoints));
 
         SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
                 null, null, null, null, polygonWithManyPoints, null
@@ -1318,13 +1644,13 @@ class SpatialDataServiceTest {
     @Test
     void createFromSerializerFormat_WithMalformedPolygon_ShouldThrowException() {
         // Arrange - Polygon with only 2 points (invalid)
-        List<List<List<Double>>> malformedPolygon = Arrays.asList(
+        CoordinateArray malformedPolygon = coordinates(Arrays.asList(
                 Arrays.asList(
                         Arrays.asList(0.0, 0.0),
                         Arrays.asList(1.0, 1.0)
                         // Missing closing point and not enough points
                 )
-        );
+        ));
 
         SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
                 null, null, null, null, malformedPolygon, null
@@ -1334,4 +1660,165 @@ class SpatialDataServiceTest {
         assertThrows(IllegalArgumentException.class,
                 () -> spatialDataService.createFromSerializerFormat(request));
     }
-}
\ No newline at end of file
+
+    // ------------------------------------------------------------
+    // Parallel Construction of Multi* Parts
+    // ------------------------------------------------------------
+    private List<List<List<List<Double>>>> squareParts(int count) {
+        List<List<List<List<Double>>>> parts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            double x = i * 0.001;
+            parts.add(List.of(List.of(List.of(x, 0.0), List.of(x, 0.0005), List.of(x + 0.0005, 0.0005), List.of(x, 0.0))));
+        }
+        return parts;
+    }
+
+    private SpatialDataService parallelService(ForkJoinPool pool) {
+        return new SpatialDataService(spatialDataRepository,
+                GeometryConfig.packedGeometryFactory(GeometryConfig.CoordinateStorage.DOUBLE), pool, 2, event -> {
+        });
+    }
+
+    @Test
+    void toEntity_WhenPartsAboveThreshold_ShouldMatchSequentialConstruction() {
+        // Arrange
+        ForkJoinPool pool = new ForkJoinPool(4);
+        List<List<List<List<Double>>>> parts = squareParts(SpatialDataService.PARTS_PER_TASK * 5 + 3);
+        List<List<List<Double>>> lines = new ArrayList<>();
+        for (List<List<List<Double>>> part : parts) {
+            lines.add(part.get(0));
+        }
+        SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
+                null, null, null, coordinates(lines), null, coordinates(parts));
+
+        // Act
+        SpatialData parallel = parallelService(pool).toEntity(request);
+        SpatialData sequential = spatialDataService.toEntity(request);
+
+        // Assert
+        assertEquals(parts.size(), parallel.getMultiPolygon().getNumGeometries());
+        assertTrue(sequential.getMultiPolygon().equalsExact(parallel.getMultiPolygon()));
+        assertTrue(sequential.getMultiLineString().equalsExact(parallel.getMultiLineString()));
+        pool.shutdown();
+    }
+
+    @Test
+    void toEntity_WhenParallelPartRingOpen_ShouldThrowOriginalMessage() {
+        // Arrange
+        ForkJoinPool pool = new ForkJoinPool(4);
+        List<List<List<List<Double>>>> parts = squareParts(SpatialDataService.PARTS_PER_TASK * 3);
+        parts.set(150, List.of(List.of(List.of(0.0, 0.0), List.of(0.0, 1.0), List.of(1.0, 1.0), List.of(1.0, 0.0))));
+        SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
+                null, null, null, null, null, coordinates(parts));
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> parallelService(pool).toEntity(request));
+        assertEquals(Messages.INVALID_POLYGON_COORDINATES, exception.getMessage());
+        pool.shutdown();
+    }
+
+    @Test
+    void toEntity_WhenParallelPartSelfIntersects_ShouldThrowException() {
+        // Arrange - a bow tie: closed and long enough, but its edges cross at (0.5, 0.5)
+        ForkJoinPool pool = new ForkJoinPool(4);
+        List<List<List<List<Double>>>> parts = squareParts(SpatialDataService.PARTS_PER_TASK * 3);
+        parts.set(150, List.of(List.of(List.of(0.0, 0.0), List.of(1.0, 1.0), List.of(1.0, 0.0), List.of(0.0, 1.0), List.of(0.0, 0.0))));
+        SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
+                null, null, null, null, null, coordinates(parts));
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> parallelService(pool).toEntity(request));
+        assertEquals(String.format(Messages.INVALID_POLYGON_RING, "Self-intersection", 0.5, 0.5), exception.getMessage());
+        pool.shutdown();
+    }
+
+    @Test
+    void toEntity_WhenPolygonSelfIntersects_ShouldThrowException() {
+        // Arrange
+        SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(null, null, null, null,
+                coordinates(List.of(List.of(List.of(0.0, 0.0), List.of(2.0, 2.0), List.of(2.0, 0.0), List.of(0.0, 2.0), List.of(0.0, 0.0)))),
+                null);
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> spatialDataService.toEntity(request));
+        assertEquals(String.format(Messages.INVALID_POLYGON_RING, "Self-intersection", 1.0, 1.0), exception.getMessage());
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Fixed Precision Snapping
+    // ------------------------------------------------------------
+    @Test
+    void toEntity_WhenPrecisionFixed_ShouldSnapSerializerCoordinates() {
+        // Arrange
+        SpatialDataService service = new SpatialDataService(spatialDataRepository,
+                GeometryConfig.packedGeometryFactory(GeometryConfig.CoordinateStorage.DOUBLE, 1e7));
+        SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
+                coordinates(Arrays.asList(-46.633308912, -23.550520123)), null,
+                coordinates(Arrays.asList(Arrays.asList(1.0, 2.0), Arrays.asList(1.00000001, 2.00000001), Arrays.asList(3.0, 4.0))),
+                null, null, null);
+
+        // Act
+        SpatialData entity = service.toEntity(request);
+
+        // Assert
+        assertEquals(-46.6333089, entity.getPoint().getX());
+        assertEquals(-23.5505201, entity.getPoint().getY());
+        assertEquals(2, entity.getLineString().getNumPoints());
+    }
+
+    @Test
+    void toEntity_WhenPrecisionFixed_ShouldSnapDeserializedGeometries() {
+        // Arrange
+        GeometryFactory fixedFactory = GeometryConfig.packedGeometryFactory(GeometryConfig.CoordinateStorage.DOUBLE, 1e7);
+        SpatialDataService service = new SpatialDataService(spatialDataRepository, fixedFactory);
+        SpatialDataDeserializerRequestDTO request = new SpatialDataDeserializerRequestDTO(
+                fixedFactory.createPoint(new Coordinate(10.123456789, 20.987654321)), null, null, null, null, null);
+
+        // Act
+        SpatialData entity = service.toEntity(request);
+
+        // Assert
+        assertEquals(10.1234568, entity.getPoint().getX());
+        assertEquals(20.9876543, entity.getPoint().getY());
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Change Notification
+    // ------------------------------------------------------------
+    @Test
+    void createFromSerializerFormat_ShouldPublishEnvelopesOfStoredGeometries() {
+        // Arrange
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        SpatialDataService service = new SpatialDataService(spatialDataRepository,
+                GeometryConfig.packedGeometryFactory(GeometryConfig.CoordinateStorage.DOUBLE), ForkJoinPool.commonPool(), 2, eventPublisher);
+        SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
+                pointCoordinates, null,
+                coordinates(Arrays.asList(Arrays.asList(3.0, 4.0), Arrays.asList(5.0, 6.0))),
+                null, null, null);
+        when(spatialDataRepository.save(any(SpatialData.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        service.createFromSerializerFormat(request);
+
+        // Assert
+        verify(eventPublisher).publishEvent(new SpatialDataChangedEvent(List.of(
+                new Envelope(1.0, 1.0, 2.0, 2.0), new Envelope(3.0, 5.0, 4.0, 6.0))));
+    }
+
+    @Test
+    void publishChanges_WhenNoGeometries_ShouldNotPublish() {
+        // Arrange
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        SpatialDataService service = new SpatialDataService(spatialDataRepository,
+                GeometryConfig.packedGeometryFactory(GeometryConfig.CoordinateStorage.DOUBLE), ForkJoinPool.commonPool(), 2, eventPublisher);
+
+        // Act
+        service.publishChanges(List.of(new SpatialData()));
+
+        // Assert
+        verifyNoInteractions(eventPublisher);
+    }
+}
@@ -0,0 +1,203 @@
+package com.github.souzafcharles.api.service;
+
+import com.github.souzafcharles.api.event.SpatialDataChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.locationtech.jts.geom.Envelope;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialDataTileCacheTest {
+
+    private static final int MEMORY_MAX_TILE_BYTES = 16;
+
+    @TempDir
+    Path directory;
+
+    private SpatialDataTileCache tileCache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        tileCache = newCache();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        tileCache.close();
+    }
+
+    private SpatialDataTileCache newCache() throws Exception {
+        return new SpatialDataTileCache(directory, 1 << 20, 1 << 20, MEMORY_MAX_TILE_BYTES);
+    }
+
+    private Supplier<byte[]> loader(byte... tile) {
+        return () -> {
+            loads.incrementAndGet();
+            return tile;
+        };
+    }
+
+    private static byte[] bytes(SpatialDataTileCache.Tile tile) throws Exception {
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        tile.writeTo(written);
+        return written.toByteArray();
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Memory and Disk Tiers
+    // ------------------------------------------------------------
+    @Test
+    void get_WhenCalledTwice_ShouldLoadOnce() throws Exception {
+        // Arrange & Act
+        SpatialDataTileCache.Tile first = tileCache.get(3, 2, 5, loader((byte) 1, (byte) 2));
+        SpatialDataTileCache.Tile second = tileCache.get(3, 2, 5, loader((byte) 9));
+
+        // Assert
+        assertArrayEquals(new byte[]{1, 2}, bytes(first));
+        assertArrayEquals(new byte[]{1, 2}, bytes(second));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_AfterRestart_ShouldServeFromDisk() throws Exception {
+        // Arrange
+        tileCache.get(3, 2, 5, loader((byte) 1, (byte) 2));
+        tileCache.close();
+        tileCache = newCache();
+
+        // Act
+        SpatialDataTileCache.Tile tile = tileCache.get(3, 2, 5, loader((byte) 9));
+
+        // Assert
+        assertArrayEquals(new byte[]{1, 2}, bytes(tile));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_WhenTileAboveMemoryLimit_ShouldStreamFromDisk() throws Exception {
+        // Arrange
+        byte[] large = new byte[MEMORY_MAX_TILE_BYTES * 4];
+        large[large.length - 1] = 7;
+        tileCache.get(10, 379, 571, loader(large));
+
+        // Act
+        SpatialDataTileCache.Tile tile = tileCache.get(10, 379, 571, loader((byte) 9));
+
+        // Assert
+        assertEquals(large.length, tile.length());
+        assertArrayEquals(large, bytes(tile));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_WhenInvalidatedWhileLoading_ShouldNotCacheStaleTile() {
+        // Arrange
+        Supplier<byte[]> invalidatingLoader = () -> {
+            loads.incrementAndGet();
+            tileCache.invalidate(List.of(new Envelope(-180, 180, -85, 85)));
+            return new byte[]{1};
+        };
+
+        // Act
+        tileCache.get(0, 0, 0, invalidatingLoader);
+        tileCache.get(0, 0, 0, loader((byte) 2));
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_WhenInvalidatedByScanWhileLoading_ShouldNotCacheStaleTile() {
+        // Arrange - at zoom 10 the world is too many tiles to enumerate, so the loading key is found by the scan
+        Supplier<byte[]> invalidatingLoader = () -> {
+            loads.incrementAndGet();
+            tileCache.invalidate(List.of(new Envelope(-180, 180, -85, 85)));
+            return new byte[]{1};
+        };
+
+        // Act
+        tileCache.get(10, 379, 580, invalidatingLoader);
+        tileCache.get(10, 379, 580, loader((byte) 2));
+
+        // Assert
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_WhenOtherTileInvalidatedWhileLoading_ShouldCacheTile() {
+        // Arrange - a write in Lisbon while the Sao Paulo tile 10/379/580 is being built
+        Supplier<byte[]> invalidatingLoader = () -> {
+            loads.incrementAndGet();
+            tileCache.invalidate(List.of(new Envelope(-9.14, -9.13, 38.72, 38.73)));
+            return new byte[]{1};
+        };
+
+        // Act
+        tileCache.get(10, 379, 580, invalidatingLoader);
+        tileCache.get(10, 379, 580, loader((byte) 2));
+
+        // Assert
+        assertEquals(1, loads.get());
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Write Invalidation
+    // ------------------------------------------------------------
+    @Test
+    void onSpatialDataChanged_ShouldEvictOnlyTilesTouchingEnvelope() throws Exception {
+        // Arrange - Sao Paulo (-46.63, -23.55) lies in tile 10/379/580; Lisbon in 10/486/392
+        tileCache.get(10, 379, 580, loader((byte) 1));
+        tileCache.get(10, 486, 392, loader((byte) 2));
+        tileCache.get(0, 0, 0, loader((byte) 3));
+        tileCache.close();
+        tileCache = newCache();
+        tileCache.get(10, 379, 580, loader((byte) 1));
+        loads.set(0);
+
+        // Act
+        tileCache.onSpatialDataChanged(new SpatialDataChangedEvent(List.of(new Envelope(-46.64, -46.62, -23.56, -23.54))));
+
+        // Assert
+        assertArrayEquals(new byte[]{4}, bytes(tileCache.get(10, 379, 580, loader((byte) 4))));
+        assertArrayEquals(new byte[]{5}, bytes(tileCache.get(0, 0, 0, loader((byte) 5))));
+        assertArrayEquals(new byte[]{2}, bytes(tileCache.get(10, 486, 392, loader((byte) 6))));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void onSpatialDataChanged_WhenRangeTooLargeToEnumerate_ShouldScanCachedKeys() throws Exception {
+        // Arrange - at zoom 18 this envelope spans thousands of tiles
+        tileCache.get(18, 97211, 148685, loader((byte) 1));
+        tileCache.get(18, 126120, 101116, loader((byte) 2));
+        loads.set(0);
+
+        // Act
+        tileCache.onSpatialDataChanged(new SpatialDataChangedEvent(List.of(new Envelope(-47.0, -46.0, -24.0, -23.0))));
+
+        // Assert
+        tileCache.get(18, 97211, 148685, loader((byte) 3));
+        tileCache.get(18, 126120, 101116, loader((byte) 4));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void tileRange_ShouldWidenByTileBuffer() {
+        // Arrange
+        Envelope origin = new Envelope(0.0, 0.0, 0.0, 0.0);
+        Envelope pole = new Envelope(10.0, 10.0, 89.9, 89.9);
+
+        // Act & Assert
+        assertArrayEquals(new long[]{0, 0, 0, 0}, SpatialDataTileCache.tileRange(origin, 0));
+        assertArrayEquals(new long[]{0, 0, 1, 1}, SpatialDataTileCache.tileRange(origin, 1));
+        assertArrayEquals(new long[]{540, 0, 540, 0}, SpatialDataTileCache.tileRange(pole, 10));
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.souzafcharles.api.service;
+
+import com.github.souzafcharles.api.repository.SpatialDataRepository;
+import com.github.souzafcharles.api.utils.Messages;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SpatialDataTileServiceTest {
+
+    @Mock
+    private SpatialDataRepository spatialDataRepository;
+
+    @Mock
+    private SpatialDataTileCache spatialDataTileCache;
+
+    @InjectMocks
+    private SpatialDataTileService spatialDataTileService;
+
+    // Lets the cache miss, so the loader it is given runs the tile query
+    private void givenCacheMiss() {
+        when(spatialDataTileCache.get(anyInt(), anyInt(), anyInt(), any()))
+                .thenAnswer(invocation -> SpatialDataTileCache.Tile.of(invocation.<Supplier<byte[]>>getArgument(3).get()));
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Tile Query
+    // ------------------------------------------------------------
+    @Test
+    void getTile_WhenCoordinatesValid_ShouldQueryWithExtentAndBuffer() throws Exception {
+        // Arrange
+        givenCacheMiss();
+        byte[] tile = {0x1a};
+        when(spatialDataRepository.findTile(3, 2, 5, SpatialDataTileService.TILE_EXTENT, SpatialDataTileService.TILE_BUFFER))
+                .thenReturn(tile);
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+
+        // Act
+        spatialDataTileService.getTile(3, 2, 5).writeTo(written);
+
+        // Assert
+        assertArrayEquals(tile, written.toByteArray());
+        verify(spatialDataTileCache).get(eq(3), eq(2), eq(5), any());
+    }
+
+    @Test
+    void getTile_WhenZoomZero_ShouldAcceptSingleWorldTile() {
+        // Arrange
+        givenCacheMiss();
+        when(spatialDataRepository.findTile(anyInt(), anyInt(), anyInt(), anyInt(), anyInt())).thenReturn(new byte[0]);
+
+        // Act
+        SpatialDataTileCache.Tile result = spatialDataTileService.getTile(0, 0, 0);
+
+        // Assert
+        assertEquals(0, result.length());
+    }
+
+    @Test
+    void getTile_WhenCached_ShouldNotQuery() {
+        // Arrange
+        when(spatialDataTileCache.get(anyInt(), anyInt(), anyInt(), any())).thenReturn(SpatialDataTileCache.Tile.of(new byte[]{0x1a}));
+
+        // Act
+        SpatialDataTileCache.Tile result = spatialDataTileService.getTile(4, 1, 1);
+
+        // Assert
+        assertEquals(1, result.length());
+        verifyNoInteractions(spatialDataRepository);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Tile Matrix Bounds
+    // ------------------------------------------------------------
+    @Test
+    void getTile_WhenOutsideTileMatrix_ShouldThrowException() {
+        // Arrange & Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> spatialDataTileService.getTile(-1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> spatialDataTileService.getTile(SpatialDataTileService.MAX_ZOOM + 1, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> spatialDataTileService.getTile(2, 4, 0));
+        assertThrows(IllegalArgumentException.class, () -> spatialDataTileService.getTile(2, 0, -1));
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> spatialDataTileService.getTile(0, 0, 1));
+        assertEquals(String.format(Messages.INVALID_TILE_COORDINATES, 0, 0, 1, SpatialDataTileService.MAX_ZOOM), exception.getMessage());
+        verifyNoInteractions(spatialDataRepository, spatialDataTileCache);
+    }
+}
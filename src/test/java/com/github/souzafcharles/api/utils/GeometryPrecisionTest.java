@@ -0,0 +1,211 @@
+package com.github.souzafcharles.api.utils;
+
+import com.github.souzafcharles.api.config.GeometryConfig;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.algorithm.Orientation;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.LinearRing;
+import org.locationtech.jts.geom.MultiLineString;
+import org.locationtech.jts.geom.MultiPolygon;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.Polygon;
+import org.locationtech.jts.io.WKTReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GeometryPrecisionTest {
+
+    private final GeometryFactory fixedFactory =
+            GeometryConfig.packedGeometryFactory(GeometryConfig.CoordinateStorage.DOUBLE, 1e7);
+    private final WKTReader wktReader = new WKTReader(fixedFactory);
+
+    // ------------------------------------------------------------
+    // TEST: Floating Precision
+    // ------------------------------------------------------------
+    @Test
+    void snap_WhenPrecisionFloating_ShouldReturnSameGeometry() {
+        // Arrange
+        GeometryFactory floatingFactory = GeometryConfig.packedGeometryFactory(GeometryConfig.CoordinateStorage.DOUBLE);
+        Point point = floatingFactory.createPoint(new Coordinate(-46.123456789, -23.987654321));
+
+        // Act & Assert
+        assertSame(point, GeometryPrecision.snap(point));
+        assertNull(GeometryPrecision.snap(null));
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Fixed Precision
+    // ------------------------------------------------------------
+    @Test
+    void snap_WhenPrecisionFixed_ShouldRoundToGrid() {
+        // Arrange
+        Point point = fixedFactory.createPoint(new Coordinate(-46.123456789, -23.987654321));
+
+        // Act
+        Point snapped = GeometryPrecision.snap(point);
+
+        // Assert
+        assertEquals(-46.1234568, snapped.getX());
+        assertEquals(-23.9876543, snapped.getY());
+        assertEquals(GeometryConfig.SRID, snapped.getSRID());
+    }
+
+    @Test
+    void snap_WhenVerticesCollapse_ShouldRemoveDuplicates() {
+        // Arrange
+        LineString lineString = fixedFactory.createLineString(new Coordinate[]{
+                new Coordinate(10.0, 20.0),
+                new Coordinate(10.00000001, 20.00000001),
+                new Coordinate(11.0, 21.0)});
+
+        // Act
+        LineString snapped = GeometryPrecision.snap(lineString);
+
+        // Assert
+        assertEquals(2, snapped.getNumPoints());
+        assertEquals(new Coordinate(10.0, 20.0), snapped.getCoordinateN(0));
+    }
+
+    @Test
+    void snap_WhenPolygonPinches_ShouldKeepPolygonWithoutOverlay() {
+        // Arrange - the two waist vertices meet once rounded; the ring touches itself but is not split
+        Polygon hourglass = fixedFactory.createPolygon(new Coordinate[]{
+                new Coordinate(0.0, 0.0),
+                new Coordinate(2.0, 0.0),
+                new Coordinate(1.00000004, 1.0),
+                new Coordinate(2.0, 2.0),
+                new Coordinate(0.0, 2.0),
+                new Coordinate(0.99999996, 1.0),
+                new Coordinate(0.0, 0.0)});
+
+        // Act
+        Polygon snapped = GeometryPrecision.snap(hourglass);
+
+        // Assert
+        assertEquals(7, snapped.getNumPoints());
+        assertEquals(new Coordinate(1.0, 1.0), snapped.getCoordinates()[2]);
+        assertEquals(new Coordinate(1.0, 1.0), snapped.getCoordinates()[5]);
+    }
+
+    @Test
+    void snap_WhenPolygonSnapped_ShouldKeepOrientationAndStartVertex() {
+        // Arrange - clockwise shell starting at its top-right corner
+        Polygon polygon = fixedFactory.createPolygon(new Coordinate[]{
+                new Coordinate(-45.000000012, -22.0),
+                new Coordinate(-45.0, -23.0),
+                new Coordinate(-46.0, -23.0),
+                new Coordinate(-46.0, -22.0),
+                new Coordinate(-45.000000012, -22.0)});
+
+        // Act
+        Polygon snapped = GeometryPrecision.snap(polygon);
+
+        // Assert
+        assertEquals(new Coordinate(-45.0, -22.0), snapped.getCoordinates()[0]);
+        assertEquals(new Coordinate(-45.0, -23.0), snapped.getCoordinates()[1]);
+        assertFalse(Orientation.isCCW(snapped.getExteriorRing().getCoordinateSequence()));
+    }
+
+    @Test
+    void snap_WhenHoleCollapses_ShouldDropHole() {
+        // Arrange
+        Polygon polygon = fixedFactory.createPolygon(
+                fixedFactory.createLinearRing(new Coordinate[]{
+                        new Coordinate(0, 0), new Coordinate(1, 0), new Coordinate(1, 1), new Coordinate(0, 0)}),
+                new LinearRing[]{fixedFactory.createLinearRing(new Coordinate[]{
+                        new Coordinate(0.5, 0.2), new Coordinate(0.50000001, 0.2), new Coordinate(0.5, 0.20000001), new Coordinate(0.5, 0.2)})});
+
+        // Act
+        Polygon snapped = GeometryPrecision.snap(polygon);
+
+        // Assert
+        assertEquals(0, snapped.getNumInteriorRing());
+        assertEquals(4, snapped.getNumPoints());
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Multi* Types
+    // ------------------------------------------------------------
+    @Test
+    void snap_WhenMultiPolygonHasOnePart_ShouldStayMultiPolygon() throws Exception {
+        // Arrange
+        MultiPolygon multiPolygon = (MultiPolygon) wktReader.read("MULTIPOLYGON(((-46 -23,-45 -23,-45 -22.000000004,-46 -23)))");
+
+        // Act
+        MultiPolygon snapped = GeometryPrecision.snap(multiPolygon);
+
+        // Assert
+        assertEquals(wktReader.read("MULTIPOLYGON(((-46 -23,-45 -23,-45 -22,-46 -23)))"), snapped);
+    }
+
+    @Test
+    void snap_WhenMultiLineStringHasOnePart_ShouldStayMultiLineString() throws Exception {
+        // Arrange
+        MultiLineString multiLineString = (MultiLineString) wktReader.read("MULTILINESTRING((-46 -23,-45 -22))");
+
+        // Act
+        MultiLineString snapped = GeometryPrecision.snap(multiLineString);
+
+        // Assert
+        assertEquals(multiLineString, snapped);
+    }
+
+    @Test
+    void snap_WhenMultiPolygonPartsOverlap_ShouldKeepBothParts() throws Exception {
+        // Arrange
+        MultiPolygon multiPolygon = (MultiPolygon) wktReader.read(
+                "MULTIPOLYGON(((0 0,2 0,2 2,0 2,0 0)),((1 1,3 1,3 3,1 3,1 1)))");
+
+        // Act
+        MultiPolygon snapped = GeometryPrecision.snap(multiPolygon);
+
+        // Assert
+        assertEquals(multiPolygon, snapped);
+    }
+
+    @Test
+    void snap_WhenOnePartCollapses_ShouldDropOnlyThatPart() throws Exception {
+        // Arrange
+        MultiLineString multiLineString = (MultiLineString) wktReader.read(
+                "MULTILINESTRING((0 0,1 1),(5 5,5.00000001 5.00000001))");
+
+        // Act
+        MultiLineString snapped = GeometryPrecision.snap(multiLineString);
+
+        // Assert
+        assertEquals(wktReader.read("MULTILINESTRING((0 0,1 1))"), snapped);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Collapse
+    // ------------------------------------------------------------
+    @Test
+    void snap_WhenLineStringCollapses_ShouldThrowException() {
+        // Arrange
+        LineString lineString = fixedFactory.createLineString(new Coordinate[]{
+                new Coordinate(10.0, 20.0), new Coordinate(10.00000001, 20.00000001)});
+
+        // Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> GeometryPrecision.snap(lineString));
+
+        // Assert
+        assertEquals(String.format(Messages.GEOMETRY_PRECISION_COLLAPSED, "LineString", 1e7), exception.getMessage());
+    }
+
+    @Test
+    void snap_WhenEveryPolygonCollapses_ShouldThrowException() throws Exception {
+        // Arrange
+        MultiPolygon multiPolygon = (MultiPolygon) wktReader.read(
+                "MULTIPOLYGON(((0 0,0.00000001 0,0 0.00000001,0 0)))");
+
+        // Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> GeometryPrecision.snap(multiPolygon));
+
+        // Assert
+        assertEquals(String.format(Messages.GEOMETRY_PRECISION_COLLAPSED, "MultiPolygon", 1e7), exception.getMessage());
+    }
+}
@@ -0,0 +1,32 @@
+package com.github.souzafcharles.api.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeysetCursorTest {
+
+    // ------------------------------------------------------------
+    // TEST: Round Trip
+    // ------------------------------------------------------------
+    @Test
+    void encode_ThenDecode_ShouldReturnSameId() {
+        // Arrange & Act
+        String cursor = KeysetCursor.encode(123456789L);
+
+        // Assert
+        assertEquals(123456789L, KeysetCursor.decode(cursor));
+        assertFalse(cursor.contains("123456789"), "Cursor should be opaque");
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Malformed Cursors
+    // ------------------------------------------------------------
+    @Test
+    void decode_WhenCursorMalformed_ShouldThrowException() {
+        // Arrange & Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("%%%"));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("Zm9vOjE"));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("aWQ6YWJj"));
+    }
+}
@@ -0,0 +1,234 @@
+package com.github.souzafcharles.api.validation;
+
+import com.github.souzafcharles.api.model.dto.SpatialDataBatchRequestDTO;
+import com.github.souzafcharles.api.model.dto.SpatialDataSerializerRequestDTO;
+import com.github.souzafcharles.api.utils.Messages;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static com.github.souzafcharles.api.json.CoordinateArrays.coordinates;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialDataSerializerRequestValidatorTest {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    private final List<List<Double>> ring = List.of(
+            List.of(0.0, 0.0), List.of(0.0, 1.0), List.of(1.0, 1.0), List.of(0.0, 0.0));
+
+    @BeforeAll
+    static void setUpValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void closeValidator() {
+        validatorFactory.close();
+    }
+
+    // Property path → message for every violation
+    private Map<String, String> violations(Object request) {
+        Set<? extends ConstraintViolation<?>> violations = validator.validate(request);
+        return violations.stream().collect(Collectors.toMap(
+                violation -> violation.getPropertyPath().toString(), ConstraintViolation::getMessage));
+    }
+
+    private SpatialDataSerializerRequestDTO polygonRequest(Object polygon) {
+        return new SpatialDataSerializerRequestDTO(null, null, null, null, coordinates(polygon), null);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Valid Shapes
+    // ------------------------------------------------------------
+    @Test
+    void validate_WhenEveryFieldMatchesItsType_ShouldHaveNoViolations() {
+        // Arrange
+        SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
+                coordinates(List.of(1.0, 2.0)),
+                coordinates(List.of(List.of(1.0, 2.0))),
+                coordinates(List.of(List.of(1.0, 2.0), List.of(3.0, 4.0))),
+                coordinates(List.of(List.of(List.of(1.0, 2.0), List.of(3.0, 4.0)))),
+                coordinates(List.of(ring, ring)),
+                coordinates(List.of(List.of(ring), List.of(ring))));
+
+        // Act & Assert
+        assertTrue(violations(request).isEmpty());
+    }
+
+    @Test
+    void validate_WhenMultiCollectionsEmptyOrAbsent_ShouldHaveNoViolations() {
+        // Arrange
+        SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
+                null, coordinates(List.of()), null, coordinates(List.of()), null, coordinates(List.of()));
+
+        // Act & Assert
+        assertTrue(violations(request).isEmpty());
+    }
+
+    @Test
+    void validate_WhenOnRangeBoundaries_ShouldHaveNoViolations() {
+        // Arrange
+        SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
+                coordinates(List.of(-180.0, 90.0)), coordinates(List.of(List.of(180.0, -90.0))), null, null, null, null);
+
+        // Act & Assert
+        assertTrue(violations(request).isEmpty());
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Arity and Structure
+    // ------------------------------------------------------------
+    @Test
+    void validate_WhenPointHasOneOrdinateOrNone_ShouldReportPointMessage() {
+        // Arrange & Act & Assert
+        assertEquals(Map.of("point", Messages.POINT_COORDINATES_INVALID), violations(
+                new SpatialDataSerializerRequestDTO(coordinates(List.of(1.0)), null, null, null, null, null)));
+        assertEquals(Map.of("point", Messages.POINT_COORDINATES_INVALID), violations(
+                new SpatialDataSerializerRequestDTO(coordinates(List.of()), null, null, null, null, null)));
+    }
+
+    @Test
+    void validate_WhenLineStringOrPolygonEmpty_ShouldReportTheirMessages() {
+        // Arrange
+        SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
+                null, null, coordinates(List.of()), null, coordinates(List.of()), null);
+
+        // Act & Assert
+        assertEquals(Map.of(
+                "linestring", Messages.LINESTRING_COORDINATES_INVALID,
+                "polygon", Messages.POLYGON_COORDINATES_INVALID), violations(request));
+    }
+
+    @Test
+    void validate_WhenPositionHasAltitude_ShouldReportPointMessage() {
+        // Arrange
+        SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
+                null, coordinates(List.of(List.of(1.0, 2.0, 3.0))), null, null, null, null);
+
+        // Act & Assert
+        assertEquals(Map.of("multipoint", Messages.POINT_COORDINATES_INVALID), violations(request));
+    }
+
+    @Test
+    void validate_WhenDepthDoesNotMatchType_ShouldReportStructureMessage() {
+        // Arrange
+        SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
+                coordinates(List.of(List.of(1.0, 2.0))), null, null, null, coordinates(ring), null);
+
+        // Act & Assert
+        assertEquals(Map.of(
+                "point", Messages.INVALID_COORDINATE_STRUCTURE,
+                "polygon", Messages.INVALID_COORDINATE_STRUCTURE), violations(request));
+    }
+
+    @Test
+    void validate_WhenLineStringHasOnePosition_ShouldReportLineStringMessage() {
+        // Arrange
+        SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(null, null,
+                coordinates(List.of(List.of(1.0, 2.0))),
+                coordinates(List.of(List.of(List.of(1.0, 2.0), List.of(3.0, 4.0)), List.of(List.of(1.0, 2.0)))),
+                null, null);
+
+        // Act & Assert
+        assertEquals(Map.of(
+                "linestring", Messages.LINESTRING_COORDINATES_INVALID,
+                "multilinestring", Messages.LINESTRING_COORDINATES_INVALID), violations(request));
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Rings
+    // ------------------------------------------------------------
+    @Test
+    void validate_WhenRingHasThreePositions_ShouldReportPolygonMessage() {
+        // Arrange
+        SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
+                null, null, null, null, null, coordinates(List.of(List.of(ring), List.of(ring.subList(0, 3)))));
+
+        // Act & Assert
+        assertEquals(Map.of("multipolygon", Messages.POLYGON_COORDINATES_INVALID), violations(request));
+    }
+
+    @Test
+    void validate_WhenRingNotClosed_ShouldReportPolygonMessage() {
+        // Arrange
+        List<List<Double>> openRing = List.of(
+                List.of(0.0, 0.0), List.of(0.0, 1.0), List.of(1.0, 1.0), List.of(1.0, 0.0));
+
+        // Act & Assert
+        assertEquals(Map.of("polygon", Messages.POLYGON_COORDINATES_INVALID), violations(polygonRequest(List.of(openRing))));
+    }
+
+    @Test
+    void validate_WhenHoleNotClosed_ShouldReportPolygonMessage() {
+        // Arrange
+        List<List<Double>> openHole = List.of(
+                List.of(0.2, 0.2), List.of(0.2, 0.3), List.of(0.3, 0.3), List.of(0.3, 0.2));
+
+        // Act & Assert
+        assertEquals(Map.of("polygon", Messages.POLYGON_COORDINATES_INVALID), violations(polygonRequest(List.of(ring, openHole))));
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Coordinate Ranges
+    // ------------------------------------------------------------
+    @Test
+    void validate_WhenLongitudeOutOfRange_ShouldReportRangeMessage() {
+        // Arrange
+        SpatialDataSerializerRequestDTO request = new SpatialDataSerializerRequestDTO(
+                coordinates(List.of(180.5, 0.0)), null, coordinates(List.of(List.of(0.0, 0.0), List.of(0.0, -91.0))), null, null, null);
+
+        // Act & Assert
+        assertEquals(Map.of(
+                "point", Messages.COORDINATE_OUT_OF_RANGE,
+                "linestring", Messages.COORDINATE_OUT_OF_RANGE), violations(request));
+    }
+
+    @Test
+    void validate_WhenRingVertexOutOfRange_ShouldReportRangeMessage() {
+        // Arrange
+        List<List<Double>> projectedRing = List.of(
+                List.of(500000.0, 0.0), List.of(500000.0, 1.0), List.of(500001.0, 1.0), List.of(500000.0, 0.0));
+
+        // Act & Assert
+        assertEquals(Map.of("polygon", Messages.COORDINATE_OUT_OF_RANGE), violations(polygonRequest(List.of(projectedRing))));
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Nested in a Batch
+    // ------------------------------------------------------------
+    @Test
+    void validate_WhenBatchItemInvalid_ShouldReportIndexedPath() {
+        // Arrange
+        SpatialDataBatchRequestDTO batch = new SpatialDataBatchRequestDTO(List.of(
+                new SpatialDataSerializerRequestDTO(coordinates(List.of(1.0, 2.0)), null, null, null, null, null),
+                new SpatialDataSerializerRequestDTO(coordinates(List.of(1.0)), null, null, null, null, null)), null);
+
+        // Act & Assert
+        assertEquals(Map.of("serializer[1].point", Messages.POINT_COORDINATES_INVALID), violations(batch));
+    }
+
+    @Test
+    void validate_WhenBatchListExceedsMaximum_ShouldReportSizeMessage() {
+        // Arrange
+        SpatialDataSerializerRequestDTO item = new SpatialDataSerializerRequestDTO(coordinates(List.of(1.0, 2.0)), null, null, null, null, null);
+        SpatialDataBatchRequestDTO batch = new SpatialDataBatchRequestDTO(
+                Collections.nCopies(SpatialDataBatchRequestDTO.MAX_ITEMS + 1, item), List.of());
+
+        // Act & Assert
+        assertEquals(Map.of("serializer", Messages.BATCH_TOO_LARGE.replace("{max}", String.valueOf(SpatialDataBatchRequestDTO.MAX_ITEMS))),
+                violations(batch));
+    }
+}
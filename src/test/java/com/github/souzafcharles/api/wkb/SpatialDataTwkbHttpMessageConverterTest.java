@@ -0,0 +1,105 @@
+package com.github.souzafcharles.api.wkb;
+
+import com.github.souzafcharles.api.config.GeometryConfig;
+import com.github.souzafcharles.api.model.dto.SpatialDataDeserializerRequestDTO;
+import com.github.souzafcharles.api.model.dto.SpatialDataResponseDTO;
+import com.github.souzafcharles.api.utils.Messages;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Point;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialDataTwkbHttpMessageConverterTest {
+
+    private final GeometryFactory geometryFactory = GeometryConfig.packedGeometryFactory(GeometryConfig.CoordinateStorage.DOUBLE);
+    private final SpatialDataTwkbHttpMessageConverter converter = new SpatialDataTwkbHttpMessageConverter(geometryFactory, 7, false);
+
+    private final Point point = geometryFactory.createPoint(new Coordinate(-46.63, -23.55));
+    private final LineString lineString = geometryFactory.createLineString(new Coordinate[]{
+            new Coordinate(0.0, 0.0), new Coordinate(1.0, 1.0)});
+
+    private static final Type RECORD_LIST = new ParameterizedTypeReference<List<SpatialDataResponseDTO>>() {}.getType();
+
+    private SpatialDataResponseDTO record(long id) {
+        return new SpatialDataResponseDTO(id, point, null, lineString, null, null, null);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Write TWKB
+    // ------------------------------------------------------------
+    @Test
+    void write_WhenTwkbRequested_ShouldWriteCollection() throws Exception {
+        // Arrange
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(record(7L), SpatialDataResponseDTO.class, SpatialDataTwkbHttpMessageConverter.TWKB, output);
+
+        // Assert
+        Geometry collection = new TwkbReader(geometryFactory).read(output.getBodyAsBytes());
+        assertTrue(point.equalsExact(collection.getGeometryN(0)));
+        assertTrue(lineString.equalsExact(collection.getGeometryN(1)));
+        assertEquals(SpatialDataTwkbHttpMessageConverter.TWKB, output.getHeaders().getContentType());
+    }
+
+    @Test
+    void write_WhenListRequested_ShouldBeSmallerThanWkb() throws Exception {
+        // Arrange
+        MockHttpOutputMessage twkb = new MockHttpOutputMessage();
+        MockHttpOutputMessage wkb = new MockHttpOutputMessage();
+        List<SpatialDataResponseDTO> records = List.of(record(1L), record(2L));
+
+        // Act
+        converter.write(records, RECORD_LIST, SpatialDataTwkbHttpMessageConverter.TWKB_RECORDS, twkb);
+        new SpatialDataWkbHttpMessageConverter(geometryFactory).write(records, RECORD_LIST, SpatialDataWkbHttpMessageConverter.WKB_RECORDS, wkb);
+
+        // Assert
+        DataInputStream frames = new DataInputStream(new ByteArrayInputStream(twkb.getBodyAsBytes()));
+        frames.readInt();
+        assertEquals(1L, frames.readLong());
+        assertTrue(twkb.getBodyAsBytes().length < wkb.getBodyAsBytes().length);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Read TWKB Requests
+    // ------------------------------------------------------------
+    @Test
+    void read_WhenCollection_ShouldFillColumnsWithSrid() throws Exception {
+        // Arrange
+        byte[] twkb = new TwkbWriter(7, true).write(geometryFactory.createGeometryCollection(new Geometry[]{lineString, point}));
+
+        // Act
+        SpatialDataDeserializerRequestDTO request = (SpatialDataDeserializerRequestDTO) converter.read(
+                SpatialDataDeserializerRequestDTO.class, null, new MockHttpInputMessage(twkb));
+
+        // Assert
+        assertTrue(point.equalsExact(request.point()));
+        assertTrue(lineString.equalsExact(request.linestring()));
+        assertEquals(GeometryConfig.SRID, request.point().getSRID());
+    }
+
+    @Test
+    void read_WhenMalformed_ShouldThrowException() {
+        // Arrange
+        byte[] twkb = {0x02, 0x00, 0x05};
+
+        // Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> converter.read(SpatialDataDeserializerRequestDTO.class, null, new MockHttpInputMessage(twkb)));
+
+        // Assert
+        assertEquals(Messages.INVALID_TWKB, exception.getMessage());
+    }
+}
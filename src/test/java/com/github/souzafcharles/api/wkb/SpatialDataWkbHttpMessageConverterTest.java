@@ -0,0 +1,244 @@
+package com.github.souzafcharles.api.wkb;
+
+import com.github.souzafcharles.api.config.GeometryConfig;
+import com.github.souzafcharles.api.model.dto.SpatialDataDeserializerRequestDTO;
+import com.github.souzafcharles.api.model.dto.SpatialDataNeighbourResponseDTO;
+import com.github.souzafcharles.api.model.dto.SpatialDataPageResponseDTO;
+import com.github.souzafcharles.api.model.dto.SpatialDataResponseDTO;
+import com.github.souzafcharles.api.utils.Messages;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
+import org.locationtech.jts.io.WKBReader;
+import org.locationtech.jts.io.WKBWriter;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.nio.ByteBuffer;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpatialDataWkbHttpMessageConverterTest {
+
+    private final GeometryFactory geometryFactory = GeometryConfig.packedGeometryFactory(GeometryConfig.CoordinateStorage.DOUBLE);
+    private final SpatialDataWkbHttpMessageConverter converter = new SpatialDataWkbHttpMessageConverter(geometryFactory);
+
+    private final Point point = geometryFactory.createPoint(new Coordinate(-46.63, -23.55));
+    private final LineString lineString = geometryFactory.createLineString(new Coordinate[]{
+            new Coordinate(0.0, 0.0), new Coordinate(1.0, 1.0)});
+
+    private static final Type RECORD_LIST = new ParameterizedTypeReference<List<SpatialDataResponseDTO>>() {}.getType();
+    private static final Type NEIGHBOUR_LIST = new ParameterizedTypeReference<List<SpatialDataNeighbourResponseDTO>>() {}.getType();
+
+    private SpatialDataResponseDTO record(long id) {
+        return new SpatialDataResponseDTO(id, point, null, lineString, null, null, null);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Content Negotiation
+    // ------------------------------------------------------------
+    @Test
+    void canWrite_ShouldOnlyClaimSpatialDataResponses() {
+        // Arrange
+        Type strings = new ParameterizedTypeReference<List<String>>() {}.getType();
+
+        // Act & Assert
+        assertTrue(converter.canWrite(SpatialDataResponseDTO.class, SpatialDataWkbHttpMessageConverter.WKB));
+        assertTrue(converter.canWrite(RECORD_LIST, List.class, SpatialDataWkbHttpMessageConverter.WKB_RECORDS));
+        assertTrue(converter.canWrite(NEIGHBOUR_LIST, List.class, SpatialDataWkbHttpMessageConverter.WKB_RECORDS));
+        assertFalse(converter.canWrite(RECORD_LIST, List.class, SpatialDataWkbHttpMessageConverter.WKB));
+        assertFalse(converter.canWrite(strings, List.class, SpatialDataWkbHttpMessageConverter.WKB_RECORDS));
+        assertFalse(converter.canWrite(SpatialDataResponseDTO.class, MediaType.APPLICATION_JSON));
+        assertFalse(converter.canWrite(SpatialDataDeserializerRequestDTO.class, SpatialDataWkbHttpMessageConverter.WKB));
+        assertTrue(converter.canRead(SpatialDataDeserializerRequestDTO.class, SpatialDataWkbHttpMessageConverter.WKB));
+        assertFalse(converter.canRead(SpatialDataResponseDTO.class, SpatialDataWkbHttpMessageConverter.WKB));
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Write EWKB
+    // ------------------------------------------------------------
+    @Test
+    void write_WhenWkbRequested_ShouldWriteCollectionWithSrid() throws Exception {
+        // Arrange
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(record(7L), SpatialDataResponseDTO.class, SpatialDataWkbHttpMessageConverter.WKB, output);
+
+        // Assert
+        Geometry collection = new WKBReader().read(output.getBodyAsBytes());
+        assertEquals("GeometryCollection", collection.getGeometryType());
+        assertEquals(GeometryConfig.SRID, collection.getSRID());
+        assertTrue(point.equalsExact(collection.getGeometryN(0)));
+        assertTrue(lineString.equalsExact(collection.getGeometryN(1)));
+        assertEquals("/api/spatial-data/7", output.getHeaders().getFirst(HttpHeaders.CONTENT_LOCATION));
+        assertEquals(SpatialDataWkbHttpMessageConverter.WKB, output.getHeaders().getContentType());
+    }
+
+    @Test
+    void write_WhenListRequested_ShouldWriteLengthPrefixedFrames() throws Exception {
+        // Arrange
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+
+        // Act
+        converter.write(List.of(record(1L), record(2L)), RECORD_LIST, SpatialDataWkbHttpMessageConverter.WKB_RECORDS, output);
+
+        // Assert
+        DataInputStream frames = new DataInputStream(new ByteArrayInputStream(output.getBodyAsBytes()));
+        for (long id = 1; id <= 2; id++) {
+            int length = frames.readInt();
+            assertEquals(id, frames.readLong());
+            assertTrue(Double.isNaN(frames.readDouble()));
+            Geometry collection = new WKBReader().read(frames.readNBytes(length - SpatialDataWkbHttpMessageConverter.FRAME_HEADER_BYTES));
+            assertEquals(2, collection.getNumGeometries());
+        }
+        assertEquals(-1, frames.read());
+    }
+
+    @Test
+    void write_WhenNeighbours_ShouldWriteDistanceInFrame() throws Exception {
+        // Arrange
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        List<SpatialDataNeighbourResponseDTO> neighbours = List.of(new SpatialDataNeighbourResponseDTO(12.5, "metres", record(3L)));
+
+        // Act
+        converter.write(neighbours, NEIGHBOUR_LIST, SpatialDataWkbHttpMessageConverter.WKB_RECORDS, output);
+
+        // Assert
+        DataInputStream frames = new DataInputStream(new ByteArrayInputStream(output.getBodyAsBytes()));
+        frames.readInt();
+        assertEquals(3L, frames.readLong());
+        assertEquals(12.5, frames.readDouble());
+    }
+
+    @Test
+    void write_WhenPageHasNextCursor_ShouldSendCursorHeader() throws Exception {
+        // Arrange
+        MockHttpOutputMessage output = new MockHttpOutputMessage();
+        SpatialDataPageResponseDTO page = new SpatialDataPageResponseDTO(List.of(record(1L)), "abc");
+
+        // Act
+        converter.write(page, SpatialDataPageResponseDTO.class, null, output);
+
+        // Assert
+        assertEquals("abc", output.getHeaders().getFirst(SpatialDataWkbHttpMessageConverter.NEXT_CURSOR_HEADER));
+        assertEquals(SpatialDataWkbHttpMessageConverter.WKB_RECORDS, output.getHeaders().getContentType());
+        DataInputStream frames = new DataInputStream(new ByteArrayInputStream(output.getBodyAsBytes()));
+        frames.readInt();
+        assertEquals(1L, frames.readLong());
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Read WKB Requests
+    // ------------------------------------------------------------
+    @Test
+    void read_WhenCollection_ShouldFillColumnsByType() throws Exception {
+        // Arrange
+        byte[] wkb = new WKBWriter().write(geometryFactory.createGeometryCollection(new Geometry[]{lineString, point}));
+
+        // Act
+        SpatialDataDeserializerRequestDTO request = (SpatialDataDeserializerRequestDTO) converter.read(
+                SpatialDataDeserializerRequestDTO.class, null, new MockHttpInputMessage(wkb));
+
+        // Assert
+        assertTrue(point.equalsExact(request.point()));
+        assertTrue(lineString.equalsExact(request.linestring()));
+        assertNull(request.polygon());
+    }
+
+    @Test
+    void read_WhenSingleGeometry_ShouldFillItsColumn() throws Exception {
+        // Arrange
+        byte[] wkb = new WKBWriter(2, true).write(point);
+
+        // Act
+        SpatialDataDeserializerRequestDTO request = (SpatialDataDeserializerRequestDTO) converter.read(
+                SpatialDataDeserializerRequestDTO.class, null, new MockHttpInputMessage(wkb));
+
+        // Assert
+        assertTrue(point.equalsExact(request.point()));
+        assertEquals(GeometryConfig.SRID, request.point().getSRID());
+        assertNull(request.linestring());
+    }
+
+    @Test
+    void read_WhenSridNotWgs84_ShouldThrowException() {
+        // Arrange
+        Point mercator = new GeometryFactory(new PrecisionModel(), 3857).createPoint(new Coordinate(1.0, 2.0));
+        byte[] wkb = new WKBWriter(2, true).write(mercator);
+
+        // Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> converter.read(SpatialDataDeserializerRequestDTO.class, null, new MockHttpInputMessage(wkb)));
+
+        // Assert
+        assertEquals(String.format(Messages.INVALID_WKB_SRID, GeometryConfig.SRID, 3857), exception.getMessage());
+    }
+
+    @Test
+    void read_WhenCoordinatesHaveZ_ShouldThrowException() {
+        // Arrange
+        Point withZ = geometryFactory.createPoint(new Coordinate(-46.63, -23.55, 760.0));
+        byte[] ewkb = new WKBWriter(3, true).write(withZ);
+
+        // Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> converter.read(SpatialDataDeserializerRequestDTO.class, null, new MockHttpInputMessage(ewkb)));
+
+        // Assert
+        assertEquals(String.format(Messages.INVALID_WKB_DIMENSION, 3), exception.getMessage());
+    }
+
+    @Test
+    void read_WhenCollectionMemberHasM_ShouldThrowException() {
+        // Arrange - ISO WKB: GeometryCollection of one POINT M (type 2001)
+        byte[] wkb = ByteBuffer.allocate(9 + 5 + 3 * Double.BYTES)
+                .put((byte) 0).putInt(7).putInt(1)
+                .put((byte) 0).putInt(2001).putDouble(1.0).putDouble(2.0).putDouble(3.0)
+                .array();
+
+        // Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> converter.read(SpatialDataDeserializerRequestDTO.class, null, new MockHttpInputMessage(wkb)));
+
+        // Assert
+        assertEquals(String.format(Messages.INVALID_WKB_DIMENSION, 3), exception.getMessage());
+    }
+
+    @Test
+    void read_WhenTypeRepeated_ShouldThrowException() {
+        // Arrange
+        byte[] wkb = new WKBWriter().write(geometryFactory.createGeometryCollection(new Geometry[]{point, point}));
+
+        // Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> converter.read(SpatialDataDeserializerRequestDTO.class, null, new MockHttpInputMessage(wkb)));
+
+        // Assert
+        assertEquals(String.format(Messages.DUPLICATE_GEOMETRY_TYPE, "Point"), exception.getMessage());
+    }
+
+    @Test
+    void read_WhenMalformed_ShouldThrowException() {
+        // Arrange
+        byte[] wkb = {0x00, 0x00, 0x00};
+
+        // Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> converter.read(SpatialDataDeserializerRequestDTO.class, null, new MockHttpInputMessage(wkb)));
+
+        // Assert
+        assertEquals(Messages.INVALID_WKB, exception.getMessage());
+    }
+}
@@ -0,0 +1,111 @@
+package com.github.souzafcharles.api.wkb;
+
+import com.github.souzafcharles.api.config.GeometryConfig;
+import com.github.souzafcharles.api.utils.Messages;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Geometry;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.io.ParseException;
+import org.locationtech.jts.io.WKTReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TwkbReaderTest {
+
+    private final GeometryFactory geometryFactory = GeometryConfig.packedGeometryFactory(GeometryConfig.CoordinateStorage.DOUBLE);
+    private final TwkbReader reader = new TwkbReader(geometryFactory);
+
+    private Geometry wkt(String wkt) throws ParseException {
+        return new WKTReader(geometryFactory).read(wkt);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Round Trip
+    // ------------------------------------------------------------
+    @Test
+    void read_ShouldRoundTripEveryGeometryType() throws Exception {
+        // Arrange
+        String[] geometries = {
+                "POINT (-46.6333089 -23.5505201)",
+                "LINESTRING (-46.57 -22.59, -46.56 -22.58, -46.5712345 -22.5987654)",
+                "POLYGON ((0 0, 10 0, 10 10, 0 10, 0 0), (2 2, 2 4, 4 4, 2 2))",
+                "MULTIPOINT ((1 2), (3 4))",
+                "MULTILINESTRING ((0 0, 1 1), (2 2, 3 3, 4 5))",
+                "MULTIPOLYGON (((0 0, 1 0, 1 1, 0 0)), ((5 5, 6 5, 6 6, 5 5)), EMPTY)",
+                "GEOMETRYCOLLECTION (POINT (1 2), LINESTRING (0 0, 1 1), POLYGON EMPTY)",
+                "LINESTRING EMPTY"};
+
+        for (boolean bbox : new boolean[]{false, true}) {
+            TwkbWriter writer = new TwkbWriter(7, bbox);
+            for (String text : geometries) {
+                Geometry geometry = wkt(text);
+
+                // Act
+                Geometry decoded = reader.read(writer.write(geometry));
+
+                // Assert
+                assertTrue(geometry.equalsExact(decoded), text);
+                assertEquals(GeometryConfig.SRID, decoded.getSRID());
+            }
+        }
+    }
+
+    @Test
+    void read_WhenPrecisionNegative_ShouldRoundToTens() throws Exception {
+        // Arrange
+        byte[] twkb = new TwkbWriter(-1, false).write(wkt("POINT (1234 -56)"));
+
+        // Act
+        Geometry decoded = reader.read(twkb);
+
+        // Assert
+        assertTrue(wkt("POINT (1230 -60)").equalsExact(decoded));
+    }
+
+    @Test
+    void read_WhenSizeIdListAndZ_ShouldSkipThem() throws Exception {
+        // Arrange - MULTIPOINT Z ((1 2 9), (3 4 9)) at precision 0 with size header and ids 7, 8
+        byte[] twkb = {0x04, TwkbWriter.SIZE | TwkbWriter.ID_LIST | TwkbWriter.EXTENDED_DIMENSIONS, 0x01,
+                0x09, 0x02, 0x0E, 0x10, 0x02, 0x04, 0x12, 0x04, 0x04, 0x00};
+
+        // Act
+        Geometry decoded = reader.read(twkb);
+
+        // Assert
+        assertTrue(wkt("MULTIPOINT ((1 2), (3 4))").equalsExact(decoded));
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Malformed Input
+    // ------------------------------------------------------------
+    @Test
+    void read_WhenTruncated_ShouldThrowParseException() {
+        // Arrange
+        byte[] twkb = {0x02, 0x00, 0x02, 0x02};
+
+        // Act
+        ParseException exception = assertThrows(ParseException.class, () -> reader.read(twkb));
+
+        // Assert
+        assertEquals(Messages.TWKB_TRUNCATED, exception.getMessage());
+    }
+
+    @Test
+    void read_WhenTrailingBytes_ShouldThrowParseException() {
+        // Arrange
+        byte[] twkb = {0x01, 0x00, 0x02, 0x04, 0x00};
+
+        // Act
+        ParseException exception = assertThrows(ParseException.class, () -> reader.read(twkb));
+
+        // Assert
+        assertEquals(String.format(Messages.TWKB_TRAILING_BYTES, 1), exception.getMessage());
+    }
+
+    @Test
+    void read_WhenTypeUnknown_ShouldThrowParseException() {
+        // Arrange & Act & Assert
+        assertThrows(ParseException.class, () -> reader.read(new byte[]{0x09, 0x00}));
+        assertThrows(ParseException.class, () -> reader.read(new byte[]{0x09, TwkbWriter.EMPTY}));
+    }
+}
@@ -0,0 +1,106 @@
+package com.github.souzafcharles.api.wkb;
+
+import com.github.souzafcharles.api.config.GeometryConfig;
+import com.github.souzafcharles.api.utils.Messages;
+import org.junit.jupiter.api.Test;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Point;
+
+import java.io.ByteArrayOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TwkbWriterTest {
+
+    private final GeometryFactory geometryFactory = GeometryConfig.packedGeometryFactory(GeometryConfig.CoordinateStorage.DOUBLE);
+
+    private LineString lineString(double... ordinates) {
+        Coordinate[] coordinates = new Coordinate[ordinates.length / 2];
+        for (int i = 0; i < coordinates.length; i++) {
+            coordinates[i] = new Coordinate(ordinates[2 * i], ordinates[2 * i + 1]);
+        }
+        return geometryFactory.createLineString(coordinates);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Encoding (PostGIS ST_AsTWKB reference output)
+    // ------------------------------------------------------------
+    @Test
+    void write_WhenPoint_ShouldMatchReferenceBytes() {
+        // Arrange
+        Point point = geometryFactory.createPoint(new Coordinate(1.0, 2.0));
+
+        // Act
+        byte[] twkb = new TwkbWriter(0, false).write(point);
+
+        // Assert - ST_AsTWKB('POINT(1 2)', 0) = \x01000204
+        assertArrayEquals(new byte[]{0x01, 0x00, 0x02, 0x04}, twkb);
+    }
+
+    @Test
+    void write_WhenLineString_ShouldWriteDeltas() {
+        // Arrange & Act
+        byte[] twkb = new TwkbWriter(0, false).write(lineString(1, 1, 5, 5));
+
+        // Assert - ST_AsTWKB('LINESTRING(1 1,5 5)') = \x02000202020808
+        assertArrayEquals(new byte[]{0x02, 0x00, 0x02, 0x02, 0x02, 0x08, 0x08}, twkb);
+    }
+
+    @Test
+    void write_WhenPrecisionSet_ShouldStoreItInHeader() {
+        // Arrange
+        Point point = geometryFactory.createPoint(new Coordinate(-0.5, 0.25));
+
+        // Act
+        byte[] twkb = new TwkbWriter(2, false).write(point);
+
+        // Assert - precision 2 zigzags to 4; -50 and 25 zigzag to 99 and 50
+        assertArrayEquals(new byte[]{0x41, 0x00, 99, 50}, twkb);
+    }
+
+    @Test
+    void write_WhenBboxIncluded_ShouldWriteMinimumAndExtent() {
+        // Arrange & Act
+        byte[] twkb = new TwkbWriter(0, true).write(lineString(1, 1, 5, 3));
+
+        // Assert
+        assertArrayEquals(new byte[]{0x02, TwkbWriter.BBOX, 0x02, 0x08, 0x02, 0x04, 0x02, 0x02, 0x02, 0x08, 0x04}, twkb);
+    }
+
+    @Test
+    void write_WhenEmpty_ShouldOnlyWriteHeader() {
+        // Arrange & Act
+        byte[] twkb = new TwkbWriter(7, true).write(geometryFactory.createPolygon());
+
+        // Assert
+        assertArrayEquals(new byte[]{(byte) 0xE3, TwkbWriter.EMPTY}, twkb);
+    }
+
+    // ------------------------------------------------------------
+    // TEST: Varints
+    // ------------------------------------------------------------
+    @Test
+    void writeUnsigned_ShouldUseSevenBitsPerByte() {
+        // Arrange
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // Act
+        TwkbWriter.writeUnsigned(300, out);
+
+        // Assert
+        assertArrayEquals(new byte[]{(byte) 0xAC, 0x02}, out.toByteArray());
+        assertEquals(1, TwkbWriter.zigzag(-1));
+        assertEquals(4, TwkbWriter.zigzag(2));
+    }
+
+    @Test
+    void twkbWriter_WhenPrecisionOutOfRange_ShouldThrowException() {
+        // Arrange & Act
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> new TwkbWriter(8, false));
+
+        // Assert
+        assertEquals(String.format(Messages.INVALID_TWKB_PRECISION, TwkbWriter.MAX_PRECISION, 8), exception.getMessage());
+    }
+}